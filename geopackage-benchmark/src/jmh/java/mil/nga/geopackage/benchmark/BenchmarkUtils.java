@@ -0,0 +1,48 @@
+package mil.nga.geopackage.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+import mil.nga.sf.Polygon;
+
+/**
+ * Shared benchmark data utilities
+ *
+ * @author osbornb
+ */
+public class BenchmarkUtils {
+
+    /**
+     * Create a closed circular ring of points around the origin with small
+     * radial noise, so simplification has points to remove
+     *
+     * @param count number of points
+     * @return points
+     */
+    public static List<Point> createRing(int count) {
+        List<Point> points = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            double angle = 2 * Math.PI * i / count;
+            double radius = 10.0 + 0.01 * Math.sin(37 * angle);
+            points.add(new Point(radius * Math.cos(angle),
+                    radius * Math.sin(angle)));
+        }
+        points.add(new Point(points.get(0).getX(), points.get(0).getY()));
+        return points;
+    }
+
+    /**
+     * Create a polygon with a single ring
+     *
+     * @param count number of ring points
+     * @return polygon
+     */
+    public static Polygon createPolygon(int count) {
+        Polygon polygon = new Polygon();
+        polygon.addRing(new LineString(createRing(count)));
+        return polygon;
+    }
+
+}
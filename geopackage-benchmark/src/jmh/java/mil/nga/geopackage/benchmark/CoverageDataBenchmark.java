@@ -0,0 +1,147 @@
+package mil.nga.geopackage.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.geopackage.extension.coverage.CoverageDataUtils;
+import mil.nga.geopackage.extension.coverage.GriddedCoverage;
+import mil.nga.geopackage.extension.coverage.GriddedCoverageDataType;
+import mil.nga.geopackage.extension.coverage.GriddedTile;
+
+/**
+ * Coverage data pixel value conversion and interpolation benchmarks over a
+ * tile of values
+ *
+ * @author osbornb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoverageDataBenchmark {
+
+    /**
+     * Tile length in pixels
+     */
+    private static final int TILE_LENGTH = 256;
+
+    /**
+     * Integer gridded coverage
+     */
+    private GriddedCoverage griddedCoverage;
+
+    /**
+     * Gridded tile
+     */
+    private GriddedTile griddedTile;
+
+    /**
+     * Unsigned short pixel values
+     */
+    private int[] pixelValues;
+
+    /**
+     * Coverage data values
+     */
+    private double[] values;
+
+    /**
+     * Reusable 4 x 4 value window
+     */
+    private final double[][] window = new double[4][4];
+
+    /**
+     * Setup the coverage and tile values
+     */
+    @Setup
+    public void setup() {
+        griddedCoverage = new GriddedCoverage();
+        griddedCoverage.setDataType(GriddedCoverageDataType.INTEGER);
+        griddedCoverage.setScale(0.5);
+        griddedCoverage.setOffset(-100.0);
+        griddedTile = new GriddedTile();
+        griddedTile.setScale(2.0);
+        griddedTile.setOffset(10.0);
+
+        Random random = new Random(TILE_LENGTH);
+        pixelValues = new int[TILE_LENGTH * TILE_LENGTH];
+        values = new double[pixelValues.length];
+        for (int i = 0; i < pixelValues.length; i++) {
+            pixelValues[i] = random.nextInt(1 << 16);
+            values[i] = CoverageDataUtils.getValue(griddedCoverage,
+                    griddedTile, pixelValues[i]);
+        }
+    }
+
+    /**
+     * Convert every tile pixel value to a coverage data value
+     *
+     * @return value sum
+     */
+    @Benchmark
+    public double pixelValues() {
+        double sum = 0;
+        for (int pixelValue : pixelValues) {
+            sum += CoverageDataUtils.getValue(griddedCoverage, griddedTile,
+                    pixelValue);
+        }
+        return sum;
+    }
+
+    /**
+     * Bilinear interpolate a value between every 2 x 2 tile window
+     *
+     * @return value sum
+     */
+    @Benchmark
+    public double bilinear() {
+        double sum = 0;
+        for (int y = 0; y < TILE_LENGTH - 1; y++) {
+            for (int x = 0; x < TILE_LENGTH - 1; x++) {
+                int index = y * TILE_LENGTH + x;
+                sum += CoverageDataUtils.getBilinearInterpolationValue(0.25f,
+                        0.75f, 0, 1, 0, 1, values[index], values[index + 1],
+                        values[index + TILE_LENGTH],
+                        values[index + TILE_LENGTH + 1]);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Bicubic interpolate a value within every 4 x 4 tile window
+     *
+     * @return value sum
+     */
+    @Benchmark
+    public double bicubic() {
+        double sum = 0;
+        for (int y = 0; y < TILE_LENGTH - 3; y++) {
+            for (int x = 0; x < TILE_LENGTH - 3; x++) {
+                for (int row = 0; row < 4; row++) {
+                    int index = (y + row) * TILE_LENGTH + x;
+                    for (int column = 0; column < 4; column++) {
+                        window[row][column] = values[index + column];
+                    }
+                }
+                sum += CoverageDataUtils.getBicubicInterpolationValue(window,
+                        0.25, 0.75);
+            }
+        }
+        return sum;
+    }
+
+}
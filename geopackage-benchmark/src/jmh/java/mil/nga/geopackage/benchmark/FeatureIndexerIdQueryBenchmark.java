@@ -0,0 +1,143 @@
+package mil.nga.geopackage.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.geopackage.db.FeatureIndexerIdQuery;
+
+/**
+ * Feature indexer id query building, SQL, and argument benchmarks
+ *
+ * @author osbornb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureIndexerIdQueryBenchmark {
+
+    /**
+     * Number of ids
+     */
+    @Param({"100", "10000"})
+    public int count;
+
+    /**
+     * True for consecutive ids in order, false for sparse shuffled ids
+     */
+    @Param({"true", "false"})
+    public boolean contiguous;
+
+    /**
+     * Ids in add order
+     */
+    private long[] ids;
+
+    /**
+     * Built query
+     */
+    private FeatureIndexerIdQuery query;
+
+    /**
+     * Setup the ids and built query
+     */
+    @Setup
+    public void setup() {
+        ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long id = i + 1;
+            if (!contiguous) {
+                id *= 3;
+            }
+            ids[i] = id;
+        }
+        if (!contiguous) {
+            Random random = new Random(count);
+            for (int i = count - 1; i > 0; i--) {
+                int index = random.nextInt(i + 1);
+                long id = ids[index];
+                ids[index] = ids[i];
+                ids[i] = id;
+            }
+        }
+        query = build();
+        query.getCount();
+    }
+
+    /**
+     * Build a query from the ids
+     *
+     * @return query
+     */
+    private FeatureIndexerIdQuery build() {
+        FeatureIndexerIdQuery idQuery = new FeatureIndexerIdQuery(count);
+        for (long id : ids) {
+            idQuery.addArgument(id);
+        }
+        return idQuery;
+    }
+
+    /**
+     * Add the ids and sort them
+     *
+     * @return id count
+     */
+    @Benchmark
+    public int addArguments() {
+        return build().getCount();
+    }
+
+    /**
+     * Build the IN clause SQL and arguments
+     *
+     * @return arguments
+     */
+    @Benchmark
+    public String[] sqlAndArgs() {
+        query.getSql();
+        return query.getArgs();
+    }
+
+    /**
+     * Build the range encoded where clause and arguments from new ids
+     *
+     * @return where arguments
+     */
+    @Benchmark
+    public String[] whereAndArgs() {
+        FeatureIndexerIdQuery idQuery = build();
+        idQuery.getWhere("id");
+        return idQuery.getWhereArgs();
+    }
+
+    /**
+     * Check id membership for every id
+     *
+     * @return number of found ids
+     */
+    @Benchmark
+    public int hasId() {
+        int found = 0;
+        for (long id : ids) {
+            if (query.hasId(id)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+}
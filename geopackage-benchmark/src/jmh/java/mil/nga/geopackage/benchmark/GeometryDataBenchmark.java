@@ -0,0 +1,117 @@
+package mil.nga.geopackage.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.geom.GeometryEnvelopeReader;
+import mil.nga.sf.Geometry;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * GeoPackage geometry binary header, envelope, and geometry decoding
+ * benchmarks
+ *
+ * @author osbornb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryDataBenchmark {
+
+    /**
+     * Number of points per line string ring
+     */
+    @Param({"10", "1000"})
+    public int points;
+
+    /**
+     * True to write the envelope in the geometry header
+     */
+    @Param({"true", "false"})
+    public boolean headerEnvelope;
+
+    /**
+     * GeoPackage geometry bytes
+     */
+    private byte[] bytes;
+
+    /**
+     * Reusable envelope array
+     */
+    private final double[] envelope = new double[GeometryEnvelopeReader.ENVELOPE_LENGTH];
+
+    /**
+     * Setup the geometry bytes
+     *
+     * @throws IOException upon failure
+     */
+    @Setup
+    public void setup() throws IOException {
+        Geometry geometry = BenchmarkUtils.createPolygon(points);
+        if (headerEnvelope) {
+            bytes = GeoPackageGeometryData.bytesAndBuildEnvelope(4326,
+                    geometry);
+        } else {
+            bytes = GeoPackageGeometryData.bytes(4326, geometry);
+        }
+    }
+
+    /**
+     * Decode the header and geometry
+     *
+     * @return geometry
+     */
+    @Benchmark
+    public Geometry decodeGeometry() {
+        return GeoPackageGeometryData.create(bytes).getGeometry();
+    }
+
+    /**
+     * Decode the header and geometry, building the envelope when not in the
+     * header
+     *
+     * @return envelope
+     */
+    @Benchmark
+    public GeometryEnvelope decodeEnvelope() {
+        return GeoPackageGeometryData.create(bytes).getOrBuildEnvelope();
+    }
+
+    /**
+     * Read the envelope without decoding the geometry
+     *
+     * @return envelope
+     */
+    @Benchmark
+    public GeometryEnvelope readEnvelope() {
+        return GeometryEnvelopeReader.readEnvelope(bytes);
+    }
+
+    /**
+     * Read the envelope into a reusable array without decoding the geometry
+     *
+     * @return envelope array
+     */
+    @Benchmark
+    public double[] readEnvelopeArray() {
+        GeometryEnvelopeReader.readEnvelope(bytes, envelope);
+        return envelope;
+    }
+
+}
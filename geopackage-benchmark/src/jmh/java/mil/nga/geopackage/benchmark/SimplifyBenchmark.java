@@ -0,0 +1,70 @@
+package mil.nga.geopackage.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.sf.Point;
+import mil.nga.sf.util.GeometryUtils;
+
+/**
+ * Geometry point simplification benchmarks, as applied when drawing feature
+ * tiles
+ *
+ * @author osbornb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimplifyBenchmark {
+
+    /**
+     * Number of points
+     */
+    @Param({"100", "10000"})
+    public int points;
+
+    /**
+     * Simplify tolerance
+     */
+    @Param({"0.001", "0.1"})
+    public double tolerance;
+
+    /**
+     * Ring points
+     */
+    private List<Point> ring;
+
+    /**
+     * Setup the points
+     */
+    @Setup
+    public void setup() {
+        ring = BenchmarkUtils.createRing(points);
+    }
+
+    /**
+     * Simplify the points
+     *
+     * @return simplified points
+     */
+    @Benchmark
+    public List<Point> simplifyPoints() {
+        return GeometryUtils.simplifyPoints(ring, tolerance);
+    }
+
+}
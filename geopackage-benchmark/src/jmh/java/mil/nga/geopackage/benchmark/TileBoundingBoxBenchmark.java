@@ -0,0 +1,171 @@
+package mil.nga.geopackage.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
+
+/**
+ * Tile bounding box and pixel math benchmarks, including the pixel rectangle
+ * computation composed by the Android tile bounding box utilities
+ *
+ * @author osbornb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileBoundingBoxBenchmark {
+
+    /**
+     * Tile length in pixels
+     */
+    private static final int TILE_LENGTH = 256;
+
+    /**
+     * Zoom level
+     */
+    @Param({"4", "12"})
+    public int zoom;
+
+    /**
+     * Web mercator request tile bounding box
+     */
+    private BoundingBox requestBoundingBox;
+
+    /**
+     * Web mercator source tile matrix set bounding box
+     */
+    private BoundingBox tileMatrixSetBoundingBox;
+
+    /**
+     * Source tile matrix width and height
+     */
+    private long matrixLength;
+
+    /**
+     * Reusable pixel rectangle of left, top, right, bottom
+     */
+    private final float[] rectangle = new float[4];
+
+    /**
+     * Setup the bounding boxes
+     */
+    @Setup
+    public void setup() {
+        long tiles = 1L << zoom;
+        requestBoundingBox = TileBoundingBoxUtils.getWebMercatorBoundingBox(
+                tiles / 3, tiles / 3, zoom);
+        tileMatrixSetBoundingBox = TileBoundingBoxUtils
+                .getWebMercatorBoundingBox(0, 0, 0);
+        matrixLength = tiles;
+    }
+
+    /**
+     * Get the tile grid of the request bounding box
+     *
+     * @return tile grid
+     */
+    @Benchmark
+    public TileGrid tileGrid() {
+        return TileBoundingBoxUtils.getTileGrid(requestBoundingBox, zoom);
+    }
+
+    /**
+     * Get the web mercator bounding boxes of a 4 x 4 tile grid
+     *
+     * @return last bounding box
+     */
+    @Benchmark
+    public BoundingBox webMercatorBoundingBoxes() {
+        BoundingBox boundingBox = null;
+        long start = matrixLength / 3;
+        for (long x = start; x < start + 4; x++) {
+            for (long y = start; y < start + 4; y++) {
+                boundingBox = TileBoundingBoxUtils.getWebMercatorBoundingBox(x,
+                        y, zoom);
+            }
+        }
+        return boundingBox;
+    }
+
+    /**
+     * Get the source tile grid and each source tile pixel rectangle within
+     * the request tile, as done when creating a tile from a tile matrix
+     *
+     * @return last pixel rectangle
+     */
+    @Benchmark
+    public float[] sourceTileRectangles() {
+        TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
+                tileMatrixSetBoundingBox, matrixLength, matrixLength,
+                requestBoundingBox);
+        for (long column = tileGrid.getMinX(); column <= tileGrid
+                .getMaxX(); column++) {
+            for (long row = tileGrid.getMinY(); row <= tileGrid
+                    .getMaxY(); row++) {
+                BoundingBox tileBoundingBox = TileBoundingBoxUtils
+                        .getBoundingBox(tileMatrixSetBoundingBox,
+                                matrixLength, matrixLength, column, row);
+                BoundingBox overlap = requestBoundingBox
+                        .overlap(tileBoundingBox);
+                if (overlap != null) {
+                    floatRectangle(requestBoundingBox, overlap);
+                }
+            }
+        }
+        return rectangle;
+    }
+
+    /**
+     * Get the longitude and latitude of every pixel along the tile diagonal
+     *
+     * @return coordinate sum
+     */
+    @Benchmark
+    public double pixelCoordinates() {
+        double sum = 0;
+        for (int pixel = 0; pixel < TILE_LENGTH; pixel++) {
+            sum += TileBoundingBoxUtils.getLongitudeFromPixel(TILE_LENGTH,
+                    requestBoundingBox, pixel + 0.5f);
+            sum += TileBoundingBoxUtils.getLatitudeFromPixel(TILE_LENGTH,
+                    requestBoundingBox, pixel + 0.5f);
+        }
+        return sum;
+    }
+
+    /**
+     * Compute the floating point pixel rectangle of the bounding box section
+     * within the bounding box
+     *
+     * @param boundingBox        bounding box
+     * @param boundingBoxSection bounding box section
+     */
+    private void floatRectangle(BoundingBox boundingBox,
+                                BoundingBox boundingBoxSection) {
+        rectangle[0] = TileBoundingBoxUtils.getXPixel(TILE_LENGTH, boundingBox,
+                boundingBoxSection.getMinLongitude());
+        rectangle[1] = TileBoundingBoxUtils.getYPixel(TILE_LENGTH, boundingBox,
+                boundingBoxSection.getMaxLatitude());
+        rectangle[2] = TileBoundingBoxUtils.getXPixel(TILE_LENGTH, boundingBox,
+                boundingBoxSection.getMaxLongitude());
+        rectangle[3] = TileBoundingBoxUtils.getYPixel(TILE_LENGTH, boundingBox,
+                boundingBoxSection.getMinLatitude());
+    }
+
+}
@@ -121,4 +121,17 @@ public class GeoPackageCreateTest extends CreateGeoPackageTestCase {
 
 	}
 
+	/**
+	 * Test the user DAO cache
+	 *
+	 * @throws SQLException
+	 *             upon error
+	 */
+	@Test
+	public void testDaoCache() throws SQLException {
+
+		GeoPackageTestUtils.testDaoCache(geoPackage);
+
+	}
+
 }
@@ -121,4 +121,17 @@ public class GeoPackageImportTest extends ImportGeoPackageTestCase {
 
 	}
 
+	/**
+	 * Test the user DAO cache
+	 *
+	 * @throws SQLException
+	 *             upon error
+	 */
+	@Test
+	public void testDaoCache() throws SQLException {
+
+		GeoPackageTestUtils.testDaoCache(geoPackage);
+
+	}
+
 }
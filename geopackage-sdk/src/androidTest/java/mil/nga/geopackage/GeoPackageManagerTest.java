@@ -1,5 +1,7 @@
 package mil.nga.geopackage;
 
+import android.database.Cursor;
+
 import androidx.documentfile.provider.DocumentFile;
 
 import org.junit.Before;
@@ -9,7 +11,20 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.sql.SQLException;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.db.GeoPackageReadPool;
+import mil.nga.geopackage.db.GeoPackageSQLiteDatabase;
+import mil.nga.geopackage.features.index.FeatureIndexManagerUtils;
+import mil.nga.geopackage.features.user.FeatureCursor;
+import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.io.ContextIOUtils;
 
 import static org.junit.Assert.assertEquals;
@@ -96,6 +111,259 @@ public class GeoPackageManagerTest extends BaseTestCase {
                 .databaseSet().contains(TestConstants.TEST_DB_NAME));
     }
 
+    /**
+     * Test opening a database with a read only connection pool
+     */
+    @Test
+    public void testReadPool() {
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+        importReadPoolDatabase(manager);
+
+        // Query the feature tables without a read pool
+        GeoPackage geoPackage = manager.open(TestConstants.IMPORT_DB_NAME);
+        assertNotNull("Failed to open database", geoPackage);
+        assertFalse(geoPackage.getConnection().getDb().hasReadPool());
+        List<String> featureTables = geoPackage.getFeatureTables();
+        assertFalse(featureTables.isEmpty());
+        Map<String, Integer> counts = new HashMap<>();
+        for (String featureTable : featureTables) {
+            FeatureCursor cursor = geoPackage.getFeatureDao(featureTable)
+                    .queryForAll();
+            counts.put(featureTable, cursor.getCount());
+            cursor.close();
+        }
+        geoPackage.close();
+
+        // Query the feature tables with a read pool
+        int readConnections = manager.getSqliteReadConnections();
+        manager.setSqliteReadConnections(2);
+        try {
+            geoPackage = manager.open(TestConstants.IMPORT_DB_NAME);
+            assertNotNull("Failed to open database", geoPackage);
+            GeoPackageDatabase db = geoPackage.getConnection().getDb();
+            assertTrue(db.hasReadPool());
+            assertEquals(2, db.getReadPool().size());
+            for (int i = 0; i < 2; i++) {
+                for (String featureTable : featureTables) {
+                    FeatureCursor cursor = geoPackage.getFeatureDao(featureTable)
+                            .queryForAll();
+                    assertEquals(counts.get(featureTable).intValue(),
+                            cursor.getCount());
+                    while (cursor.moveToNext()) {
+                        assertNotNull(cursor.getRow());
+                    }
+                    cursor.close();
+                }
+            }
+
+            // Queries within a transaction use the writable connection
+            db.beginTransaction();
+            try {
+                assertEquals(db.getActive(), db.getReader());
+            } finally {
+                db.endTransaction(false);
+            }
+            geoPackage.close();
+        } finally {
+            manager.setSqliteReadConnections(readConnections);
+        }
+
+        // Delete
+        assertTrue("Database not deleted",
+                manager.delete(TestConstants.IMPORT_DB_NAME));
+    }
+
+    /**
+     * Test metadata join feature index queries with a read pool, querying the
+     * attached metadata database through the writable connection
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testReadPoolMetadataJoin() throws SQLException {
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+        importReadPoolDatabase(manager);
+
+        int readConnections = manager.getSqliteReadConnections();
+        manager.setSqliteReadConnections(2);
+        try {
+            GeoPackage geoPackage = manager.open(TestConstants.IMPORT_DB_NAME);
+            assertNotNull("Failed to open database", geoPackage);
+            assertTrue(geoPackage.getConnection().getDb().hasReadPool());
+            FeatureIndexManagerUtils.testMetadataJoin(activity, geoPackage);
+            assertFalse(geoPackage.getConnection().getDb().hasAttached());
+            geoPackage.close();
+        } finally {
+            manager.setSqliteReadConnections(readConnections);
+        }
+
+        // Delete
+        assertTrue("Database not deleted",
+                manager.delete(TestConstants.IMPORT_DB_NAME));
+    }
+
+    /**
+     * Test that a committed write is visible from the read pool connections
+     * in write ahead logging mode
+     */
+    @Test
+    public void testReadPoolWriteVisibility() {
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+        importReadPoolDatabase(manager);
+
+        int readConnections = manager.getSqliteReadConnections();
+        manager.setSqliteReadConnections(2);
+        try {
+            GeoPackage geoPackage = manager.open(TestConstants.IMPORT_DB_NAME);
+            assertNotNull("Failed to open database", geoPackage);
+            GeoPackageDatabase db = geoPackage.getConnection().getDb();
+            GeoPackageReadPool readPool = db.getReadPool();
+            assertNotNull(readPool);
+
+            String featureTable = geoPackage.getFeatureTables().get(0);
+            FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+            String countSql = "SELECT COUNT(*) FROM "
+                    + CoreSQLUtils.quoteWrap(featureTable);
+            int count = queryCount(readPool.getReader(), countSql);
+
+            // Insert and commit on the writable connection
+            db.beginTransaction();
+            try {
+                featureDao.create(featureDao.newRow());
+                db.endTransaction(true);
+            } catch (Exception e) {
+                db.endTransaction(false);
+                throw e;
+            }
+
+            // Each read only connection sees the committed row
+            for (int i = 0; i < readPool.size(); i++) {
+                assertEquals(count + 1, queryCount(readPool.getReader(),
+                        countSql));
+            }
+
+            geoPackage.close();
+        } finally {
+            manager.setSqliteReadConnections(readConnections);
+        }
+
+        // Delete
+        assertTrue("Database not deleted",
+                manager.delete(TestConstants.IMPORT_DB_NAME));
+    }
+
+    /**
+     * Test that two threads read from the read pool connections at once
+     *
+     * @throws Exception upon error
+     */
+    @Test
+    public void testReadPoolConcurrentReads() throws Exception {
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+        importReadPoolDatabase(manager);
+
+        int readConnections = manager.getSqliteReadConnections();
+        manager.setSqliteReadConnections(2);
+        try {
+            GeoPackage geoPackage = manager.open(TestConstants.IMPORT_DB_NAME);
+            assertNotNull("Failed to open database", geoPackage);
+            GeoPackageReadPool readPool = geoPackage.getConnection().getDb()
+                    .getReadPool();
+            assertNotNull(readPool);
+
+            final String sql = "SELECT * FROM " + CoreSQLUtils.quoteWrap(
+                    geoPackage.getFeatureTables().get(0));
+            final int count = queryCount(geoPackage.getConnection().getDb()
+                    .getActive(), "SELECT COUNT(*) FROM " + CoreSQLUtils
+                    .quoteWrap(geoPackage.getFeatureTables().get(0)));
+
+            // Both threads hold an open cursor at the barrier before reading
+            final CyclicBarrier barrier = new CyclicBarrier(2);
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            Thread[] threads = new Thread[2];
+            for (int i = 0; i < threads.length; i++) {
+                final GeoPackageSQLiteDatabase reader = readPool.getReader();
+                threads[i] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            Cursor cursor = reader.rawQuery(sql, null);
+                            try {
+                                barrier.await(30, TimeUnit.SECONDS);
+                                int rows = 0;
+                                while (cursor.moveToNext()) {
+                                    rows++;
+                                }
+                                assertEquals(count, rows);
+                            } finally {
+                                cursor.close();
+                            }
+                        } catch (Throwable e) {
+                            error.compareAndSet(null, e);
+                        }
+                    }
+                });
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join(60000);
+            }
+            if (error.get() != null) {
+                throw new AssertionError("Concurrent read failed",
+                        error.get());
+            }
+
+            geoPackage.close();
+        } finally {
+            manager.setSqliteReadConnections(readConnections);
+        }
+
+        // Delete
+        assertTrue("Database not deleted",
+                manager.delete(TestConstants.IMPORT_DB_NAME));
+    }
+
+    /**
+     * Copy the test db file from assets to the internal storage and import
+     *
+     * @param manager GeoPackage manager
+     */
+    private void importReadPoolDatabase(GeoPackageManager manager) {
+        TestUtils.copyAssetFileToInternalStorage(activity, testContext,
+                TestConstants.IMPORT_DB_FILE_NAME);
+        String importLocation = TestUtils.getAssetFileInternalStorageLocation(
+                activity, TestConstants.IMPORT_DB_FILE_NAME);
+        assertTrue("Database not imported",
+                manager.importGeoPackage(new File(importLocation)));
+    }
+
+    /**
+     * Query a single count value
+     *
+     * @param connection connection
+     * @param sql        count SQL
+     * @return count
+     */
+    private static int queryCount(GeoPackageSQLiteDatabase connection,
+                                  String sql) {
+        int count = -1;
+        Cursor cursor = connection.rawQuery(sql, null);
+        try {
+            if (cursor.moveToFirst()) {
+                count = cursor.getInt(0);
+            }
+        } finally {
+            cursor.close();
+        }
+        return count;
+    }
+
     /**
      * Test importing a database from a GeoPackage file
      */
@@ -16,6 +16,7 @@ import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageFactory;
 import mil.nga.geopackage.GeoPackageManager;
+import mil.nga.geopackage.attributes.AttributesDao;
 import mil.nga.geopackage.contents.Contents;
 import mil.nga.geopackage.contents.ContentsDao;
 import mil.nga.geopackage.contents.ContentsDataType;
@@ -709,4 +710,90 @@ public class GeoPackageTestUtils {
 
     }
 
+    /**
+     * Test the user DAO cache
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testDaoCache(GeoPackage geoPackage)
+            throws SQLException {
+
+        TestCase.assertFalse(geoPackage.isDaoCache());
+        geoPackage.setDaoCache(true);
+        TestCase.assertTrue(geoPackage.isDaoCache());
+
+        try {
+
+            ContentsDao contentsDao = geoPackage.getContentsDao();
+
+            for (String featureTable : geoPackage.getFeatureTables()) {
+
+                FeatureDao dao = geoPackage.getFeatureDao(featureTable);
+                TestCase.assertSame(dao, geoPackage.getFeatureDao(featureTable));
+                TestCase.assertSame(dao, geoPackage.getFeatureDao(
+                        dao.getGeometryColumns()));
+                TestCase.assertSame(dao, geoPackage.getFeatureDao(
+                        contentsDao.queryForId(featureTable)));
+
+                // Contents metadata change invalidates the cache
+                Contents contents = dao.getContents();
+                contents.setDescription("dao cache test");
+                contentsDao.update(contents);
+                FeatureDao updatedDao = geoPackage.getFeatureDao(featureTable);
+                TestCase.assertNotSame(dao, updatedDao);
+                TestCase.assertEquals("dao cache test",
+                        updatedDao.getContents().getDescription());
+                TestCase.assertSame(updatedDao,
+                        geoPackage.getFeatureDao(featureTable));
+
+                // Schema change invalidates the cache
+                int columnCount = updatedDao.columnCount();
+                updatedDao.addColumn(FeatureColumn.createColumn(
+                        "dao_cache_test", GeoPackageDataType.TEXT));
+                FeatureDao alteredDao = geoPackage.getFeatureDao(featureTable);
+                TestCase.assertNotSame(updatedDao, alteredDao);
+                TestCase.assertEquals(columnCount + 1,
+                        alteredDao.columnCount());
+                TestCase.assertTrue(alteredDao.getTable()
+                        .hasColumn("dao_cache_test"));
+
+                // Explicit clear invalidates the cache
+                geoPackage.clearDaoCache();
+                TestCase.assertNotSame(alteredDao,
+                        geoPackage.getFeatureDao(featureTable));
+            }
+
+            for (String tileTable : geoPackage.getTileTables()) {
+
+                TileDao dao = geoPackage.getTileDao(tileTable);
+                TestCase.assertSame(dao, geoPackage.getTileDao(tileTable));
+                TestCase.assertSame(dao, geoPackage.getTileDao(
+                        dao.getTileMatrixSet()));
+
+                // Tile matrix set metadata change invalidates the cache
+                TileMatrixSet tileMatrixSet = dao.getTileMatrixSet();
+                geoPackage.getTileMatrixSetDao().update(tileMatrixSet);
+                TestCase.assertNotSame(dao, geoPackage.getTileDao(tileTable));
+            }
+
+            for (String attributesTable : geoPackage.getAttributesTables()) {
+
+                AttributesDao dao = geoPackage.getAttributesDao(attributesTable);
+                TestCase.assertSame(dao,
+                        geoPackage.getAttributesDao(attributesTable));
+            }
+
+        } finally {
+            geoPackage.setDaoCache(false);
+        }
+
+        TestCase.assertFalse(geoPackage.isDaoCache());
+        for (String featureTable : geoPackage.getFeatureTables()) {
+            TestCase.assertNotSame(geoPackage.getFeatureDao(featureTable),
+                    geoPackage.getFeatureDao(featureTable));
+        }
+
+    }
+
 }
@@ -0,0 +1,155 @@
+package mil.nga.geopackage.db;
+
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import mil.nga.geopackage.BaseTestCase;
+
+/**
+ * For comparing the memory and latency of feature indexer id queries against
+ * boxed id sets through duration and memory logging
+ *
+ * @author osbornb
+ */
+public class FeatureIndexerIdQueryPerformance extends BaseTestCase {
+
+    private static final String LOG_NAME = FeatureIndexerIdQueryPerformance.class.getSimpleName();
+
+    /**
+     * Test 1,000 id performance
+     */
+    @Test
+    public void testPerformance1K() {
+        testPerformance(1000);
+    }
+
+    /**
+     * Test 100,000 id performance
+     */
+    @Test
+    public void testPerformance100K() {
+        testPerformance(100000);
+    }
+
+    /**
+     * Test 1,000,000 id performance
+     */
+    @Test
+    public void testPerformance1M() {
+        testPerformance(1000000);
+    }
+
+    /**
+     * Test performance for mostly consecutive ids and for sparse ids
+     *
+     * @param count id count
+     */
+    private void testPerformance(int count) {
+        // Every tenth id missing, as from a viewport of sequentially inserted features
+        testPerformance(count, 10, "Consecutive");
+        // Every other id missing
+        testPerformance(count, 2, "Sparse");
+    }
+
+    /**
+     * Test performance
+     *
+     * @param count id count
+     * @param gap   skip each id divisible by the gap
+     * @param name  id pattern name
+     */
+    private void testPerformance(int count, int gap, String name) {
+
+        long[] ids = new long[count];
+        long id = 0;
+        for (int i = 0; i < count; i++) {
+            id++;
+            if (id % gap == 0) {
+                id++;
+            }
+            ids[i] = id;
+        }
+
+        Log.i(LOG_NAME, name + " Ids: " + count);
+
+        // Boxed id set with an argument per id
+        long memory = usedMemory();
+        Instant startTime = Instant.now();
+        Set<Long> idSet = new LinkedHashSet<>();
+        for (long value : ids) {
+            idSet.add(value);
+        }
+        String[] setArgs = new String[idSet.size()];
+        int index = 0;
+        for (long value : idSet) {
+            setArgs[index++] = String.valueOf(value);
+        }
+        Duration setBuild = Duration.between(startTime, Instant.now());
+        long setMemory = usedMemory() - memory;
+        startTime = Instant.now();
+        int setMatches = 0;
+        for (long value = 0; value <= id; value++) {
+            if (idSet.contains(value)) {
+                setMatches++;
+            }
+        }
+        Duration setLookup = Duration.between(startTime, Instant.now());
+
+        TestCase.assertEquals(count, setArgs.length);
+        idSet = null;
+        setArgs = null;
+
+        // Primitive id query with range encoded arguments
+        memory = usedMemory();
+        startTime = Instant.now();
+        FeatureIndexerIdQuery idQuery = new FeatureIndexerIdQuery(count);
+        for (long value : ids) {
+            idQuery.addArgument(value);
+        }
+        String where = idQuery.getWhere("id");
+        String[] whereArgs = idQuery.getWhereArgs();
+        Duration queryBuild = Duration.between(startTime, Instant.now());
+        long queryMemory = usedMemory() - memory;
+        startTime = Instant.now();
+        int queryMatches = 0;
+        for (long value = 0; value <= id; value++) {
+            if (idQuery.hasId(value)) {
+                queryMatches++;
+            }
+        }
+        Duration queryLookup = Duration.between(startTime, Instant.now());
+
+        TestCase.assertEquals(count, idQuery.getCount());
+        TestCase.assertEquals(count, setMatches);
+        TestCase.assertEquals(count, queryMatches);
+        TestCase.assertNotNull(where);
+
+        Log.i(LOG_NAME, "Set Build Time: " + setBuild.toString().substring(2)
+                + ", Memory: " + setMemory + " bytes, Arguments: " + count);
+        Log.i(LOG_NAME, "Set Lookup Time: " + setLookup.toString().substring(2));
+        Log.i(LOG_NAME, "Id Query Build Time: " + queryBuild.toString().substring(2)
+                + ", Memory: " + queryMemory + " bytes, Arguments: " + whereArgs.length
+                + ", Above Max: " + idQuery.aboveMaxArguments());
+        Log.i(LOG_NAME, "Id Query Lookup Time: " + queryLookup.toString().substring(2));
+    }
+
+    /**
+     * Get the approximate used heap memory after garbage collection
+     *
+     * @return used memory bytes
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -8,14 +8,18 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 
 import mil.nga.geopackage.db.metadata.GeoPackageMetadataDb;
 import mil.nga.geopackage.db.metadata.GeometryMetadata;
 import mil.nga.geopackage.db.metadata.GeometryMetadataDataSource;
+import mil.nga.geopackage.db.metadata.GeometryMetadataWriter;
 import mil.nga.geopackage.db.metadata.TableMetadata;
 import mil.nga.geopackage.db.metadata.TableMetadataDataSource;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.geopackage.io.TestGeoPackageProgress;
 import mil.nga.geopackage.CreateGeoPackageTestCase;
 import mil.nga.geopackage.tiles.features.FeatureTileUtils;
 import mil.nga.sf.GeometryEnvelope;
@@ -241,4 +245,158 @@ public class FeatureIndexerTest extends CreateGeoPackageTestCase {
         }
     }
 
+
+    /**
+     * Test indexing through the bulk writer with small transactions and
+     * synchronous writes turned off
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testIndexerBulkWriter() throws SQLException {
+
+        FeatureDao featureDao = FeatureTileUtils.createFeatureDao(geoPackage);
+        int features = FeatureTileUtils.insertFeatures(geoPackage, featureDao);
+
+        FeatureIndexer indexer = new FeatureIndexer(activity, featureDao);
+        try {
+            assertEquals(GeometryMetadataWriter.DEFAULT_TRANSACTION_SIZE,
+                    indexer.getTransactionSize());
+            assertTrue(indexer.isSynchronous());
+
+            indexer.setTransactionSize(3);
+            indexer.setSynchronous(false);
+
+            TestGeoPackageProgress progress = new TestGeoPackageProgress();
+            indexer.setProgress(progress);
+
+            assertEquals(features, indexer.index());
+            assertEquals(features, progress.getProgress());
+            assertTrue(indexer.isIndexed());
+            assertEquals(features, indexer.count());
+
+            // Re-index replaces the rows
+            assertEquals(features, indexer.index(true));
+            assertEquals(features * 2, progress.getProgress());
+            assertEquals(features, indexer.count());
+        } finally {
+            indexer.close();
+        }
+    }
+
+    /**
+     * Test the geometry metadata spatial index queries match the rows within
+     * the envelope as features are indexed, updated, and deleted
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testIndexerSpatialIndex() throws SQLException {
+
+        FeatureDao featureDao = FeatureTileUtils.createFeatureDao(geoPackage);
+        FeatureTileUtils.insertFeatures(geoPackage, featureDao);
+
+        FeatureIndexer indexer = new FeatureIndexer(activity, featureDao);
+        try {
+            indexer.index();
+
+            GeometryEnvelope envelope = new GeometryEnvelope(-45.0, -30.0,
+                    60.0, 45.0);
+            validateSpatialIndex(featureDao, envelope);
+
+            // Move a feature into the envelope and remove another
+            long id = FeatureTileUtils.insertPoint(featureDao, 170.0, 80.0);
+            FeatureTileUtils.updateLastChange(geoPackage, featureDao);
+            FeatureRow pointRow = featureDao.queryForIdRow(id);
+            assertTrue(indexer.index(pointRow));
+            assertFalse(queryIds(featureDao, envelope).contains(id));
+
+            FeatureTileUtils.setPoint(pointRow, 10.0, 10.0);
+            assertTrue(featureDao.update(pointRow) > 0);
+            FeatureTileUtils.updateLastChange(geoPackage, featureDao);
+            assertTrue(indexer.index(pointRow));
+            assertTrue(queryIds(featureDao, envelope).contains(id));
+            validateSpatialIndex(featureDao, envelope);
+
+            assertTrue(indexer.deleteIndex(id));
+            assertFalse(queryIds(featureDao, envelope).contains(id));
+            validateSpatialIndex(featureDao, envelope);
+
+            // Re-index the table
+            indexer.index(true);
+            validateSpatialIndex(featureDao, envelope);
+        } finally {
+            indexer.close();
+        }
+    }
+
+    /**
+     * Validate the envelope query matches filtering all geometry metadata
+     *
+     * @param featureDao feature dao
+     * @param envelope   geometry envelope
+     */
+    private void validateSpatialIndex(FeatureDao featureDao,
+                                      GeometryEnvelope envelope) {
+
+        Set<Long> expected = new HashSet<>();
+
+        GeoPackageMetadataDb db = new GeoPackageMetadataDb(activity);
+        db.open();
+        try {
+            GeometryMetadataDataSource ds = new GeometryMetadataDataSource(db);
+            Cursor cursor = ds.query(geoPackage.getName(), featureDao.getTableName());
+            try {
+                while (cursor.moveToNext()) {
+                    GeometryMetadata metadata = GeometryMetadataDataSource.createGeometryMetadata(cursor);
+                    if (metadata.getMinX() <= envelope.getMaxX()
+                            && metadata.getMaxX() >= envelope.getMinX()
+                            && metadata.getMinY() <= envelope.getMaxY()
+                            && metadata.getMaxY() >= envelope.getMinY()) {
+                        expected.add(metadata.getId());
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+            assertEquals(expected.size(), ds.count(geoPackage.getName(),
+                    featureDao.getTableName(), envelope));
+        } finally {
+            db.close();
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, queryIds(featureDao, envelope));
+    }
+
+    /**
+     * Query for the indexed geometry ids within the envelope
+     *
+     * @param featureDao feature dao
+     * @param envelope   geometry envelope
+     * @return geometry ids
+     */
+    private Set<Long> queryIds(FeatureDao featureDao, GeometryEnvelope envelope) {
+
+        Set<Long> ids = new HashSet<>();
+
+        GeoPackageMetadataDb db = new GeoPackageMetadataDb(activity);
+        db.open();
+        try {
+            GeometryMetadataDataSource ds = new GeometryMetadataDataSource(db);
+            Cursor cursor = ds.queryIds(geoPackage.getName(), featureDao.getTableName(), envelope);
+            try {
+                while (cursor.moveToNext()) {
+                    assertTrue(ids.add(cursor.getLong(0)));
+                }
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            db.close();
+        }
+
+        return ids;
+    }
+
 }
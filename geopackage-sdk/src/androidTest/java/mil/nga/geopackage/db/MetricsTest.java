@@ -0,0 +1,171 @@
+package mil.nga.geopackage.db;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import mil.nga.geopackage.CreateGeoPackageTestCase;
+import mil.nga.geopackage.db.metrics.GeoPackageMetrics;
+import mil.nga.geopackage.db.metrics.MetricsHistogram;
+import mil.nga.geopackage.db.metrics.TableMetrics;
+import mil.nga.geopackage.db.metrics.WriteType;
+import mil.nga.geopackage.features.user.FeatureCursor;
+import mil.nga.geopackage.features.user.FeatureDao;
+import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.sf.Point;
+
+/**
+ * Test query, write, and transaction metrics
+ *
+ * @author osbornb
+ */
+public class MetricsTest extends CreateGeoPackageTestCase {
+
+    /**
+     * Test the metrics listener on the cursor factory
+     */
+    @Test
+    public void testMetrics() {
+
+        GeoPackageCursorFactory cursorFactory = geoPackage.getCursorFactory();
+        GeoPackageMetrics metrics = new GeoPackageMetrics(geoPackage.getName());
+        TestCase.assertEquals(GeoPackageMetrics.DEFAULT_SLOW_QUERY_MILLIS,
+                metrics.getSlowQueryThreshold());
+        metrics.setSlowQueryThreshold(0);
+        cursorFactory.setMetricsListener(metrics);
+
+        try {
+
+            for (String featureTable : geoPackage.getFeatureTables()) {
+
+                FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+
+                // Query metrics
+                int rows = 0;
+                FeatureCursor cursor = featureDao.queryForAll();
+                try {
+                    while (cursor.moveToNext()) {
+                        cursor.getGeometryBytes();
+                        rows++;
+                    }
+                } finally {
+                    cursor.close();
+                }
+
+                TableMetrics tableMetrics = metrics.getTableMetrics(featureTable);
+                TestCase.assertNotNull(tableMetrics);
+                TestCase.assertEquals(featureTable, tableMetrics.getTable());
+                long queries = tableMetrics.getQueryCount();
+                TestCase.assertTrue(queries >= 1);
+                TestCase.assertTrue(tableMetrics.getFirstRowNanos().getCount() >= 1);
+                TestCase.assertTrue(tableMetrics.getRows().getMax() >= rows);
+
+                // Closing again does not record another query
+                cursor.close();
+                TestCase.assertEquals(queries, tableMetrics.getQueryCount());
+
+                TestCase.assertTrue(tableMetrics.getCloseNanos().getMax()
+                        >= tableMetrics.getFirstRowNanos().getMax());
+                if (rows > 0) {
+                    TestCase.assertTrue(tableMetrics.getBlobBytes().getMax() > 0);
+                }
+
+                // Successful transaction and write metrics
+                long transactions = metrics.getTransactionNanos().getCount();
+                featureDao.beginTransaction();
+                long id;
+                try {
+                    FeatureRow row = featureDao.newRow();
+                    row.setGeometry(GeoPackageGeometryData.create(
+                            featureDao.getSrsId(), new Point(0, 0)));
+                    id = featureDao.insert(row);
+                    row.setGeometry(GeoPackageGeometryData.create(
+                            featureDao.getSrsId(), new Point(1, 1)));
+                    TestCase.assertEquals(1, featureDao.update(row));
+                } finally {
+                    featureDao.endTransaction(true);
+                }
+                TestCase.assertEquals(transactions + 1,
+                        metrics.getTransactionNanos().getCount());
+                TestCase.assertEquals(1,
+                        tableMetrics.getWriteCount(WriteType.INSERT));
+                TestCase.assertEquals(1,
+                        tableMetrics.getWriteCount(WriteType.UPDATE));
+                TestCase.assertEquals(1, tableMetrics
+                        .getWriteRows(WriteType.UPDATE).getMax());
+
+                // Rolled back transaction metrics
+                long rollbacks = metrics.getRollbacks();
+                featureDao.beginTransaction();
+                try {
+                    TestCase.assertEquals(1, featureDao.deleteById(id));
+                } finally {
+                    featureDao.endTransaction(false);
+                }
+                TestCase.assertEquals(rollbacks + 1, metrics.getRollbacks());
+                TestCase.assertEquals(1,
+                        tableMetrics.getWriteCount(WriteType.DELETE));
+
+                TestCase.assertEquals(1, featureDao.deleteById(id));
+                TestCase.assertEquals(2,
+                        tableMetrics.getWriteCount(WriteType.DELETE));
+            }
+
+        } finally {
+            cursorFactory.setMetricsListener(null);
+        }
+
+        // Queries are not measured without a listener
+        metrics.reset();
+        TestCase.assertTrue(metrics.getTableMetrics().isEmpty());
+        for (String featureTable : geoPackage.getFeatureTables()) {
+            geoPackage.getFeatureDao(featureTable).queryForAll().close();
+        }
+        TestCase.assertTrue(metrics.getTableMetrics().isEmpty());
+
+    }
+
+    /**
+     * Test the metrics histogram
+     */
+    @Test
+    public void testHistogram() {
+
+        MetricsHistogram histogram = new MetricsHistogram();
+        TestCase.assertEquals(0, histogram.getCount());
+        TestCase.assertEquals(0, histogram.getPercentile(50));
+
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+        histogram.record(1000);
+        histogram.record(-1);
+
+        TestCase.assertEquals(5, histogram.getCount());
+        TestCase.assertEquals(1006, histogram.getSum());
+        TestCase.assertEquals(0, histogram.getMin());
+        TestCase.assertEquals(1000, histogram.getMax());
+        TestCase.assertEquals(1006 / 5.0, histogram.getMean(), 0.0);
+        TestCase.assertEquals(0, histogram.getPercentile(0));
+        TestCase.assertEquals(3, histogram.getPercentile(50));
+        TestCase.assertEquals(1000, histogram.getPercentile(100));
+
+        long[] buckets = histogram.getBuckets();
+        TestCase.assertEquals(1, buckets[0]);
+        TestCase.assertEquals(1, buckets[1]);
+        TestCase.assertEquals(2, buckets[2]);
+        TestCase.assertEquals(1, buckets[MetricsHistogram.getBucket(1000)]);
+        TestCase.assertEquals(10, MetricsHistogram.getBucket(1000));
+        TestCase.assertEquals(1023, MetricsHistogram.getBucketMax(10));
+        TestCase.assertEquals(Long.MAX_VALUE, MetricsHistogram
+                .getBucketMax(MetricsHistogram.getBucket(Long.MAX_VALUE)));
+
+        histogram.reset();
+        TestCase.assertEquals(0, histogram.getCount());
+        TestCase.assertEquals(0, histogram.getMax());
+
+    }
+
+}
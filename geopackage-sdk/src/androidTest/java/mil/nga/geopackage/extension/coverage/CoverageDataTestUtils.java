@@ -3,7 +3,11 @@ package mil.nga.geopackage.extension.coverage;
 import junit.framework.TestCase;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
@@ -79,11 +83,16 @@ public class CoverageDataTestUtils {
         // Test getting the coverage data value of a single coordinate
         CoverageData<?> coverageData2 = CoverageData.getCoverageData(geoPackage, coverageData.getTileDao(), requestProjection);
         coverageData2.setAlgorithm(algorithm);
+        TestCase.assertNull(coverageData2.getTileCache());
+        coverageData2.setTileCache(new CoverageDataTileCache(Integer.MAX_VALUE));
         Double value = coverageData2.getValue(latitude, longitude);
         if (!allowNulls) {
             TestCase.assertNotNull(value);
         }
 
+        // Test batch point values and profiles
+        testPointValues(coverageData2, projectedBoundingBox);
+
         // Build a random bounding box
         double minLatitude = (projectedBoundingBox.getMaxLatitude() - projectedBoundingBox
                 .getMinLatitude())
@@ -118,6 +127,8 @@ public class CoverageDataTestUtils {
                         values.getValue(y, x));
             }
         }
+        testValuesArray(coverageData2, values,
+                coverageData2.getValuesArray(requestBoundingBox));
 
         int specifiedWidth = 50;
         int specifiedHeight = 100;
@@ -143,6 +154,8 @@ public class CoverageDataTestUtils {
                         values.getValue(y, x));
             }
         }
+        testValuesArray(coverageData2, values,
+                coverageData2.getValuesArray(requestBoundingBox));
 
         values = coverageData2.getValuesUnbounded(requestBoundingBox);
         TestCase.assertNotNull(values);
@@ -164,6 +177,261 @@ public class CoverageDataTestUtils {
                         values.getValue(y, x));
             }
         }
+        testValuesArray(coverageData2, values,
+                coverageData2.getValuesUnboundedArray(requestBoundingBox));
+
+        // Test values after tiles are written through another DAO
+        testTileWrites(geoPackage, coverageData.getTileDao(), tileMatrixSet,
+                algorithm);
+    }
+
+    /**
+     * Test coverage data values when tiles are deleted and inserted through
+     * another tile DAO after the tile existence index was loaded
+     *
+     * @param geoPackage    GeoPackage
+     * @param tileDao       tile DAO
+     * @param tileMatrixSet tile matrix set
+     * @param algorithm     algorithm
+     */
+    private static void testTileWrites(GeoPackage geoPackage, TileDao tileDao,
+                                       TileMatrixSet tileMatrixSet,
+                                       CoverageDataAlgorithm algorithm) {
+
+        TileRow maxTileRow = null;
+        TileCursor cursor = tileDao.queryForTile(tileDao.getMaxZoom());
+        try {
+            if (cursor.moveToNext()) {
+                maxTileRow = cursor.getRow();
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (maxTileRow != null) {
+
+            // Value at the center of a max zoom tile, loading the index
+            BoundingBox totalBox = tileMatrixSet.getBoundingBox();
+            BoundingBox tileBox = TileBoundingBoxUtils.getBoundingBox(totalBox,
+                    tileDao.getTileMatrix(tileDao.getMaxZoom()),
+                    maxTileRow.getTileColumn(), maxTileRow.getTileRow());
+            double latitude = (tileBox.getMinLatitude()
+                    + tileBox.getMaxLatitude()) / 2.0;
+            double longitude = (tileBox.getMinLongitude()
+                    + tileBox.getMaxLongitude()) / 2.0;
+            CoverageData<?> coverageData = CoverageData
+                    .getCoverageData(geoPackage, tileDao);
+            coverageData.setAlgorithm(algorithm);
+            Double value = coverageData.getValue(latitude, longitude);
+
+            // Delete the tiles containing the point through another DAO
+            TileDao otherDao = createTileDao(tileDao, tileMatrixSet);
+            List<TileRow> deleted = new ArrayList<>();
+            for (TileMatrix tileMatrix : tileDao.getTileMatrices()) {
+                long zoomLevel = tileMatrix.getZoomLevel();
+                long column = TileBoundingBoxUtils.getTileColumn(totalBox,
+                        tileMatrix.getMatrixWidth(), longitude);
+                long row = TileBoundingBoxUtils.getTileRow(totalBox,
+                        tileMatrix.getMatrixHeight(), latitude);
+                TileRow tileRow = otherDao.queryForTile(column, row,
+                        zoomLevel);
+                if (tileRow != null) {
+                    deleted.add(tileRow);
+                    TestCase.assertEquals(1,
+                            otherDao.deleteTile(column, row, zoomLevel));
+                    TestCase.assertFalse(tileDao.getTileExistenceIndex()
+                            .hasTile(column, row, zoomLevel));
+                }
+            }
+            TestCase.assertFalse(deleted.isEmpty());
+            TestCase.assertEquals(
+                    getValue(geoPackage, tileDao, tileMatrixSet, algorithm,
+                            latitude, longitude),
+                    coverageData.getValue(latitude, longitude));
+
+            // Insert the tiles back through the other DAO
+            for (TileRow tileRow : deleted) {
+                otherDao.insert(tileRow);
+                TestCase.assertTrue(tileDao.getTileExistenceIndex().hasTile(
+                        tileRow.getTileColumn(), tileRow.getTileRow(),
+                        tileRow.getZoomLevel()));
+            }
+            TestCase.assertEquals(value,
+                    coverageData.getValue(latitude, longitude));
+        }
+
+    }
+
+    /**
+     * Get the coverage data value from a newly created tile DAO without a
+     * loaded tile existence index
+     *
+     * @param geoPackage    GeoPackage
+     * @param tileDao       tile DAO
+     * @param tileMatrixSet tile matrix set
+     * @param algorithm     algorithm
+     * @param latitude      latitude
+     * @param longitude     longitude
+     * @return coverage data value
+     */
+    private static Double getValue(GeoPackage geoPackage, TileDao tileDao,
+                                   TileMatrixSet tileMatrixSet,
+                                   CoverageDataAlgorithm algorithm,
+                                   double latitude, double longitude) {
+        CoverageData<?> coverageData = CoverageData.getCoverageData(
+                geoPackage, createTileDao(tileDao, tileMatrixSet));
+        coverageData.setAlgorithm(algorithm);
+        return coverageData.getValue(latitude, longitude);
+    }
+
+    /**
+     * Create a tile DAO separate from the GeoPackage cached tile DAO
+     *
+     * @param tileDao       tile DAO
+     * @param tileMatrixSet tile matrix set
+     * @return tile DAO
+     */
+    private static TileDao createTileDao(TileDao tileDao,
+                                         TileMatrixSet tileMatrixSet) {
+        return new TileDao(tileDao.getDatabase(), tileDao.getDb(),
+                tileMatrixSet, tileDao.getTileMatrices(), tileDao.getTable());
+    }
+
+    /**
+     * Test batch point values and profiles against single coordinate values
+     *
+     * @param coverageData         coverage data
+     * @param projectedBoundingBox bounding box in the request projection
+     */
+    private static void testPointValues(CoverageData<?> coverageData,
+                                        BoundingBox projectedBoundingBox) {
+
+        double latDistance = projectedBoundingBox.getMaxLatitude()
+                - projectedBoundingBox.getMinLatitude();
+        double lonDistance = projectedBoundingBox.getMaxLongitude()
+                - projectedBoundingBox.getMinLongitude();
+
+        int count = 50;
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            latitudes[i] = latDistance * .9 * Math.random()
+                    + projectedBoundingBox.getMinLatitude() + (.05 * latDistance);
+            longitudes[i] = lonDistance * .9 * Math.random()
+                    + projectedBoundingBox.getMinLongitude() + (.05 * lonDistance);
+        }
+
+        for (int threads = 1; threads <= 2; threads++) {
+            coverageData.setThreads(threads);
+            double[] values = coverageData.getPointValues(latitudes, longitudes);
+            TestCase.assertEquals(count, values.length);
+            for (int i = 0; i < count; i++) {
+                Double value = coverageData.getValue(latitudes[i],
+                        longitudes[i]);
+                if (value == null) {
+                    TestCase.assertTrue(Double.isNaN(values[i]));
+                } else {
+                    TestCase.assertEquals(value, values[i]);
+                }
+            }
+        }
+        coverageData.close();
+
+        // Caller supplied executors are used and not shut down on close
+        double[] singleValues = coverageData.getPointValues(latitudes,
+                longitudes);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            coverageData.setExecutor(executor);
+            coverageData.setThreads(2);
+            double[] executorValues = coverageData.getPointValues(latitudes,
+                    longitudes);
+            TestCase.assertTrue(Arrays.equals(singleValues, executorValues));
+            coverageData.close();
+            TestCase.assertFalse(executor.isShutdown());
+        } finally {
+            coverageData.setExecutor(null);
+            coverageData.setThreads(1);
+            executor.shutdown();
+        }
+
+        int samples = 25;
+        CoverageDataProfile profile = coverageData.getProfile(
+                new double[]{latitudes[0], latitudes[1], latitudes[2]},
+                new double[]{longitudes[0], longitudes[1], longitudes[2]},
+                samples);
+        TestCase.assertEquals(samples, profile.size());
+        TestCase.assertEquals(latitudes[0], profile.getLatitudes()[0], 0.0);
+        TestCase.assertEquals(longitudes[0], profile.getLongitudes()[0], 0.0);
+        TestCase.assertEquals(latitudes[2],
+                profile.getLatitudes()[samples - 1], 0.0000001);
+        TestCase.assertEquals(longitudes[2],
+                profile.getLongitudes()[samples - 1], 0.0000001);
+        TestCase.assertEquals(0.0, profile.getDistances()[0], 0.0);
+        for (int i = 0; i < samples; i++) {
+            if (i > 0) {
+                TestCase.assertTrue(profile.getDistances()[i] >= profile
+                        .getDistances()[i - 1]);
+            }
+            Double value = coverageData.getValue(profile.getLatitudes()[i],
+                    profile.getLongitudes()[i]);
+            if (value == null) {
+                TestCase.assertTrue(Double.isNaN(profile.getValues()[i]));
+            } else {
+                TestCase.assertEquals(value, profile.getValues()[i]);
+            }
+        }
+    }
+
+    /**
+     * Test the primitive coverage data values against the coverage data
+     * results, retrieved after the results from the decoded tile cache
+     *
+     * @param coverageData coverage data
+     * @param results      coverage data results
+     * @param values       primitive coverage data values
+     */
+    private static void testValuesArray(CoverageData<?> coverageData,
+                                        CoverageDataResults results, CoverageDataValues values) {
+
+        TestCase.assertNotNull(values);
+        TestCase.assertEquals(results.getWidth(), values.getWidth());
+        TestCase.assertEquals(results.getHeight(), values.getHeight());
+        TestCase.assertEquals(results.getZoomLevel(), values.getZoomLevel());
+        TestCase.assertEquals(values.getWidth() * values.getHeight(),
+                values.getValues().length);
+        for (int y = 0; y < values.getHeight(); y++) {
+            for (int x = 0; x < values.getWidth(); x++) {
+                Double value = results.getValue(y, x);
+                TestCase.assertEquals(value != null, values.hasValue(y, x));
+                if (value != null) {
+                    TestCase.assertEquals(value, values.getValue(y, x));
+                }
+            }
+        }
+
+        // Tiles were decoded by the results, values use the cached tiles
+        CoverageDataTileCache tileCache = coverageData.getTileCache();
+        TestCase.assertTrue(tileCache.getDecodeCount() > 0);
+        TestCase.assertTrue(tileCache.getHitCount() > 0);
+        TestCase.assertTrue(tileCache.getSize() > 0);
+
+        // Resizing retains the cached tiles that fit
+        int size = tileCache.getSize();
+        int maxSize = tileCache.getMaxSize();
+        tileCache.resize(size);
+        TestCase.assertEquals(size, tileCache.getSize());
+        tileCache.resize(maxSize);
+        TestCase.assertEquals(maxSize, tileCache.getMaxSize());
+        TestCase.assertEquals(size, tileCache.getSize());
+
+        CoverageDataResults boxedResults = values.toResults();
+        for (int y = 0; y < values.getHeight(); y++) {
+            for (int x = 0; x < values.getWidth(); x++) {
+                TestCase.assertEquals(results.getValue(y, x),
+                        boxedResults.getValue(y, x));
+            }
+        }
     }
 
     /**
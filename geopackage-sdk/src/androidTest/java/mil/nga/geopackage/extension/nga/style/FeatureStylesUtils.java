@@ -37,6 +37,104 @@ import mil.nga.sf.util.GeometryUtils;
  */
 public class FeatureStylesUtils {
 
+    /**
+     * Validate the bulk resolved feature id styles against the individually
+     * resolved feature styles
+     *
+     * @param featureTableStyles feature table styles
+     * @param featureDao         feature DAO
+     */
+    private static void validateFeatureIdStyles(
+            FeatureTableStyles featureTableStyles, FeatureDao featureDao) {
+
+        List<FeatureRow> featureRows = new ArrayList<>();
+        FeatureCursor featureCursor = featureDao.queryForAll();
+        try {
+            while (featureCursor.moveToNext()) {
+                featureRows.add(featureCursor.getRow());
+            }
+        } finally {
+            featureCursor.close();
+        }
+
+        // Resolve every other feature id, others resolve to table styles
+        long[] ids = new long[(featureRows.size() + 1) / 2];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = featureRows.get(i * 2).getId();
+        }
+
+        FeatureIdStyles idStyles = featureTableStyles.getFeatureIdStyles(ids);
+        FeatureIdStyles allStyles = featureTableStyles.getFeatureIdStyles();
+        FeatureIdStyles cachedStyles = featureTableStyles
+                .getCachedFeatureIdStyles();
+        TestCase.assertSame(cachedStyles,
+                featureTableStyles.getCachedFeatureIdStyles());
+        TestCase.assertTrue(idStyles.size() <= ids.length);
+        TestCase.assertTrue(allStyles.size() <= featureRows.size());
+
+        Styles tableStyles = featureTableStyles.getCachedTableStyles();
+        Icons tableIcons = featureTableStyles.getCachedTableIcons();
+
+        FeatureRow styledRow = null;
+        for (int i = 0; i < featureRows.size(); i++) {
+            FeatureRow featureRow = featureRows.get(i);
+            long id = featureRow.getId();
+            if (featureTableStyles.getStyles(id) != null) {
+                styledRow = featureRow;
+            }
+            for (GeometryType geometryType : new GeometryType[]{null,
+                    featureRow.getGeometryType(), GeometryType.GEOMETRY}) {
+
+                StyleRow style = featureTableStyles.getStyle(id, geometryType);
+                IconRow icon = featureTableStyles.getIcon(id, geometryType);
+
+                validateFeatureIdStyle(style, icon,
+                        allStyles.getFeatureStyle(id, geometryType));
+                validateFeatureIdStyle(style, icon,
+                        cachedStyles.getFeatureStyle(id, geometryType));
+                if (i % 2 == 0) {
+                    validateFeatureIdStyle(style, icon,
+                            idStyles.getFeatureStyle(id, geometryType));
+                } else {
+                    TestCase.assertFalse(idStyles.has(id));
+                    validateFeatureIdStyle(
+                            tableStyles != null ? tableStyles.getStyle(geometryType) : null,
+                            tableIcons != null ? tableIcons.getIcon(geometryType) : null,
+                            idStyles.getFeatureStyle(id, geometryType));
+                }
+            }
+        }
+
+        // Verify modified feature styles clear the cached feature id styles
+        if (styledRow != null) {
+            TestCase.assertNotNull(cachedStyles.getStyles(styledRow.getId()));
+            featureTableStyles.deleteStyles(styledRow);
+            cachedStyles = featureTableStyles.getCachedFeatureIdStyles();
+            TestCase.assertNull(cachedStyles.getStyles(styledRow.getId()));
+        }
+
+    }
+
+    /**
+     * Validate a bulk resolved feature style
+     *
+     * @param style        expected style
+     * @param icon         expected icon
+     * @param featureStyle resolved feature style
+     */
+    private static void validateFeatureIdStyle(StyleRow style, IconRow icon,
+                                               FeatureStyle featureStyle) {
+        if (style == null && icon == null) {
+            TestCase.assertNull(featureStyle);
+        } else {
+            TestCase.assertNotNull(featureStyle);
+            TestCase.assertEquals(style != null ? style.getId() : null,
+                    featureStyle.hasStyle() ? featureStyle.getStyle().getId() : null);
+            TestCase.assertEquals(icon != null ? icon.getId() : null,
+                    featureStyle.hasIcon() ? featureStyle.getIcon().getId() : null);
+        }
+    }
+
     /**
      * Test Feature Styles extension
      *
@@ -429,6 +527,8 @@ public class FeatureStylesUtils {
                 }
                 featureCursor.close();
 
+                validateFeatureIdStyles(featureTableStyles, featureDao);
+
             }
 
             List<String> tables = featureStyleExtension.getTables();
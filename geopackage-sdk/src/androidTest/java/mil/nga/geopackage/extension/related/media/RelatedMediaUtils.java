@@ -7,6 +7,7 @@ import android.graphics.BitmapFactory;
 
 import junit.framework.TestCase;
 
+import java.io.ByteArrayOutputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,10 +31,12 @@ import mil.nga.geopackage.features.user.FeatureRow;
 import mil.nga.geopackage.features.user.FeatureTable;
 import mil.nga.geopackage.geom.GeoPackageGeometryData;
 import mil.nga.geopackage.io.BitmapConverter;
+import mil.nga.geopackage.io.GeoPackageIOUtils;
 import mil.nga.geopackage.TestConstants;
 import mil.nga.geopackage.TestUtils;
 import mil.nga.geopackage.extension.related.RelatedTablesUtils;
 import mil.nga.geopackage.geom.GeoPackageGeometryDataUtils;
+import mil.nga.geopackage.user.UserBlobInputStream;
 import mil.nga.geopackage.user.custom.UserCustomColumn;
 import mil.nga.geopackage.user.custom.UserCustomCursor;
 
@@ -323,6 +326,27 @@ public class RelatedMediaUtils {
                     TestCase.assertNotNull(image);
                     TestCase.assertEquals(imageWidth, image.getWidth());
                     TestCase.assertEquals(imageHeight, image.getHeight());
+
+                    // Test the streamed data
+                    Bitmap streamImage = mediaRow.getDataBitmap(mediaDao, null);
+                    TestCase.assertNotNull(streamImage);
+                    TestCase.assertEquals(imageWidth, streamImage.getWidth());
+                    TestCase.assertEquals(imageHeight, streamImage.getHeight());
+                    ByteArrayOutputStream copyStream = new ByteArrayOutputStream();
+                    TestCase.assertTrue(mediaRow.copyData(mediaDao, copyStream));
+                    GeoPackageGeometryDataUtils.compareByteArrays(mediaData,
+                            copyStream.toByteArray());
+                    String dataColumnName = mediaRow.getDataColumn().getName();
+                    TestCase.assertEquals(mediaData.length, mediaDao
+                            .getBlobLength(mediaRow.getId(), dataColumnName).intValue());
+                    UserBlobInputStream blobStream = mediaDao.openBlobStream(
+                            mediaRow.getId(), dataColumnName, 100);
+                    TestCase.assertEquals(mediaData.length, blobStream.getLength());
+                    GeoPackageGeometryDataUtils.compareByteArrays(mediaData,
+                            GeoPackageIOUtils.streamBytes(blobStream));
+                    TestCase.assertEquals(-1, blobStream.read());
+                    blobStream.close();
+                    TestCase.assertNull(mediaDao.openBlobStream(-1, dataColumnName));
                 }
 
                 totalMapped += mappedIds.size();
@@ -2,6 +2,7 @@ package mil.nga.geopackage.extension.rtree;
 
 import org.junit.Test;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 import mil.nga.geopackage.CreateGeoPackageTestCase;
@@ -32,6 +33,43 @@ public class RTreeIndexExtensionCreateTest extends CreateGeoPackageTestCase {
 
     }
 
+    /**
+     * Test RTree maintenance
+     *
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    @Test
+    public void testRTreeMaintenance() throws SQLException, IOException {
+
+        RTreeIndexExtensionUtils.testRTreeMaintenance(geoPackage);
+
+    }
+
+    /**
+     * Test RTree maintenance of bulk row writes
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testRTreeBulkMaintenance() throws SQLException {
+
+        RTreeIndexExtensionUtils.testRTreeBulkMaintenance(geoPackage);
+
+    }
+
+    /**
+     * Test RTree maintenance within GeoPackage transactions
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testRTreeTransaction() throws SQLException {
+
+        RTreeIndexExtensionUtils.testRTreeTransaction(geoPackage);
+
+    }
+
     @Override
     public boolean allowEmptyFeatures() {
         return false;
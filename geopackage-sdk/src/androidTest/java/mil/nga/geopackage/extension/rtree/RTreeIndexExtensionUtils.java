@@ -1,22 +1,31 @@
 package mil.nga.geopackage.extension.rtree;
 
+import android.content.ContentValues;
+import android.database.Cursor;
+
 import junit.framework.TestCase;
 
+import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
+import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.extension.Extensions;
+import mil.nga.geopackage.features.user.FeatureCursor;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.features.user.FeatureRow;
 import mil.nga.geopackage.features.user.FeatureTable;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
 import mil.nga.geopackage.user.custom.UserCustomCursor;
 import mil.nga.proj.Projection;
 import mil.nga.proj.ProjectionConstants;
 import mil.nga.proj.ProjectionFactory;
 import mil.nga.proj.ProjectionTransform;
 import mil.nga.sf.GeometryEnvelope;
+import mil.nga.sf.Point;
 
 /**
  * RTree Extension Utility test methods
@@ -42,10 +51,6 @@ public class RTreeIndexExtensionUtils {
             FeatureTable table = featureDao.getTable();
 
             if (!extension.has(table)) {
-                // TODO RTree write functionality currently not supported in Android
-                if(true) {
-                    continue;
-                }
                 Extensions createdExtension = extension.create(table);
                 TestCase.assertNotNull(createdExtension);
             }
@@ -153,4 +158,323 @@ public class RTreeIndexExtensionUtils {
 
     }
 
+    /**
+     * Test RTree maintenance of feature inserts, updates, and deletes
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    public static void testRTreeMaintenance(GeoPackage geoPackage)
+            throws SQLException, IOException {
+
+        RTreeIndexExtension extension = new RTreeIndexExtension(geoPackage);
+
+        List<String> featureTables = geoPackage.getFeatureTables();
+        for (String featureTable : featureTables) {
+
+            FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+            FeatureTable table = featureDao.getTable();
+
+            if (!extension.has(table)) {
+                Extensions createdExtension = extension.create(table);
+                TestCase.assertNotNull(createdExtension);
+                featureDao = geoPackage.getFeatureDao(featureTable);
+            }
+            TestCase.assertNotNull(featureDao.getRTreeIndexMaintainer());
+
+            RTreeIndexTableDao tableDao = extension.getTableDao(featureDao);
+            TestCase.assertTrue(tableDao.has());
+
+            int count = tableDao.count();
+            TestCase.assertEquals(count, tableDao.load());
+            TestCase.assertEquals(count, tableDao.count());
+
+            FeatureRow featureRow = null;
+            FeatureCursor cursor = featureDao.queryForAll();
+            while (featureRow == null && cursor.moveToNext()) {
+                FeatureRow row = cursor.getRow();
+                if (row.getGeometryEnvelope() != null) {
+                    featureRow = row;
+                }
+            }
+            cursor.close();
+            if (featureRow == null) {
+                continue;
+            }
+
+            GeometryEnvelope envelope = featureRow.getGeometryEnvelope();
+
+            // Insert
+            FeatureRow copyRow = featureRow.copy();
+            copyRow.resetId();
+            Point point = new Point(envelope.getMinX(), envelope.getMinY());
+            copyRow.setGeometry(GeoPackageGeometryData.create(
+                    featureDao.getSrsId(), point));
+            long id = featureDao.create(copyRow);
+            TestCase.assertEquals(count + 1, tableDao.count());
+            testIndexRow(tableDao, id, point);
+
+            // Update
+            point = new Point(envelope.getMaxX(), envelope.getMaxY());
+            copyRow.setGeometry(GeoPackageGeometryData.create(
+                    featureDao.getSrsId(), point));
+            TestCase.assertEquals(1, featureDao.update(copyRow));
+            TestCase.assertEquals(count + 1, tableDao.count());
+            testIndexRow(tableDao, id, point);
+
+            // Update content values
+            String where = featureDao.getPkColumnName() + " = ?";
+            String[] whereArgs = new String[]{String.valueOf(id)};
+            ContentValues values = new ContentValues();
+            values.putNull(featureDao.getGeometryColumnName());
+            TestCase.assertEquals(1,
+                    featureDao.update(values, where, whereArgs));
+            TestCase.assertEquals(count, tableDao.count());
+            TestCase.assertNull(tableDao.queryForIdRow(id));
+
+            values.put(featureDao.getGeometryColumnName(),
+                    copyRow.getGeometry().toBytes());
+            TestCase.assertEquals(1,
+                    featureDao.update(values, where, whereArgs));
+            TestCase.assertEquals(count + 1, tableDao.count());
+            testIndexRow(tableDao, id, point);
+
+            // Delete
+            TestCase.assertEquals(1, featureDao.deleteById(id));
+            TestCase.assertEquals(count, tableDao.count());
+            TestCase.assertNull(tableDao.queryForIdRow(id));
+
+            TestCase.assertEquals(count, tableDao.load());
+        }
+
+    }
+
+    /**
+     * Test RTree maintenance within GeoPackage transactions, rolling back and
+     * committing a feature insert together with its RTree index row
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testRTreeTransaction(GeoPackage geoPackage)
+            throws SQLException {
+
+        RTreeIndexExtension extension = new RTreeIndexExtension(geoPackage);
+
+        List<String> featureTables = geoPackage.getFeatureTables();
+        for (String featureTable : featureTables) {
+
+            FeatureTable table = geoPackage.getFeatureDao(featureTable)
+                    .getTable();
+            if (!extension.has(table)) {
+                Extensions createdExtension = extension.create(table);
+                TestCase.assertNotNull(createdExtension);
+            }
+
+            // Maintained DAOs keep the standard connection
+            FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+            TestCase.assertNotNull(featureDao.getRTreeIndexMaintainer());
+            TestCase.assertFalse(featureDao.getDatabaseConnection()
+                    .isUseBindings());
+
+            RTreeIndexTableDao tableDao = extension.getTableDao(
+                    geoPackage.getFeatureDao(featureTable));
+            TestCase.assertTrue(tableDao.has());
+
+            int count = tableDao.count();
+            int featureCount = featureDao.count();
+
+            FeatureRow featureRow = null;
+            FeatureCursor cursor = featureDao.queryForAll();
+            while (featureRow == null && cursor.moveToNext()) {
+                FeatureRow row = cursor.getRow();
+                if (row.getGeometryEnvelope() != null) {
+                    featureRow = row;
+                }
+            }
+            cursor.close();
+            if (featureRow == null) {
+                continue;
+            }
+
+            GeometryEnvelope envelope = featureRow.getGeometryEnvelope();
+            Point point = new Point(envelope.getMinX(), envelope.getMinY());
+            String countSql = "SELECT COUNT(*) FROM "
+                    + CoreSQLUtils.quoteWrap(tableDao.getTableName());
+
+            // Roll back an insert
+            FeatureRow copyRow = featureRow.copy();
+            copyRow.resetId();
+            copyRow.setGeometry(GeoPackageGeometryData.create(
+                    featureDao.getSrsId(), point));
+            long id;
+            geoPackage.beginTransaction();
+            try {
+                id = featureDao.create(copyRow);
+                TestCase.assertEquals(count + 1, queryCount(featureDao,
+                        countSql));
+            } finally {
+                geoPackage.endTransaction(false);
+            }
+            TestCase.assertEquals(featureCount, featureDao.count());
+            TestCase.assertEquals(count, tableDao.count());
+            TestCase.assertNull(tableDao.queryForIdRow(id));
+
+            // Commit an insert
+            copyRow.resetId();
+            geoPackage.beginTransaction();
+            try {
+                id = featureDao.create(copyRow);
+            } finally {
+                geoPackage.endTransaction(true);
+            }
+            TestCase.assertEquals(featureCount + 1, featureDao.count());
+            TestCase.assertEquals(count + 1, tableDao.count());
+            testIndexRow(tableDao, id, point);
+
+            TestCase.assertEquals(1, featureDao.deleteById(id));
+            TestCase.assertEquals(count, tableDao.count());
+        }
+
+    }
+
+    /**
+     * Query a single count value on the feature DAO connection
+     *
+     * @param featureDao feature DAO
+     * @param sql        count SQL
+     * @return count
+     */
+    private static int queryCount(FeatureDao featureDao, String sql) {
+        int count = -1;
+        Cursor cursor = featureDao.getDatabaseConnection().rawQuery(sql,
+                null);
+        try {
+            if (cursor.moveToFirst()) {
+                count = cursor.getInt(0);
+            }
+        } finally {
+            cursor.close();
+        }
+        return count;
+    }
+
+    /**
+     * Test RTree maintenance of row writer bulk inserts and updates
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testRTreeBulkMaintenance(GeoPackage geoPackage)
+            throws SQLException {
+
+        final int rows = 5;
+
+        RTreeIndexExtension extension = new RTreeIndexExtension(geoPackage);
+
+        List<String> featureTables = geoPackage.getFeatureTables();
+        for (String featureTable : featureTables) {
+
+            FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+            FeatureTable table = featureDao.getTable();
+
+            if (!extension.has(table)) {
+                Extensions createdExtension = extension.create(table);
+                TestCase.assertNotNull(createdExtension);
+                featureDao = geoPackage.getFeatureDao(featureTable);
+            }
+            TestCase.assertNotNull(featureDao.getRTreeIndexMaintainer());
+
+            RTreeIndexTableDao tableDao = extension.getTableDao(featureDao);
+            TestCase.assertTrue(tableDao.has());
+
+            int count = tableDao.count();
+
+            FeatureRow featureRow = null;
+            FeatureCursor cursor = featureDao.queryForAll();
+            while (featureRow == null && cursor.moveToNext()) {
+                FeatureRow row = cursor.getRow();
+                if (row.getGeometryEnvelope() != null) {
+                    featureRow = row;
+                }
+            }
+            cursor.close();
+            if (featureRow == null) {
+                continue;
+            }
+
+            GeometryEnvelope envelope = featureRow.getGeometryEnvelope();
+            Point insertPoint = new Point(envelope.getMinX(),
+                    envelope.getMinY());
+            Point updatePoint = new Point(envelope.getMaxX(),
+                    envelope.getMaxY());
+            BoundingBox insertBox = new BoundingBox(insertPoint.getX(),
+                    insertPoint.getY(), insertPoint.getX(), insertPoint.getY());
+            BoundingBox updateBox = new BoundingBox(updatePoint.getX(),
+                    updatePoint.getY(), updatePoint.getX(), updatePoint.getY());
+            int insertBoxCount = tableDao.count(insertBox);
+            int updateBoxCount = tableDao.count(updateBox);
+
+            // Bulk insert
+            List<FeatureRow> copyRows = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                FeatureRow copyRow = featureRow.copy();
+                copyRow.resetId();
+                copyRow.setGeometry(GeoPackageGeometryData.create(
+                        featureDao.getSrsId(), insertPoint));
+                copyRows.add(copyRow);
+            }
+            long[] ids = featureDao.insertRows(copyRows);
+            TestCase.assertEquals(rows, ids.length);
+            TestCase.assertEquals(count + rows, tableDao.count());
+            TestCase.assertEquals(insertBoxCount + rows,
+                    tableDao.count(insertBox));
+            for (long id : ids) {
+                testIndexRow(tableDao, id, insertPoint);
+            }
+
+            // Bulk update
+            for (FeatureRow copyRow : copyRows) {
+                copyRow.setGeometry(GeoPackageGeometryData.create(
+                        featureDao.getSrsId(), updatePoint));
+            }
+            TestCase.assertEquals(rows, featureDao.updateRows(copyRows));
+            TestCase.assertEquals(count + rows, tableDao.count());
+            TestCase.assertEquals(insertBoxCount, tableDao.count(insertBox));
+            TestCase.assertEquals(updateBoxCount + rows,
+                    tableDao.count(updateBox));
+            for (long id : ids) {
+                testIndexRow(tableDao, id, updatePoint);
+            }
+
+            // Delete
+            for (long id : ids) {
+                TestCase.assertEquals(1, featureDao.deleteById(id));
+            }
+            TestCase.assertEquals(count, tableDao.count());
+            TestCase.assertEquals(updateBoxCount, tableDao.count(updateBox));
+
+            TestCase.assertEquals(count, tableDao.load());
+        }
+
+    }
+
+    /**
+     * Test the RTree index row contains the point
+     *
+     * @param tableDao RTree index table dao
+     * @param id       feature id
+     * @param point    point
+     */
+    private static void testIndexRow(RTreeIndexTableDao tableDao, long id,
+                                     Point point) {
+        RTreeIndexTableRow row = tableDao.getRow(tableDao.queryForIdRow(id));
+        TestCase.assertNotNull(row);
+        TestCase.assertTrue(row.getMinX() <= point.getX());
+        TestCase.assertTrue(row.getMaxX() >= point.getX());
+        TestCase.assertTrue(row.getMinY() <= point.getY());
+        TestCase.assertTrue(row.getMaxY() >= point.getY());
+    }
+
 }
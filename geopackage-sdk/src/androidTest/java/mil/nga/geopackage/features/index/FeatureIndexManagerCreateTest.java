@@ -61,6 +61,18 @@ public class FeatureIndexManagerCreateTest extends CreateGeoPackageTestCase {
 
     }
 
+    /**
+     * Test metadata join queries
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testMetadataJoin() throws SQLException {
+
+        FeatureIndexManagerUtils.testMetadataJoin(activity, geoPackage);
+
+    }
+
     /**
      * Test large index
      *
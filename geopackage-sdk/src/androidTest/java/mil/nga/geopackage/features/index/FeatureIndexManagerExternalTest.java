@@ -56,6 +56,18 @@ public class FeatureIndexManagerExternalTest extends ExternalGeoPackageTestCase
 
     }
 
+    /**
+     * Test metadata join queries
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testMetadataJoin() throws SQLException {
+
+        FeatureIndexManagerUtils.testMetadataJoin(activity, geoPackage);
+
+    }
+
     /**
      * Test large index
      *
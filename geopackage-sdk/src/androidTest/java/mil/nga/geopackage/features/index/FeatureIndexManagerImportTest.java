@@ -56,6 +56,18 @@ public class FeatureIndexManagerImportTest extends ImportGeoPackageTestCase {
 
     }
 
+    /**
+     * Test metadata join queries
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testMetadataJoin() throws SQLException {
+
+        FeatureIndexManagerUtils.testMetadataJoin(activity, geoPackage);
+
+    }
+
     /**
      * Test large index
      *
@@ -7,6 +7,7 @@ import junit.framework.TestCase;
 import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -16,8 +17,10 @@ import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageTestUtils;
 import mil.nga.geopackage.TestUtils;
+import mil.nga.geopackage.db.FeatureIndexer;
 import mil.nga.geopackage.db.GeoPackageDataType;
 import mil.nga.geopackage.db.TableColumnKey;
+import mil.nga.geopackage.db.metadata.GeoPackageMetadataDb;
 import mil.nga.geopackage.features.columns.GeometryColumns;
 import mil.nga.geopackage.features.user.FeatureColumn;
 import mil.nga.geopackage.features.user.FeatureCursor;
@@ -1668,6 +1671,105 @@ public class FeatureIndexManagerUtils {
         }
     }
 
+    /**
+     * Test metadata index queries using the metadata join query mode
+     *
+     * @param activity   activity
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testMetadataJoin(Activity activity, GeoPackage geoPackage)
+            throws SQLException {
+
+        List<String> featureTables = geoPackage.getFeatureTables();
+        for (String featureTable : featureTables) {
+
+            FeatureDao featureDao = geoPackage.getFeatureDao(featureTable);
+            FeatureIndexManager featureIndexManager = new FeatureIndexManager(activity,
+                    geoPackage, featureDao);
+            featureIndexManager.setContinueOnError(false);
+            featureIndexManager.setIndexLocation(FeatureIndexType.METADATA);
+            featureIndexManager.deleteAllIndexes();
+            featureIndexManager.index();
+
+            FeatureIndexer featureIndexer = featureIndexManager.getFeatureIndexer();
+            TestCase.assertFalse(featureIndexer.isMetadataJoin());
+
+            BoundingBox boundingBox = featureIndexManager.getBoundingBox();
+            GeometryEnvelope envelope = null;
+            if (boundingBox != null) {
+                double quarterWidth = (boundingBox.getMaxLongitude() - boundingBox.getMinLongitude()) / 4.0;
+                double quarterHeight = (boundingBox.getMaxLatitude() - boundingBox.getMinLatitude()) / 4.0;
+                envelope = new GeometryEnvelope(boundingBox.getMinLongitude() + quarterWidth,
+                        boundingBox.getMinLatitude() + quarterHeight,
+                        boundingBox.getMaxLongitude() - quarterWidth,
+                        boundingBox.getMaxLatitude() - quarterHeight);
+            }
+
+            // Query using the id set
+            List<Long> ids = queryIds(featureIndexManager.query());
+            List<Long> envelopeIds = null;
+            int envelopeCount = 0;
+            List<Long> chunkIds = null;
+            if (envelope != null) {
+                envelopeIds = queryIds(featureIndexManager.query(envelope));
+                envelopeCount = featureIndexer.countFeatures(envelope);
+                chunkIds = queryIds(featureIndexManager.queryForChunk(envelope, 3, 1));
+            }
+
+            // Query using the attached metadata database
+            featureIndexer.setMetadataJoin(true);
+            TestCase.assertTrue(featureIndexer.isMetadataJoin());
+
+            TestCase.assertEquals(ids, queryIds(featureIndexManager.query()));
+            TestCase.assertEquals(ids.size(), featureIndexer.countFeatures());
+            TestCase.assertTrue(featureDao.getDatabaseConnection()
+                    .isAttached(GeoPackageMetadataDb.DATABASE_NAME));
+            if (envelope != null) {
+                TestCase.assertEquals(envelopeIds, queryIds(featureIndexManager.query(envelope)));
+                TestCase.assertEquals(envelopeCount, featureIndexer.countFeatures(envelope));
+                TestCase.assertEquals(envelopeIds.size(), envelopeCount);
+                TestCase.assertEquals(chunkIds,
+                        queryIds(featureIndexManager.queryForChunk(envelope, 3, 1)));
+            }
+
+            // Queries within a transaction, after the metadata is attached
+            featureDao.beginTransaction();
+            try {
+                TestCase.assertEquals(ids, queryIds(featureIndexManager.query()));
+            } finally {
+                featureDao.endTransaction(false);
+            }
+
+            featureIndexManager.deleteAllIndexes();
+            featureIndexManager.close();
+
+            // Closing detaches the metadata database
+            TestCase.assertFalse(featureDao.getDatabaseConnection()
+                    .isAttached(GeoPackageMetadataDb.DATABASE_NAME));
+        }
+
+    }
+
+    /**
+     * Read and close the feature index results, returning the sorted ids
+     *
+     * @param featureIndexResults feature index results
+     * @return sorted ids
+     */
+    private static List<Long> queryIds(FeatureIndexResults featureIndexResults) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (long id : featureIndexResults.ids()) {
+                ids.add(id);
+            }
+        } finally {
+            featureIndexResults.close();
+        }
+        Collections.sort(ids);
+        return ids;
+    }
+
     /**
      * Test large index
      *
@@ -0,0 +1,238 @@
+package mil.nga.geopackage.features.user;
+
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+import mil.nga.geopackage.BaseTestCase;
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackage;
+import mil.nga.geopackage.GeoPackageFactory;
+import mil.nga.geopackage.GeoPackageManager;
+import mil.nga.geopackage.db.TableColumnKey;
+import mil.nga.geopackage.features.columns.GeometryColumns;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.srs.SpatialReferenceSystem;
+import mil.nga.geopackage.user.UserChunkIterator;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.sf.GeometryType;
+import mil.nga.sf.Point;
+
+/**
+ * For comparing the per chunk latency of offset and keyset feature chunk
+ * queries through duration logging
+ *
+ * @author osbornb
+ */
+public class FeatureChunkPerformance extends BaseTestCase {
+
+    private static final String LOG_NAME = FeatureChunkPerformance.class.getSimpleName();
+    private static final String GEOPACKAGE_NAME = "chunk_performance";
+    private static final String TABLE_NAME = "features";
+    private static final String COLUMN_NAME = "geom";
+
+    /**
+     * Test offset and keyset chunk performance
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testChunkPerformance() throws SQLException {
+        testChunkPerformance(100000, 1000, 10);
+    }
+
+    /**
+     * Test chunk performance
+     *
+     * @param createCount rows to create
+     * @param chunkLimit  chunk limit
+     * @param logChunk    log frequency in chunks
+     * @throws SQLException upon error
+     */
+    private void testChunkPerformance(int createCount, int chunkLimit,
+                                      int logChunk) throws SQLException {
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+
+        manager.delete(GEOPACKAGE_NAME);
+        manager.create(GEOPACKAGE_NAME);
+
+        GeoPackage geoPackage = manager.open(GEOPACKAGE_NAME);
+
+        try {
+
+            FeatureDao dao = createFeatures(geoPackage, createCount);
+
+            Log.i(LOG_NAME, "Features: " + createCount);
+            Log.i(LOG_NAME, "Chunk Limit: " + chunkLimit);
+
+            String[] columns = dao.getIdAndGeometryColumnNames();
+
+            // Offset chunk queries
+            Instant startTime = Instant.now();
+            long offsetCount = 0;
+            long firstOffsetChunk = -1;
+            long lastOffsetChunk = -1;
+            int chunk = 0;
+            long offset = 0;
+            boolean hasResults = true;
+            while (hasResults) {
+                Instant chunkTime = Instant.now();
+                FeatureCursor cursor = dao.queryForChunk(columns, chunkLimit,
+                        offset);
+                int chunkCount = readChunk(cursor);
+                hasResults = chunkCount > 0;
+                offsetCount += chunkCount;
+                long chunkMillis = Duration.between(chunkTime, Instant.now())
+                        .toMillis();
+                if (firstOffsetChunk < 0) {
+                    firstOffsetChunk = chunkMillis;
+                }
+                if (hasResults) {
+                    lastOffsetChunk = chunkMillis;
+                }
+                if (chunk % logChunk == 0) {
+                    Log.i(LOG_NAME, "Offset Chunk " + chunk + " (offset "
+                            + offset + "): " + chunkMillis + " ms");
+                }
+                offset += chunkLimit;
+                chunk++;
+            }
+            Duration offsetDuration = Duration.between(startTime,
+                    Instant.now());
+
+            // Keyset chunk queries
+            startTime = Instant.now();
+            long keysetCount = 0;
+            long firstKeysetChunk = -1;
+            long lastKeysetChunk = -1;
+            long previousId = Long.MIN_VALUE;
+            chunk = 0;
+            UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = dao
+                    .queryForChunks(columns, chunkLimit);
+            TestCase.assertTrue(chunks.isKeyset());
+            while (chunks.hasNext()) {
+                Instant chunkTime = Instant.now();
+                FeatureCursor cursor = chunks.next();
+                int chunkCount = 0;
+                try {
+                    while (cursor.moveToNext()) {
+                        long id = cursor.getId();
+                        TestCase.assertTrue(id > previousId);
+                        previousId = id;
+                        cursor.getRow();
+                        chunkCount++;
+                    }
+                } finally {
+                    cursor.close();
+                }
+                TestCase.assertTrue(chunkCount <= chunkLimit);
+                keysetCount += chunkCount;
+                long chunkMillis = Duration.between(chunkTime, Instant.now())
+                        .toMillis();
+                if (firstKeysetChunk < 0) {
+                    firstKeysetChunk = chunkMillis;
+                }
+                if (chunkCount > 0) {
+                    lastKeysetChunk = chunkMillis;
+                }
+                if (chunk % logChunk == 0) {
+                    Log.i(LOG_NAME, "Keyset Chunk " + chunk + " (after id "
+                            + previousId + "): " + chunkMillis + " ms");
+                }
+                chunk++;
+            }
+            Duration keysetDuration = Duration.between(startTime,
+                    Instant.now());
+
+            Log.i(LOG_NAME, "Offset Total Time: "
+                    + offsetDuration.toString().substring(2));
+            Log.i(LOG_NAME, "Offset First Chunk: " + firstOffsetChunk
+                    + " ms, Last Chunk: " + lastOffsetChunk + " ms");
+            Log.i(LOG_NAME, "Keyset Total Time: "
+                    + keysetDuration.toString().substring(2));
+            Log.i(LOG_NAME, "Keyset First Chunk: " + firstKeysetChunk
+                    + " ms, Last Chunk: " + lastKeysetChunk + " ms");
+
+            TestCase.assertEquals(createCount, offsetCount);
+            TestCase.assertEquals(createCount, keysetCount);
+
+        } finally {
+            geoPackage.close();
+            manager.delete(GEOPACKAGE_NAME);
+        }
+
+    }
+
+    /**
+     * Read all rows in the chunk cursor
+     *
+     * @param cursor feature cursor
+     * @return row count
+     */
+    private static int readChunk(FeatureCursor cursor) {
+        int count = 0;
+        try {
+            while (cursor.moveToNext()) {
+                cursor.getRow();
+                count++;
+            }
+        } finally {
+            cursor.close();
+        }
+        return count;
+    }
+
+    /**
+     * Create a point feature table with features
+     *
+     * @param geoPackage  GeoPackage
+     * @param createCount rows to create
+     * @return feature dao
+     * @throws SQLException upon error
+     */
+    private static FeatureDao createFeatures(GeoPackage geoPackage,
+                                             int createCount) throws SQLException {
+
+        SpatialReferenceSystem srs = geoPackage.getSpatialReferenceSystemDao()
+                .getOrCreateCode(ProjectionConstants.AUTHORITY_EPSG,
+                        ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+        GeometryColumns geometryColumns = new GeometryColumns();
+        geometryColumns.setId(new TableColumnKey(TABLE_NAME, COLUMN_NAME));
+        geometryColumns.setGeometryType(GeometryType.POINT);
+        geometryColumns.setZ((byte) 0);
+        geometryColumns.setM((byte) 0);
+        geometryColumns.setSrs(srs);
+
+        geoPackage.createFeatureTable(FeatureTableMetadata.create(
+                geometryColumns, BoundingBox.worldWGS84()));
+
+        FeatureDao dao = geoPackage.getFeatureDao(geometryColumns);
+
+        dao.beginTransaction();
+        try {
+            for (int count = 0; count < createCount; count++) {
+                FeatureRow newRow = dao.newRow();
+                double x = -180.0 + (360.0 * count / createCount);
+                double y = -90.0 + (180.0 * count / createCount);
+                newRow.setGeometry(GeoPackageGeometryData
+                        .create(srs.getSrsId(), new Point(x, y)));
+                dao.create(newRow);
+            }
+            dao.endTransaction();
+        } catch (Exception e) {
+            dao.failTransaction();
+            throw e;
+        }
+
+        return dao;
+    }
+
+}
@@ -85,6 +85,42 @@ public class FeatureCreateTest extends CreateGeoPackageTestCase {
 
     }
 
+    /**
+     * Test batched id row queries
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testQueryForIdRows() throws SQLException {
+
+        FeatureUtils.testQueryForIdRows(geoPackage);
+
+    }
+
+    /**
+     * Test reusable row cursor iteration and precomputed column accessors
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testReuseRow() throws SQLException {
+
+        FeatureUtils.testReuseRow(geoPackage);
+
+    }
+
+    /**
+     * Test compiled statement row writer inserts and updates
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testRowWriter() throws SQLException {
+
+        FeatureUtils.testRowWriter(geoPackage);
+
+    }
+
     /**
      * Test Feature DAO primary key modifications and disabling value validation
      *
@@ -85,6 +85,30 @@ public class FeatureExternalTest extends ExternalGeoPackageTestCase {
 
     }
 
+    /**
+     * Test batched id row queries
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testQueryForIdRows() throws SQLException {
+
+        FeatureUtils.testQueryForIdRows(geoPackage);
+
+    }
+
+    /**
+     * Test reusable row cursor iteration and precomputed column accessors
+     *
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testReuseRow() throws SQLException {
+
+        FeatureUtils.testReuseRow(geoPackage);
+
+    }
+
     /**
      * Test Feature DAO primary key modifications and disabling value validation
      *
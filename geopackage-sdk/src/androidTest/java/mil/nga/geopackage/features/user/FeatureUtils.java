@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +32,7 @@ import mil.nga.geopackage.geom.GeoPackageGeometryData;
 import mil.nga.geopackage.geom.GeoPackageGeometryDataUtils;
 import mil.nga.geopackage.srs.SpatialReferenceSystem;
 import mil.nga.geopackage.user.ColumnValue;
+import mil.nga.geopackage.user.UserRowWriter;
 import mil.nga.proj.ProjectionConstants;
 import mil.nga.sf.Geometry;
 import mil.nga.sf.GeometryCollection;
@@ -1492,6 +1494,250 @@ public class FeatureUtils {
         }
     }
 
+    /**
+     * Test batched id row queries
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testQueryForIdRows(GeoPackage geoPackage) throws SQLException {
+
+        GeometryColumnsDao geometryColumnsDao = geoPackage
+                .getGeometryColumnsDao();
+
+        if (geometryColumnsDao.isTableExists()) {
+            List<GeometryColumns> results = geometryColumnsDao.queryForAll();
+
+            for (GeometryColumns geometryColumns : results) {
+
+                FeatureDao dao = geoPackage.getFeatureDao(geometryColumns);
+                TestCase.assertNotNull(dao);
+
+                // Ids in descending order with a missing and a repeated id
+                List<Long> ids = new ArrayList<>();
+                FeatureCursor cursor = dao.query(new String[]{dao.getPkColumnName()},
+                        null, null, null, null, dao.getPkColumnName() + " DESC");
+                try {
+                    while (cursor.moveToNext()) {
+                        ids.add(cursor.getId());
+                    }
+                } finally {
+                    cursor.close();
+                }
+                if (!ids.isEmpty()) {
+                    ids.add(ids.get(0));
+                }
+                ids.add(-1L);
+
+                int batchSize = 7;
+                Iterator<FeatureRow> rows = dao.queryForIdRows(null,
+                        ids.iterator(), batchSize);
+                int count = 0;
+                for (long id : ids) {
+                    TestCase.assertTrue(rows.hasNext());
+                    FeatureRow row = rows.next();
+                    FeatureRow expectedRow = dao.queryForIdRow(id);
+                    if (expectedRow == null) {
+                        TestCase.assertNull(row);
+                    } else {
+                        TestCase.assertNotNull(row);
+                        TestCase.assertEquals(id, row.getId());
+                        TestCase.assertEquals(expectedRow.columnCount(),
+                                row.columnCount());
+                        GeoPackageGeometryData expectedGeometry = expectedRow.getGeometry();
+                        if (expectedGeometry == null) {
+                            TestCase.assertNull(row.getGeometry());
+                        } else {
+                            TestCase.assertEquals(expectedGeometry.getGeometry(),
+                                    row.getGeometry().getGeometry());
+                        }
+                    }
+                    count++;
+                }
+                TestCase.assertFalse(rows.hasNext());
+                TestCase.assertEquals(ids.size(), count);
+
+                // Columns without the primary key query each id
+                String[] columns = new String[]{dao.getGeometryColumnName()};
+                rows = dao.queryForIdRows(columns, ids.iterator());
+                for (long id : ids) {
+                    TestCase.assertTrue(rows.hasNext());
+                    FeatureRow row = rows.next();
+                    FeatureRow expectedRow = dao.queryForIdRow(columns, id);
+                    if (expectedRow == null) {
+                        TestCase.assertNull(row);
+                    } else {
+                        TestCase.assertNotNull(row);
+                        TestCase.assertEquals(1, row.columnCount());
+                    }
+                }
+                TestCase.assertFalse(rows.hasNext());
+            }
+        }
+    }
+
+    /**
+     * Test reusable row cursor iteration and precomputed column accessors
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testReuseRow(GeoPackage geoPackage) throws SQLException {
+
+        GeometryColumnsDao geometryColumnsDao = geoPackage
+                .getGeometryColumnsDao();
+
+        if (geometryColumnsDao.isTableExists()) {
+            List<GeometryColumns> results = geometryColumnsDao.queryForAll();
+
+            for (GeometryColumns geometryColumns : results) {
+
+                FeatureDao dao = geoPackage.getFeatureDao(geometryColumns);
+                TestCase.assertNotNull(dao);
+
+                FeatureCursor cursor = dao.queryForAll();
+                FeatureCursor reuseCursor = dao.queryForAll();
+                reuseCursor.setReuseRow(true);
+                TestCase.assertTrue(reuseCursor.isReuseRow());
+                try {
+                    FeatureColumns columns = reuseCursor.getColumns();
+                    GeoPackageDataType[] dataTypes = reuseCursor.getDataTypes();
+                    TestCase.assertEquals(columns.columnCount(), dataTypes.length);
+                    for (int i = 0; i < dataTypes.length; i++) {
+                        FeatureColumn column = columns.getColumn(i);
+                        TestCase.assertEquals(column.getDataType(), dataTypes[i]);
+                        TestCase.assertEquals(i, reuseCursor.getColumnIndex(column));
+                    }
+                    int pkIndex = columns.getPkColumnIndex();
+                    FeatureRow previousRow = null;
+                    while (cursor.moveToNext()) {
+                        TestCase.assertTrue(reuseCursor.moveToNext());
+                        FeatureRow expectedRow = cursor.getRow();
+                        FeatureRow row = reuseCursor.getRow();
+                        if (previousRow != null && row.isValid()
+                                && previousRow.isValid()) {
+                            TestCase.assertSame(previousRow, row);
+                        }
+                        TestCase.assertEquals(expectedRow.isValid(), row.isValid());
+                        if (row.isValid()) {
+                            previousRow = row;
+                            TestCase.assertEquals(expectedRow.getId(), row.getId());
+                            TestCase.assertEquals(expectedRow.getId(),
+                                    reuseCursor.getLongValue(pkIndex));
+                            for (int i = 0; i < row.columnCount(); i++) {
+                                Object expectedValue = expectedRow.getValue(i);
+                                if (expectedValue instanceof byte[]) {
+                                    GeoPackageGeometryDataUtils.compareByteArrays(
+                                            (byte[]) expectedValue, (byte[]) row.getValue(i));
+                                } else if (i != row.getGeometryColumnIndex()) {
+                                    TestCase.assertEquals(expectedValue, row.getValue(i));
+                                }
+                            }
+                            GeoPackageGeometryData expectedGeometry = expectedRow.getGeometry();
+                            if (expectedGeometry == null) {
+                                TestCase.assertNull(row.getGeometry());
+                            } else {
+                                TestCase.assertEquals(expectedGeometry.getGeometry(),
+                                        row.getGeometry().getGeometry());
+                                byte[] geometryBytes = reuseCursor.getGeometryBytes();
+                                if (geometryBytes != null) {
+                                    TestCase.assertEquals(expectedGeometry.getGeometry(),
+                                            GeoPackageGeometryData.create(geometryBytes)
+                                                    .getGeometry());
+                                }
+                            }
+                        }
+                    }
+                    TestCase.assertFalse(reuseCursor.moveToNext());
+                } finally {
+                    cursor.close();
+                    reuseCursor.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test compiled statement row writer inserts and updates
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testRowWriter(GeoPackage geoPackage) throws SQLException {
+
+        GeometryColumnsDao geometryColumnsDao = geoPackage
+                .getGeometryColumnsDao();
+
+        if (geometryColumnsDao.isTableExists()) {
+            List<GeometryColumns> results = geometryColumnsDao.queryForAll();
+
+            for (GeometryColumns geometryColumns : results) {
+
+                FeatureDao dao = geoPackage.getFeatureDao(geometryColumns);
+                TestCase.assertNotNull(dao);
+
+                int count = dao.count();
+
+                List<FeatureRow> rows = new ArrayList<>();
+                FeatureCursor cursor = dao.queryForAll();
+                try {
+                    while (rows.size() < 25 && cursor.moveToNext()) {
+                        FeatureRow row = cursor.getRow();
+                        if (row.isValid()) {
+                            FeatureRow copyRow = row.copy();
+                            copyRow.resetId();
+                            rows.add(copyRow);
+                        }
+                    }
+                } finally {
+                    cursor.close();
+                }
+
+                if (rows.isEmpty()) {
+                    continue;
+                }
+
+                // Insert copies of the rows
+                long[] ids = dao.insertRows(rows);
+                TestCase.assertEquals(rows.size(), ids.length);
+                TestCase.assertEquals(count + rows.size(), dao.count());
+                for (int i = 0; i < ids.length; i++) {
+                    FeatureRow row = rows.get(i);
+                    TestCase.assertTrue(row.hasId());
+                    TestCase.assertEquals(ids[i], row.getId());
+                    FeatureRow readRow = dao.queryForIdRow(ids[i]);
+                    TestCase.assertNotNull(readRow);
+                    GeoPackageGeometryData geometry = row.getGeometry();
+                    if (geometry == null) {
+                        TestCase.assertNull(readRow.getGeometry());
+                    } else {
+                        TestCase.assertEquals(geometry.getGeometry(),
+                                readRow.getGeometry().getGeometry());
+                    }
+                }
+
+                // Update the inserted rows in small transactions
+                UserRowWriter<FeatureColumn, FeatureTable, FeatureRow> writer = dao
+                        .createRowWriter();
+                writer.setTransactionSize(3);
+                try {
+                    for (FeatureRow row : rows) {
+                        TestCase.assertEquals(1, writer.update(row));
+                    }
+                    TestCase.assertEquals(rows.size(), writer.getCount());
+                } finally {
+                    writer.close();
+                }
+                TestCase.assertEquals(0, writer.getStatementCount());
+
+                for (long id : ids) {
+                    TestCase.assertEquals(1, dao.deleteById(id));
+                }
+                TestCase.assertEquals(count, dao.count());
+            }
+        }
+    }
+
     /**
      * Test Feature DAO primary key modifications and disabling value validation
      *
@@ -102,4 +102,17 @@ public class GeoPackageGeometryDataCreateTest extends CreateGeoPackageTestCase {
 
     }
 
+    /**
+     * Test reading envelopes
+     *
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    @Test
+    public void testReadEnvelope() throws SQLException, IOException {
+
+        GeoPackageGeometryDataUtils.testReadEnvelope(geoPackage);
+
+    }
+
 }
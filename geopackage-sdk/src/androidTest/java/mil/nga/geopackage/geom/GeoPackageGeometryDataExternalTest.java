@@ -102,4 +102,17 @@ public class GeoPackageGeometryDataExternalTest extends ExternalGeoPackageTestCa
 
     }
 
+    /**
+     * Test reading envelopes
+     *
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    @Test
+    public void testReadEnvelope() throws SQLException, IOException {
+
+        GeoPackageGeometryDataUtils.testReadEnvelope(geoPackage);
+
+    }
+
 }
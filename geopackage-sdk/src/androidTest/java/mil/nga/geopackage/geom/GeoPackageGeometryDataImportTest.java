@@ -102,4 +102,17 @@ public class GeoPackageGeometryDataImportTest extends ImportGeoPackageTestCase {
 
     }
 
+    /**
+     * Test reading envelopes
+     *
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    @Test
+    public void testReadEnvelope() throws SQLException, IOException {
+
+        GeoPackageGeometryDataUtils.testReadEnvelope(geoPackage);
+
+    }
+
 }
@@ -150,6 +150,138 @@ public class GeoPackageGeometryDataUtils {
 
     }
 
+    /**
+     * Test reading geometry envelopes without decoding the geometries
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     * @throws IOException  upon error
+     */
+    public static void testReadEnvelope(GeoPackage geoPackage)
+            throws SQLException, IOException {
+
+        GeometryColumnsDao geometryColumnsDao = geoPackage
+                .getGeometryColumnsDao();
+
+        if (geometryColumnsDao.isTableExists()) {
+            List<GeometryColumns> results = geometryColumnsDao.queryForAll();
+
+            for (GeometryColumns geometryColumns : results) {
+
+                FeatureDao dao = geoPackage.getFeatureDao(geometryColumns);
+                TestCase.assertNotNull(dao);
+
+                double[] envelopeArray = new double[GeometryEnvelopeReader.ENVELOPE_LENGTH];
+
+                FeatureCursor cursor = dao.queryForAll();
+
+                while (cursor.moveToNext()) {
+
+                    GeoPackageGeometryData geometryData = cursor.getGeometry();
+                    GeometryEnvelope cursorEnvelope = cursor
+                            .getGeometryEnvelope();
+                    boolean cursorRead = cursor
+                            .getGeometryEnvelope(envelopeArray);
+
+                    if (geometryData == null) {
+                        TestCase.assertNull(cursorEnvelope);
+                        TestCase.assertFalse(cursorRead);
+                        continue;
+                    }
+
+                    // Compare against the header or built envelope
+                    GeometryEnvelope expected = geometryData
+                            .getOrBuildEnvelope();
+                    if (!geometryData.isEmpty() && !geometryData.isExtended()) {
+                        compareEnvelopes(expected, cursorEnvelope);
+                        TestCase.assertEquals(cursorEnvelope != null,
+                                cursorRead);
+                        if (cursorRead) {
+                            compareEnvelopes(cursorEnvelope, envelopeArray);
+                        }
+                    }
+
+                    // Scan the geometry bytes without a header envelope in
+                    // both byte orders
+                    Geometry geometry = geometryData.getGeometry();
+                    if (geometry != null && !geometry.isEmpty()) {
+
+                        GeometryEnvelope geometryEnvelope = geometry
+                                .getEnvelope();
+
+                        for (ByteOrder byteOrder : new ByteOrder[]{
+                                ByteOrder.BIG_ENDIAN,
+                                ByteOrder.LITTLE_ENDIAN}) {
+
+                            GeoPackageGeometryData scanData = GeoPackageGeometryData
+                                    .create(geometryData.getSrsId(), geometry);
+                            scanData.setByteOrder(byteOrder);
+                            byte[] bytes = scanData.toBytes();
+
+                            GeometryEnvelope scanEnvelope = GeometryEnvelopeReader
+                                    .readEnvelope(bytes);
+                            compareEnvelopes(geometryEnvelope, scanEnvelope);
+
+                            TestCase.assertTrue(GeometryEnvelopeReader
+                                    .readEnvelope(bytes, envelopeArray));
+                            compareEnvelopes(scanEnvelope, envelopeArray);
+
+                            double[] xyArray = new double[4];
+                            TestCase.assertTrue(GeometryEnvelopeReader
+                                    .readEnvelope(bytes, xyArray));
+                            compareEnvelopes(scanEnvelope, xyArray);
+
+                            // Header envelope read
+                            scanData.setEnvelope(geometryEnvelope);
+                            bytes = scanData.toBytes();
+                            compareEnvelopes(geometryEnvelope,
+                                    GeometryEnvelopeReader.readEnvelope(bytes));
+                        }
+                    }
+
+                }
+                cursor.close();
+            }
+        }
+
+    }
+
+    /**
+     * Compare a geometry envelope with an envelope array
+     *
+     * @param expected expected envelope
+     * @param actual   actual envelope array
+     */
+    private static void compareEnvelopes(GeometryEnvelope expected,
+                                         double[] actual) {
+        TestCase.assertEquals(expected.getMinX(),
+                actual[GeometryEnvelopeReader.MIN_X], 0.0);
+        TestCase.assertEquals(expected.getMinY(),
+                actual[GeometryEnvelopeReader.MIN_Y], 0.0);
+        TestCase.assertEquals(expected.getMaxX(),
+                actual[GeometryEnvelopeReader.MAX_X], 0.0);
+        TestCase.assertEquals(expected.getMaxY(),
+                actual[GeometryEnvelopeReader.MAX_Y], 0.0);
+        if (actual.length >= GeometryEnvelopeReader.ENVELOPE_LENGTH) {
+            TestCase.assertEquals(expected.hasZ(),
+                    !Double.isNaN(actual[GeometryEnvelopeReader.MIN_Z]));
+            if (expected.hasZ()) {
+                TestCase.assertEquals(expected.getMinZ(),
+                        actual[GeometryEnvelopeReader.MIN_Z], 0.0);
+                TestCase.assertEquals(expected.getMaxZ(),
+                        actual[GeometryEnvelopeReader.MAX_Z], 0.0);
+            }
+            TestCase.assertEquals(expected.hasM(),
+                    !Double.isNaN(actual[GeometryEnvelopeReader.MIN_M]));
+            if (expected.hasM()) {
+                TestCase.assertEquals(expected.getMinM(),
+                        actual[GeometryEnvelopeReader.MIN_M], 0.0);
+                TestCase.assertEquals(expected.getMaxM(),
+                        actual[GeometryEnvelopeReader.MAX_M], 0.0);
+            }
+        }
+    }
+
     /**
      * Test transforming geometries between projections
      *
@@ -0,0 +1,273 @@
+package mil.nga.geopackage.tiles;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process HTTP/1.1 tile server stand-in for testing URL tile downloads
+ * offline, with keep-alive connections, response latency, and injected
+ * server errors
+ *
+ * @author osbornb
+ */
+public class TileHttpServer implements Closeable {
+
+    /**
+     * Server socket
+     */
+    private final ServerSocket serverSocket;
+
+    /**
+     * Connection handling threads
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Tile response bytes
+     */
+    private final byte[] tile;
+
+    /**
+     * Response latency in milliseconds
+     */
+    private volatile long latency = 0;
+
+    /**
+     * Number of server errors returned for each path before succeeding
+     */
+    private volatile int failures = 0;
+
+    /**
+     * Server errors returned by path
+     */
+    private final Map<String, AtomicInteger> pathFailures = new ConcurrentHashMap<>();
+
+    /**
+     * Request count
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * Connection count
+     */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * Server error count
+     */
+    private final AtomicInteger errors = new AtomicInteger();
+
+    /**
+     * Constructor, starts the server on a local port
+     *
+     * @param tile tile response bytes
+     * @throws IOException upon failure
+     */
+    public TileHttpServer(byte[] tile) throws IOException {
+        this.tile = tile;
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        });
+    }
+
+    /**
+     * Get the tile URL with x, y, and z variables
+     *
+     * @return tile URL
+     */
+    public String getTileUrl() {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort()
+                + "/{z}/{x}/{y}.png";
+    }
+
+    /**
+     * Set the response latency
+     *
+     * @param latency latency in milliseconds
+     */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Set the number of server errors returned for each path before
+     * succeeding
+     *
+     * @param failures failures per path
+     */
+    public void setFailures(int failures) {
+        this.failures = failures;
+    }
+
+    /**
+     * Get the number of requests
+     *
+     * @return requests
+     */
+    public int getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Get the number of accepted connections
+     *
+     * @return connections
+     */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * Get the number of returned server errors
+     *
+     * @return errors
+     */
+    public int getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Accept connections until closed
+     */
+    private void accept() {
+        try {
+            while (!serverSocket.isClosed()) {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.incrementAndGet();
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        handle(socket);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Handle the keep-alive connection requests
+     *
+     * @param socket connection socket
+     */
+    private void handle(Socket socket) {
+        try {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            boolean keepAlive = true;
+            while (keepAlive) {
+
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    break;
+                }
+                String header;
+                while ((header = readLine(in)) != null && !header.isEmpty()) {
+                    if (header.toLowerCase().startsWith("connection:")
+                            && header.toLowerCase().contains("close")) {
+                        keepAlive = false;
+                    }
+                }
+                requests.incrementAndGet();
+
+                if (latency > 0) {
+                    Thread.sleep(latency);
+                }
+
+                String path = requestLine.split(" ")[1];
+                AtomicInteger pathFailure = pathFailures.get(path);
+                if (pathFailure == null) {
+                    pathFailures.putIfAbsent(path, new AtomicInteger());
+                    pathFailure = pathFailures.get(path);
+                }
+
+                if (pathFailure.getAndIncrement() < failures) {
+                    errors.incrementAndGet();
+                    byte[] body = "Unavailable".getBytes(StandardCharsets.UTF_8);
+                    respond(out, "503 Service Unavailable", "text/plain", body);
+                } else {
+                    respond(out, "200 OK", "image/png", tile);
+                }
+            }
+        } catch (IOException e) {
+            // Connection closed or failed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * Write a response
+     *
+     * @param out         output stream
+     * @param status      status line code and reason
+     * @param contentType content type
+     * @param body        body bytes
+     * @throws IOException upon failure
+     */
+    private static void respond(OutputStream out, String status,
+                                String contentType, byte[] body) throws IOException {
+        String headers = "HTTP/1.1 " + status + "\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Connection: keep-alive\r\n\r\n";
+        byte[] headerBytes = headers.getBytes(StandardCharsets.US_ASCII);
+        byte[] response = new byte[headerBytes.length + body.length];
+        System.arraycopy(headerBytes, 0, response, 0, headerBytes.length);
+        System.arraycopy(body, 0, response, headerBytes.length, body.length);
+        out.write(response);
+        out.flush();
+    }
+
+    /**
+     * Read a CRLF terminated line
+     *
+     * @param in input stream
+     * @return line or null at the end of the stream
+     * @throws IOException upon failure
+     */
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int value;
+        while ((value = in.read()) != -1 && value != '\n') {
+            if (value != '\r') {
+                line.append((char) value);
+            }
+        }
+        return value == -1 && line.length() == 0 ? null : line.toString();
+    }
+
+}
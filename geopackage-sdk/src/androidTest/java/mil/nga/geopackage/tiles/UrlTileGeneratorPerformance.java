@@ -0,0 +1,123 @@
+package mil.nga.geopackage.tiles;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+import mil.nga.geopackage.BaseTestCase;
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackage;
+import mil.nga.geopackage.GeoPackageFactory;
+import mil.nga.geopackage.GeoPackageManager;
+import mil.nga.geopackage.io.BitmapConverter;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+
+/**
+ * For comparing URL tile generation throughput by download threads and the
+ * cost of retries against an in-process tile server through duration logging
+ *
+ * @author osbornb
+ */
+public class UrlTileGeneratorPerformance extends BaseTestCase {
+
+    private static final String LOG_NAME = UrlTileGeneratorPerformance.class.getSimpleName();
+    private static final String GEOPACKAGE_NAME = "url_tile_performance";
+    private static final String TABLE_NAME = "url_tiles";
+
+    /**
+     * Test download thread performance
+     *
+     * @throws IOException  upon error
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testThreadPerformance() throws IOException, SQLException {
+        for (int threads : new int[]{1, 2, 4, 8, 16}) {
+            testPerformance(threads, 25, 0);
+        }
+    }
+
+    /**
+     * Test retry performance
+     *
+     * @throws IOException  upon error
+     * @throws SQLException upon error
+     */
+    @Test
+    public void testRetryPerformance() throws IOException, SQLException {
+        for (int failures = 0; failures <= 2; failures++) {
+            testPerformance(8, 25, failures);
+        }
+    }
+
+    /**
+     * Test performance generating zoom levels 0 through 4
+     *
+     * @param threads  download threads
+     * @param latency  server latency in milliseconds
+     * @param failures server errors per tile
+     * @throws IOException  upon error
+     * @throws SQLException upon error
+     */
+    private void testPerformance(int threads, int latency, int failures)
+            throws IOException, SQLException {
+
+        Bitmap bitmap = Bitmap.createBitmap(256, 256, Bitmap.Config.ARGB_8888);
+        bitmap.eraseColor(Color.GREEN);
+        byte[] tile = BitmapConverter.toBytes(bitmap, Bitmap.CompressFormat.PNG);
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(activity);
+
+        manager.delete(GEOPACKAGE_NAME);
+        manager.create(GEOPACKAGE_NAME);
+
+        GeoPackage geoPackage = manager.open(GEOPACKAGE_NAME);
+        TileHttpServer server = new TileHttpServer(tile);
+
+        try {
+
+            server.setLatency(latency);
+            server.setFailures(failures);
+
+            UrlTileGenerator tileGenerator = new UrlTileGenerator(activity,
+                    geoPackage, TABLE_NAME, server.getTileUrl(), 0, 4,
+                    BoundingBox.worldWebMercator(),
+                    ProjectionFactory.getProjection(
+                            ProjectionConstants.EPSG_WEB_MERCATOR));
+            tileGenerator.setXYZTiles(true);
+            tileGenerator.setThreads(threads);
+            tileGenerator.setRetries(failures);
+            tileGenerator.setRetryDelay(latency);
+
+            Instant startTime = Instant.now();
+            int count = tileGenerator.generateTiles();
+            Duration duration = Duration.between(startTime, Instant.now());
+
+            TestCase.assertEquals(tileGenerator.getTileCount(), count);
+
+            double tilesPerSecond = count * 1000.0 / Math.max(duration.toMillis(), 1);
+            Log.i(LOG_NAME, "Threads: " + threads + ", Latency: " + latency
+                    + " ms, Failures: " + failures + ", Tiles: " + count
+                    + ", Time: " + duration.toString().substring(2)
+                    + ", Tiles/s: " + Math.round(tilesPerSecond)
+                    + ", Requests: " + server.getRequests()
+                    + ", Connections: " + server.getConnections());
+
+        } finally {
+            server.close();
+            geoPackage.close();
+            manager.delete(GEOPACKAGE_NAME);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package mil.nga.geopackage.tiles;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.CreateGeoPackageTestCase;
+import mil.nga.geopackage.io.BitmapConverter;
+import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.proj.Projection;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test GeoPackage URL Tile Generator against an in-process tile server
+ *
+ * @author osbornb
+ */
+public class UrlTileGeneratorTest extends CreateGeoPackageTestCase {
+
+    /**
+     * Constructor
+     */
+    public UrlTileGeneratorTest() {
+
+    }
+
+    /**
+     * Test tile generator
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGenerator() throws IOException, SQLException {
+        testTileGenerator(1, 0);
+    }
+
+    /**
+     * Test tile generator with multiple threads
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGeneratorWithThreads() throws IOException,
+            SQLException {
+        testTileGenerator(4, 0);
+    }
+
+    /**
+     * Test tile generator retrying server errors
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGeneratorWithRetries() throws IOException,
+            SQLException {
+        testTileGenerator(4, 2);
+    }
+
+    /**
+     * Test tile generator without retrying server errors
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGeneratorWithoutRetries() throws IOException,
+            SQLException {
+
+        TileHttpServer server = new TileHttpServer(createTile());
+        try {
+
+            server.setFailures(1);
+
+            UrlTileGenerator tileGenerator = createTileGenerator(server, 0, 1);
+            tileGenerator.setThreads(4);
+            tileGenerator.setRetries(0);
+
+            int tiles = tileGenerator.generateTiles();
+
+            assertEquals(0, tiles);
+            assertEquals(tileGenerator.getTileCount(), server.getRequests());
+            assertEquals(tileGenerator.getTileCount(), server.getErrors());
+
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Test tile generator
+     *
+     * @param threads  download threads
+     * @param failures server errors per tile
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    private void testTileGenerator(int threads, int failures)
+            throws IOException, SQLException {
+
+        TileHttpServer server = new TileHttpServer(createTile());
+        try {
+
+            server.setFailures(failures);
+
+            UrlTileGenerator tileGenerator = createTileGenerator(server, 0, 3);
+            tileGenerator.setThreads(threads);
+            tileGenerator.setRetries(failures);
+            tileGenerator.setRetryDelay(1);
+
+            int tileCount = tileGenerator.getTileCount();
+
+            int tiles = tileGenerator.generateTiles();
+
+            assertEquals(tileCount, tiles);
+            assertEquals(tileCount * failures, server.getErrors());
+            assertEquals(tileCount * (failures + 1), server.getRequests());
+            // Connections are kept alive and reused
+            assertTrue(server.getConnections() < server.getRequests());
+
+            TileDao tileDao = geoPackage.getTileDao(tileGenerator.getTableName());
+            assertEquals(tileCount, tileDao.count());
+
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Create a URL tile generator for the world in XYZ format
+     *
+     * @param server  tile server
+     * @param minZoom min zoom
+     * @param maxZoom max zoom
+     * @return tile generator
+     */
+    private UrlTileGenerator createTileGenerator(TileHttpServer server,
+                                                 int minZoom, int maxZoom) {
+        Projection projection = ProjectionFactory
+                .getProjection(ProjectionConstants.EPSG_WEB_MERCATOR);
+        BoundingBox boundingBox = BoundingBox.worldWebMercator();
+        UrlTileGenerator tileGenerator = new UrlTileGenerator(activity,
+                geoPackage, "url_tiles", server.getTileUrl(), minZoom,
+                maxZoom, boundingBox, projection);
+        tileGenerator.setXYZTiles(true);
+        return tileGenerator;
+    }
+
+    /**
+     * Create the tile image bytes served by the tile server
+     *
+     * @return tile bytes
+     * @throws IOException upon failure
+     */
+    private static byte[] createTile() throws IOException {
+        Bitmap bitmap = Bitmap.createBitmap(256, 256, Bitmap.Config.ARGB_8888);
+        bitmap.eraseColor(Color.BLUE);
+        return BitmapConverter.toBytes(bitmap, Bitmap.CompressFormat.PNG);
+    }
+
+}
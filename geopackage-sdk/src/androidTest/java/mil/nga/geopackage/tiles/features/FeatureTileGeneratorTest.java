@@ -105,6 +105,30 @@ public class FeatureTileGeneratorTest extends CreateGeoPackageTestCase {
         testTileGenerator(true, true, true);
     }
 
+    /**
+     * Test tile generator with multiple threads
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGeneratorWithThreads() throws IOException,
+            SQLException {
+        testTileGenerator(false, false, false, 4);
+    }
+
+    /**
+     * Test tile generator with multiple threads
+     *
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testTileGeneratorWithIndexAndIconAndThreads()
+            throws IOException, SQLException {
+        testTileGenerator(true, true, false, 4);
+    }
+
     /**
      * Test tile generator
      *
@@ -116,6 +140,21 @@ public class FeatureTileGeneratorTest extends CreateGeoPackageTestCase {
      */
     public void testTileGenerator(boolean index, boolean useIcon,
                                   boolean maxFeatures) throws IOException, SQLException {
+        testTileGenerator(index, useIcon, maxFeatures, 1);
+    }
+
+    /**
+     * Test tile generator
+     *
+     * @param index
+     * @param useIcon
+     * @param maxFeatures
+     * @param threads
+     * @throws java.io.IOException
+     * @throws java.sql.SQLException
+     */
+    public void testTileGenerator(boolean index, boolean useIcon,
+                                  boolean maxFeatures, int threads) throws IOException, SQLException {
 
         int minZoom = 0;
         int maxZoom = 4;
@@ -150,6 +189,9 @@ public class FeatureTileGeneratorTest extends CreateGeoPackageTestCase {
                     ProjectionFactory
                             .getProjection(ProjectionConstants.EPSG_WEB_MERCATOR));
             tileGenerator.setXYZTiles(false);
+            tileGenerator.setThreads(threads);
+            // Small transactions to insert in multiple batches
+            tileGenerator.setTransactionSize(5);
 
             int tiles = tileGenerator.generateTiles();
 
@@ -14,6 +14,8 @@ import mil.nga.geopackage.CreateGeoPackageTestCase;
 import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -84,6 +86,62 @@ public class FeatureTilesTest extends CreateGeoPackageTestCase {
         }
     }
 
+    /**
+     * Test feature tiles drawn from projected cached geometries match tiles
+     * drawn without the geometry cache
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testFeatureTilesGeometryCache() throws SQLException {
+
+        FeatureDao featureDao = FeatureTileUtils.createFeatureDao(geoPackage);
+
+        FeatureTileUtils.insertFeatures(geoPackage, featureDao);
+
+        DefaultFeatureTiles cachedTiles = (DefaultFeatureTiles) FeatureTileUtils.createFeatureTiles(activity, geoPackage, featureDao, false);
+        DefaultFeatureTiles tiles = (DefaultFeatureTiles) FeatureTileUtils.createFeatureTiles(activity, geoPackage, featureDao, false);
+
+        try {
+            cachedTiles.setSimplifyGeometries(false);
+            tiles.setSimplifyGeometries(false);
+            tiles.setCacheGeometries(false);
+            assertTrue(cachedTiles.isCacheGeometries());
+
+            for (int zoom = 0; zoom <= 3; zoom++) {
+                int tilesPerSide = TileBoundingBoxUtils.tilesPerSide(zoom);
+                for (int i = 0; i < tilesPerSide; i++) {
+                    for (int j = 0; j < tilesPerSide; j++) {
+                        Bitmap cachedBitmap = cachedTiles.drawTile(i, j, zoom);
+                        Bitmap bitmap = tiles.drawTile(i, j, zoom);
+                        if (bitmap == null) {
+                            assertNull(cachedBitmap);
+                        } else {
+                            assertNotNull(cachedBitmap);
+                            assertTrue(bitmap.sameAs(cachedBitmap));
+                        }
+                    }
+                }
+            }
+
+            assertTrue(cachedTiles.getGeometryCacheBytes() > 0);
+            assertEquals(0, tiles.getGeometryCacheBytes());
+
+            // Resizing retains the cached geometries that fit
+            int bytes = cachedTiles.getGeometryCacheBytes();
+            cachedTiles.setGeometryCacheBytes(DefaultFeatureTiles.DEFAULT_GEOMETRY_CACHE_BYTES * 2);
+            assertEquals(bytes, cachedTiles.getGeometryCacheBytes());
+            cachedTiles.setGeometryCacheBytes(Math.max(bytes / 2, 1));
+            assertTrue(cachedTiles.getGeometryCacheBytes() <= Math.max(bytes / 2, 1));
+
+            cachedTiles.clearGeometryCache();
+            assertEquals(0, cachedTiles.getGeometryCacheBytes());
+        } finally {
+            cachedTiles.close();
+            tiles.close();
+        }
+    }
+
     private void createTiles(FeatureTiles featureTiles, int minZoom, int maxZoom) {
         for (int i = minZoom; i <= maxZoom; i++) {
             createTiles(featureTiles, i);
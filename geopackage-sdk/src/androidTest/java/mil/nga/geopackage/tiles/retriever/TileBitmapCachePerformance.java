@@ -0,0 +1,111 @@
+package mil.nga.geopackage.tiles.retriever;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.LoadGeoPackageTestCase;
+import mil.nga.geopackage.TestConstants;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
+import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.proj.Projection;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+
+/**
+ * For comparing source tile decodes per rendered Web Mercator viewport with
+ * and without a decoded tile bitmap cache through count and duration logging
+ *
+ * @author osbornb
+ */
+public class TileBitmapCachePerformance extends LoadGeoPackageTestCase {
+
+    private static final String LOG_NAME = TileBitmapCachePerformance.class.getSimpleName();
+
+    /**
+     * Viewport width and height in tiles
+     */
+    private static final int VIEWPORT_TILES = 4;
+
+    /**
+     * Constructor
+     */
+    public TileBitmapCachePerformance() {
+        super(TestConstants.TILES2_DB_NAME, TestConstants.TILES2_DB_FILE_NAME);
+    }
+
+    /**
+     * Test viewport decode performance by zoom level
+     */
+    @Test
+    public void testViewportPerformance() {
+
+        TileDao tileDao = geoPackage.getTileDao(TestConstants.TILES2_DB_TABLE_NAME);
+
+        Projection webMercator = ProjectionFactory
+                .getProjection(ProjectionConstants.EPSG_WEB_MERCATOR);
+        BoundingBox webMercatorBoundingBox = geoPackage
+                .getBoundingBox(webMercator, TestConstants.TILES2_DB_TABLE_NAME);
+
+        for (int zoom = 2; zoom <= 6; zoom++) {
+
+            TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
+                    webMercatorBoundingBox, zoom);
+            int minX = (int) Math.max(tileGrid.getMinX(),
+                    (tileGrid.getMinX() + tileGrid.getMaxX() - VIEWPORT_TILES) / 2);
+            int minY = (int) Math.max(tileGrid.getMinY(),
+                    (tileGrid.getMinY() + tileGrid.getMaxY() - VIEWPORT_TILES) / 2);
+
+            // A one byte cache evicts each tile, decoding as without a cache
+            testPerformance(tileDao, "No Cache", new TileBitmapCache(1), zoom,
+                    minX, minY);
+            testPerformance(tileDao, "Cache", new TileBitmapCache(), zoom,
+                    minX, minY);
+        }
+
+    }
+
+    /**
+     * Render a viewport of tiles twice, panning over the same area
+     *
+     * @param tileDao     tile dao
+     * @param name        test name
+     * @param bitmapCache bitmap cache
+     * @param zoom        zoom level
+     * @param minX        viewport min x
+     * @param minY        viewport min y
+     */
+    private void testPerformance(TileDao tileDao, String name,
+                                 TileBitmapCache bitmapCache, int zoom, int minX, int minY) {
+
+        GeoPackageTileRetriever retriever = new GeoPackageTileRetriever(tileDao);
+        retriever.setBitmapCache(bitmapCache);
+
+        int tiles = 0;
+
+        Instant startTime = Instant.now();
+        for (int viewport = 0; viewport < 2; viewport++) {
+            for (int x = minX; x < minX + VIEWPORT_TILES; x++) {
+                for (int y = minY; y < minY + VIEWPORT_TILES; y++) {
+                    if (retriever.getTile(x, y, zoom) != null) {
+                        tiles++;
+                    }
+                }
+            }
+        }
+        Duration duration = Duration.between(startTime, Instant.now());
+
+        Log.i(LOG_NAME, name + " Zoom: " + zoom + ", Tiles: " + tiles
+                + ", Decodes per Viewport: " + (bitmapCache.getDecodeCount() / 2.0)
+                + ", Hits: " + bitmapCache.getHitCount()
+                + ", Time: " + duration.toString().substring(2));
+
+        bitmapCache.clear();
+    }
+
+}
@@ -94,6 +94,80 @@ public class TileCreatorGetTileTest extends LoadGeoPackageTestCase {
         validateBitmap(bitmap);
     }
 
+    /**
+     * Test get tile with a decoded source tile bitmap cache
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testGetTileBitmapCache() throws SQLException {
+
+        TileDao tileDao = geoPackage.getTileDao(TestConstants.TILES_DB_TABLE_NAME);
+        tileDao.adjustTileMatrixLengths();
+
+        Projection wgs84 = ProjectionFactory
+                .getProjection(ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+        int width = 256;
+        int height = 256;
+        TileCreator tileCreator = new TileCreator(tileDao, width, height, wgs84);
+        TileCreator cacheTileCreator = new TileCreator(tileDao, width, height, wgs84);
+        TileBitmapCache bitmapCache = new TileBitmapCache(64 * 1024 * 1024);
+        cacheTileCreator.setBitmapCache(bitmapCache);
+        TestCase.assertSame(bitmapCache, cacheTileCreator.getBitmapCache());
+
+        // Neighboring requested tiles overlapping the same stored tiles
+        int decodes = 0;
+        int hits = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (double longitude = -180.0; longitude < 0.0; longitude += 22.5) {
+                for (double latitude = 0.0; latitude < 67.5; latitude += 22.5) {
+
+                    BoundingBox boundingBox = new BoundingBox(longitude,
+                            latitude, longitude + 22.5, latitude + 22.5);
+
+                    GeoPackageTile tile = tileCreator.getTile(boundingBox);
+                    GeoPackageTile cacheTile = cacheTileCreator.getTile(boundingBox);
+
+                    if (tile == null) {
+                        TestCase.assertNull(cacheTile);
+                    } else {
+                        TestCase.assertNotNull(cacheTile);
+                        TestCase.assertTrue(tile.getBitmap().sameAs(
+                                cacheTile.getBitmap()));
+                    }
+                }
+            }
+
+            if (pass == 0) {
+                decodes = bitmapCache.getDecodeCount();
+                hits = bitmapCache.getHitCount();
+                TestCase.assertTrue(decodes > 0);
+                TestCase.assertTrue(hits > 0);
+            }
+        }
+
+        // The second pass is read from the cache
+        TestCase.assertEquals(decodes, bitmapCache.getDecodeCount());
+        TestCase.assertEquals(hits * 2 + decodes, bitmapCache.getHitCount());
+        TestCase.assertTrue(bitmapCache.getSize() > 0);
+        TestCase.assertTrue(bitmapCache.getSize() <= bitmapCache.getMaxSize());
+
+        // Resizing retains the entries that fit
+        int size = bitmapCache.getSize();
+        bitmapCache.resize(128 * 1024 * 1024);
+        TestCase.assertEquals(128 * 1024 * 1024, bitmapCache.getMaxSize());
+        TestCase.assertEquals(size, bitmapCache.getSize());
+        bitmapCache.resize(Math.max(size / 2, 1));
+        TestCase.assertTrue(bitmapCache.getSize() <= bitmapCache.getMaxSize());
+
+        bitmapCache.clear();
+        TestCase.assertEquals(0, bitmapCache.getSize());
+        TestCase.assertNotNull(cacheTileCreator.getTile(
+                new BoundingBox(-90.0, 0.0, 0.0, 45.0)));
+        TestCase.assertTrue(bitmapCache.getDecodeCount() > decodes);
+    }
+
     /**
      * Validate that the bitmap has no transparency
      *
@@ -11,6 +11,8 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.LoadGeoPackageTestCase;
@@ -285,6 +287,118 @@ public class TileCreatorImageTest extends LoadGeoPackageTestCase {
 
     }
 
+    /**
+     * Test approximate reprojection tile images against exact reprojection
+     *
+     * @throws IOException upon error
+     */
+    @Test
+    public void testTileImageApproximateReprojection() throws IOException {
+
+        TileDao tileDao = geoPackage
+                .getTileDao(TestConstants.TILES2_DB_TABLE_NAME);
+        Projection webMercator = ProjectionFactory
+                .getProjection(ProjectionConstants.EPSG_WEB_MERCATOR);
+
+        int width = 256;
+        int height = 256;
+        TileCreator exactTileCreator = new TileCreator(tileDao, width,
+                height, webMercator);
+        TileCreator approximateTileCreator = new TileCreator(tileDao, width,
+                height, webMercator);
+        ApproximateReprojection approximateReprojection = new ApproximateReprojection();
+        approximateTileCreator.setApproximateReprojection(approximateReprojection);
+        TestCase.assertSame(approximateReprojection,
+                approximateTileCreator.getApproximateReprojection());
+
+        for (int threads = 1; threads <= 4; threads += 3) {
+            approximateReprojection.setThreads(threads);
+            for (int zoom = 0; zoom <= 2; zoom++) {
+                int tiles = 1 << zoom;
+                for (int x = 0; x < tiles; x++) {
+                    for (int y = 0; y < tiles; y++) {
+
+                        BoundingBox webMercatorBoundingBox = TileBoundingBoxUtils
+                                .getWebMercatorBoundingBox(x, y, zoom);
+                        GeoPackageTile exactTile = exactTileCreator
+                                .getTile(webMercatorBoundingBox);
+                        GeoPackageTile approximateTile = approximateTileCreator
+                                .getTile(webMercatorBoundingBox);
+
+                        if (exactTile == null) {
+                            TestCase.assertNull(approximateTile);
+                            continue;
+                        }
+                        TestCase.assertNotNull(approximateTile);
+
+                        Bitmap exactImage = exactTile.getBitmap();
+                        Bitmap approximateImage = approximateTile.getBitmap();
+                        TestCase.assertEquals(exactImage.getWidth(),
+                                approximateImage.getWidth());
+                        TestCase.assertEquals(exactImage.getHeight(),
+                                approximateImage.getHeight());
+
+                        // Approximated source pixels are off by at most one
+                        // pixel, only along edges in the source image
+                        int differences = 0;
+                        for (int px = 0; px < width; px++) {
+                            for (int py = 0; py < height; py++) {
+                                if (exactImage.getPixel(px, py) != approximateImage
+                                        .getPixel(px, py)) {
+                                    differences++;
+                                }
+                            }
+                        }
+                        TestCase.assertTrue("Approximate reprojection differs by "
+                                        + differences + " pixels",
+                                differences <= width * height / 10);
+                    }
+                }
+            }
+        }
+
+        approximateReprojection.close();
+    }
+
+    /**
+     * Test the approximate reprojection option validation and executor
+     */
+    @Test
+    public void testApproximateReprojectionOptions() {
+
+        ApproximateReprojection approximateReprojection = new ApproximateReprojection();
+        TestCase.assertEquals(ApproximateReprojection.DEFAULT_MAX_ERROR,
+                approximateReprojection.getMaxError());
+
+        approximateReprojection.setMaxError(0);
+        TestCase.assertEquals(0.0, approximateReprojection.getMaxError());
+        for (double maxError : new double[]{-0.5, Double.NaN}) {
+            try {
+                approximateReprojection.setMaxError(maxError);
+                TestCase.fail("Invalid max error accepted: " + maxError);
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+        try {
+            approximateReprojection.setThreads(0);
+            TestCase.fail("Invalid threads accepted");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // Caller supplied executors are not shut down on close
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            approximateReprojection.setExecutor(executor);
+            TestCase.assertSame(executor, approximateReprojection.getExecutor());
+            approximateReprojection.close();
+            TestCase.assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Create tiles
      *
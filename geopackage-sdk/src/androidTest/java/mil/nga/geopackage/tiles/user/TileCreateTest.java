@@ -70,6 +70,18 @@ public class TileCreateTest extends CreateGeoPackageTestCase {
 
 	}
 
+	/**
+	 * Test the tile existence index
+	 * 
+	 * @throws SQLException
+	 */
+	@Test
+	public void testTileExistenceIndex() throws SQLException {
+
+		TileUtils.testTileExistenceIndex(geoPackage);
+
+	}
+
 	/**
 	 * Test getZoomLevel
 	 * 
@@ -936,6 +936,179 @@ public class TileUtils {
         }
     }
 
+    /**
+     * Test the tile existence index
+     *
+     * @param geoPackage GeoPackage
+     * @throws SQLException upon error
+     */
+    public static void testTileExistenceIndex(GeoPackage geoPackage)
+            throws SQLException {
+
+        TileMatrixSetDao tileMatrixSetDao = geoPackage.getTileMatrixSetDao();
+
+        if (tileMatrixSetDao.isTableExists()) {
+            List<TileMatrixSet> results = tileMatrixSetDao.queryForAll();
+            results = TestUtils.getRandomList(results, 3);
+
+            for (TileMatrixSet tileMatrixSet : results) {
+
+                TileDao dao = geoPackage.getTileDao(tileMatrixSet);
+                TileExistenceIndex index = dao.getTileExistenceIndex();
+                TestCase.assertNotNull(index);
+                BoundingBox totalBox = tileMatrixSet.getBoundingBox();
+
+                for (TileMatrix tileMatrix : dao.getTileMatrices()) {
+
+                    long zoomLevel = tileMatrix.getZoomLevel();
+
+                    // Verify each existing tile
+                    Set<String> tiles = new HashSet<>();
+                    TileRow tileRow = null;
+                    TileCursor cursor = dao.queryForTile(zoomLevel);
+                    try {
+                        while (cursor.moveToNext()) {
+                            tileRow = cursor.getRow();
+                            tiles.add(tileRow.getTileColumn() + ","
+                                    + tileRow.getTileRow());
+                            TestCase.assertTrue(index.hasTile(
+                                    tileRow.getTileColumn(),
+                                    tileRow.getTileRow(), zoomLevel));
+                        }
+                    } finally {
+                        cursor.close();
+                    }
+
+                    // Verify tile grid positions against the tiles
+                    for (int i = 0; i < 100; i++) {
+                        long column = (long) (Math.random()
+                                * (tileMatrix.getMatrixWidth() + 2)) - 1;
+                        long row = (long) (Math.random()
+                                * (tileMatrix.getMatrixHeight() + 2)) - 1;
+                        TestCase.assertEquals(
+                                tiles.contains(column + "," + row),
+                                index.hasTile(column, row, zoomLevel));
+                    }
+
+                    // Verify tile grids against tile grid queries
+                    TestCase.assertEquals(!tiles.isEmpty(),
+                            index.hasTiles(new TileGrid(0, 0,
+                                    tileMatrix.getMatrixWidth() - 1,
+                                    tileMatrix.getMatrixHeight() - 1), zoomLevel));
+                    for (int i = 0; i < 20; i++) {
+                        long minColumn = (long) (Math.random()
+                                * tileMatrix.getMatrixWidth());
+                        long minRow = (long) (Math.random()
+                                * tileMatrix.getMatrixHeight());
+                        TileGrid tileGrid = new TileGrid(minColumn, minRow,
+                                minColumn + (long) (Math.random() * 3),
+                                minRow + (long) (Math.random() * 3));
+                        cursor = dao.queryByTileGrid(tileGrid, zoomLevel);
+                        try {
+                            TestCase.assertEquals(cursor.getCount() > 0,
+                                    index.hasTiles(tileGrid, zoomLevel));
+                        } finally {
+                            cursor.close();
+                        }
+                    }
+
+                    if (tileRow != null) {
+
+                        // Verify the nearest zoom level of an existing tile
+                        BoundingBox tileBoundingBox = TileBoundingBoxUtils
+                                .getBoundingBox(totalBox, tileMatrix,
+                                        tileRow.getTileColumn(),
+                                        tileRow.getTileRow());
+                        TestCase.assertEquals(zoomLevel, index
+                                .getNearestZoomLevel(tileBoundingBox, zoomLevel)
+                                .longValue());
+
+                        // Verify invalidation by deletes and inserts
+                        try {
+                            TestCase.assertEquals(1,
+                                    dao.deleteTile(tileRow.getTileColumn(),
+                                            tileRow.getTileRow(), zoomLevel));
+                        } catch (SQLiteException e) {
+                            if (TestUtils.isFutureSQLiteException(e)) {
+                                continue;
+                            } else {
+                                throw e;
+                            }
+                        }
+                        TestCase.assertFalse(index.hasTile(
+                                tileRow.getTileColumn(), tileRow.getTileRow(),
+                                zoomLevel));
+                        dao.insert(tileRow);
+                        TestCase.assertTrue(index.hasTile(
+                                tileRow.getTileColumn(), tileRow.getTileRow(),
+                                zoomLevel));
+
+                        // Verify writes through another DAO after checks
+                        TileDao otherDao = new TileDao(dao.getDatabase(),
+                                dao.getDb(), tileMatrixSet,
+                                dao.getTileMatrices(), dao.getTable());
+                        TestCase.assertEquals(1,
+                                otherDao.deleteTile(tileRow.getTileColumn(),
+                                        tileRow.getTileRow(), zoomLevel));
+                        TestCase.assertFalse(index.hasTile(
+                                tileRow.getTileColumn(), tileRow.getTileRow(),
+                                zoomLevel));
+                        otherDao.insert(tileRow);
+                        TestCase.assertTrue(index.hasTile(
+                                tileRow.getTileColumn(), tileRow.getTileRow(),
+                                zoomLevel));
+
+                        // Verify an empty position written through another DAO
+                        Long emptyColumn = null;
+                        Long emptyRow = null;
+                        for (long column = 0; emptyColumn == null
+                                && column < tileMatrix.getMatrixWidth(); column++) {
+                            for (long row = 0; row < tileMatrix
+                                    .getMatrixHeight(); row++) {
+                                if (!tiles.contains(column + "," + row)) {
+                                    emptyColumn = column;
+                                    emptyRow = row;
+                                    break;
+                                }
+                            }
+                        }
+                        if (emptyColumn != null) {
+                            TestCase.assertFalse(index.hasTile(emptyColumn,
+                                    emptyRow, zoomLevel));
+                            TileRow newRow = otherDao.newRow();
+                            newRow.setZoomLevel(zoomLevel);
+                            newRow.setTileColumn(emptyColumn);
+                            newRow.setTileRow(emptyRow);
+                            newRow.setTileData(tileRow.getTileData());
+                            otherDao.insert(newRow);
+                            TestCase.assertTrue(index.hasTile(emptyColumn,
+                                    emptyRow, zoomLevel));
+                            TestCase.assertEquals(1, otherDao.deleteTile(
+                                    emptyColumn, emptyRow, zoomLevel));
+                            TestCase.assertFalse(index.hasTile(emptyColumn,
+                                    emptyRow, zoomLevel));
+                        }
+                    }
+
+                }
+
+                // Verify no tiles outside of the tile matrix set
+                double width = totalBox.getMaxLongitude()
+                        - totalBox.getMinLongitude();
+                BoundingBox outside = new BoundingBox(
+                        totalBox.getMaxLongitude() + width,
+                        totalBox.getMinLatitude(),
+                        totalBox.getMaxLongitude() + 2 * width,
+                        totalBox.getMaxLatitude());
+                TestCase.assertNull(index.getNearestZoomLevel(outside,
+                        dao.getMaxZoom()));
+
+            }
+
+        }
+
+    }
+
     /**
      * Test getZoomLevel
      *
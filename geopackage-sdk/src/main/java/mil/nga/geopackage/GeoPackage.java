@@ -153,6 +153,32 @@ public interface GeoPackage extends GeoPackageCore {
      */
     public UserCustomDao getUserCustomDao(UserCustomTable table);
 
+    /**
+     * Is the user DAO cache enabled. When enabled, feature, tile, and
+     * attributes DAOs are cached by table name and shared between callers
+     * until the schema or table metadata changes.
+     *
+     * @return true if enabled
+     * @since 6.4.1
+     */
+    public boolean isDaoCache();
+
+    /**
+     * Set the user DAO cache enabled state, disabled by default
+     *
+     * @param daoCache true to enable
+     * @since 6.4.1
+     */
+    public void setDaoCache(boolean daoCache);
+
+    /**
+     * Clear the user DAO cache, required after table metadata is modified
+     * through raw SQL or another connection without a schema change
+     *
+     * @since 6.4.1
+     */
+    public void clearDaoCache();
+
     /**
      * Perform a raw query on the database
      *
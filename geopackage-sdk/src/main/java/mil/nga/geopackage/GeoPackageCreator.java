@@ -7,6 +7,7 @@ import android.net.Uri;
 import mil.nga.geopackage.db.GeoPackageConnection;
 import mil.nga.geopackage.db.GeoPackageCursorFactory;
 import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.db.GeoPackageReadPool;
 import mil.nga.geopackage.db.SQLiteDatabaseUtils;
 import mil.nga.geopackage.io.GeoPackageIOUtils;
 import mil.nga.geopackage.validate.GeoPackageValidate;
@@ -39,6 +40,11 @@ public class GeoPackageCreator {
      */
     private boolean sqliteWriteAheadLogging = false;
 
+    /**
+     * Number of read only SQLite connections pooled for user table queries
+     */
+    private int sqliteReadConnections = 0;
+
     /**
      * Constructor
      */
@@ -165,6 +171,35 @@ public class GeoPackageCreator {
         this.sqliteWriteAheadLogging = enabled;
     }
 
+    /**
+     * Get the number of read only SQLite connections pooled for user table
+     * queries. 0 (default) for no read pool.
+     *
+     * @return read connections
+     * @since 6.4.1
+     */
+    public int getSqliteReadConnections() {
+        return sqliteReadConnections;
+    }
+
+    /**
+     * Set the number of read only SQLite connections pooled for user table
+     * queries, allowing concurrent queries from multiple threads. Writable
+     * GeoPackages with a read pool use write ahead logging so reads do not
+     * block on writes. 0 (default) for no read pool.
+     *
+     * @param connections read connections
+     * @since 6.4.1
+     */
+    public void setSqliteReadConnections(int connections) {
+        if (connections < 0) {
+            throw new IllegalArgumentException(
+                    "Read connections must not be negative. connections: "
+                            + connections);
+        }
+        this.sqliteReadConnections = connections;
+    }
+
     /**
      * Open an external GeoPackage
      *
@@ -209,7 +244,7 @@ public class GeoPackageCreator {
 
         GeoPackage db = null;
 
-        if (sqliteWriteAheadLogging) {
+        if (sqliteWriteAheadLogging || (writable && sqliteReadConnections > 0)) {
             sqlite.enableWriteAheadLogging();
         } else {
             sqlite.disableWriteAheadLogging();
@@ -218,7 +253,17 @@ public class GeoPackageCreator {
         // Validate the database if validation is enabled
         SQLiteDatabaseUtils.validateDatabaseAndCloseOnError(sqlite, openHeaderValidation, openIntegrityValidation);
 
-        GeoPackageConnection connection = new GeoPackageConnection(new GeoPackageDatabase(sqlite, writable, cursorFactory));
+        GeoPackageDatabase geoPackageDatabase = new GeoPackageDatabase(sqlite, writable, cursorFactory);
+        if (sqliteReadConnections > 0) {
+            try {
+                geoPackageDatabase.setReadPool(new GeoPackageReadPool(sqlite.getPath(), sqliteReadConnections, cursorFactory));
+            } catch (RuntimeException e) {
+                sqlite.close();
+                throw e;
+            }
+        }
+
+        GeoPackageConnection connection = new GeoPackageConnection(geoPackageDatabase);
         connection.enableForeignKeys();
 
         db = new GeoPackageImpl(context, database, path, connection, cursorFactory, writable);
@@ -18,6 +18,7 @@ import mil.nga.geopackage.db.GeoPackageConnection;
 import mil.nga.geopackage.db.GeoPackageCursorFactory;
 import mil.nga.geopackage.db.GeoPackageCursorWrapper;
 import mil.nga.geopackage.extension.rtree.RTreeIndexExtension;
+import mil.nga.geopackage.extension.rtree.RTreeIndexMaintainer;
 import mil.nga.geopackage.features.columns.GeometryColumns;
 import mil.nga.geopackage.features.columns.GeometryColumnsDao;
 import mil.nga.geopackage.features.index.FeatureIndexManager;
@@ -32,6 +33,7 @@ import mil.nga.geopackage.tiles.user.TileCursor;
 import mil.nga.geopackage.tiles.user.TileDao;
 import mil.nga.geopackage.tiles.user.TileTable;
 import mil.nga.geopackage.tiles.user.TileTableReader;
+import mil.nga.geopackage.user.UserDaoCache;
 import mil.nga.geopackage.user.custom.UserCustomCursor;
 import mil.nga.geopackage.user.custom.UserCustomDao;
 import mil.nga.geopackage.user.custom.UserCustomTable;
@@ -60,6 +62,11 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
      */
     private final GeoPackageCursorFactory cursorFactory;
 
+    /**
+     * User DAO cache
+     */
+    private final UserDaoCache daoCache;
+
     /**
      * Constructor
      *
@@ -76,6 +83,16 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
         this.context = context;
         this.database = database;
         this.cursorFactory = cursorFactory;
+        this.daoCache = new UserDaoCache(this, database);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        daoCache.close();
+        super.close();
     }
 
     /**
@@ -129,6 +146,24 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + FeatureDao.class.getSimpleName());
         }
 
+        FeatureDao dao = daoCache.get(geometryColumns.getTableName(),
+                FeatureDao.class);
+        if (dao == null) {
+            dao = createFeatureDao(geometryColumns);
+            daoCache.put(dao);
+        }
+
+        return dao;
+    }
+
+    /**
+     * Create a feature DAO
+     *
+     * @param geometryColumns geometry columns
+     * @return feature dao
+     */
+    private FeatureDao createFeatureDao(GeometryColumns geometryColumns) {
+
         // Read the existing table and create the dao
         FeatureTableReader tableReader = new FeatureTableReader(geometryColumns);
         final FeatureTable featureTable = tableReader.readTable(database);
@@ -147,9 +182,13 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
 
         // If the GeoPackage is writable and the feature table has a RTree Index
         // extension, drop the RTree triggers.  User defined functions are currently not supported.
+        // Maintain the RTree Index from the dao writes instead.
         if (writable) {
             RTreeIndexExtension rtree = new RTreeIndexExtension(this);
-            rtree.dropTriggers(featureTable);
+            if (rtree.dropTriggers(featureTable.getTableName(),
+                    featureTable.getGeometryColumnName())) {
+                dao.setRTreeIndexMaintainer(new RTreeIndexMaintainer(rtree, dao));
+            }
         }
 
         return dao;
@@ -168,14 +207,19 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + FeatureDao.class.getSimpleName());
         }
 
-        GeometryColumns geometryColumns = contents.getGeometryColumns();
-        if (geometryColumns == null) {
-            throw new GeoPackageException("No "
-                    + GeometryColumns.class.getSimpleName() + " exists for "
-                    + Contents.class.getSimpleName() + " " + contents.getId());
+        FeatureDao dao = daoCache.get(contents.getTableName(),
+                FeatureDao.class);
+        if (dao == null) {
+            GeometryColumns geometryColumns = contents.getGeometryColumns();
+            if (geometryColumns == null) {
+                throw new GeoPackageException("No "
+                        + GeometryColumns.class.getSimpleName() + " exists for "
+                        + Contents.class.getSimpleName() + " " + contents.getId());
+            }
+            dao = getFeatureDao(geometryColumns);
         }
 
-        return getFeatureDao(geometryColumns);
+        return dao;
     }
 
     /**
@@ -191,6 +235,20 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
      */
     @Override
     public FeatureDao getFeatureDao(String tableName) {
+        FeatureDao featureDao = daoCache.get(tableName, FeatureDao.class);
+        if (featureDao == null) {
+            featureDao = getFeatureDao(queryGeometryColumns(tableName));
+        }
+        return featureDao;
+    }
+
+    /**
+     * Query for the geometry columns of the feature table
+     *
+     * @param tableName table name
+     * @return geometry columns
+     */
+    private GeometryColumns queryGeometryColumns(String tableName) {
         GeometryColumnsDao dao = getGeometryColumnsDao();
         List<GeometryColumns> geometryColumnsList;
         try {
@@ -213,7 +271,7 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + " matched for table name: " + tableName + ", count: "
                     + geometryColumnsList.size());
         }
-        return getFeatureDao(geometryColumnsList.get(0));
+        return geometryColumnsList.get(0);
     }
 
     /**
@@ -228,6 +286,24 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + " is required to create " + TileDao.class.getSimpleName());
         }
 
+        TileDao dao = daoCache.get(tileMatrixSet.getTableName(),
+                TileDao.class);
+        if (dao == null) {
+            dao = createTileDao(tileMatrixSet);
+            daoCache.put(dao);
+        }
+
+        return dao;
+    }
+
+    /**
+     * Create a tile DAO
+     *
+     * @param tileMatrixSet tile matrix set
+     * @return tile dao
+     */
+    private TileDao createTileDao(TileMatrixSet tileMatrixSet) {
+
         // Get the Tile Matrix collection, order by zoom level ascending & pixel
         // size descending per requirement 51
         String tableName = tileMatrixSet.getTableName();
@@ -273,14 +349,18 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + " is required to create " + TileDao.class.getSimpleName());
         }
 
-        TileMatrixSet tileMatrixSet = contents.getTileMatrixSet();
-        if (tileMatrixSet == null) {
-            throw new GeoPackageException("No "
-                    + TileMatrixSet.class.getSimpleName() + " exists for "
-                    + Contents.class.getSimpleName() + " " + contents.getId());
+        TileDao dao = daoCache.get(contents.getTableName(), TileDao.class);
+        if (dao == null) {
+            TileMatrixSet tileMatrixSet = contents.getTileMatrixSet();
+            if (tileMatrixSet == null) {
+                throw new GeoPackageException("No "
+                        + TileMatrixSet.class.getSimpleName() + " exists for "
+                        + Contents.class.getSimpleName() + " " + contents.getId());
+            }
+            dao = getTileDao(tileMatrixSet);
         }
 
-        return getTileDao(tileMatrixSet);
+        return dao;
     }
 
     /**
@@ -296,6 +376,20 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
      */
     @Override
     public TileDao getTileDao(String tableName) {
+        TileDao tileDao = daoCache.get(tableName, TileDao.class);
+        if (tileDao == null) {
+            tileDao = getTileDao(queryTileMatrixSet(tableName));
+        }
+        return tileDao;
+    }
+
+    /**
+     * Query for the tile matrix set of the tile table
+     *
+     * @param tableName table name
+     * @return tile matrix set
+     */
+    private TileMatrixSet queryTileMatrixSet(String tableName) {
 
         TileMatrixSetDao dao = getTileMatrixSetDao();
         List<TileMatrixSet> tileMatrixSetList;
@@ -319,7 +413,7 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + " matched for table name: " + tableName + ", count: "
                     + tileMatrixSetList.size());
         }
-        return getTileDao(tileMatrixSetList.get(0));
+        return tileMatrixSetList.get(0);
     }
 
     /**
@@ -341,6 +435,24 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
                     + contents.getDataTypeName());
         }
 
+        AttributesDao dao = daoCache.get(contents.getTableName(),
+                AttributesDao.class);
+        if (dao == null) {
+            dao = createAttributesDao(contents);
+            daoCache.put(dao);
+        }
+
+        return dao;
+    }
+
+    /**
+     * Create an attributes DAO
+     *
+     * @param contents contents
+     * @return attributes dao
+     */
+    private AttributesDao createAttributesDao(Contents contents) {
+
         // Read the existing table and create the dao
         AttributesTableReader tableReader = new AttributesTableReader(
                 contents.getTableName());
@@ -375,6 +487,21 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
      */
     @Override
     public AttributesDao getAttributesDao(String tableName) {
+        AttributesDao attributesDao = daoCache.get(tableName,
+                AttributesDao.class);
+        if (attributesDao == null) {
+            attributesDao = getAttributesDao(queryContents(tableName));
+        }
+        return attributesDao;
+    }
+
+    /**
+     * Query for the contents of the table
+     *
+     * @param tableName table name
+     * @return contents
+     */
+    private Contents queryContents(String tableName) {
 
         ContentsDao dao = getContentsDao();
         Contents contents = null;
@@ -389,7 +516,7 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
             throw new GeoPackageException(
                     "No Contents Table exists for table name: " + tableName);
         }
-        return getAttributesDao(contents);
+        return contents;
     }
 
     /**
@@ -423,6 +550,30 @@ public class GeoPackageImpl extends GeoPackageCoreImpl implements GeoPackage {
         return dao;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDaoCache() {
+        return daoCache.isEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDaoCache(boolean daoCache) {
+        this.daoCache.setEnabled(daoCache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearDaoCache() {
+        daoCache.clear();
+    }
+
     /**
      * {@inheritDoc}
      */
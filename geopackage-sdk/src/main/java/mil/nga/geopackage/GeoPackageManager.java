@@ -877,6 +877,26 @@ public interface GeoPackageManager {
      */
     public void setSqliteWriteAheadLogging(boolean enabled);
 
+    /**
+     * Get the number of read only SQLite connections pooled per opened
+     * GeoPackage for user table queries. 0 (default) for no read pool.
+     *
+     * @return read connections
+     * @since 6.4.1
+     */
+    public int getSqliteReadConnections();
+
+    /**
+     * Set the number of read only SQLite connections pooled per opened
+     * GeoPackage for user table queries, allowing concurrent queries from
+     * multiple threads. Writable GeoPackages with a read pool use write ahead
+     * logging. 0 (default) for no read pool.
+     *
+     * @param connections read connections
+     * @since 6.4.1
+     */
+    public void setSqliteReadConnections(int connections);
+
     /**
      * Validate the database header and integrity.
      *
@@ -82,6 +82,11 @@ class GeoPackageManagerImpl implements GeoPackageManager {
      */
     private boolean sqliteWriteAheadLogging = false;
 
+    /**
+     * Number of read only SQLite connections pooled per GeoPackage
+     */
+    private int sqliteReadConnections = 0;
+
     /**
      * Constructor
      *
@@ -97,6 +102,7 @@ class GeoPackageManagerImpl implements GeoPackageManager {
             openHeaderValidation = resources.getBoolean(R.bool.manager_validation_open_header);
             openIntegrityValidation = resources.getBoolean(R.bool.manager_validation_open_integrity);
             sqliteWriteAheadLogging = resources.getBoolean(R.bool.sqlite_write_ahead_logging);
+            sqliteReadConnections = resources.getInteger(R.integer.sqlite_read_connections);
         }
     }
 
@@ -1245,6 +1251,27 @@ class GeoPackageManagerImpl implements GeoPackageManager {
         this.sqliteWriteAheadLogging = enabled;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSqliteReadConnections() {
+        return sqliteReadConnections;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSqliteReadConnections(int connections) {
+        if (connections < 0) {
+            throw new IllegalArgumentException(
+                    "Read connections must not be negative. connections: "
+                            + connections);
+        }
+        this.sqliteReadConnections = connections;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1816,7 +1843,9 @@ class GeoPackageManagerImpl implements GeoPackageManager {
      * @return creator
      */
     private GeoPackageCreator getGeoPackageCreator() {
-        return new GeoPackageCreator(context, openHeaderValidation, openIntegrityValidation, sqliteWriteAheadLogging);
+        GeoPackageCreator creator = new GeoPackageCreator(context, openHeaderValidation, openIntegrityValidation, sqliteWriteAheadLogging);
+        creator.setSqliteReadConnections(sqliteReadConnections);
+        return creator;
     }
 
 }
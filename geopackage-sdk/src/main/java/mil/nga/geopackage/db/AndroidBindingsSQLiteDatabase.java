@@ -219,4 +219,12 @@ public class AndroidBindingsSQLiteDatabase implements GeoPackageSQLiteDatabase {
         return db.insert(CoreSQLUtils.quoteWrap(table), nullColumnHack, SQLUtils.quoteWrap(values));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GeoPackageSQLiteStatement compileStatement(String sql) throws SQLException {
+        return new AndroidBindingsSQLiteStatement(db.compileStatement(sql));
+    }
+
 }
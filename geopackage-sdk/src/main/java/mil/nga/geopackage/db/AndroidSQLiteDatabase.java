@@ -200,4 +200,12 @@ public class AndroidSQLiteDatabase implements GeoPackageSQLiteDatabase {
         return db.insert(CoreSQLUtils.quoteWrap(table), nullColumnHack, SQLUtils.quoteWrap(values));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GeoPackageSQLiteStatement compileStatement(String sql) throws SQLException {
+        return new AndroidSQLiteStatement(db.compileStatement(sql));
+    }
+
 }
@@ -0,0 +1,110 @@
+package mil.nga.geopackage.db;
+
+import android.database.SQLException;
+
+import android.database.sqlite.SQLiteStatement;
+
+/**
+ * Android SQLite compiled statement
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class AndroidSQLiteStatement implements GeoPackageSQLiteStatement {
+
+    /**
+     * Compiled statement
+     */
+    private final SQLiteStatement statement;
+
+    /**
+     * Constructor
+     *
+     * @param statement compiled statement
+     */
+    public AndroidSQLiteStatement(SQLiteStatement statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * Get the compiled statement
+     *
+     * @return compiled statement
+     */
+    public SQLiteStatement getStatement() {
+        return statement;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindNull(int index) {
+        statement.bindNull(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindLong(int index, long value) {
+        statement.bindLong(index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindDouble(int index, double value) {
+        statement.bindDouble(index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindString(int index, String value) {
+        statement.bindString(index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindBlob(int index, byte[] value) {
+        statement.bindBlob(index, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearBindings() {
+        statement.clearBindings();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long executeInsert() throws SQLException {
+        return statement.executeInsert();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int executeUpdateDelete() throws SQLException {
+        return statement.executeUpdateDelete();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        statement.close();
+    }
+
+}
@@ -5,6 +5,7 @@ import android.database.Cursor;
 import android.util.Log;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.Map;
 
 import mil.nga.geopackage.BoundingBox;
@@ -13,15 +14,18 @@ import mil.nga.geopackage.contents.Contents;
 import mil.nga.geopackage.db.metadata.GeoPackageMetadataDb;
 import mil.nga.geopackage.db.metadata.GeometryMetadata;
 import mil.nga.geopackage.db.metadata.GeometryMetadataDataSource;
+import mil.nga.geopackage.db.metadata.GeometryMetadataWriter;
 import mil.nga.geopackage.db.metadata.TableMetadata;
 import mil.nga.geopackage.db.metadata.TableMetadataDataSource;
-import mil.nga.geopackage.features.index.FeatureIndexMetadataResults;
+import mil.nga.geopackage.features.user.FeatureColumn;
 import mil.nga.geopackage.features.user.FeatureCursor;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.features.user.FeatureRow;
 import mil.nga.geopackage.features.user.FeatureRowSync;
+import mil.nga.geopackage.features.user.FeatureTable;
 import mil.nga.geopackage.geom.GeoPackageGeometryData;
 import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.geopackage.user.UserChunkIterator;
 import mil.nga.proj.Projection;
 import mil.nga.proj.ProjectionTransform;
 import mil.nga.sf.Geometry;
@@ -67,6 +71,28 @@ public class FeatureIndexer {
      */
     protected int chunkLimit = 1000;
 
+    /**
+     * Geometry metadata rows written per transaction when indexing the table
+     */
+    private int transactionSize = GeometryMetadataWriter.DEFAULT_TRANSACTION_SIZE;
+
+    /**
+     * Synchronous metadata writes flag when indexing the table
+     */
+    private boolean synchronous = true;
+
+    /**
+     * Metadata join flag, when enabled feature queries select indexed ids
+     * from the metadata database attached to the feature connection instead
+     * of from a queried id set
+     */
+    private boolean metadataJoin = false;
+
+    /**
+     * Attached metadata database schema name
+     */
+    private static final String METADATA_SCHEMA = GeoPackageMetadataDb.DATABASE_NAME;
+
     /**
      * Constructor
      *
@@ -97,6 +123,9 @@ public class FeatureIndexer {
      * @since 1.1.0
      */
     public void close() {
+        if (metadataJoin) {
+            detachMetadata();
+        }
         db.close();
     }
 
@@ -129,6 +158,80 @@ public class FeatureIndexer {
         this.chunkLimit = chunkLimit;
     }
 
+    /**
+     * Get the number of geometry metadata rows written per transaction when
+     * indexing the table
+     *
+     * @return transaction size
+     * @since 6.4.1
+     */
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    /**
+     * Set the number of geometry metadata rows written per transaction when
+     * indexing the table
+     *
+     * @param transactionSize transaction size
+     * @since 6.4.1
+     */
+    public void setTransactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new IllegalArgumentException(
+                    "Transaction size must be at least 1. transactionSize: "
+                            + transactionSize);
+        }
+        this.transactionSize = transactionSize;
+    }
+
+    /**
+     * Are metadata writes synchronous when indexing the table
+     *
+     * @return true if synchronous
+     * @since 6.4.1
+     */
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Set the synchronous metadata writes flag when indexing the table. When
+     * false (default is true), the metadata database synchronous pragma is
+     * off while the table is indexed and restored after.
+     *
+     * @param synchronous false to turn off synchronous writes while indexing
+     * @since 6.4.1
+     */
+    public void setSynchronous(boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Is the metadata join query mode enabled
+     *
+     * @return true if metadata join enabled
+     * @since 6.4.1
+     */
+    public boolean isMetadataJoin() {
+        return metadataJoin;
+    }
+
+    /**
+     * Set the metadata join query mode. When enabled (default is false),
+     * feature queries attach the metadata database to the feature connection
+     * and select indexed features in a single statement, instead of first
+     * querying the indexed ids into memory. Queries made while the feature
+     * connection is in a transaction, when the metadata database can not be
+     * attached, use the id set query.
+     *
+     * @param metadataJoin true to enable metadata join queries
+     * @since 6.4.1
+     */
+    public void setMetadataJoin(boolean metadataJoin) {
+        this.metadataJoin = metadataJoin;
+    }
+
     /**
      * Index the feature table if needed
      *
@@ -186,20 +289,31 @@ public class FeatureIndexer {
         // Delete existing index rows
         geometryMetadataDataSource.delete(featureDao.getDatabase(), featureDao.getTableName());
 
-        long offset = 0;
         int chunkCount = 0;
 
-        // Index all features
-        while (chunkCount >= 0) {
+        UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                .queryForChunks(chunkLimit);
 
-            FeatureCursor cursor = featureDao.queryForChunk(chunkLimit, offset);
-            chunkCount = indexRows(metadata.getGeoPackageId(), cursor);
+        GeometryMetadataWriter writer = new GeometryMetadataWriter(db,
+                metadata.getGeoPackageId(), featureDao.getTableName());
+        try {
+            writer.setTransactionSize(transactionSize);
+            writer.setSynchronous(synchronous);
+            writer.setProgress(progress);
 
-            if (chunkCount > 0) {
-                count += chunkCount;
-            }
+            // Index all features
+            while (chunkCount >= 0 && chunks.hasNext()) {
+
+                FeatureCursor cursor = chunks.next();
+                chunkCount = indexRows(writer, cursor);
+
+                if (chunkCount > 0) {
+                    count += chunkCount;
+                }
 
-            offset += chunkLimit;
+            }
+        } finally {
+            writer.close();
         }
 
         // Update the last indexed time
@@ -213,11 +327,11 @@ public class FeatureIndexer {
     /**
      * Index the feature rows in the cursor
      *
-     * @param geoPackageId GeoPackage id
-     * @param cursor       feature cursor
+     * @param writer geometry metadata writer
+     * @param cursor feature cursor
      * @return count, -1 if no results or canceled
      */
-    private int indexRows(long geoPackageId, FeatureCursor cursor) {
+    private int indexRows(GeometryMetadataWriter writer, FeatureCursor cursor) {
 
         int count = -1;
 
@@ -228,13 +342,13 @@ public class FeatureIndexer {
                     count++;
                 }
                 try {
-                    FeatureRow row = cursor.getRow();
-                    if (row.isValid()) {
-                        boolean indexed = index(geoPackageId, row, false);
-                        if (indexed) {
+                    GeometryEnvelope envelope = cursor.getGeometryEnvelope();
+                    if (cursor.hasId()) {
+                        if (envelope != null) {
+                            // Progress is added as the writer commits
+                            writer.write(cursor.getId(), envelope);
                             count++;
-                        }
-                        if (progress != null) {
+                        } else if (progress != null) {
                             progress.addProgress(1);
                         }
                     }
@@ -260,13 +374,13 @@ public class FeatureIndexer {
      */
     private boolean index(long geoPackageId, FeatureRow row, boolean possibleUpdate) {
 
-        boolean indexed = false;
+        GeometryEnvelope envelope = null;
 
         GeoPackageGeometryData geomData = row.getGeometry();
         if (geomData != null) {
 
             // Get the envelope
-            GeometryEnvelope envelope = geomData.getEnvelope();
+            envelope = geomData.getEnvelope();
 
             // If no envelope, build one from the geometry
             if (envelope == null) {
@@ -276,16 +390,33 @@ public class FeatureIndexer {
                 }
             }
 
-            // Create the new index row
-            if (envelope != null) {
-                GeometryMetadata metadata = geometryMetadataDataSource.populate(geoPackageId, featureDao.getTableName(), row.getId(), envelope);
-                if (possibleUpdate) {
-                    geometryMetadataDataSource.createOrUpdate(metadata);
-                } else {
-                    geometryMetadataDataSource.create(metadata);
-                }
-                indexed = true;
+        }
+
+        return index(geoPackageId, row.getId(), envelope, possibleUpdate);
+    }
+
+    /**
+     * Index the feature envelope
+     *
+     * @param geoPackageId   GeoPackage id
+     * @param geomId         geometry id
+     * @param envelope       geometry envelope
+     * @param possibleUpdate possible update flag
+     * @return true if indexed
+     */
+    private boolean index(long geoPackageId, long geomId, GeometryEnvelope envelope, boolean possibleUpdate) {
+
+        boolean indexed = false;
+
+        // Create the new index row
+        if (envelope != null) {
+            GeometryMetadata metadata = geometryMetadataDataSource.populate(geoPackageId, featureDao.getTableName(), geomId, envelope);
+            if (possibleUpdate) {
+                geometryMetadataDataSource.createOrUpdate(metadata);
+            } else {
+                geometryMetadataDataSource.create(metadata);
             }
+            indexed = true;
         }
 
         return indexed;
@@ -461,7 +592,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return query(distinct, idQuery);
     }
 
@@ -485,7 +616,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct, String[] columns) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return query(distinct, columns, idQuery);
     }
 
@@ -519,7 +650,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public int countFeatures(boolean distinct, String column) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return count(distinct, column, idQuery, null, null);
     }
 
@@ -719,7 +850,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct, String where, String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return query(distinct, idQuery, where, whereArgs);
     }
 
@@ -747,7 +878,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct, String[] columns, String where, String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return query(distinct, columns, idQuery, where, whereArgs);
     }
 
@@ -787,7 +918,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public int countFeatures(boolean distinct, String column, String where, String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return count(distinct, column, idQuery, where, whereArgs);
     }
 
@@ -1829,7 +1960,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct, GeometryEnvelope envelope) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return query(distinct, idQuery);
     }
 
@@ -1855,7 +1986,7 @@ public class FeatureIndexer {
      * @since 4.0.0
      */
     public FeatureCursor queryFeatures(boolean distinct, String[] columns, GeometryEnvelope envelope) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return query(distinct, columns, idQuery);
     }
 
@@ -1867,7 +1998,7 @@ public class FeatureIndexer {
      * @since 3.4.0
      */
     public int countFeatures(GeometryEnvelope envelope) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return count(idQuery);
     }
 
@@ -2121,7 +2252,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeatures(boolean distinct, GeometryEnvelope envelope,
                                        String where, String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return query(distinct, idQuery, where, whereArgs);
     }
 
@@ -2153,7 +2284,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeatures(boolean distinct, String[] columns, GeometryEnvelope envelope,
                                        String where, String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return query(distinct, columns, idQuery, where, whereArgs);
     }
 
@@ -2199,7 +2330,7 @@ public class FeatureIndexer {
      */
     public int countFeatures(boolean distinct, String column, GeometryEnvelope envelope, String where,
                              String[] whereArgs) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return count(distinct, column, idQuery, where, whereArgs);
     }
 
@@ -2280,6 +2411,17 @@ public class FeatureIndexer {
         return row;
     }
 
+    /**
+     * Get the feature rows for the geometry ids, queried in batches of ids
+     *
+     * @param geomIds geometry ids
+     * @return feature row iterator, with null rows for missing features
+     * @since 6.4.1
+     */
+    public Iterator<FeatureRow> getFeatureRows(Iterator<Long> geomIds) {
+        return featureDao.queryForIdRows(geomIds);
+    }
+
     /**
      * Query for all features ordered by id, starting at the offset and
      * returning no more than the limit
@@ -2374,7 +2516,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String orderBy, int limit) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, idQuery, orderBy, limit, null);
     }
 
@@ -2391,7 +2533,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String orderBy, int limit, long offset) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, idQuery, orderBy, limit, offset);
     }
 
@@ -2500,7 +2642,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, String orderBy, int limit) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, columns, idQuery,
                 orderBy, limit, null);
     }
@@ -2519,7 +2661,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, String orderBy, int limit, long offset) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, columns, idQuery,
                 orderBy, limit, offset);
     }
@@ -3181,7 +3323,7 @@ public class FeatureIndexer {
      */
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String where, String[] whereArgs, String orderBy, int limit) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, idQuery, where,
                 whereArgs, orderBy, limit, null);
     }
@@ -3202,7 +3344,7 @@ public class FeatureIndexer {
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String where, String[] whereArgs, String orderBy, int limit,
                                                long offset) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, idQuery, where,
                 whereArgs, orderBy, limit, offset);
     }
@@ -3332,7 +3474,7 @@ public class FeatureIndexer {
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, String where, String[] whereArgs, String orderBy,
                                                int limit) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, columns, idQuery, where, whereArgs, orderBy, limit, null);
     }
 
@@ -3353,7 +3495,7 @@ public class FeatureIndexer {
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, String where, String[] whereArgs, String orderBy,
                                                int limit, long offset) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds());
+        FeatureIndexerIdQuery idQuery = buildIdQuery();
         return queryForChunk(distinct, columns, idQuery, where, whereArgs, orderBy, limit, offset);
     }
 
@@ -7865,7 +8007,7 @@ public class FeatureIndexer {
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, GeometryEnvelope envelope, String where,
                                                String[] whereArgs, String orderBy, int limit) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return queryForChunk(distinct, columns,
                 idQuery, where, whereArgs, orderBy, limit,
                 null);
@@ -7889,28 +8031,116 @@ public class FeatureIndexer {
     public FeatureCursor queryFeaturesForChunk(boolean distinct,
                                                String[] columns, GeometryEnvelope envelope, String where,
                                                String[] whereArgs, String orderBy, int limit, long offset) {
-        FeatureIndexerIdQuery idQuery = buildIdQuery(queryIds(envelope));
+        FeatureIndexerIdQuery idQuery = buildIdQuery(envelope);
         return queryForChunk(distinct, columns,
                 idQuery, where, whereArgs, orderBy, limit,
                 offset);
     }
 
+    /**
+     * Build a feature indexer id query for all indexed features
+     *
+     * @return id query
+     */
+    private FeatureIndexerIdQuery buildIdQuery() {
+        FeatureIndexerIdQuery query = null;
+        if (metadataJoin && attachMetadata()) {
+            long geoPackageId = geometryMetadataDataSource.getGeoPackageId(featureDao.getDatabase());
+            query = buildNestedIdQuery(geometryMetadataDataSource.querySQL(),
+                    geometryMetadataDataSource.querySQLArgs(geoPackageId, featureDao.getTableName()));
+        } else {
+            query = buildIdQuery(queryIds());
+        }
+        return query;
+    }
+
+    /**
+     * Build a feature indexer id query for indexed features within the
+     * geometry envelope
+     *
+     * @param envelope geometry envelope
+     * @return id query
+     */
+    private FeatureIndexerIdQuery buildIdQuery(GeometryEnvelope envelope) {
+        FeatureIndexerIdQuery query = null;
+        if (metadataJoin && attachMetadata()) {
+            long geoPackageId = geometryMetadataDataSource.getGeoPackageId(featureDao.getDatabase());
+            query = buildNestedIdQuery(geometryMetadataDataSource.querySQL(envelope),
+                    geometryMetadataDataSource.querySQLArgs(envelope, geoPackageId, featureDao.getTableName()));
+        } else {
+            query = buildIdQuery(queryIds(envelope));
+        }
+        return query;
+    }
+
+    /**
+     * Build a feature indexer nested SQL id query selecting geometry ids from
+     * the attached metadata database
+     *
+     * @param where     geometry metadata where clause
+     * @param whereArgs geometry metadata where arguments
+     * @return id query
+     */
+    private FeatureIndexerIdQuery buildNestedIdQuery(String where, String[] whereArgs) {
+        String sql = "SELECT " + GeometryMetadata.COLUMN_ID + " FROM "
+                + CoreSQLUtils.quoteWrap(METADATA_SCHEMA) + "."
+                + GeometryMetadata.TABLE_NAME + " WHERE " + where;
+        return new FeatureIndexerIdQuery(sql, whereArgs);
+    }
+
+    /**
+     * Attach the metadata database to the feature connection if not already
+     * attached
+     *
+     * @return true if attached
+     */
+    private boolean attachMetadata() {
+        GeoPackageDatabase database = featureDao.getDatabaseConnection();
+        boolean attached = database.isAttached(METADATA_SCHEMA);
+        if (!attached && !database.inTransaction()) {
+            try {
+                database.attach(db.getPath(), METADATA_SCHEMA);
+                attached = true;
+            } catch (Exception e) {
+                Log.w(FeatureIndexer.class.getSimpleName(),
+                        "Failed to attach the metadata database. Table: "
+                                + featureDao.getTableName(), e);
+            }
+        }
+        return attached;
+    }
+
+    /**
+     * Detach the metadata database from the feature connection if attached
+     */
+    private void detachMetadata() {
+        GeoPackageDatabase database = featureDao.getDatabaseConnection();
+        try {
+            if (!database.inTransaction()) {
+                database.detach(METADATA_SCHEMA);
+            }
+        } catch (Exception e) {
+            Log.w(FeatureIndexer.class.getSimpleName(),
+                    "Failed to detach the metadata database. Table: "
+                            + featureDao.getTableName(), e);
+        }
+    }
+
     /**
      * Build a feature indexer nested id query from the cursor
      *
-     * @param cursor cursor
+     * @param cursor geometry metadata id cursor
      * @return id query
      */
     private FeatureIndexerIdQuery buildIdQuery(Cursor cursor) {
         FeatureIndexerIdQuery query = null;
-        FeatureIndexMetadataResults results = new FeatureIndexMetadataResults(this, cursor);
         try {
-            query = new FeatureIndexerIdQuery();
-            for (long id : results.ids()) {
-                query.addArgument(id);
+            query = new FeatureIndexerIdQuery(cursor.getCount());
+            while (cursor.moveToNext()) {
+                query.addArgument(cursor.getLong(0));
             }
         } finally {
-            results.close();
+            cursor.close();
         }
         return query;
     }
@@ -7945,7 +8175,13 @@ public class FeatureIndexer {
      * @return feature count
      */
     private int count(FeatureIndexerIdQuery idQuery) {
-        return idQuery.getCount();
+        int count = 0;
+        if (idQuery.isNested()) {
+            count = featureDao.countIn(idQuery.getSql(), idQuery.getArgs());
+        } else {
+            count = idQuery.getCount();
+        }
+        return count;
     }
 
     /**
@@ -7979,7 +8215,7 @@ public class FeatureIndexer {
         if (idQuery.aboveMaxArguments(whereArgs)) {
             cursor = new FeatureIndexerIdCursor(columns, featureDao.query(distinct, columns, where, whereArgs), idQuery);
         } else {
-            cursor = featureDao.queryIn(distinct, columns, idQuery.getSql(), idQuery.getArgs(), where, whereArgs);
+            cursor = featureDao.query(distinct, columns, buildWhere(idQuery, where), buildWhereArgs(idQuery, whereArgs));
         }
         return cursor;
     }
@@ -8063,7 +8299,7 @@ public class FeatureIndexer {
         if (idQuery.aboveMaxArguments(whereArgs)) {
             cursor = new FeatureIndexerIdCursor(columns, featureDao.query(distinct, columns, where, whereArgs, orderBy, limitValue), idQuery);
         } else {
-            cursor = featureDao.queryInForChunk(distinct, columns, idQuery.getSql(), idQuery.getArgs(), where, whereArgs, orderBy, limitValue);
+            cursor = featureDao.query(distinct, columns, buildWhere(idQuery, where), buildWhereArgs(idQuery, whereArgs), orderBy, limitValue);
         }
         return cursor;
     }
@@ -8096,9 +8332,38 @@ public class FeatureIndexer {
                 cursor.close();
             }
         } else {
-            count = featureDao.countIn(distinct, column, idQuery.getSql(), idQuery.getArgs(), where, whereArgs);
+            count = featureDao.count(distinct, column, buildWhere(idQuery, where), buildWhereArgs(idQuery, whereArgs));
         }
         return count;
     }
 
+    /**
+     * Build the where clause combining the criteria with the id query
+     *
+     * @param idQuery id query
+     * @param where   where clause
+     * @return where clause
+     */
+    private String buildWhere(FeatureIndexerIdQuery idQuery, String where) {
+        String idWhere = idQuery.getWhere(featureDao.getPkColumnName());
+        String whereClause = null;
+        if (where == null) {
+            whereClause = idWhere;
+        } else {
+            whereClause = "(" + where + ") AND (" + idWhere + ")";
+        }
+        return whereClause;
+    }
+
+    /**
+     * Build the where arguments combining the criteria with the id query
+     *
+     * @param idQuery   id query
+     * @param whereArgs where arguments
+     * @return where arguments
+     */
+    private String[] buildWhereArgs(FeatureIndexerIdQuery idQuery, String[] whereArgs) {
+        return featureDao.buildWhereInArgs(idQuery.getWhereArgs(), whereArgs);
+    }
+
 }
@@ -1,10 +1,16 @@
 package mil.nga.geopackage.db;
 
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
- * Feature Indexer Id query with nested SQL and arguments
+ * Feature Indexer Id query with nested SQL and arguments, either built from a
+ * set of ids or as a nested SQL query selecting the ids within the database.
+ * <p>
+ * Ids are held in a primitive array, sorted and deduplicated on first read.
+ * Id where clauses encode runs of consecutive ids as ranges so that large
+ * contiguous id sets fit within the query argument limit.
  *
  * @author osbornb
  * @since 3.4.0
@@ -12,15 +18,96 @@ import java.util.Set;
 public class FeatureIndexerIdQuery {
 
     /**
-     * Set of ids
+     * Minimum consecutive id run length encoded as a range
      */
-    private Set<Long> ids = new LinkedHashSet<>();
+    private static final int MIN_RANGE_LENGTH = 3;
+
+    /**
+     * Ids, sorted and unique through the size when normalized
+     */
+    private long[] ids;
+
+    /**
+     * Number of ids
+     */
+    private int size = 0;
+
+    /**
+     * True when the ids are sorted and unique
+     */
+    private boolean normalized = true;
+
+    /**
+     * Encoded id range count, -1 when not encoded
+     */
+    private int rangeCount = -1;
+
+    /**
+     * Encoded id where arguments, id ranges followed by single ids
+     */
+    private String[] whereArgs;
+
+    /**
+     * Nested SQL id query
+     */
+    private final String nestedSql;
+
+    /**
+     * Nested SQL id query arguments
+     */
+    private final String[] nestedArgs;
 
     /**
      * Constructor
      */
     public FeatureIndexerIdQuery() {
+        this(16);
+    }
 
+    /**
+     * Constructor
+     *
+     * @param capacity initial id capacity
+     * @since 6.4.1
+     */
+    public FeatureIndexerIdQuery(int capacity) {
+        this(null, null, Math.max(capacity, 1));
+    }
+
+    /**
+     * Constructor for a nested SQL query selecting the ids within the
+     * database, without an id set
+     *
+     * @param nestedSql  nested SQL id query
+     * @param nestedArgs nested SQL id query arguments
+     * @since 6.4.1
+     */
+    public FeatureIndexerIdQuery(String nestedSql, String[] nestedArgs) {
+        this(nestedSql, nestedArgs, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param nestedSql  nested SQL id query
+     * @param nestedArgs nested SQL id query arguments
+     * @param capacity   initial id capacity
+     */
+    private FeatureIndexerIdQuery(String nestedSql, String[] nestedArgs,
+                                  int capacity) {
+        this.nestedSql = nestedSql;
+        this.nestedArgs = nestedArgs;
+        ids = new long[capacity];
+    }
+
+    /**
+     * Is the query a nested SQL id query
+     *
+     * @return true if nested
+     * @since 6.4.1
+     */
+    public boolean isNested() {
+        return nestedSql != null;
     }
 
     /**
@@ -29,25 +116,50 @@ public class FeatureIndexerIdQuery {
      * @param id id value
      */
     public void addArgument(long id) {
-        ids.add(id);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(size + (size >> 1), size + 1));
+        }
+        if (size > 0 && id <= ids[size - 1]) {
+            normalized = false;
+        }
+        ids[size++] = id;
+        rangeCount = -1;
+        whereArgs = null;
     }
 
     /**
-     * Get the number of ids
+     * Get the number of ids, 0 for nested SQL id queries
      *
      * @return count
      */
     public int getCount() {
-        return ids.size();
+        normalize();
+        return size;
     }
 
     /**
-     * Get the set of ids
+     * Get the set of ids, sorted
      *
      * @return ids
      */
     public Set<Long> getIds() {
-        return ids;
+        normalize();
+        Set<Long> idSet = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            idSet.add(ids[i]);
+        }
+        return idSet;
+    }
+
+    /**
+     * Get the sorted unique ids
+     *
+     * @return id array
+     * @since 6.4.1
+     */
+    public long[] getIdArray() {
+        normalize();
+        return Arrays.copyOf(ids, size);
     }
 
     /**
@@ -57,7 +169,8 @@ public class FeatureIndexerIdQuery {
      * @return true if has id
      */
     public boolean hasId(long id) {
-        return ids.contains(id);
+        normalize();
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
     }
 
     /**
@@ -84,44 +197,187 @@ public class FeatureIndexerIdQuery {
     }
 
     /**
-     * Check if the total number of query arguments is above the maximum allowed in a single query
+     * Check if the total number of query arguments is above the maximum
+     * allowed in a single query, counting the range encoded id where arguments
      *
      * @param additionalArgs additional argument count
      * @return true if above the maximum allowed query arguments
      */
     public boolean aboveMaxArguments(int additionalArgs) {
-        return getCount() + additionalArgs > 999;
+        return getWhereArgs().length + additionalArgs > 999;
     }
 
     /**
-     * Get the SQL statement
+     * Get the SQL statement of nested SQL or id arguments for use within an
+     * IN clause
      *
      * @return SQL
      */
     public String getSql() {
-        StringBuilder sqlBuilder = new StringBuilder();
-        int count = getCount();
-        if (count > 0) {
-            sqlBuilder.append("?");
-            for (int i = 1; i < count; i++) {
-                sqlBuilder.append(", ?");
-            }
+        String sql = nestedSql;
+        if (sql == null) {
+            sql = buildArguments(getCount());
         }
-        return sqlBuilder.toString();
+        return sql;
     }
 
     /**
-     * Get the arguments
+     * Get the arguments for use with {@link #getSql()}
      *
      * @return args
      */
     public String[] getArgs() {
-        String[] args = new String[getCount()];
-        int index = 0;
-        for (long id : ids) {
-            args[index++] = String.valueOf(id);
+        String[] args = nestedArgs;
+        if (!isNested()) {
+            normalize();
+            args = new String[size];
+            for (int i = 0; i < size; i++) {
+                args[i] = String.valueOf(ids[i]);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * Get the where clause matching the ids on the column, with consecutive
+     * ids encoded as ranges
+     *
+     * @param column id column name
+     * @return where clause
+     * @since 6.4.1
+     */
+    public String getWhere(String column) {
+
+        String quotedColumn = CoreSQLUtils.quoteWrap(column);
+
+        StringBuilder where = new StringBuilder();
+        if (isNested()) {
+            where.append(quotedColumn).append(" IN (").append(nestedSql)
+                    .append(")");
+        } else {
+            encode();
+            for (int i = 0; i < rangeCount; i++) {
+                if (i > 0) {
+                    where.append(" OR ");
+                }
+                where.append(quotedColumn).append(" BETWEEN ? AND ?");
+            }
+            int singleCount = whereArgs.length - 2 * rangeCount;
+            if (singleCount > 0 || rangeCount == 0) {
+                if (rangeCount > 0) {
+                    where.append(" OR ");
+                }
+                where.append(quotedColumn).append(" IN (")
+                        .append(buildArguments(singleCount)).append(")");
+            }
+        }
+
+        return where.toString();
+    }
+
+    /**
+     * Get the where arguments for use with {@link #getWhere(String)}
+     *
+     * @return where args
+     * @since 6.4.1
+     */
+    public String[] getWhereArgs() {
+        String[] args = nestedArgs;
+        if (!isNested()) {
+            encode();
+            args = whereArgs;
         }
         return args;
     }
 
+    /**
+     * Sort and remove duplicate ids
+     */
+    private void normalize() {
+        if (!normalized) {
+            Arrays.sort(ids, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || ids[i] != ids[unique - 1]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            size = unique;
+            normalized = true;
+        }
+    }
+
+    /**
+     * Encode the ids into range and single id where arguments
+     */
+    private void encode() {
+        if (rangeCount < 0) {
+
+            normalize();
+
+            int ranges = 0;
+            int singles = 0;
+            for (int i = 0; i < size; ) {
+                int end = runEnd(i);
+                if (end - i >= MIN_RANGE_LENGTH) {
+                    ranges++;
+                } else {
+                    singles += end - i;
+                }
+                i = end;
+            }
+
+            String[] args = new String[2 * ranges + singles];
+            int rangeIndex = 0;
+            int singleIndex = 2 * ranges;
+            for (int i = 0; i < size; ) {
+                int end = runEnd(i);
+                if (end - i >= MIN_RANGE_LENGTH) {
+                    args[rangeIndex++] = String.valueOf(ids[i]);
+                    args[rangeIndex++] = String.valueOf(ids[end - 1]);
+                } else {
+                    for (int j = i; j < end; j++) {
+                        args[singleIndex++] = String.valueOf(ids[j]);
+                    }
+                }
+                i = end;
+            }
+
+            whereArgs = args;
+            rangeCount = ranges;
+        }
+    }
+
+    /**
+     * Find the exclusive end index of the consecutive id run starting at the
+     * index
+     *
+     * @param start run start index
+     * @return run end index
+     */
+    private int runEnd(int start) {
+        int end = start + 1;
+        while (end < size && ids[end] == ids[end - 1] + 1) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Build a comma separated argument list
+     *
+     * @param count argument count
+     * @return arguments SQL
+     */
+    private static String buildArguments(int count) {
+        StringBuilder sqlBuilder = new StringBuilder();
+        if (count > 0) {
+            sqlBuilder.append("?");
+            for (int i = 1; i < count; i++) {
+                sqlBuilder.append(", ?");
+            }
+        }
+        return sqlBuilder.toString();
+    }
+
 }
@@ -12,6 +12,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import mil.nga.geopackage.db.metrics.MetricsBindingsCursor;
+import mil.nga.geopackage.db.metrics.MetricsCursor;
+import mil.nga.geopackage.db.metrics.MetricsListener;
+import mil.nga.geopackage.db.metrics.QueryRecorder;
+
 /**
  * GeoPackage Cursor Factory. Used when connecting to a GeoPackage database.
  * Registers cursor wrappers for GeoPackage data tables to wrap the cursors
@@ -26,6 +31,11 @@ public class GeoPackageCursorFactory implements CursorFactory {
      */
     private boolean debugLogQueries = false;
 
+    /**
+     * Metrics listener
+     */
+    private volatile MetricsListener metricsListener;
+
     /**
      * Mapping between table names and their cursor wrapper
      */
@@ -63,6 +73,27 @@ public class GeoPackageCursorFactory implements CursorFactory {
         this.debugLogQueries = debugLogQueries;
     }
 
+    /**
+     * Get the metrics listener
+     *
+     * @return metrics listener or null
+     * @since 6.4.1
+     */
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Set the metrics listener to measure queries, writes, and transactions
+     * of the connections using this factory
+     *
+     * @param metricsListener metrics listener, null to disable
+     * @since 6.4.1
+     */
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
     /**
      * Register a cursor wrapper for the provided table name. Database queries
      * will wrap the returned cursor
@@ -100,8 +131,15 @@ public class GeoPackageCursorFactory implements CursorFactory {
             Log.d(GeoPackageCursorFactory.class.getSimpleName(), query.toString());
         }
 
-        // Create a standard cursor
-        Cursor cursor = new SQLiteCursor(driver, editTable, query);
+        // Create a standard or measured cursor
+        Cursor cursor = null;
+        MetricsListener listener = metricsListener;
+        if (listener != null) {
+            cursor = new MetricsCursor(driver, editTable, query,
+                    new QueryRecorder(listener, editTable, query.toString()));
+        } else {
+            cursor = new SQLiteCursor(driver, editTable, query);
+        }
 
         // Wrap the cursor
         Cursor wrappedCursor = wrapCursor(cursor, editTable);
@@ -151,8 +189,15 @@ public class GeoPackageCursorFactory implements CursorFactory {
                         Log.d(GeoPackageCursorFactory.class.getSimpleName(), query.toString());
                     }
 
-                    // Create a standard cursor
-                    Cursor cursor = new org.sqlite.database.sqlite.SQLiteCursor(driver, editTable, query);
+                    // Create a standard or measured cursor
+                    Cursor cursor = null;
+                    MetricsListener listener = metricsListener;
+                    if (listener != null) {
+                        cursor = new MetricsBindingsCursor(driver, editTable, query,
+                                new QueryRecorder(listener, editTable, query.toString()));
+                    } else {
+                        cursor = new org.sqlite.database.sqlite.SQLiteCursor(driver, editTable, query);
+                    }
 
                     // Wrap the cursor
                     Cursor wrappedCursor = wrapCursor(cursor, editTable);
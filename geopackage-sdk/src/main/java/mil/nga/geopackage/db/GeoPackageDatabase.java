@@ -6,6 +6,14 @@ import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.util.Log;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import mil.nga.geopackage.db.metrics.MetricsListener;
+import mil.nga.geopackage.db.metrics.WriteType;
+
 /**
  * GeoPackage database wrapper around SQLiteDatabase to quote table and column names
  *
@@ -44,6 +52,28 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     private boolean bindingsWritable = false;
 
+    /**
+     * Optional pool of read only connections for user table queries
+     */
+    private GeoPackageReadPool readPool;
+
+    /**
+     * Measured transaction start time of the current thread
+     */
+    private final ThreadLocal<Long> transactionStart;
+
+    /**
+     * Attached database schema names of the standard connection, shared with
+     * copies
+     */
+    private final Set<String> attached;
+
+    /**
+     * Attached database schema names of the SQLite Android Bindings
+     * connection, shared with copies
+     */
+    private final Set<String> bindingsAttached;
+
     /**
      * Constructor
      *
@@ -78,6 +108,9 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
         this.writable = writable;
         this.bindingsWritable = writable;
         this.cursorFactory = cursorFactory;
+        this.transactionStart = new ThreadLocal<>();
+        this.attached = Collections.synchronizedSet(new HashSet<String>());
+        this.bindingsAttached = Collections.synchronizedSet(new HashSet<String>());
     }
 
     /**
@@ -93,6 +126,10 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
         this.bindingsWritable = database.bindingsWritable;
         this.cursorFactory = database.cursorFactory;
         this.useBindings = database.useBindings;
+        this.readPool = database.readPool;
+        this.transactionStart = database.transactionStart;
+        this.attached = database.attached;
+        this.bindingsAttached = database.bindingsAttached;
     }
 
     /**
@@ -111,6 +148,144 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
         return active;
     }
 
+    /**
+     * Get the connection for user table queries. A read only pool connection
+     * when a read pool is set, the standard connection is active, the
+     * calling thread is not within a transaction, and no databases are
+     * attached, otherwise the active connection. Attached databases exist
+     * only on the connection they were attached to, so queries referencing
+     * them remain on the writable connection.
+     *
+     * @return query connection
+     * @since 6.4.1
+     */
+    public GeoPackageSQLiteDatabase getReader() {
+        GeoPackageSQLiteDatabase reader = null;
+        if (readPool != null && !useBindings && !db.inTransaction()
+                && !hasAttached()) {
+            reader = readPool.getReader();
+        } else {
+            reader = getActive();
+        }
+        return reader;
+    }
+
+    /**
+     * Attach the database file to the active connection with the schema name,
+     * if not already attached. Attached state is cached per connection and
+     * cleared on detach and close.
+     *
+     * @param path   database file path
+     * @param schema schema name
+     * @return true if attached by this call, false if already attached
+     * @since 6.4.1
+     */
+    public boolean attach(String path, String schema) {
+        boolean attach = false;
+        Set<String> schemas = getAttached();
+        synchronized (schemas) {
+            String name = schema.toLowerCase(Locale.US);
+            if (!schemas.contains(name)) {
+                execSQL("ATTACH DATABASE '" + path.replace("'", "''")
+                        + "' AS " + CoreSQLUtils.quoteWrap(schema));
+                schemas.add(name);
+                attach = true;
+            }
+        }
+        return attach;
+    }
+
+    /**
+     * Detach the schema from the active connection if attached
+     *
+     * @param schema schema name
+     * @return true if detached by this call
+     * @since 6.4.1
+     */
+    public boolean detach(String schema) {
+        boolean detach = false;
+        Set<String> schemas = getAttached();
+        synchronized (schemas) {
+            String name = schema.toLowerCase(Locale.US);
+            if (schemas.contains(name)) {
+                execSQL("DETACH DATABASE " + CoreSQLUtils.quoteWrap(schema));
+                schemas.remove(name);
+                detach = true;
+            }
+        }
+        return detach;
+    }
+
+    /**
+     * Determine if the schema is attached to the active connection through
+     * {@link #attach(String, String)}
+     *
+     * @param schema schema name
+     * @return true if attached
+     * @since 6.4.1
+     */
+    public boolean isAttached(String schema) {
+        return getAttached().contains(schema.toLowerCase(Locale.US));
+    }
+
+    /**
+     * Determine if any database is attached to the standard connection
+     * through {@link #attach(String, String)}
+     *
+     * @return true if attached databases
+     * @since 6.4.1
+     */
+    public boolean hasAttached() {
+        return !attached.isEmpty();
+    }
+
+    /**
+     * Get the attached schema names of the active connection
+     *
+     * @return attached schema names
+     */
+    private Set<String> getAttached() {
+        Set<String> schemas = null;
+        if (useBindings) {
+            schemas = bindingsAttached;
+        } else {
+            schemas = attached;
+        }
+        return schemas;
+    }
+
+    /**
+     * Get the read only connection pool
+     *
+     * @return read pool or null
+     * @since 6.4.1
+     */
+    public GeoPackageReadPool getReadPool() {
+        return readPool;
+    }
+
+    /**
+     * Determine if a read only connection pool is set
+     *
+     * @return true if a read pool
+     * @since 6.4.1
+     */
+    public boolean hasReadPool() {
+        return readPool != null;
+    }
+
+    /**
+     * Set the read only connection pool for user table queries. Set before
+     * copying the database, as copies share the pool set at copy time. The
+     * pool is closed when the database is closed.
+     *
+     * @param readPool read pool
+     * @since 6.4.1
+     */
+    public void setReadPool(GeoPackageReadPool readPool) {
+        this.readPool = readPool;
+    }
+
     /**
      * Get the Android SQLite Database connection
      *
@@ -206,6 +381,20 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
         return cursorFactory;
     }
 
+    /**
+     * Get the metrics listener of the cursor factory
+     *
+     * @return metrics listener or null
+     * @since 6.4.1
+     */
+    public MetricsListener getMetricsListener() {
+        MetricsListener listener = null;
+        if (cursorFactory != null) {
+            listener = cursorFactory.getMetricsListener();
+        }
+        return listener;
+    }
+
     /**
      * Is the SQLite database connection writable
      *
@@ -262,7 +451,11 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public void beginTransaction() {
+        boolean measure = getMetricsListener() != null && !inTransaction();
         getActive().beginTransaction();
+        if (measure) {
+            transactionStart.set(System.nanoTime());
+        }
     }
 
     /**
@@ -271,6 +464,7 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
     @Override
     public void endTransaction() {
         getActive().endTransaction();
+        recordTransaction(true);
     }
 
     /**
@@ -279,6 +473,7 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
     @Override
     public void endTransaction(boolean successful) {
         getActive().endTransaction(successful);
+        recordTransaction(successful);
     }
 
     /**
@@ -286,7 +481,16 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public void endAndBeginTransaction() {
+        Long start = transactionStart.get();
         getActive().endAndBeginTransaction();
+        if (start != null) {
+            long now = System.nanoTime();
+            transactionStart.set(now);
+            MetricsListener listener = getMetricsListener();
+            if (listener != null) {
+                listener.onTransaction(now - start, true);
+            }
+        }
     }
 
     /**
@@ -302,7 +506,10 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public int delete(String table, String whereClause, String[] whereArgs) {
-        return getActive().delete(table, whereClause, whereArgs);
+        long start = System.nanoTime();
+        int deleted = getActive().delete(table, whereClause, whereArgs);
+        recordWrite(table, WriteType.DELETE, start, deleted);
+        return deleted;
     }
 
     /**
@@ -321,6 +528,38 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
         return getActive().rawQueryWithFactory(cursorFactory, sql, selectionArgs, editTable);
     }
 
+    /**
+     * Record the completed write measurement
+     *
+     * @param table table
+     * @param type  write type
+     * @param start write start time
+     * @param rows  written rows
+     */
+    private void recordWrite(String table, WriteType type, long start, int rows) {
+        MetricsListener listener = getMetricsListener();
+        if (listener != null) {
+            listener.onWrite(table, type, System.nanoTime() - start, rows);
+        }
+    }
+
+    /**
+     * Record the ended transaction measurement when no longer in a
+     * transaction
+     *
+     * @param successful successful flag
+     */
+    private void recordTransaction(boolean successful) {
+        Long start = transactionStart.get();
+        if (start != null && !inTransaction()) {
+            transactionStart.remove();
+            MetricsListener listener = getMetricsListener();
+            if (listener != null) {
+                listener.onTransaction(System.nanoTime() - start, successful);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -328,6 +567,11 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
     public void close() {
         db.close();
         bindingsDb.close();
+        attached.clear();
+        bindingsAttached.clear();
+        if (readPool != null) {
+            readPool.close();
+        }
     }
 
     /**
@@ -385,7 +629,10 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public int update(String table, ContentValues values, String whereClause, String[] whereArgs) {
-        return getActive().update(table, values, whereClause, whereArgs);
+        long start = System.nanoTime();
+        int updated = getActive().update(table, values, whereClause, whereArgs);
+        recordWrite(table, WriteType.UPDATE, start, updated);
+        return updated;
     }
 
     /**
@@ -393,7 +640,10 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public long insertOrThrow(String table, String nullColumnHack, ContentValues values) throws SQLException {
-        return getActive().insertOrThrow(table, nullColumnHack, values);
+        long start = System.nanoTime();
+        long id = getActive().insertOrThrow(table, nullColumnHack, values);
+        recordWrite(table, WriteType.INSERT, start, 1);
+        return id;
     }
 
     /**
@@ -401,7 +651,20 @@ public class GeoPackageDatabase implements GeoPackageSQLiteDatabase {
      */
     @Override
     public long insert(String table, String nullColumnHack, ContentValues values) {
-        return getActive().insert(table, nullColumnHack, values);
+        long start = System.nanoTime();
+        long id = getActive().insert(table, nullColumnHack, values);
+        if (id != -1) {
+            recordWrite(table, WriteType.INSERT, start, 1);
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GeoPackageSQLiteStatement compileStatement(String sql) throws SQLException {
+        return getActive().compileStatement(sql);
     }
 
 }
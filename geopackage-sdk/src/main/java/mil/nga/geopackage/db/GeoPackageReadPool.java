@@ -0,0 +1,88 @@
+package mil.nga.geopackage.db;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of read only SQLite connections to a GeoPackage database file, used
+ * for user table queries so that concurrent readers do not serialize on the
+ * single writable connection. Readers are assigned round robin per query.
+ * Combine with write ahead logging on the writable connection so reads run
+ * concurrently with writes.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class GeoPackageReadPool {
+
+    /**
+     * Read only connections
+     */
+    private final AndroidSQLiteDatabase[] readers;
+
+    /**
+     * Next reader counter
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constructor
+     *
+     * @param path          database file path
+     * @param size          number of read only connections
+     * @param cursorFactory cursor factory
+     */
+    public GeoPackageReadPool(String path, int size,
+                              SQLiteDatabase.CursorFactory cursorFactory) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                    "Read pool size must be at least 1. size: " + size);
+        }
+        readers = new AndroidSQLiteDatabase[size];
+        boolean opened = false;
+        try {
+            for (int i = 0; i < size; i++) {
+                readers[i] = new AndroidSQLiteDatabase(SQLiteDatabaseUtils
+                        .openReadOnlyDatabase(path, cursorFactory));
+            }
+            opened = true;
+        } finally {
+            if (!opened) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Get the number of read only connections
+     *
+     * @return size
+     */
+    public int size() {
+        return readers.length;
+    }
+
+    /**
+     * Get the next read only connection
+     *
+     * @return read only connection
+     */
+    public AndroidSQLiteDatabase getReader() {
+        int index = (next.getAndIncrement() & Integer.MAX_VALUE)
+                % readers.length;
+        return readers[index];
+    }
+
+    /**
+     * Close the read only connections
+     */
+    public void close() {
+        for (AndroidSQLiteDatabase reader : readers) {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+}
@@ -217,4 +217,14 @@ public interface GeoPackageSQLiteDatabase {
      */
     public long insert(String table, String nullColumnHack, ContentValues values);
 
+    /**
+     * Compile a SQL statement for repeated execution
+     *
+     * @param sql SQL statement
+     * @return compiled statement
+     * @see SQLiteDatabase#compileStatement(String)
+     * @since 6.4.1
+     */
+    public GeoPackageSQLiteStatement compileStatement(String sql) throws SQLException;
+
 }
@@ -0,0 +1,89 @@
+package mil.nga.geopackage.db;
+
+import android.database.SQLException;
+import android.database.sqlite.SQLiteStatement;
+
+import java.io.Closeable;
+
+/**
+ * GeoPackage SQLite compiled statement interface
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public interface GeoPackageSQLiteStatement extends Closeable {
+
+    /**
+     * Bind null to the argument index
+     *
+     * @param index 1 based argument index
+     * @see SQLiteStatement#bindNull(int)
+     */
+    public void bindNull(int index);
+
+    /**
+     * Bind a long to the argument index
+     *
+     * @param index 1 based argument index
+     * @param value value
+     * @see SQLiteStatement#bindLong(int, long)
+     */
+    public void bindLong(int index, long value);
+
+    /**
+     * Bind a double to the argument index
+     *
+     * @param index 1 based argument index
+     * @param value value
+     * @see SQLiteStatement#bindDouble(int, double)
+     */
+    public void bindDouble(int index, double value);
+
+    /**
+     * Bind a string to the argument index
+     *
+     * @param index 1 based argument index
+     * @param value value
+     * @see SQLiteStatement#bindString(int, String)
+     */
+    public void bindString(int index, String value);
+
+    /**
+     * Bind a blob to the argument index
+     *
+     * @param index 1 based argument index
+     * @param value value
+     * @see SQLiteStatement#bindBlob(int, byte[])
+     */
+    public void bindBlob(int index, byte[] value);
+
+    /**
+     * Clear the bound arguments
+     *
+     * @see SQLiteStatement#clearBindings()
+     */
+    public void clearBindings();
+
+    /**
+     * Execute an insert statement
+     *
+     * @return inserted row id, -1 if not inserted
+     * @see SQLiteStatement#executeInsert()
+     */
+    public long executeInsert() throws SQLException;
+
+    /**
+     * Execute an update or delete statement
+     *
+     * @return number of changed rows
+     * @see SQLiteStatement#executeUpdateDelete()
+     */
+    public int executeUpdateDelete() throws SQLException;
+
+    /**
+     * Close the statement
+     */
+    @Override
+    public void close();
+
+}
@@ -1,8 +1,11 @@
 package mil.nga.geopackage.db.metadata;
 
 import android.content.Context;
+import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.text.TextUtils;
+import android.util.Log;
 
 import mil.nga.geopackage.GeoPackageException;
 import mil.nga.geopackage.db.GeoPackageDatabase;
@@ -22,7 +25,7 @@ public class GeoPackageMetadataDb extends SQLiteOpenHelper {
     /**
      * Metadata database version
      */
-    public static final int DATABASE_VERSION = 1;
+    public static final int DATABASE_VERSION = 2;
 
     /**
      * Open db
@@ -46,6 +49,7 @@ public class GeoPackageMetadataDb extends SQLiteOpenHelper {
         db.execSQL(GeoPackageMetadata.CREATE_SQL);
         db.execSQL(TableMetadata.CREATE_SQL);
         db.execSQL(GeometryMetadata.CREATE_SQL);
+        createSpatialIndex(db);
     }
 
     /**
@@ -53,10 +57,52 @@ public class GeoPackageMetadataDb extends SQLiteOpenHelper {
      */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        db.execSQL("DROP TABLE IF EXISTS " + GeometryMetadata.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + TableMetadata.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + GeoPackageMetadata.TABLE_NAME);
-        onCreate(db);
+        if (oldVersion == 1) {
+            // Rebuild the geometry metadata with a spatial id, keeping the
+            // existing GeoPackages and indexed rows
+            String previousTable = GeometryMetadata.TABLE_NAME + "_v1";
+            String columns = TextUtils.join(", ", GeometryMetadata.COLUMNS);
+            db.execSQL("ALTER TABLE " + GeometryMetadata.TABLE_NAME
+                    + " RENAME TO " + previousTable);
+            db.execSQL(GeometryMetadata.CREATE_SQL);
+            db.execSQL("INSERT INTO " + GeometryMetadata.TABLE_NAME + " ("
+                    + columns + ") SELECT " + columns + " FROM "
+                    + previousTable);
+            db.execSQL("DROP TABLE " + previousTable);
+            createSpatialIndex(db);
+        } else {
+            db.execSQL("DROP TABLE IF EXISTS " + GeometryMetadata.TABLE_NAME);
+            db.execSQL("DROP TABLE IF EXISTS " + TableMetadata.TABLE_NAME);
+            db.execSQL("DROP TABLE IF EXISTS " + GeoPackageMetadata.TABLE_NAME);
+            onCreate(db);
+        }
+    }
+
+    /**
+     * Create the geometry metadata spatial index, loading any existing rows.
+     * An R*Tree virtual table maintained by triggers is created when the
+     * SQLite R*Tree module is available, otherwise a covering bounds index.
+     *
+     * @param db database
+     */
+    private static void createSpatialIndex(SQLiteDatabase db) {
+        boolean rTree = false;
+        try {
+            db.execSQL(GeometryMetadata.CREATE_RTREE_SQL);
+            rTree = true;
+        } catch (SQLException e) {
+            Log.w(GeoPackageMetadataDb.class.getSimpleName(),
+                    "SQLite R*Tree module not available, indexing geometry metadata bounds",
+                    e);
+        }
+        if (rTree) {
+            db.execSQL(GeometryMetadata.LOAD_RTREE_SQL);
+            for (String sql : GeometryMetadata.CREATE_RTREE_TRIGGERS_SQL) {
+                db.execSQL(sql);
+            }
+        } else {
+            db.execSQL(GeometryMetadata.CREATE_BOUNDS_INDEX_SQL);
+        }
     }
 
     /**
@@ -78,6 +124,16 @@ public class GeoPackageMetadataDb extends SQLiteOpenHelper {
         return db;
     }
 
+    /**
+     * Get the metadata database file path
+     *
+     * @return path
+     * @since 6.4.1
+     */
+    public String getPath() {
+        return getDb().getDb().getPath();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -12,6 +12,13 @@ public class GeometryMetadata {
      */
     public static final String TABLE_NAME = "geom_metadata";
 
+    /**
+     * Spatial id column, integer primary key used as the spatial index id
+     *
+     * @since 6.4.1
+     */
+    public static final String COLUMN_SPATIAL_ID = "spatial_id";
+
     /**
      * GeoPackage Id column
      */
@@ -89,6 +96,7 @@ public class GeometryMetadata {
     public static final String CREATE_SQL = "CREATE TABLE "
             + TABLE_NAME
             + "("
+            + COLUMN_SPATIAL_ID + " INTEGER PRIMARY KEY, "
             + COLUMN_GEOPACKAGE_ID + " INTEGER NOT NULL, "
             + COLUMN_TABLE_NAME + " TEXT NOT NULL, "
             + COLUMN_ID + " INTEGER NOT NULL, "
@@ -100,11 +108,94 @@ public class GeometryMetadata {
             + COLUMN_MAX_Z + " DOUBLE, "
             + COLUMN_MIN_M + " DOUBLE, "
             + COLUMN_MAX_M + " DOUBLE, "
-            + "CONSTRAINT pk_geom_metadata PRIMARY KEY (" + COLUMN_GEOPACKAGE_ID + ", " + COLUMN_TABLE_NAME + ", " + COLUMN_ID + "), "
+            + "CONSTRAINT uk_geom_metadata UNIQUE (" + COLUMN_GEOPACKAGE_ID + ", " + COLUMN_TABLE_NAME + ", " + COLUMN_ID + "), "
             + "CONSTRAINT fk_gm_tm_gp FOREIGN KEY (" + COLUMN_GEOPACKAGE_ID + ") REFERENCES " + TableMetadata.TABLE_NAME + "(" + TableMetadata.COLUMN_GEOPACKAGE_ID + "), "
             + "CONSTRAINT fk_gm_tm FOREIGN KEY (" + COLUMN_TABLE_NAME + ") REFERENCES " + TableMetadata.TABLE_NAME + "(" + TableMetadata.COLUMN_TABLE_NAME + ")"
             + ");";
 
+    /**
+     * Spatial index R*Tree virtual table name
+     *
+     * @since 6.4.1
+     */
+    public static final String RTREE_TABLE_NAME = TABLE_NAME + "_rtree";
+
+    /**
+     * Spatial index R*Tree id column
+     *
+     * @since 6.4.1
+     */
+    public static final String RTREE_COLUMN_ID = "id";
+
+    /**
+     * Create the spatial index R*Tree virtual table SQL
+     *
+     * @since 6.4.1
+     */
+    public static final String CREATE_RTREE_SQL = "CREATE VIRTUAL TABLE "
+            + RTREE_TABLE_NAME + " USING rtree("
+            + RTREE_COLUMN_ID + ", "
+            + COLUMN_MIN_X + ", "
+            + COLUMN_MAX_X + ", "
+            + COLUMN_MIN_Y + ", "
+            + COLUMN_MAX_Y + ");";
+
+    /**
+     * Load the spatial index R*Tree from the existing rows SQL
+     *
+     * @since 6.4.1
+     */
+    public static final String LOAD_RTREE_SQL = "INSERT INTO "
+            + RTREE_TABLE_NAME + " SELECT "
+            + COLUMN_SPATIAL_ID + ", "
+            + COLUMN_MIN_X + ", "
+            + COLUMN_MAX_X + ", "
+            + COLUMN_MIN_Y + ", "
+            + COLUMN_MAX_Y + " FROM " + TABLE_NAME + ";";
+
+    /**
+     * Create the triggers maintaining the spatial index R*Tree SQL
+     *
+     * @since 6.4.1
+     */
+    public static final String[] CREATE_RTREE_TRIGGERS_SQL = {
+            "CREATE TRIGGER " + RTREE_TABLE_NAME + "_insert AFTER INSERT ON "
+                    + TABLE_NAME + " BEGIN INSERT INTO " + RTREE_TABLE_NAME
+                    + " VALUES (NEW." + COLUMN_SPATIAL_ID
+                    + ", NEW." + COLUMN_MIN_X + ", NEW." + COLUMN_MAX_X
+                    + ", NEW." + COLUMN_MIN_Y + ", NEW." + COLUMN_MAX_Y
+                    + "); END;",
+            "CREATE TRIGGER " + RTREE_TABLE_NAME + "_update AFTER UPDATE OF "
+                    + COLUMN_MIN_X + ", " + COLUMN_MAX_X + ", "
+                    + COLUMN_MIN_Y + ", " + COLUMN_MAX_Y + " ON "
+                    + TABLE_NAME + " BEGIN UPDATE " + RTREE_TABLE_NAME
+                    + " SET " + COLUMN_MIN_X + " = NEW." + COLUMN_MIN_X
+                    + ", " + COLUMN_MAX_X + " = NEW." + COLUMN_MAX_X
+                    + ", " + COLUMN_MIN_Y + " = NEW." + COLUMN_MIN_Y
+                    + ", " + COLUMN_MAX_Y + " = NEW." + COLUMN_MAX_Y
+                    + " WHERE " + RTREE_COLUMN_ID + " = NEW." + COLUMN_SPATIAL_ID
+                    + "; END;",
+            "CREATE TRIGGER " + RTREE_TABLE_NAME + "_delete AFTER DELETE ON "
+                    + TABLE_NAME + " BEGIN DELETE FROM " + RTREE_TABLE_NAME
+                    + " WHERE " + RTREE_COLUMN_ID + " = OLD." + COLUMN_SPATIAL_ID
+                    + "; END;"};
+
+    /**
+     * Create the covering bounds index SQL, the spatial index used when the
+     * SQLite R*Tree module is not available
+     *
+     * @since 6.4.1
+     */
+    public static final String CREATE_BOUNDS_INDEX_SQL = "CREATE INDEX idx_"
+            + TABLE_NAME + "_bounds ON " + TABLE_NAME + " ("
+            + COLUMN_GEOPACKAGE_ID + ", "
+            + COLUMN_TABLE_NAME + ", "
+            + COLUMN_MIN_X + ", "
+            + COLUMN_MAX_X + ", "
+            + COLUMN_MIN_Y + ", "
+            + COLUMN_MAX_Y + ", "
+            + COLUMN_ID + ");";
+
     /**
      * GeoPackage Id
      */
@@ -26,6 +26,11 @@ public class GeometryMetadataDataSource {
      */
     protected double tolerance = .00000000000001;
 
+    /**
+     * Spatial index R*Tree flag, determined when first needed
+     */
+    private Boolean rTree = null;
+
     /**
      * Constructor
      *
@@ -62,6 +67,28 @@ public class GeometryMetadataDataSource {
         this.tolerance = tolerance;
     }
 
+    /**
+     * Is the geometry metadata spatially indexed by an R*Tree virtual table.
+     * When false, the SQLite R*Tree module was not available and envelope
+     * queries use a covering bounds index.
+     *
+     * @return true if R*Tree indexed
+     * @since 6.4.1
+     */
+    public boolean isRTree() {
+        if (rTree == null) {
+            Cursor cursor = db.rawQuery(
+                    "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = ?",
+                    new String[]{GeometryMetadata.RTREE_TABLE_NAME});
+            try {
+                rTree = cursor.moveToNext() && cursor.getInt(0) > 0;
+            } finally {
+                cursor.close();
+            }
+        }
+        return rTree;
+    }
+
     /**
      * Create a new geometry metadata
      *
@@ -777,8 +804,25 @@ public class GeometryMetadataDataSource {
 
         StringBuilder selection = new StringBuilder();
 
-        selection.append(GeometryMetadata.COLUMN_GEOPACKAGE_ID).append(" = ? AND ")
-                .append(GeometryMetadata.COLUMN_TABLE_NAME).append(" = ?");
+        if (isRTree()) {
+            // Select the R*Tree envelope candidates by spatial id, the unary
+            // operators keep the GeoPackage and table index from being chosen
+            selection.append("+").append(GeometryMetadata.COLUMN_GEOPACKAGE_ID)
+                    .append(" = CAST(? AS INTEGER) AND +")
+                    .append(GeometryMetadata.COLUMN_TABLE_NAME).append(" = ?");
+            selection.append(" AND ").append(GeometryMetadata.COLUMN_SPATIAL_ID)
+                    .append(" IN (SELECT ").append(GeometryMetadata.RTREE_COLUMN_ID)
+                    .append(" FROM ").append(GeometryMetadata.RTREE_TABLE_NAME)
+                    .append(" WHERE ").append(GeometryMetadata.COLUMN_MIN_X).append(" <= ?")
+                    .append(" AND ").append(GeometryMetadata.COLUMN_MAX_X).append(" >= ?")
+                    .append(" AND ").append(GeometryMetadata.COLUMN_MIN_Y).append(" <= ?")
+                    .append(" AND ").append(GeometryMetadata.COLUMN_MAX_Y).append(" >= ?)");
+        } else {
+            selection.append(GeometryMetadata.COLUMN_GEOPACKAGE_ID).append(" = ? AND ")
+                    .append(GeometryMetadata.COLUMN_TABLE_NAME).append(" = ?");
+        }
+
+        // R*Tree bounds are rounded outward to 32 bit floats, compare exactly
         selection.append(" AND ").append(GeometryMetadata.COLUMN_MIN_X).append(" <= ?");
         selection.append(" AND ").append(GeometryMetadata.COLUMN_MAX_X).append(" >= ?");
         selection.append(" AND ").append(GeometryMetadata.COLUMN_MIN_Y).append(" <= ?");
@@ -808,7 +852,12 @@ public class GeometryMetadataDataSource {
      */
     public String[] querySQLArgs(GeometryEnvelope envelope, long geoPackageId, String tableName) {
 
+        boolean rTree = isRTree();
+
         int args = 6;
+        if (rTree) {
+            args += 4;
+        }
         if (envelope.hasZ()) {
             args += 2;
         }
@@ -825,6 +874,12 @@ public class GeometryMetadataDataSource {
         int argCount = 0;
         selectionArgs[argCount++] = String.valueOf(geoPackageId);
         selectionArgs[argCount++] = tableName;
+        if (rTree) {
+            selectionArgs[argCount++] = String.valueOf(maxX);
+            selectionArgs[argCount++] = String.valueOf(minX);
+            selectionArgs[argCount++] = String.valueOf(maxY);
+            selectionArgs[argCount++] = String.valueOf(minY);
+        }
         selectionArgs[argCount++] = String.valueOf(maxX);
         selectionArgs[argCount++] = String.valueOf(minX);
         selectionArgs[argCount++] = String.valueOf(maxY);
@@ -0,0 +1,288 @@
+package mil.nga.geopackage.db.metadata;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.text.TextUtils;
+
+import java.io.Closeable;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * Geometry metadata bulk writer, inserting the geometry metadata of a table
+ * through a single compiled statement and committing every transaction size
+ * rows. Optionally turns off synchronous writes while writing, restored when
+ * closed. Written rows are added to the progress as they are committed.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class GeometryMetadataWriter implements Closeable {
+
+    /**
+     * Default number of rows written per transaction
+     */
+    public static final int DEFAULT_TRANSACTION_SIZE = 10000;
+
+    /**
+     * Insert SQL
+     */
+    private static final String INSERT_SQL = "INSERT INTO "
+            + GeometryMetadata.TABLE_NAME + " ("
+            + TextUtils.join(", ", GeometryMetadata.COLUMNS)
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Database
+     */
+    private final SQLiteDatabase db;
+
+    /**
+     * GeoPackage id
+     */
+    private final long geoPackageId;
+
+    /**
+     * Table name
+     */
+    private final String tableName;
+
+    /**
+     * Rows written per transaction
+     */
+    private int transactionSize = DEFAULT_TRANSACTION_SIZE;
+
+    /**
+     * Synchronous writes flag
+     */
+    private boolean synchronous = true;
+
+    /**
+     * Progress
+     */
+    private GeoPackageProgress progress;
+
+    /**
+     * Compiled insert statement
+     */
+    private SQLiteStatement statement;
+
+    /**
+     * Synchronous setting to restore when closed
+     */
+    private Integer restoreSynchronous;
+
+    /**
+     * Open transaction flag
+     */
+    private boolean transaction = false;
+
+    /**
+     * Rows written in the open transaction
+     */
+    private int uncommitted = 0;
+
+    /**
+     * Total rows written
+     */
+    private int count = 0;
+
+    /**
+     * Constructor
+     *
+     * @param db           GeoPackage metadata db
+     * @param geoPackageId GeoPackage id
+     * @param tableName    table name
+     */
+    public GeometryMetadataWriter(GeoPackageMetadataDb db, long geoPackageId,
+                                  String tableName) {
+        this(db.getDb(), geoPackageId, tableName);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param db           GeoPackage database
+     * @param geoPackageId GeoPackage id
+     * @param tableName    table name
+     */
+    GeometryMetadataWriter(GeoPackageDatabase db, long geoPackageId,
+                           String tableName) {
+        this.db = db.getDb();
+        this.geoPackageId = geoPackageId;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Get the number of rows written per transaction
+     *
+     * @return transaction size
+     */
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    /**
+     * Set the number of rows written per transaction
+     *
+     * @param transactionSize transaction size
+     */
+    public void setTransactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new IllegalArgumentException(
+                    "Transaction size must be at least 1. transactionSize: "
+                            + transactionSize);
+        }
+        this.transactionSize = transactionSize;
+    }
+
+    /**
+     * Are writes synchronous
+     *
+     * @return true if synchronous
+     */
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Set the synchronous writes flag. When false (default is true), the
+     * metadata database synchronous pragma is off until the writer is closed,
+     * trading durability on power loss for fewer disk syncs. Must be set
+     * before writing.
+     *
+     * @param synchronous false to turn off synchronous writes
+     */
+    public void setSynchronous(boolean synchronous) {
+        if (statement != null) {
+            throw new GeoPackageException(
+                    "Synchronous writes must be set before writing. Table: "
+                            + tableName);
+        }
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Set the progress tracker, committed rows are added as progress
+     *
+     * @param progress progress tracker
+     */
+    public void setProgress(GeoPackageProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Get the number of written rows
+     *
+     * @return count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Write the geometry metadata, committing when the transaction size is
+     * reached
+     *
+     * @param geomId   geometry id
+     * @param envelope geometry envelope
+     */
+    public void write(long geomId, GeometryEnvelope envelope) {
+
+        if (statement == null) {
+            begin();
+        }
+        if (!transaction) {
+            db.beginTransaction();
+            transaction = true;
+        }
+
+        statement.bindLong(1, geoPackageId);
+        statement.bindString(2, tableName);
+        statement.bindLong(3, geomId);
+        statement.bindDouble(4, envelope.getMinX());
+        statement.bindDouble(5, envelope.getMaxX());
+        statement.bindDouble(6, envelope.getMinY());
+        statement.bindDouble(7, envelope.getMaxY());
+        if (envelope.hasZ()) {
+            statement.bindDouble(8, envelope.getMinZ());
+            statement.bindDouble(9, envelope.getMaxZ());
+        } else {
+            statement.bindNull(8);
+            statement.bindNull(9);
+        }
+        if (envelope.hasM()) {
+            statement.bindDouble(10, envelope.getMinM());
+            statement.bindDouble(11, envelope.getMaxM());
+        } else {
+            statement.bindNull(10);
+            statement.bindNull(11);
+        }
+        statement.executeInsert();
+
+        uncommitted++;
+        count++;
+
+        if (uncommitted >= transactionSize) {
+            commit();
+        }
+    }
+
+    /**
+     * Commit the written rows
+     */
+    public void commit() {
+        if (transaction) {
+            transaction = false;
+            db.setTransactionSuccessful();
+            db.endTransaction();
+            if (progress != null && uncommitted > 0) {
+                progress.addProgress(uncommitted);
+            }
+            uncommitted = 0;
+        }
+    }
+
+    /**
+     * Commit the written rows, close the statement, and restore synchronous
+     * writes
+     */
+    @Override
+    public void close() {
+        try {
+            commit();
+        } finally {
+            if (statement != null) {
+                statement.close();
+                statement = null;
+            }
+            if (restoreSynchronous != null) {
+                db.execSQL("PRAGMA synchronous = " + restoreSynchronous);
+                restoreSynchronous = null;
+            }
+        }
+    }
+
+    /**
+     * Turn off synchronous writes if needed and compile the insert statement
+     */
+    private void begin() {
+        if (!synchronous) {
+            Cursor cursor = db.rawQuery("PRAGMA synchronous", null);
+            try {
+                if (cursor.moveToNext()) {
+                    restoreSynchronous = cursor.getInt(0);
+                }
+            } finally {
+                cursor.close();
+            }
+            db.execSQL("PRAGMA synchronous = OFF");
+        }
+        statement = db.compileStatement(INSERT_SQL);
+    }
+
+}
@@ -0,0 +1,204 @@
+package mil.nga.geopackage.db.metrics;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory GeoPackage metrics listener, recording query and write histograms
+ * per table and transaction histograms per GeoPackage. Queries exceeding the
+ * slow query threshold are logged as warnings.
+ *
+ * Register on the GeoPackage cursor factory:
+ * geoPackage.getCursorFactory().setMetricsListener(new GeoPackageMetrics(geoPackage.getName()));
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class GeoPackageMetrics implements MetricsListener {
+
+    /**
+     * Default slow query threshold in milliseconds
+     */
+    public static final long DEFAULT_SLOW_QUERY_MILLIS = 500;
+
+    /**
+     * GeoPackage name
+     */
+    private final String name;
+
+    /**
+     * Table metrics by table name
+     */
+    private final Map<String, TableMetrics> tables = new HashMap<>();
+
+    /**
+     * Transaction nanoseconds
+     */
+    private final MetricsHistogram transactionNanos = new MetricsHistogram();
+
+    /**
+     * Rolled back transaction count
+     */
+    private long rollbacks = 0;
+
+    /**
+     * Slow query threshold in nanoseconds, negative to disable logging
+     */
+    private long slowQueryNanos = TimeUnit.MILLISECONDS
+            .toNanos(DEFAULT_SLOW_QUERY_MILLIS);
+
+    /**
+     * Constructor
+     *
+     * @param name GeoPackage name
+     */
+    public GeoPackageMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the GeoPackage name
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the slow query threshold in milliseconds
+     *
+     * @return milliseconds, negative when disabled
+     */
+    public synchronized long getSlowQueryThreshold() {
+        long millis = -1;
+        if (slowQueryNanos >= 0) {
+            millis = TimeUnit.NANOSECONDS.toMillis(slowQueryNanos);
+        }
+        return millis;
+    }
+
+    /**
+     * Set the slow query threshold in milliseconds. Closed queries taking at
+     * least the threshold are logged as warnings.
+     *
+     * @param millis milliseconds, negative to disable
+     */
+    public synchronized void setSlowQueryThreshold(long millis) {
+        if (millis < 0) {
+            slowQueryNanos = -1;
+        } else {
+            slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+
+    /**
+     * Get the metrics of the table
+     *
+     * @param table table name, null for queries without an edit table
+     * @return table metrics or null if not recorded
+     */
+    public synchronized TableMetrics getTableMetrics(String table) {
+        return tables.get(table);
+    }
+
+    /**
+     * Get the metrics of all recorded tables
+     *
+     * @return table metrics
+     */
+    public synchronized List<TableMetrics> getTableMetrics() {
+        return new ArrayList<>(tables.values());
+    }
+
+    /**
+     * Get the transaction nanoseconds histogram
+     *
+     * @return histogram
+     */
+    public MetricsHistogram getTransactionNanos() {
+        return transactionNanos;
+    }
+
+    /**
+     * Get the number of rolled back transactions
+     *
+     * @return rollbacks
+     */
+    public synchronized long getRollbacks() {
+        return rollbacks;
+    }
+
+    /**
+     * Clear the recorded metrics
+     */
+    public synchronized void reset() {
+        tables.clear();
+        transactionNanos.reset();
+        rollbacks = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onQuery(String table, String query, long firstRowNanos,
+                        long closeNanos, int rows, long blobBytes) {
+        long slowNanos;
+        synchronized (this) {
+            getOrCreateTableMetrics(table).recordQuery(firstRowNanos,
+                    closeNanos, rows, blobBytes);
+            slowNanos = slowQueryNanos;
+        }
+        if (slowNanos >= 0 && closeNanos >= slowNanos) {
+            Log.w(GeoPackageMetrics.class.getSimpleName(), "Slow query. GeoPackage: "
+                    + name + ", Table: " + table + ", Millis: "
+                    + TimeUnit.NANOSECONDS.toMillis(closeNanos)
+                    + ", First Row Millis: "
+                    + TimeUnit.NANOSECONDS.toMillis(firstRowNanos)
+                    + ", Rows: " + rows + ", Blob Bytes: " + blobBytes
+                    + ", Query: " + query);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onWrite(String table, WriteType type, long nanos,
+                                     int rows) {
+        getOrCreateTableMetrics(table).recordWrite(type, nanos, rows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onTransaction(long nanos, boolean successful) {
+        transactionNanos.record(nanos);
+        if (!successful) {
+            rollbacks++;
+        }
+    }
+
+    /**
+     * Get or create the table metrics
+     *
+     * @param table table name
+     * @return table metrics
+     */
+    private TableMetrics getOrCreateTableMetrics(String table) {
+        TableMetrics metrics = tables.get(table);
+        if (metrics == null) {
+            metrics = new TableMetrics(table);
+            tables.put(table, metrics);
+        }
+        return metrics;
+    }
+
+}
@@ -0,0 +1,78 @@
+package mil.nga.geopackage.db.metrics;
+
+import org.sqlite.database.sqlite.SQLiteCursor;
+import org.sqlite.database.sqlite.SQLiteCursorDriver;
+import org.sqlite.database.sqlite.SQLiteQuery;
+
+/**
+ * SQLite Android Bindings cursor measuring the query for a metrics listener
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class MetricsBindingsCursor extends SQLiteCursor {
+
+    /**
+     * Query recorder
+     */
+    private final QueryRecorder recorder;
+
+    /**
+     * Constructor
+     *
+     * @param driver    cursor driver
+     * @param editTable edit table
+     * @param query     query
+     * @param recorder  query recorder
+     */
+    public MetricsBindingsCursor(SQLiteCursorDriver driver, String editTable,
+                                 SQLiteQuery query, QueryRecorder recorder) {
+        super(driver, editTable, query);
+        this.recorder = recorder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCount() {
+        int count = super.getCount();
+        recorder.onWindow();
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean onMove(int oldPosition, int newPosition) {
+        boolean moved = super.onMove(oldPosition, newPosition);
+        if (moved) {
+            recorder.onMove(newPosition);
+        }
+        return moved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] getBlob(int columnIndex) {
+        byte[] blob = super.getBlob(columnIndex);
+        recorder.onBlob(blob);
+        return blob;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            recorder.onClose();
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package mil.nga.geopackage.db.metrics;
+
+/**
+ * In memory histogram of non negative values, counted in power of two buckets.
+ * Bucket 0 counts zero values and bucket i counts values from 2^(i-1) through
+ * 2^i - 1. Percentiles are estimated as the upper bound of the containing
+ * bucket, limited by the max recorded value.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class MetricsHistogram {
+
+    /**
+     * Number of buckets
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Bucket counts
+     */
+    private final long[] buckets = new long[BUCKETS];
+
+    /**
+     * Value count
+     */
+    private long count = 0;
+
+    /**
+     * Value sum
+     */
+    private long sum = 0;
+
+    /**
+     * Min value
+     */
+    private long min = 0;
+
+    /**
+     * Max value
+     */
+    private long max = 0;
+
+    /**
+     * Constructor
+     */
+    public MetricsHistogram() {
+
+    }
+
+    /**
+     * Record a value, ignoring negative values
+     *
+     * @param value value
+     */
+    public synchronized void record(long value) {
+        if (value >= 0) {
+            buckets[getBucket(value)]++;
+            if (count == 0) {
+                min = value;
+                max = value;
+            } else {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            count++;
+            sum += value;
+        }
+    }
+
+    /**
+     * Get the number of recorded values
+     *
+     * @return count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the sum of the recorded values
+     *
+     * @return sum
+     */
+    public synchronized long getSum() {
+        return sum;
+    }
+
+    /**
+     * Get the min recorded value
+     *
+     * @return min value, 0 when empty
+     */
+    public synchronized long getMin() {
+        return min;
+    }
+
+    /**
+     * Get the max recorded value
+     *
+     * @return max value, 0 when empty
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the mean recorded value
+     *
+     * @return mean value, 0 when empty
+     */
+    public synchronized double getMean() {
+        double mean = 0;
+        if (count > 0) {
+            mean = sum / (double) count;
+        }
+        return mean;
+    }
+
+    /**
+     * Estimate the value at the percentile
+     *
+     * @param percentile percentile between 0 and 100
+     * @return estimated value, 0 when empty
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(
+                    "Percentile must be between 0 and 100. percentile: "
+                            + percentile);
+        }
+        long value = 0;
+        if (count > 0) {
+            long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long total = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                total += buckets[bucket];
+                if (total >= target) {
+                    value = Math.min(getBucketMax(bucket), max);
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get a copy of the bucket counts
+     *
+     * @return bucket counts
+     */
+    public synchronized long[] getBuckets() {
+        return buckets.clone();
+    }
+
+    /**
+     * Clear the recorded values
+     */
+    public synchronized void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets[bucket] = 0;
+        }
+        count = 0;
+        sum = 0;
+        min = 0;
+        max = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "count=" + count + ", mean=" + getMean() + ", min=" + min
+                + ", p50=" + getPercentile(50) + ", p95="
+                + getPercentile(95) + ", p99=" + getPercentile(99) + ", max="
+                + max;
+    }
+
+    /**
+     * Get the bucket of the value
+     *
+     * @param value non negative value
+     * @return bucket
+     */
+    public static int getBucket(long value) {
+        return BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Get the max value counted in the bucket
+     *
+     * @param bucket bucket
+     * @return bucket max value
+     */
+    public static long getBucketMax(int bucket) {
+        long bucketMax = 0;
+        if (bucket >= BUCKETS - 1) {
+            bucketMax = Long.MAX_VALUE;
+        } else if (bucket > 0) {
+            bucketMax = (1L << bucket) - 1;
+        }
+        return bucketMax;
+    }
+
+}
@@ -0,0 +1,46 @@
+package mil.nga.geopackage.db.metrics;
+
+/**
+ * GeoPackage database metrics listener, registered on a GeoPackage cursor
+ * factory to receive query, write, and transaction measurements. Callbacks are
+ * made on the querying or writing thread and should return quickly.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public interface MetricsListener {
+
+    /**
+     * Closed query measurement
+     *
+     * @param table         query edit table, null for queries without an
+     *                      edit table
+     * @param query         query description
+     * @param firstRowNanos nanoseconds from cursor creation to the first
+     *                      result window, -1 if results were never read
+     * @param closeNanos    nanoseconds from cursor creation to close
+     * @param rows          rows read
+     * @param blobBytes     blob bytes read
+     */
+    public void onQuery(String table, String query, long firstRowNanos,
+                        long closeNanos, int rows, long blobBytes);
+
+    /**
+     * Completed write measurement
+     *
+     * @param table table
+     * @param type  write type
+     * @param nanos write nanoseconds
+     * @param rows  inserted, updated, or deleted rows
+     */
+    public void onWrite(String table, WriteType type, long nanos, int rows);
+
+    /**
+     * Ended transaction measurement
+     *
+     * @param nanos      nanoseconds from transaction begin to end
+     * @param successful true if committed, false if rolled back
+     */
+    public void onTransaction(long nanos, boolean successful);
+
+}
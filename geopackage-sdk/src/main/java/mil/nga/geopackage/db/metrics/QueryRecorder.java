@@ -0,0 +1,109 @@
+package mil.nga.geopackage.db.metrics;
+
+import mil.nga.geopackage.db.CoreSQLUtils;
+
+/**
+ * Single cursor query measurement, reported to the metrics listener once when
+ * the cursor is closed
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class QueryRecorder {
+
+    /**
+     * Metrics listener
+     */
+    private final MetricsListener listener;
+
+    /**
+     * Query edit table
+     */
+    private final String table;
+
+    /**
+     * Query description
+     */
+    private final String query;
+
+    /**
+     * Cursor creation time
+     */
+    private final long start = System.nanoTime();
+
+    /**
+     * Nanoseconds to the first result window
+     */
+    private long firstRowNanos = -1;
+
+    /**
+     * Rows read
+     */
+    private int rows = 0;
+
+    /**
+     * Blob bytes read
+     */
+    private long blobBytes = 0;
+
+    /**
+     * Recorded flag
+     */
+    private boolean recorded = false;
+
+    /**
+     * Constructor
+     *
+     * @param listener metrics listener
+     * @param table    query edit table, quoted or unquoted
+     * @param query    query description
+     */
+    public QueryRecorder(MetricsListener listener, String table, String query) {
+        this.listener = listener;
+        this.table = CoreSQLUtils.quoteUnwrap(table);
+        this.query = query;
+    }
+
+    /**
+     * Record the result window read, measuring the first
+     */
+    public void onWindow() {
+        if (firstRowNanos < 0) {
+            firstRowNanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Record a cursor move
+     *
+     * @param position new cursor position
+     */
+    public void onMove(int position) {
+        if (position >= rows) {
+            rows = position + 1;
+        }
+    }
+
+    /**
+     * Record a blob value read
+     *
+     * @param blob blob value
+     */
+    public void onBlob(byte[] blob) {
+        if (blob != null) {
+            blobBytes += blob.length;
+        }
+    }
+
+    /**
+     * Record the cursor close, reporting to the listener on the first close
+     */
+    public void onClose() {
+        if (!recorded) {
+            recorded = true;
+            listener.onQuery(table, query, firstRowNanos,
+                    System.nanoTime() - start, rows, blobBytes);
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+package mil.nga.geopackage.db.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * In memory query and write histograms of a single table
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class TableMetrics {
+
+    /**
+     * Table name, null for queries without an edit table
+     */
+    private final String table;
+
+    /**
+     * Nanoseconds to the first result window
+     */
+    private final MetricsHistogram firstRowNanos = new MetricsHistogram();
+
+    /**
+     * Nanoseconds to cursor close
+     */
+    private final MetricsHistogram closeNanos = new MetricsHistogram();
+
+    /**
+     * Rows read per query
+     */
+    private final MetricsHistogram rows = new MetricsHistogram();
+
+    /**
+     * Blob bytes read per query
+     */
+    private final MetricsHistogram blobBytes = new MetricsHistogram();
+
+    /**
+     * Nanoseconds per write by type
+     */
+    private final Map<WriteType, MetricsHistogram> writeNanos = new EnumMap<>(
+            WriteType.class);
+
+    /**
+     * Rows per write by type
+     */
+    private final Map<WriteType, MetricsHistogram> writeRows = new EnumMap<>(
+            WriteType.class);
+
+    /**
+     * Constructor
+     *
+     * @param table table name
+     */
+    public TableMetrics(String table) {
+        this.table = table;
+        for (WriteType type : WriteType.values()) {
+            writeNanos.put(type, new MetricsHistogram());
+            writeRows.put(type, new MetricsHistogram());
+        }
+    }
+
+    /**
+     * Get the table name
+     *
+     * @return table name, null for queries without an edit table
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Get the number of closed queries
+     *
+     * @return query count
+     */
+    public long getQueryCount() {
+        return closeNanos.getCount();
+    }
+
+    /**
+     * Get the nanoseconds to the first result window histogram
+     *
+     * @return histogram
+     */
+    public MetricsHistogram getFirstRowNanos() {
+        return firstRowNanos;
+    }
+
+    /**
+     * Get the nanoseconds to cursor close histogram
+     *
+     * @return histogram
+     */
+    public MetricsHistogram getCloseNanos() {
+        return closeNanos;
+    }
+
+    /**
+     * Get the rows read per query histogram
+     *
+     * @return histogram
+     */
+    public MetricsHistogram getRows() {
+        return rows;
+    }
+
+    /**
+     * Get the blob bytes read per query histogram
+     *
+     * @return histogram
+     */
+    public MetricsHistogram getBlobBytes() {
+        return blobBytes;
+    }
+
+    /**
+     * Get the number of writes of the type
+     *
+     * @param type write type
+     * @return write count
+     */
+    public long getWriteCount(WriteType type) {
+        return writeNanos.get(type).getCount();
+    }
+
+    /**
+     * Get the nanoseconds per write histogram of the type
+     *
+     * @param type write type
+     * @return histogram
+     */
+    public MetricsHistogram getWriteNanos(WriteType type) {
+        return writeNanos.get(type);
+    }
+
+    /**
+     * Get the rows per write histogram of the type
+     *
+     * @param type write type
+     * @return histogram
+     */
+    public MetricsHistogram getWriteRows(WriteType type) {
+        return writeRows.get(type);
+    }
+
+    /**
+     * Record a closed query
+     *
+     * @param firstRowNanos nanoseconds to the first result window, -1 if
+     *                      never read
+     * @param closeNanos    nanoseconds to close
+     * @param rows          rows read
+     * @param blobBytes     blob bytes read
+     */
+    public void recordQuery(long firstRowNanos, long closeNanos, int rows,
+                            long blobBytes) {
+        this.firstRowNanos.record(firstRowNanos);
+        this.closeNanos.record(closeNanos);
+        this.rows.record(rows);
+        this.blobBytes.record(blobBytes);
+    }
+
+    /**
+     * Record a completed write
+     *
+     * @param type  write type
+     * @param nanos write nanoseconds
+     * @param rows  written rows
+     */
+    public void recordWrite(WriteType type, long nanos, int rows) {
+        writeNanos.get(type).record(nanos);
+        writeRows.get(type).record(rows);
+    }
+
+    /**
+     * Clear the recorded metrics
+     */
+    public void reset() {
+        firstRowNanos.reset();
+        closeNanos.reset();
+        rows.reset();
+        blobBytes.reset();
+        for (WriteType type : WriteType.values()) {
+            writeNanos.get(type).reset();
+            writeRows.get(type).reset();
+        }
+    }
+
+}
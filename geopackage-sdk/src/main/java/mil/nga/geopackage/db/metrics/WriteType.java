@@ -0,0 +1,26 @@
+package mil.nga.geopackage.db.metrics;
+
+/**
+ * Measured database write types
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public enum WriteType {
+
+    /**
+     * Row insert
+     */
+    INSERT,
+
+    /**
+     * Row update
+     */
+    UPDATE,
+
+    /**
+     * Row delete
+     */
+    DELETE;
+
+}
@@ -1,16 +1,30 @@
 package mil.nga.geopackage.extension.coverage;
 
+import android.database.Cursor;
 import android.graphics.Rect;
 import android.graphics.RectF;
 
+import org.locationtech.proj4j.ProjCoordinate;
+
+import java.io.Closeable;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.io.ThreadPool;
 import mil.nga.geopackage.tiles.TileBoundingBoxAndroidUtils;
 import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
 import mil.nga.geopackage.tiles.TileGrid;
@@ -18,6 +32,7 @@ import mil.nga.geopackage.tiles.matrix.TileMatrix;
 import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
 import mil.nga.geopackage.tiles.user.TileCursor;
 import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.geopackage.tiles.user.TileExistenceIndex;
 import mil.nga.geopackage.tiles.user.TileRow;
 import mil.nga.geopackage.tiles.user.TileTable;
 import mil.nga.geopackage.tiles.user.TileTableMetadata;
@@ -32,7 +47,8 @@ import mil.nga.proj.ProjectionTransform;
  * @author osbornb
  * @since 2.0.1
  */
-public abstract class CoverageData<TImage extends CoverageDataImage> extends CoverageDataCore<TImage> {
+public abstract class CoverageData<TImage extends CoverageDataImage> extends CoverageDataCore<TImage>
+        implements Closeable {
 
     /**
      * Get a Tiled Gridded Coverage Data
@@ -150,6 +166,18 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
      */
     protected final TileDao tileDao;
 
+    /**
+     * Decoded coverage data tile cache, opt in as cached tiles are keyed by
+     * tile id and not invalidated by tile writes
+     */
+    private CoverageDataTileCache tileCache;
+
+    /**
+     * Point value threads
+     */
+    private final ThreadPool threadPool = new ThreadPool(
+            CoverageData.class.getSimpleName());
+
     /**
      * Constructor
      *
@@ -241,14 +269,211 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
         return tileDao;
     }
 
+    /**
+     * Get the decoded coverage data tile cache, null by default
+     *
+     * @return tile cache or null if not caching
+     * @since 6.4.1
+     */
+    public CoverageDataTileCache getTileCache() {
+        return tileCache;
+    }
+
+    /**
+     * Set the decoded coverage data tile cache to retain decoded tiles between
+     * requests, only share a cache between coverage data of the same tile
+     * table. Clear the cache after modifying coverage data tiles or gridded
+     * tiles.
+     *
+     * @param tileCache tile cache or null to not cache
+     * @since 6.4.1
+     */
+    public void setTileCache(CoverageDataTileCache tileCache) {
+        this.tileCache = tileCache;
+    }
+
+    /**
+     * Clear the decoded coverage data tile cache, required after modifying
+     * coverage data tiles or gridded tiles
+     *
+     * @since 6.4.1
+     */
+    public void clearTileCache() {
+        if (tileCache != null) {
+            tileCache.clear();
+        }
+    }
+
+    /**
+     * Get the decoded coverage data tile of the tile row, decoding and caching
+     * it if not cached
+     *
+     * @param tileRow tile row
+     * @return decoded coverage data tile
+     * @since 6.4.1
+     */
+    public CoverageDataTile getTile(TileRow tileRow) {
+        return getTile(tileRow.getId(), tileRow, tileCache);
+    }
+
+    /**
+     * Get the decoded coverage data tile, decoding and caching it if not
+     * cached
+     *
+     * @param tileId  tile id
+     * @param tileRow tile row or null to query when not cached
+     * @param cache   tile cache or null
+     * @return decoded coverage data tile or null if the tile does not exist
+     */
+    private CoverageDataTile getTile(long tileId, TileRow tileRow,
+                                     CoverageDataTileCache cache) {
+
+        CoverageDataTile tile = null;
+        if (cache != null) {
+            tile = cache.get(tileId);
+        }
+
+        if (tile == null && tileRow == null) {
+            tileRow = tileDao.queryForIdRow(tileId);
+        }
+
+        if (tile == null && tileRow != null) {
+            GriddedTile griddedTile = getGriddedTile(tileId);
+            TImage image = createImage(tileRow);
+            double[] values = readValues(griddedTile, image);
+            tile = new CoverageDataTile(griddedTile, image.getWidth(),
+                    image.getHeight(), values);
+            if (cache != null) {
+                cache.put(tileId, tile);
+            }
+        }
+
+        return tile;
+    }
+
+    /**
+     * Read the coverage data values of the image, with {@link Double#NaN}
+     * values where no data
+     *
+     * @param griddedTile gridded tile
+     * @param image       coverage data image
+     * @return coverage data values of length width * height where each value
+     * is at: (y * width) + x
+     * @since 6.4.1
+     */
+    protected double[] readValues(GriddedTile griddedTile, TImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] values = new double[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Double value = getValue(griddedTile, image, x, y);
+                values[y * width + x] = value != null ? value : Double.NaN;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Get the coverage data value of the pixel value
+     *
+     * @param griddedTile gridded tile
+     * @param pixelValue  pixel value
+     * @return coverage data value or {@link Double#NaN} if no data
+     * @since 6.4.1
+     */
+    protected double getDoubleValue(GriddedTile griddedTile,
+                                    double pixelValue) {
+        double value = Double.NaN;
+        if (!isDataNull(pixelValue)) {
+            value = CoverageDataUtils.getValue(getGriddedCoverage(),
+                    griddedTile, pixelValue);
+        }
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public CoverageDataResults getValues(CoverageDataRequest request,
                                          Integer width, Integer height) {
+        CoverageDataResults coverageDataResults = null;
+        CoverageDataValues values = getValuesArray(request, width, height);
+        if (values != null) {
+            coverageDataResults = values.toResults();
+        }
+        return coverageDataResults;
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CoverageDataResults getValuesUnbounded(CoverageDataRequest request) {
         CoverageDataResults coverageDataResults = null;
+        CoverageDataValues values = getValuesUnboundedArray(request);
+        if (values != null) {
+            coverageDataResults = values.toResults();
+        }
+        return coverageDataResults;
+    }
+
+    /**
+     * Get the primitive coverage data values within the bounding box
+     *
+     * @param requestBoundingBox request bounding box in the request projection
+     * @return coverage data values or null
+     * @since 6.4.1
+     */
+    public CoverageDataValues getValuesArray(BoundingBox requestBoundingBox) {
+        CoverageDataRequest request = new CoverageDataRequest(
+                requestBoundingBox);
+        return getValuesArray(request);
+    }
+
+    /**
+     * Get the primitive coverage data values within the bounding box with the
+     * requested width and height result size
+     *
+     * @param requestBoundingBox request bounding box in the request projection
+     * @param width              coverage data request width
+     * @param height             coverage data request height
+     * @return coverage data values or null
+     * @since 6.4.1
+     */
+    public CoverageDataValues getValuesArray(BoundingBox requestBoundingBox,
+                                             Integer width, Integer height) {
+        CoverageDataRequest request = new CoverageDataRequest(
+                requestBoundingBox);
+        return getValuesArray(request, width, height);
+    }
+
+    /**
+     * Get the primitive coverage data values of the request
+     *
+     * @param request coverage data request
+     * @return coverage data values or null
+     * @since 6.4.1
+     */
+    public CoverageDataValues getValuesArray(CoverageDataRequest request) {
+        return getValuesArray(request, width, height);
+    }
+
+    /**
+     * Get the primitive coverage data values of the request with the requested
+     * width and height result size
+     *
+     * @param request coverage data request
+     * @param width   coverage data request width
+     * @param height  coverage data request height
+     * @return coverage data values or null
+     * @since 6.4.1
+     */
+    public CoverageDataValues getValuesArray(CoverageDataRequest request,
+                                             Integer width, Integer height) {
+
+        CoverageDataValues coverageDataValues = null;
 
         // Transform to the projection of the coverage data tiles
         ProjectionTransform transformRequestToCoverage = null;
@@ -263,14 +488,7 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
 
         // Determine how many overlapping pixels to store based upon the
         // algorithm
-        int overlappingPixels;
-        switch (algorithm) {
-            case BICUBIC:
-                overlappingPixels = 3;
-                break;
-            default:
-                overlappingPixels = 1;
-        }
+        int overlappingPixels = getOverlappingPixels();
 
         // Find the tile matrix and results
         CoverageDataTileMatrixResults results = getResults(request,
@@ -313,39 +531,59 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
                 }
 
                 // Retrieve the coverage data from the results
-                Double[][] values = getValues(tileMatrix, tileResults,
+                double[] values = getValues(tileMatrix, tileResults,
                         request, tileWidth, tileHeight, overlappingPixels);
 
-                // Project the coverage data if needed
-                if (values != null && !sameProjection && !request.isPoint()) {
-                    values = reprojectCoverageData(values,
-                            requestedCoverageDataWidth,
-                            requestedCoverageDataHeight,
-                            request.getBoundingBox(),
-                            transformRequestToCoverage,
-                            requestProjectedBoundingBox);
-                }
-
-                // Create the results
+                // Create the results, projecting the coverage data if needed
                 if (values != null) {
-                    coverageDataResults = new CoverageDataResults(values,
-                            tileMatrix);
+                    if (!sameProjection && !request.isPoint()) {
+                        values = reprojectCoverageData(values, tileWidth,
+                                tileHeight, requestedCoverageDataWidth,
+                                requestedCoverageDataHeight,
+                                request.getBoundingBox(),
+                                transformRequestToCoverage,
+                                requestProjectedBoundingBox);
+                        tileWidth = requestedCoverageDataWidth;
+                        tileHeight = requestedCoverageDataHeight;
+                    }
+                    coverageDataValues = new CoverageDataValues(values,
+                            tileWidth, tileHeight, tileMatrix);
                 }
             } finally {
                 tileResults.close();
             }
         }
 
-        return coverageDataResults;
+        return coverageDataValues;
     }
 
     /**
-     * {@inheritDoc}
+     * Get the primitive coverage data values within the bounding box unbounded
+     * in result size
+     *
+     * @param requestBoundingBox request bounding box in the request projection
+     * @return coverage data values or null
+     * @since 6.4.1
      */
-    @Override
-    public CoverageDataResults getValuesUnbounded(CoverageDataRequest request) {
+    public CoverageDataValues getValuesUnboundedArray(
+            BoundingBox requestBoundingBox) {
+        CoverageDataRequest request = new CoverageDataRequest(
+                requestBoundingBox);
+        return getValuesUnboundedArray(request);
+    }
 
-        CoverageDataResults coverageDataResults = null;
+    /**
+     * Get the primitive coverage data values of the request unbounded in
+     * result size
+     *
+     * @param request coverage data request
+     * @return coverage data values or null
+     * @since 6.4.1
+     */
+    public CoverageDataValues getValuesUnboundedArray(
+            CoverageDataRequest request) {
+
+        CoverageDataValues coverageDataValues = null;
 
         // Transform to the projection of the coverage data tiles
         ProjectionTransform transformRequestToCoverage = null;
@@ -370,22 +608,21 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
             try {
 
                 // Retrieve the coverage data values from the results
-                Double[][] values = getValuesUnbounded(tileMatrix,
+                coverageDataValues = getValuesUnbounded(tileMatrix,
                         tileResults, request);
 
                 // Project the coverage data if needed
-                if (values != null && !sameProjection && !request.isPoint()) {
-                    values = reprojectCoverageData(values,
-                            values[0].length, values.length,
-                            request.getBoundingBox(),
+                if (coverageDataValues != null && !sameProjection
+                        && !request.isPoint()) {
+                    int width = coverageDataValues.getWidth();
+                    int height = coverageDataValues.getHeight();
+                    double[] values = reprojectCoverageData(
+                            coverageDataValues.getValues(), width, height,
+                            width, height, request.getBoundingBox(),
                             transformRequestToCoverage,
                             requestProjectedBoundingBox);
-                }
-
-                // Create the results
-                if (values != null) {
-                    coverageDataResults = new CoverageDataResults(values,
-                            tileMatrix);
+                    coverageDataValues = new CoverageDataValues(values, width,
+                            height, tileMatrix);
                 }
 
             } finally {
@@ -393,7 +630,273 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
             }
         }
 
-        return coverageDataResults;
+        return coverageDataValues;
+    }
+
+    /**
+     * Get the number of threads splitting point value tile groups
+     *
+     * @return threads
+     * @since 6.4.1
+     */
+    public int getThreads() {
+        return threadPool.getThreads();
+    }
+
+    /**
+     * Set the number of threads splitting point value tile groups
+     *
+     * @param threads threads
+     * @since 6.4.1
+     */
+    public void setThreads(int threads) {
+        threadPool.setThreads(threads);
+    }
+
+    /**
+     * Get the caller supplied executor running the point value threads
+     *
+     * @return executor or null
+     * @since 6.4.1
+     */
+    public ExecutorService getExecutor() {
+        return threadPool.getExecutor();
+    }
+
+    /**
+     * Set a caller supplied executor to run the point value threads, in place
+     * of a created pool. The executor is not shut down on close.
+     *
+     * @param executor executor, null to create a pool when needed
+     * @since 6.4.1
+     */
+    public void setExecutor(ExecutorService executor) {
+        threadPool.setExecutor(executor);
+    }
+
+    /**
+     * Shut down the created point value threads
+     *
+     * @since 6.4.1
+     */
+    @Override
+    public void close() {
+        threadPool.close();
+    }
+
+    /**
+     * Get the coverage data values of the points. Points are grouped by their
+     * covering tiles, each tile is queried and decoded once and the values of
+     * all points within it are interpolated, with groups split across
+     * {@link #setThreads(int)} threads. Each value matches
+     * {@link #getValue(double, double)} of the point.
+     *
+     * @param latitudes  latitudes in the request projection
+     * @param longitudes longitudes in the request projection
+     * @return coverage data values, {@link Double#NaN} where no data
+     * @since 6.4.1
+     */
+    public double[] getPointValues(double[] latitudes, double[] longitudes) {
+
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException(
+                    "Latitudes and longitudes must be the same length. latitudes: "
+                            + latitudes.length + ", longitudes: "
+                            + longitudes.length);
+        }
+
+        int count = latitudes.length;
+        double[] values = new double[count];
+        Arrays.fill(values, Double.NaN);
+
+        ProjectionTransform transformRequestToCoverage = null;
+        if (!sameProjection) {
+            transformRequestToCoverage = requestProjection
+                    .getTransformation(coverageProjection);
+        }
+
+        int overlappingPixels = getOverlappingPixels();
+
+        // Group the points by the tile matrix and tile grid of covering tiles
+        CoverageDataRequest[] requests = new CoverageDataRequest[count];
+        Map<Long, Map<TileGrid, PointGroup>> zoomGroups = new HashMap<>();
+        List<PointGroup> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+
+            CoverageDataRequest request = new CoverageDataRequest(
+                    latitudes[i], longitudes[i]);
+            BoundingBox requestProjectedBoundingBox = request.getBoundingBox();
+            if (transformRequestToCoverage != null) {
+                requestProjectedBoundingBox = requestProjectedBoundingBox
+                        .transform(transformRequestToCoverage);
+            }
+            request.setProjectedBoundingBox(requestProjectedBoundingBox);
+            requests[i] = request;
+
+            TileMatrix tileMatrix = getTileMatrix(request);
+            if (tileMatrix != null) {
+                tileMatrix = getPointTileMatrix(requestProjectedBoundingBox,
+                        tileMatrix, overlappingPixels);
+            }
+
+            if (tileMatrix != null) {
+                TileGrid tileGrid = getTileGrid(requestProjectedBoundingBox,
+                        tileMatrix, overlappingPixels);
+                Map<TileGrid, PointGroup> gridGroups = zoomGroups
+                        .get(tileMatrix.getZoomLevel());
+                if (gridGroups == null) {
+                    gridGroups = new HashMap<>();
+                    zoomGroups.put(tileMatrix.getZoomLevel(), gridGroups);
+                }
+                PointGroup group = gridGroups.get(tileGrid);
+                if (group == null) {
+                    group = new PointGroup(tileMatrix, tileGrid);
+                    gridGroups.put(tileGrid, group);
+                    groups.add(group);
+                }
+                group.add(i);
+            }
+        }
+
+        // Order the groups by zoom level, rows, and columns so shared tiles
+        // are decoded together
+        Collections.sort(groups, new Comparator<PointGroup>() {
+            @Override
+            public int compare(PointGroup group1, PointGroup group2) {
+                int compare = Long.compare(group1.tileMatrix.getZoomLevel(),
+                        group2.tileMatrix.getZoomLevel());
+                if (compare == 0) {
+                    compare = Long.compare(group1.tileGrid.getMinY(),
+                            group2.tileGrid.getMinY());
+                }
+                if (compare == 0) {
+                    compare = Long.compare(group1.tileGrid.getMinX(),
+                            group2.tileGrid.getMinX());
+                }
+                return compare;
+            }
+        });
+
+        // Decode each tile once, within a temporary cache when not caching
+        CoverageDataTileCache cache = tileCache;
+        if (cache == null) {
+            cache = new CoverageDataTileCache();
+        }
+
+        int bands = Math.min(threadPool.getThreads(), groups.size());
+        if (bands <= 1) {
+            getPointValues(groups, 0, groups.size(), requests,
+                    overlappingPixels, cache, values);
+        } else {
+
+            ExecutorService executor = threadPool.getActiveExecutor();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int band = 0; band < bands; band++) {
+                final int fromGroup = (int) ((long) groups.size() * band / bands);
+                final int toGroup = (int) ((long) groups.size() * (band + 1) / bands);
+                final List<PointGroup> bandGroups = groups;
+                final CoverageDataRequest[] bandRequests = requests;
+                final int bandOverlappingPixels = overlappingPixels;
+                final CoverageDataTileCache bandCache = cache;
+                final double[] bandValues = values;
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        getPointValues(bandGroups, fromGroup, toGroup,
+                                bandRequests, bandOverlappingPixels, bandCache,
+                                bandValues);
+                    }
+                }));
+            }
+
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeoPackageException(
+                        "Interrupted while getting coverage data point values",
+                        e);
+            } catch (ExecutionException e) {
+                throw new GeoPackageException(
+                        "Failed to get coverage data point values",
+                        e.getCause());
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Get the coverage data profile of samples evenly spaced along the
+     * polyline, by distance in the request projection units. The first and
+     * last samples are the polyline end points.
+     *
+     * @param latitudes  polyline latitudes in the request projection
+     * @param longitudes polyline longitudes in the request projection
+     * @param samples    number of samples, at least 2
+     * @return coverage data profile
+     * @since 6.4.1
+     */
+    public CoverageDataProfile getProfile(double[] latitudes,
+                                          double[] longitudes, int samples) {
+
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException(
+                    "Latitudes and longitudes must be the same length. latitudes: "
+                            + latitudes.length + ", longitudes: "
+                            + longitudes.length);
+        }
+        if (latitudes.length < 2) {
+            throw new IllegalArgumentException(
+                    "Polyline must have at least 2 points. points: "
+                            + latitudes.length);
+        }
+        if (samples < 2) {
+            throw new IllegalArgumentException(
+                    "Samples must be at least 2. samples: " + samples);
+        }
+
+        // Determine the distance along the polyline to each point
+        double[] pointDistances = new double[latitudes.length];
+        for (int i = 1; i < latitudes.length; i++) {
+            pointDistances[i] = pointDistances[i - 1]
+                    + Math.hypot(longitudes[i] - longitudes[i - 1],
+                    latitudes[i] - latitudes[i - 1]);
+        }
+        double distance = pointDistances[latitudes.length - 1];
+
+        // Sample the polyline at even distances
+        double[] sampleLatitudes = new double[samples];
+        double[] sampleLongitudes = new double[samples];
+        double[] sampleDistances = new double[samples];
+        int segment = 0;
+        for (int sample = 0; sample < samples; sample++) {
+            double sampleDistance = sample == samples - 1 ? distance
+                    : distance * sample / (samples - 1);
+            while (segment < latitudes.length - 2
+                    && pointDistances[segment + 1] < sampleDistance) {
+                segment++;
+            }
+            double segmentDistance = pointDistances[segment + 1]
+                    - pointDistances[segment];
+            double fraction = 0.0;
+            if (segmentDistance > 0) {
+                fraction = Math.min(1.0, (sampleDistance
+                        - pointDistances[segment]) / segmentDistance);
+            }
+            sampleLatitudes[sample] = latitudes[segment] + fraction
+                    * (latitudes[segment + 1] - latitudes[segment]);
+            sampleLongitudes[sample] = longitudes[segment] + fraction
+                    * (longitudes[segment + 1] - longitudes[segment]);
+            sampleDistances[sample] = sampleDistance;
+        }
+
+        double[] values = getPointValues(sampleLatitudes, sampleLongitudes);
+
+        return new CoverageDataProfile(sampleLatitudes, sampleLongitudes,
+                sampleDistances, values);
     }
 
     /**
@@ -558,23 +1061,14 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
      * @param tileWidth         tile width
      * @param tileHeight        tile height
      * @param overlappingPixels overlapping request pixels
-     * @return coverage data values
+     * @return coverage data values of length tileWidth * tileHeight or null
      */
-    private Double[][] getValues(TileMatrix tileMatrix,
-                                 TileCursor tileResults, CoverageDataRequest request, int tileWidth,
-                                 int tileHeight, int overlappingPixels) {
-
-        Double[][] values = null;
+    private double[] getValues(TileMatrix tileMatrix,
+                               TileCursor tileResults, CoverageDataRequest request, int tileWidth,
+                               int tileHeight, int overlappingPixels) {
 
-        // Tiles are ordered by rows and then columns. Track the last column
-        // coverage data values of the tile to the left and the last rows of the tiles
-        // in the row above
-        Double[][] leftLastColumns = null;
-        Map<Long, Double[][]> lastRowsByColumn = null;
-        Map<Long, Double[][]> previousLastRowsByColumn = null;
-
-        long previousRow = -1;
-        long previousColumn = Long.MAX_VALUE;
+        TileValues tileValues = new TileValues(tileMatrix, request, tileWidth,
+                tileHeight, overlappingPixels);
 
         // Process each coverage data tile
         while (tileResults.moveToNext()) {
@@ -582,48 +1076,1011 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
             // Get the next coverage data tile
             TileRow tileRow = tileResults.getRow();
 
-            long currentRow = tileRow.getTileRow();
-            long currentColumn = tileRow.getTileColumn();
+            tileValues.add(tileRow.getTileColumn(), tileRow.getTileRow(),
+                    getTile(tileRow), tileResults.isLast());
+        }
 
-            // If the row has changed, save off the previous last rows and begin
-            // tracking this row. Clear the left last columns.
-            if (currentRow > previousRow) {
-                previousLastRowsByColumn = lastRowsByColumn;
-                lastRowsByColumn = new HashMap<Long, Double[][]>();
-                leftLastColumns = null;
-            }
+        return tileValues.getValues();
+    }
 
-            // If there was a previous row, retrieve the top left and top
-            // overlapping rows
-            Double[][] topLeftRows = null;
-            Double[][] topRows = null;
-            if (previousLastRowsByColumn != null) {
-                topLeftRows = previousLastRowsByColumn.get(currentColumn - 1);
-                topRows = previousLastRowsByColumn.get(currentColumn);
-            }
+    /**
+     * Get the coverage data values from the tile results unbounded in result size
+     *
+     * @param tileMatrix  tile matrix
+     * @param tileResults tile results
+     * @param request     coverage data request
+     * @return coverage data values or null
+     */
+    private CoverageDataValues getValuesUnbounded(TileMatrix tileMatrix,
+                                                  TileCursor tileResults, CoverageDataRequest request) {
 
-            // If the current column is not the column after the previous clear
-            // the left values
-            if (currentColumn < previousColumn
-                    || currentColumn != previousColumn + 1) {
-                leftLastColumns = null;
-            }
+        // Build a map of rows to maps of columns and values
+        Map<Long, Map<Long, CoverageDataValues>> rowsMap = new TreeMap<>();
 
-            // Get the bounding box of the coverage data
-            BoundingBox tileBoundingBox = TileBoundingBoxUtils
-                    .getBoundingBox(coverageBoundingBox, tileMatrix,
-                            currentColumn, currentRow);
+        // Track the min and max row and column
+        long minRow = Long.MAX_VALUE;
+        long maxRow = Long.MIN_VALUE;
+        long minColumn = Long.MAX_VALUE;
+        long maxColumn = Long.MIN_VALUE;
 
-            // Get the bounding box where the request and coverage data tile overlap
-            BoundingBox overlap = request.overlap(tileBoundingBox);
+        // Track count of tiles involved in the results
+        int tileCount = 0;
 
-            // Get the gridded tile value for the tile
-            GriddedTile griddedTile = getGriddedTile(tileRow.getId());
+        // Process each coverage data tile row
+        while (tileResults.moveToNext()) {
 
-            // Get the coverage data tile image
-            TImage image = createImage(tileRow);
+            // Get the next coverage data tile
+            TileRow tileRow = tileResults.getRow();
 
-            // If the tile overlaps with the requested box
+            // Get the bounding box of the coverage data
+            BoundingBox tileBoundingBox = TileBoundingBoxUtils.getBoundingBox(
+                    coverageBoundingBox, tileMatrix, tileRow.getTileColumn(),
+                    tileRow.getTileRow());
+
+            // Get the bounding box where the request and coverage data tile overlap
+            BoundingBox overlap = request.overlap(tileBoundingBox);
+
+            // If the coverage data tile overlaps with the requested box
+            if (overlap != null) {
+
+                // Get the rectangle of the tile coverage data with matching values
+                Rect src = TileBoundingBoxAndroidUtils.getRectangle(
+                        tileMatrix.getTileWidth(), tileMatrix.getTileHeight(),
+                        tileBoundingBox, overlap);
+
+                if (TileBoundingBoxAndroidUtils.isValidAllowEmpty(src)) {
+
+                    // Get the source dimensions
+                    int srcTop = Math.min(src.top,
+                            (int) tileMatrix.getTileHeight() - 1);
+                    int srcBottom = Math.min(src.bottom,
+                            (int) tileMatrix.getTileHeight() - 1);
+                    int srcLeft = Math.min(src.left,
+                            (int) tileMatrix.getTileWidth() - 1);
+                    int srcRight = Math.min(src.right,
+                            (int) tileMatrix.getTileWidth() - 1);
+
+                    // Get the decoded coverage data tile
+                    CoverageDataTile tile = getTile(tileRow);
+
+                    // Create the coverage data results for this tile
+                    int width = srcRight - srcLeft + 1;
+                    int height = srcBottom - srcTop + 1;
+                    double[] values = new double[width * height];
+
+                    // Read and set the coverage data values
+                    for (int y = srcTop; y <= srcBottom; y++) {
+                        System.arraycopy(tile.getValues(), y * tile.getWidth()
+                                + srcLeft, values, (y - srcTop) * width, width);
+                    }
+
+                    // Get or add the columns map to the rows map
+                    Map<Long, CoverageDataValues> columnsMap = rowsMap
+                            .get(tileRow.getTileRow());
+                    if (columnsMap == null) {
+                        columnsMap = new TreeMap<Long, CoverageDataValues>();
+                        rowsMap.put(tileRow.getTileRow(), columnsMap);
+                    }
+
+                    // Set the coverage data values in the results map
+                    columnsMap.put(tileRow.getTileColumn(),
+                            new CoverageDataValues(values, width, height,
+                                    tileMatrix));
+
+                    // Increase the contributing tiles count
+                    tileCount++;
+
+                    // Track the min and max row and column
+                    minRow = Math.min(minRow, tileRow.getTileRow());
+                    maxRow = Math.max(maxRow, tileRow.getTileRow());
+                    minColumn = Math.min(minColumn, tileRow.getTileColumn());
+                    maxColumn = Math.max(maxColumn, tileRow.getTileColumn());
+                }
+            }
+        }
+
+        // Handle formatting the results
+        CoverageDataValues values = null;
+        if (tileCount > 0) {
+            values = formatUnboundedValues(tileMatrix, rowsMap, tileCount,
+                    minRow, maxRow, minColumn, maxColumn);
+        }
+
+        return values;
+    }
+
+    /**
+     * Format the unbounded coverage data values of the tiles into a single
+     * result
+     *
+     * @param tileMatrix tile matrix
+     * @param rowsMap    rows map of column maps of tile coverage data values
+     * @param tileCount  tile count
+     * @param minRow     min tile row
+     * @param maxRow     max tile row
+     * @param minColumn  min tile column
+     * @param maxColumn  max tile column
+     * @return coverage data values
+     */
+    private CoverageDataValues formatUnboundedValues(TileMatrix tileMatrix,
+                                                     Map<Long, Map<Long, CoverageDataValues>> rowsMap,
+                                                     int tileCount, long minRow, long maxRow, long minColumn,
+                                                     long maxColumn) {
+
+        CoverageDataValues values = null;
+
+        if (tileCount == 1) {
+            values = rowsMap.get(minRow).get(minColumn);
+        } else {
+
+            // Determine the combined width and height
+            CoverageDataValues topLeft = rowsMap.get(minRow).get(minColumn);
+            CoverageDataValues bottomRight = rowsMap.get(maxRow).get(
+                    maxColumn);
+            int firstWidth = topLeft.getWidth();
+            int firstHeight = topLeft.getHeight();
+            int width = firstWidth;
+            int height = firstHeight;
+            if (minColumn < maxColumn) {
+                width += bottomRight.getWidth();
+                long middleColumns = maxColumn - minColumn - 1;
+                if (middleColumns > 0) {
+                    width += middleColumns * tileMatrix.getTileWidth();
+                }
+            }
+            if (minRow < maxRow) {
+                height += bottomRight.getHeight();
+                long middleRows = maxRow - minRow - 1;
+                if (middleRows > 0) {
+                    height += middleRows * tileMatrix.getTileHeight();
+                }
+            }
+
+            double[] formattedValues = new double[width * height];
+            Arrays.fill(formattedValues, Double.NaN);
+
+            // Copy each tile into the combined values
+            for (Map.Entry<Long, Map<Long, CoverageDataValues>> rows : rowsMap
+                    .entrySet()) {
+
+                long row = rows.getKey();
+                int baseRow = 0;
+                if (minRow < row) {
+                    baseRow = firstHeight
+                            + (int) ((row - minRow - 1) * tileMatrix
+                            .getTileHeight());
+                }
+
+                for (Map.Entry<Long, CoverageDataValues> columns : rows
+                        .getValue().entrySet()) {
+
+                    long column = columns.getKey();
+                    int baseColumn = 0;
+                    if (minColumn < column) {
+                        baseColumn = firstWidth
+                                + (int) ((column - minColumn - 1) * tileMatrix
+                                .getTileWidth());
+                    }
+
+                    CoverageDataValues localValues = columns.getValue();
+                    int localWidth = localValues.getWidth();
+                    for (int localRow = 0; localRow < localValues.getHeight(); localRow++) {
+                        System.arraycopy(localValues.getValues(), localRow
+                                        * localWidth, formattedValues,
+                                (baseRow + localRow) * width + baseColumn,
+                                localWidth);
+                    }
+                }
+            }
+
+            values = new CoverageDataValues(formattedValues, width, height,
+                    tileMatrix);
+        }
+
+        return values;
+    }
+
+    /**
+     * Reproject the coverage data values to the requested coverage data width
+     * and height
+     *
+     * @param values                     coverage data values of length width * height
+     * @param width                      coverage data values width
+     * @param height                     coverage data values height
+     * @param requestedCoverageWidth     requested coverage data width
+     * @param requestedCoverageHeight    requested coverage data height
+     * @param requestBoundingBox         request bounding box in the request projection
+     * @param transformRequestToCoverage transformation from request to coverage data
+     * @param coverageBoundingBox        coverage data bounding box
+     * @return projected coverage data values of length requestedCoverageWidth
+     * * requestedCoverageHeight
+     * @since 6.4.1
+     */
+    protected double[] reprojectCoverageData(double[] values, int width,
+                                             int height, int requestedCoverageWidth,
+                                             int requestedCoverageHeight, BoundingBox requestBoundingBox,
+                                             ProjectionTransform transformRequestToCoverage,
+                                             BoundingBox coverageBoundingBox) {
+
+        final double requestedWidthUnitsPerPixel = (requestBoundingBox
+                .getMaxLongitude() - requestBoundingBox.getMinLongitude())
+                / requestedCoverageWidth;
+        final double requestedHeightUnitsPerPixel = (requestBoundingBox
+                .getMaxLatitude() - requestBoundingBox.getMinLatitude())
+                / requestedCoverageHeight;
+
+        final double tilesDistanceWidth = coverageBoundingBox
+                .getMaxLongitude() - coverageBoundingBox.getMinLongitude();
+        final double tilesDistanceHeight = coverageBoundingBox
+                .getMaxLatitude() - coverageBoundingBox.getMinLatitude();
+
+        double[] projectedValues = new double[requestedCoverageWidth
+                * requestedCoverageHeight];
+
+        // Retrieve each coverage data value in the unprojected coverage data
+        for (int y = 0; y < requestedCoverageHeight; y++) {
+            for (int x = 0; x < requestedCoverageWidth; x++) {
+
+                double longitude = requestBoundingBox.getMinLongitude()
+                        + (x * requestedWidthUnitsPerPixel);
+                double latitude = requestBoundingBox.getMaxLatitude()
+                        - (y * requestedHeightUnitsPerPixel);
+                ProjCoordinate fromCoord = new ProjCoordinate(longitude,
+                        latitude);
+                ProjCoordinate toCoord = transformRequestToCoverage
+                        .transform(fromCoord);
+                double projectedLongitude = toCoord.x;
+                double projectedLatitude = toCoord.y;
+
+                int xPixel = (int) Math
+                        .round(((projectedLongitude - coverageBoundingBox
+                                .getMinLongitude()) / tilesDistanceWidth)
+                                * width);
+                int yPixel = (int) Math
+                        .round(((coverageBoundingBox.getMaxLatitude() - projectedLatitude) / tilesDistanceHeight)
+                                * height);
+
+                xPixel = Math.max(0, xPixel);
+                xPixel = Math.min(width - 1, xPixel);
+
+                yPixel = Math.max(0, yPixel);
+                yPixel = Math.min(height - 1, yPixel);
+
+                projectedValues[y * requestedCoverageWidth + x] = values[yPixel
+                        * width + xPixel];
+            }
+        }
+
+        return projectedValues;
+    }
+
+    /**
+     * Get the nearest neighbor coverage data value from the decoded tile and
+     * the overlapping values of neighboring tiles
+     *
+     * @param tile            decoded coverage data tile
+     * @param leftLastColumns last columns of the tile to the left
+     * @param topLeftRows     last rows of the tile to the top left
+     * @param topRows         last rows of the tile to the top
+     * @param y               y coordinate
+     * @param x               x coordinate
+     * @param widthRatio      source to destination width ratio
+     * @param heightRatio     source to destination height ratio
+     * @param destTop         destination top most pixel
+     * @param destLeft        destination left most pixel
+     * @param srcTop          source top most pixel
+     * @param srcLeft         source left most pixel
+     * @return coverage data value or {@link Double#NaN}
+     */
+    private double getNearestNeighborValue(CoverageDataTile tile,
+                                           double[][] leftLastColumns, double[][] topLeftRows,
+                                           double[][] topRows, int y, int x, float widthRatio,
+                                           float heightRatio, float destTop, float destLeft, float srcTop,
+                                           float srcLeft) {
+
+        // Determine which source pixel to use
+        float xSource = getXSource(x, destLeft, srcLeft, widthRatio);
+        float ySource = getYSource(y, destTop, srcTop, heightRatio);
+
+        // Get the closest nearest neighbors
+        List<int[]> nearestNeighbors = getNearestNeighbors(xSource, ySource);
+
+        // Get the coverage data value from the source pixel nearest neighbors
+        // until one is found
+        double value = Double.NaN;
+        for (int i = 0; Double.isNaN(value) && i < nearestNeighbors.size(); i++) {
+            int[] nearestNeighbor = nearestNeighbors.get(i);
+            value = getValueOverBorders(tile, leftLastColumns, topLeftRows,
+                    topRows, nearestNeighbor[0], nearestNeighbor[1]);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the bilinear interpolation coverage data value from the decoded tile
+     * and the overlapping values of neighboring tiles
+     *
+     * @param tile            decoded coverage data tile
+     * @param leftLastColumns last columns of the tile to the left
+     * @param topLeftRows     last rows of the tile to the top left
+     * @param topRows         last rows of the tile to the top
+     * @param values          reused 2 x 2 source values
+     * @param y               y coordinate
+     * @param x               x coordinate
+     * @param widthRatio      source to destination width ratio
+     * @param heightRatio     source to destination height ratio
+     * @param destTop         destination top most pixel
+     * @param destLeft        destination left most pixel
+     * @param srcTop          source top most pixel
+     * @param srcLeft         source left most pixel
+     * @return coverage data value or {@link Double#NaN}
+     */
+    private double getBilinearInterpolationValue(CoverageDataTile tile,
+                                                 double[][] leftLastColumns, double[][] topLeftRows,
+                                                 double[][] topRows, double[][] values, int y, int x,
+                                                 float widthRatio, float heightRatio, float destTop,
+                                                 float destLeft, float srcTop, float srcLeft) {
+
+        // Determine which source pixel to use
+        float xSource = getXSource(x, destLeft, srcLeft, widthRatio);
+        float ySource = getYSource(y, destTop, srcTop, heightRatio);
+
+        CoverageDataSourcePixel sourcePixelX = getXSourceMinAndMax(xSource);
+        CoverageDataSourcePixel sourcePixelY = getYSourceMinAndMax(ySource);
+
+        double value = Double.NaN;
+        if (populateValues(tile, leftLastColumns, topLeftRows, topRows,
+                sourcePixelX.getMin(), sourcePixelX.getMax(),
+                sourcePixelY.getMin(), sourcePixelY.getMax(), values)) {
+            value = CoverageDataUtils.getBilinearInterpolationValue(sourcePixelX.getOffset(),
+                    sourcePixelY.getOffset(), sourcePixelX.getMin(),
+                    sourcePixelX.getMax(), sourcePixelY.getMin(),
+                    sourcePixelY.getMax(), values[0][0], values[0][1],
+                    values[1][0], values[1][1]);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the bicubic interpolation coverage data value from the decoded tile
+     * and the overlapping values of neighboring tiles
+     *
+     * @param tile            decoded coverage data tile
+     * @param leftLastColumns last columns of the tile to the left
+     * @param topLeftRows     last rows of the tile to the top left
+     * @param topRows         last rows of the tile to the top
+     * @param values          reused 4 x 4 source values
+     * @param y               y coordinate
+     * @param x               x coordinate
+     * @param widthRatio      source to destination width ratio
+     * @param heightRatio     source to destination height ratio
+     * @param destTop         destination top most pixel
+     * @param destLeft        destination left most pixel
+     * @param srcTop          source top most pixel
+     * @param srcLeft         source left most pixel
+     * @return coverage data value or {@link Double#NaN}
+     */
+    private double getBicubicInterpolationValue(CoverageDataTile tile,
+                                                double[][] leftLastColumns, double[][] topLeftRows,
+                                                double[][] topRows, double[][] values, int y, int x,
+                                                float widthRatio, float heightRatio, float destTop,
+                                                float destLeft, float srcTop, float srcLeft) {
+
+        // Determine which source pixel to use
+        float xSource = getXSource(x, destLeft, srcLeft, widthRatio);
+        float ySource = getYSource(y, destTop, srcTop, heightRatio);
+
+        // Get the horizontal and vertical pixels to use, one more in each
+        // direction than bilinear
+        CoverageDataSourcePixel sourcePixelX = getXSourceMinAndMax(xSource);
+        CoverageDataSourcePixel sourcePixelY = getYSourceMinAndMax(ySource);
+
+        double value = Double.NaN;
+        if (populateValues(tile, leftLastColumns, topLeftRows, topRows,
+                sourcePixelX.getMin() - 1, sourcePixelX.getMax() + 1,
+                sourcePixelY.getMin() - 1, sourcePixelY.getMax() + 1, values)) {
+
+            // Interpolate each row and then the row results
+            value = CoverageDataUtils.getBicubicInterpolationValue(values,
+                    sourcePixelX.getOffset(), sourcePixelY.getOffset());
+        }
+
+        return value;
+    }
+
+    /**
+     * Populate the source values from the decoded tile and the overlapping
+     * values of neighboring tiles
+     *
+     * @param tile            decoded coverage data tile
+     * @param leftLastColumns last columns of the tile to the left
+     * @param topLeftRows     last rows of the tile to the top left
+     * @param topRows         last rows of the tile to the top
+     * @param minX            min x coordinate
+     * @param maxX            max x coordinate
+     * @param minY            min y coordinate
+     * @param maxY            max y coordinate
+     * @param values          values to populate
+     * @return true if all values were populated
+     */
+    private boolean populateValues(CoverageDataTile tile,
+                                   double[][] leftLastColumns, double[][] topLeftRows,
+                                   double[][] topRows, int minX, int maxX, int minY, int maxY,
+                                   double[][] values) {
+
+        boolean populated = true;
+
+        for (int yLocation = maxY; populated && yLocation >= minY; yLocation--) {
+            for (int xLocation = maxX; populated && xLocation >= minX; xLocation--) {
+                double value = getValueOverBorders(tile, leftLastColumns,
+                        topLeftRows, topRows, xLocation, yLocation);
+                if (Double.isNaN(value)) {
+                    populated = false;
+                } else {
+                    values[yLocation - minY][xLocation - minX] = value;
+                }
+            }
+        }
+
+        return populated;
+    }
+
+    /**
+     * Get the coverage data value from the decoded tile or the overlapping
+     * values of neighboring tiles when the coordinate is before the tile
+     *
+     * @param tile            decoded coverage data tile
+     * @param leftLastColumns last columns of the tile to the left
+     * @param topLeftRows     last rows of the tile to the top left
+     * @param topRows         last rows of the tile to the top
+     * @param x               x coordinate, negative for neighboring tiles
+     * @param y               y coordinate, negative for neighboring tiles
+     * @return coverage data value or {@link Double#NaN}
+     */
+    private double getValueOverBorders(CoverageDataTile tile,
+                                       double[][] leftLastColumns, double[][] topLeftRows,
+                                       double[][] topRows, int x, int y) {
+
+        double value = Double.NaN;
+
+        // Only handle locations in the current tile, to the left, top left, or
+        // top tiles. Tiles are processed sorted by rows and then columns.
+        if (x < tile.getWidth() && y < tile.getHeight()) {
+
+            if (x >= 0 && y >= 0) {
+                value = tile.getValue(x, y);
+            } else if (x < 0 && y < 0) {
+                // Try to get the coverage data value from the top left tile values
+                if (topLeftRows != null) {
+                    int row = (-1 * y) - 1;
+                    if (row < topLeftRows.length) {
+                        int column = x + topLeftRows[row].length;
+                        if (column >= 0) {
+                            value = topLeftRows[row][column];
+                        }
+                    }
+                }
+            } else if (x < 0) {
+                // Try to get the coverage data value from the left tile values
+                if (leftLastColumns != null) {
+                    int column = (-1 * x) - 1;
+                    if (column < leftLastColumns.length) {
+                        int row = y;
+                        if (row < leftLastColumns[column].length) {
+                            value = leftLastColumns[column][row];
+                        }
+                    }
+                }
+            } else {
+                // Try to get the coverage data value from the top tile values
+                if (topRows != null) {
+                    int row = (-1 * y) - 1;
+                    if (row < topRows.length) {
+                        int column = x;
+                        if (column < topRows[row].length) {
+                            value = topRows[row][column];
+                        }
+                    }
+                }
+            }
+
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the tile matrix for the zoom level as defined by the area of the
+     * request
+     *
+     * @param request coverage data request
+     * @return tile matrix or null
+     */
+    private TileMatrix getTileMatrix(CoverageDataRequest request) {
+
+        TileMatrix tileMatrix = null;
+
+        // Check if the request overlaps coverage data bounding box
+        if (request.overlap(coverageBoundingBox) != null) {
+
+            // Get the tile distance
+            BoundingBox projectedBoundingBox = request
+                    .getProjectedBoundingBox();
+            double distanceWidth = projectedBoundingBox.getMaxLongitude()
+                    - projectedBoundingBox.getMinLongitude();
+            double distanceHeight = projectedBoundingBox.getMaxLatitude()
+                    - projectedBoundingBox.getMinLatitude();
+
+            // Get the zoom level to request based upon the tile size
+            Long zoomLevel = tileDao.getClosestZoomLevel(distanceWidth,
+                    distanceHeight);
+
+            // If there is a matching zoom level
+            if (zoomLevel != null) {
+                tileMatrix = tileDao.getTileMatrix(zoomLevel);
+            }
+        }
+
+        return tileMatrix;
+    }
+
+    /**
+     * Get the tile row results of coverage data tiles needed to create the
+     * requested bounding box coverage data, sorted by row and then column
+     *
+     * @param projectedRequestBoundingBox bounding box projected to the coverage data
+     * @param tileMatrix                  tile matrix
+     * @return tile results or null
+     */
+    private TileCursor retrieveSortedTileResults(
+            BoundingBox projectedRequestBoundingBox, TileMatrix tileMatrix) {
+
+        TileCursor tileResults = null;
+
+        if (tileMatrix != null) {
+
+            // Get the tile grid
+            TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
+                    coverageBoundingBox, tileMatrix.getMatrixWidth(),
+                    tileMatrix.getMatrixHeight(), projectedRequestBoundingBox);
+
+            // Query for matching tiles in the tile grid
+            tileResults = tileDao.queryByTileGrid(tileGrid,
+                    tileMatrix.getZoomLevel(), TileTable.COLUMN_TILE_ROW + ","
+                            + TileTable.COLUMN_TILE_COLUMN);
+
+        }
+
+        return tileResults;
+    }
+
+    /**
+     * Get the coverage data value of the pixel in the tile row image
+     *
+     * @param tileRow tile row
+     * @param x       x coordinate
+     * @param y       y coordinate
+     * @return coverage data value
+     */
+    public double getValue(TileRow tileRow, int x, int y) {
+        GriddedTile griddedTile = getGriddedTile(tileRow.getId());
+        double value = getValue(griddedTile, tileRow, x, y);
+        return value;
+    }
+
+    /**
+     * Get the number of overlapping pixels to store based upon the algorithm
+     *
+     * @return overlapping pixels
+     */
+    private int getOverlappingPixels() {
+        int overlappingPixels;
+        switch (algorithm) {
+            case BICUBIC:
+                overlappingPixels = 3;
+                break;
+            default:
+                overlappingPixels = 1;
+        }
+        return overlappingPixels;
+    }
+
+    /**
+     * Get the tile grid of the padded request within the tile matrix, matching
+     * the tiles queried for a request
+     *
+     * @param requestProjectedBoundingBox request projected bounding box
+     * @param tileMatrix                  tile matrix
+     * @param overlappingPixels           overlapping request pixels
+     * @return tile grid
+     */
+    private TileGrid getTileGrid(BoundingBox requestProjectedBoundingBox,
+                                 TileMatrix tileMatrix, int overlappingPixels) {
+        BoundingBox paddedBoundingBox = padBoundingBox(tileMatrix,
+                requestProjectedBoundingBox, overlappingPixels);
+        return TileBoundingBoxUtils.getTileGrid(coverageBoundingBox,
+                tileMatrix.getMatrixWidth(), tileMatrix.getMatrixHeight(),
+                paddedBoundingBox);
+    }
+
+    /**
+     * Get the tile matrix of a point request with tiles, zooming in or out as
+     * needed from the provided tile matrix, matching the tile matrix queried
+     * for a request
+     *
+     * @param requestProjectedBoundingBox request projected bounding box
+     * @param tileMatrix                  tile matrix
+     * @param overlappingPixels           overlapping request pixels
+     * @return tile matrix or null
+     */
+    private TileMatrix getPointTileMatrix(
+            BoundingBox requestProjectedBoundingBox, TileMatrix tileMatrix,
+            int overlappingPixels) {
+
+        TileMatrix pointTileMatrix = null;
+
+        if (hasTiles(requestProjectedBoundingBox, tileMatrix,
+                overlappingPixels)) {
+            pointTileMatrix = tileMatrix;
+        } else {
+            if (zoomIn && zoomInBeforeOut) {
+                pointTileMatrix = getPointTileMatrixZoom(
+                        requestProjectedBoundingBox, tileMatrix,
+                        overlappingPixels, true);
+            }
+            if (pointTileMatrix == null && zoomOut) {
+                pointTileMatrix = getPointTileMatrixZoom(
+                        requestProjectedBoundingBox, tileMatrix,
+                        overlappingPixels, false);
+            }
+            if (pointTileMatrix == null && zoomIn && !zoomInBeforeOut) {
+                pointTileMatrix = getPointTileMatrixZoom(
+                        requestProjectedBoundingBox, tileMatrix,
+                        overlappingPixels, true);
+            }
+        }
+
+        return pointTileMatrix;
+    }
+
+    /**
+     * Get the tile matrix of a point request with tiles by zooming in or out
+     * from the provided tile matrix
+     *
+     * @param requestProjectedBoundingBox request projected bounding box
+     * @param tileMatrix                  tile matrix
+     * @param overlappingPixels           overlapping request pixels
+     * @param zoomIn                      true to zoom in, false to zoom out
+     * @return tile matrix or null
+     */
+    private TileMatrix getPointTileMatrixZoom(
+            BoundingBox requestProjectedBoundingBox, TileMatrix tileMatrix,
+            int overlappingPixels, boolean zoomIn) {
+
+        TileMatrix zoomTileMatrix = null;
+
+        long step = zoomIn ? 1 : -1;
+        for (long zoomLevel = tileMatrix.getZoomLevel() + step; zoomTileMatrix == null
+                && zoomLevel >= tileDao.getMinZoom()
+                && zoomLevel <= tileDao.getMaxZoom(); zoomLevel += step) {
+            TileMatrix zoomLevelTileMatrix = tileDao.getTileMatrix(zoomLevel);
+            if (zoomLevelTileMatrix != null
+                    && hasTiles(requestProjectedBoundingBox,
+                    zoomLevelTileMatrix, overlappingPixels)) {
+                zoomTileMatrix = zoomLevelTileMatrix;
+            }
+        }
+
+        return zoomTileMatrix;
+    }
+
+    /**
+     * Check if the tile matrix has tiles within the padded request
+     *
+     * @param requestProjectedBoundingBox request projected bounding box
+     * @param tileMatrix                  tile matrix
+     * @param overlappingPixels           overlapping request pixels
+     * @return true if has tiles
+     */
+    private boolean hasTiles(BoundingBox requestProjectedBoundingBox,
+                             TileMatrix tileMatrix, int overlappingPixels) {
+        TileExistenceIndex existenceIndex = tileDao.getTileExistenceIndex();
+        return existenceIndex.hasTiles(getTileGrid(
+                requestProjectedBoundingBox, tileMatrix, overlappingPixels),
+                tileMatrix.getZoomLevel());
+    }
+
+    /**
+     * Get the coverage data values of the points within the range of point
+     * groups
+     *
+     * @param groups            point groups
+     * @param fromGroup         from group index, inclusive
+     * @param toGroup           to group index, exclusive
+     * @param requests          point requests
+     * @param overlappingPixels overlapping request pixels
+     * @param cache             decoded tile cache
+     * @param values            point values to set
+     */
+    private void getPointValues(List<PointGroup> groups, int fromGroup,
+                                int toGroup, CoverageDataRequest[] requests,
+                                int overlappingPixels, CoverageDataTileCache cache,
+                                double[] values) {
+
+        for (int groupIndex = fromGroup; groupIndex < toGroup; groupIndex++) {
+
+            PointGroup group = groups.get(groupIndex);
+            long zoomLevel = group.tileMatrix.getZoomLevel();
+
+            // Get the decoded tiles sorted by rows and then columns
+            List<long[]> tileIds = queryTileIds(group.tileGrid, zoomLevel);
+            List<long[]> tilePositions = new ArrayList<>();
+            List<CoverageDataTile> tiles = new ArrayList<>();
+            for (long[] tileId : tileIds) {
+                CoverageDataTile tile = getTile(tileId[0], null, cache);
+                if (tile != null) {
+                    tilePositions.add(tileId);
+                    tiles.add(tile);
+                }
+            }
+
+            // Interpolate each point from the tiles
+            for (int i = 0; i < group.size; i++) {
+                int index = group.indices[i];
+                TileValues tileValues = new TileValues(group.tileMatrix,
+                        requests[index], 1, 1, overlappingPixels);
+                for (int tile = 0; tile < tiles.size(); tile++) {
+                    long[] tilePosition = tilePositions.get(tile);
+                    tileValues.add(tilePosition[1], tilePosition[2],
+                            tiles.get(tile), tile == tiles.size() - 1);
+                }
+                double[] pointValues = tileValues.getValues();
+                if (pointValues != null) {
+                    values[index] = pointValues[0];
+                }
+            }
+        }
+    }
+
+    /**
+     * Query the tile ids, columns, and rows within the tile grid, sorted by
+     * rows and then columns
+     *
+     * @param tileGrid  tile grid
+     * @param zoomLevel zoom level
+     * @return tile id, column, and row arrays
+     */
+    private List<long[]> queryTileIds(TileGrid tileGrid, long zoomLevel) {
+
+        String column = CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN);
+        String row = CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW);
+        String sql = "SELECT "
+                + CoreSQLUtils.quoteWrap(tileDao.getTable().getPkColumnName())
+                + ", " + column + ", " + row + " FROM "
+                + CoreSQLUtils.quoteWrap(tileDao.getTableName()) + " WHERE "
+                + CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL)
+                + " = ? AND " + column + " >= ? AND " + column + " <= ? AND "
+                + row + " >= ? AND " + row + " <= ? ORDER BY " + row + ", "
+                + column;
+        String[] args = new String[]{String.valueOf(zoomLevel),
+                String.valueOf(tileGrid.getMinX()),
+                String.valueOf(tileGrid.getMaxX()),
+                String.valueOf(tileGrid.getMinY()),
+                String.valueOf(tileGrid.getMaxY())};
+
+        List<long[]> tileIds = new ArrayList<>();
+        Cursor cursor = tileDao.getDb().rawQuery(sql, args);
+        try {
+            while (cursor.moveToNext()) {
+                tileIds.add(new long[]{cursor.getLong(0), cursor.getLong(1),
+                        cursor.getLong(2)});
+            }
+        } finally {
+            cursor.close();
+        }
+
+        return tileIds;
+    }
+
+    /**
+     * Points sharing a tile matrix and covering tile grid
+     */
+    private static class PointGroup {
+
+        /**
+         * Tile matrix
+         */
+        private final TileMatrix tileMatrix;
+
+        /**
+         * Covering tile grid
+         */
+        private final TileGrid tileGrid;
+
+        /**
+         * Point indices
+         */
+        private int[] indices = new int[4];
+
+        /**
+         * Number of points
+         */
+        private int size = 0;
+
+        /**
+         * Constructor
+         *
+         * @param tileMatrix tile matrix
+         * @param tileGrid   covering tile grid
+         */
+        private PointGroup(TileMatrix tileMatrix, TileGrid tileGrid) {
+            this.tileMatrix = tileMatrix;
+            this.tileGrid = tileGrid;
+        }
+
+        /**
+         * Add a point
+         *
+         * @param index point index
+         */
+        private void add(int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+    }
+
+    /**
+     * Coverage data values of a request scaled to the provided dimensions,
+     * built from decoded tiles added in order by rows and then columns
+     */
+    private class TileValues {
+
+        /**
+         * Tile matrix
+         */
+        private final TileMatrix tileMatrix;
+
+        /**
+         * Coverage data request
+         */
+        private final CoverageDataRequest request;
+
+        /**
+         * Tile width
+         */
+        private final int tileWidth;
+
+        /**
+         * Tile height
+         */
+        private final int tileHeight;
+
+        /**
+         * Overlapping request pixels
+         */
+        private final int overlappingPixels;
+
+        /**
+         * Reused source values of the interpolation algorithms
+         */
+        private final double[][] sourceValues;
+
+        /**
+         * Coverage data values of length tileWidth * tileHeight
+         */
+        private double[] values = null;
+
+        /**
+         * Last column coverage data values of the tile to the left
+         */
+        private double[][] leftLastColumns = null;
+
+        /**
+         * Last rows of the tiles in the current row by column
+         */
+        private Map<Long, double[][]> lastRowsByColumn = null;
+
+        /**
+         * Last rows of the tiles in the row above by column
+         */
+        private Map<Long, double[][]> previousLastRowsByColumn = null;
+
+        /**
+         * Previous tile row
+         */
+        private long previousRow = -1;
+
+        /**
+         * Previous tile column
+         */
+        private long previousColumn = Long.MAX_VALUE;
+
+        /**
+         * Constructor
+         *
+         * @param tileMatrix        tile matrix
+         * @param request           coverage data request
+         * @param tileWidth         tile width
+         * @param tileHeight        tile height
+         * @param overlappingPixels overlapping request pixels
+         */
+        private TileValues(TileMatrix tileMatrix, CoverageDataRequest request,
+                           int tileWidth, int tileHeight, int overlappingPixels) {
+            this.tileMatrix = tileMatrix;
+            this.request = request;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.overlappingPixels = overlappingPixels;
+            switch (algorithm) {
+                case BILINEAR:
+                    sourceValues = new double[2][2];
+                    break;
+                case BICUBIC:
+                    sourceValues = new double[4][4];
+                    break;
+                default:
+                    sourceValues = null;
+            }
+        }
+
+        /**
+         * Get the coverage data values
+         *
+         * @return coverage data values of length tileWidth * tileHeight or null
+         */
+        private double[] getValues() {
+            return values;
+        }
+
+        /**
+         * Add the next decoded coverage data tile
+         *
+         * @param currentColumn tile column
+         * @param currentRow    tile row
+         * @param tile          decoded coverage data tile
+         * @param lastTile      true if no more tiles follow
+         */
+        private void add(long currentColumn, long currentRow,
+                         CoverageDataTile tile, boolean lastTile) {
+
+            // If the row has changed, save off the previous last rows and begin
+            // tracking this row. Clear the left last columns.
+            if (currentRow > previousRow) {
+                previousLastRowsByColumn = lastRowsByColumn;
+                lastRowsByColumn = new HashMap<Long, double[][]>();
+                leftLastColumns = null;
+            }
+
+            // If there was a previous row, retrieve the top left and top
+            // overlapping rows
+            double[][] topLeftRows = null;
+            double[][] topRows = null;
+            if (previousLastRowsByColumn != null) {
+                topLeftRows = previousLastRowsByColumn.get(currentColumn - 1);
+                topRows = previousLastRowsByColumn.get(currentColumn);
+            }
+
+            // If the current column is not the column after the previous clear
+            // the left values
+            if (currentColumn < previousColumn
+                    || currentColumn != previousColumn + 1) {
+                leftLastColumns = null;
+            }
+
+            // Get the bounding box of the coverage data
+            BoundingBox tileBoundingBox = TileBoundingBoxUtils
+                    .getBoundingBox(coverageBoundingBox, tileMatrix,
+                            currentColumn, currentRow);
+
+            // Get the bounding box where the request and coverage data tile overlap
+            BoundingBox overlap = request.overlap(tileBoundingBox);
+
+            // If the tile overlaps with the requested box
             if (overlap != null) {
 
                 // Get the rectangle of the tile coverage data with matching values
@@ -654,7 +2111,8 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
 
                     // Create the coverage data array first time through
                     if (values == null) {
-                        values = new Double[tileHeight][tileWidth];
+                        values = new double[tileHeight * tileWidth];
+                        Arrays.fill(values, Double.NaN);
                     }
 
                     // Get the destination widths
@@ -709,15 +2167,16 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
                     for (int y = minDestY; y <= maxDestY; y++) {
                         for (int x = minDestX; x <= maxDestX; x++) {
 
-                            if (values[y][x] == null) {
+                            int index = y * tileWidth + x;
+                            if (Double.isNaN(values[index])) {
 
                                 // Determine the coverage data based upon the
                                 // selected algorithm
-                                Double value = null;
+                                double value;
                                 switch (algorithm) {
                                     case NEAREST_NEIGHBOR:
                                         value = getNearestNeighborValue(
-                                                griddedTile, image, leftLastColumns,
+                                                tile, leftLastColumns,
                                                 topLeftRows, topRows, y, x, widthRatio,
                                                 heightRatio, dest.top,
                                                 dest.left, src.top,
@@ -725,16 +2184,18 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
                                         break;
                                     case BILINEAR:
                                         value = getBilinearInterpolationValue(
-                                                griddedTile, image, leftLastColumns,
-                                                topLeftRows, topRows, y, x, widthRatio,
+                                                tile, leftLastColumns,
+                                                topLeftRows, topRows, sourceValues,
+                                                y, x, widthRatio,
                                                 heightRatio, dest.top,
                                                 dest.left, src.top,
                                                 src.left);
                                         break;
                                     case BICUBIC:
                                         value = getBicubicInterpolationValue(
-                                                griddedTile, image, leftLastColumns,
-                                                topLeftRows, topRows, y, x, widthRatio,
+                                                tile, leftLastColumns,
+                                                topLeftRows, topRows, sourceValues,
+                                                y, x, widthRatio,
                                                 heightRatio, dest.top,
                                                 dest.left, src.top,
                                                 src.left);
@@ -745,9 +2206,7 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
                                                         + algorithm);
                                 }
 
-                                if (value != null) {
-                                    values[y][x] = value;
-                                }
+                                values[index] = value;
 
                             }
                         }
@@ -756,32 +2215,35 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
                 }
             }
 
-            // Determine and store the coverage data values of the last columns and rows
-            leftLastColumns = new Double[overlappingPixels][(int) tileMatrix
-                    .getTileHeight()];
-            Double[][] lastRows = new Double[overlappingPixels][(int) tileMatrix
-                    .getTileWidth()];
-            lastRowsByColumn.put(currentColumn, lastRows);
-
-            // For each overlapping pixel
-            for (int lastIndex = 0; lastIndex < overlappingPixels; lastIndex++) {
+            // Determine and store the coverage data values of the last columns
+            // and rows when more tiles follow
+            if (!lastTile) {
+
+                leftLastColumns = new double[overlappingPixels][(int) tileMatrix
+                        .getTileHeight()];
+                double[][] lastRows = new double[overlappingPixels][(int) tileMatrix
+                        .getTileWidth()];
+                lastRowsByColumn.put(currentColumn, lastRows);
+
+                // For each overlapping pixel
+                for (int lastIndex = 0; lastIndex < overlappingPixels; lastIndex++) {
+
+                    // Store the last column row coverage data values
+                    int lastColumnIndex = (int) tileMatrix.getTileWidth()
+                            - lastIndex - 1;
+                    for (int row = 0; row < tileMatrix.getTileHeight(); row++) {
+                        leftLastColumns[lastIndex][row] = tile.getValue(
+                                lastColumnIndex, row);
+                    }
 
-                // Store the last column row coverage data values
-                int lastColumnIndex = (int) tileMatrix.getTileWidth()
-                        - lastIndex - 1;
-                for (int row = 0; row < tileMatrix.getTileHeight(); row++) {
-                    Double value = getValue(griddedTile, image,
-                            lastColumnIndex, row);
-                    leftLastColumns[lastIndex][row] = value;
-                }
+                    // Store the last row column coverage data values
+                    int lastRowIndex = (int) tileMatrix.getTileHeight() - lastIndex
+                            - 1;
+                    for (int column = 0; column < tileMatrix.getTileWidth(); column++) {
+                        lastRows[lastIndex][column] = tile.getValue(column,
+                                lastRowIndex);
+                    }
 
-                // Store the last row column coverage data values
-                int lastRowIndex = (int) tileMatrix.getTileHeight() - lastIndex
-                        - 1;
-                for (int column = 0; column < tileMatrix.getTileWidth(); column++) {
-                    Double value = getValue(griddedTile, image,
-                            column, lastRowIndex);
-                    lastRows[lastIndex][column] = value;
                 }
 
             }
@@ -791,200 +2253,6 @@ public abstract class CoverageData<TImage extends CoverageDataImage> extends Cov
             previousColumn = currentColumn;
         }
 
-        return values;
-    }
-
-    /**
-     * Get the coverage data values from the tile results unbounded in result size
-     *
-     * @param tileMatrix  tile matrix
-     * @param tileResults tile results
-     * @param request     coverage data request
-     * @return coverage data values
-     */
-    private Double[][] getValuesUnbounded(TileMatrix tileMatrix,
-                                          TileCursor tileResults, CoverageDataRequest request) {
-
-        // Build a map of rows to maps of columns and values
-        Map<Long, Map<Long, Double[][]>> rowsMap = new TreeMap<>();
-
-        // Track the min and max row and column
-        Long minRow = null;
-        Long maxRow = null;
-        Long minColumn = null;
-        Long maxColumn = null;
-
-        // Track count of tiles involved in the results
-        int tileCount = 0;
-
-        // Process each coverage data tile row
-        while (tileResults.moveToNext()) {
-
-            // Get the next coverage data tile
-            TileRow tileRow = tileResults.getRow();
-
-            // Get the bounding box of the coverage data
-            BoundingBox tileBoundingBox = TileBoundingBoxUtils.getBoundingBox(
-                    coverageBoundingBox, tileMatrix, tileRow.getTileColumn(),
-                    tileRow.getTileRow());
-
-            // Get the bounding box where the request and coverage data tile overlap
-            BoundingBox overlap = request.overlap(tileBoundingBox);
-
-            // If the coverage data tile overlaps with the requested box
-            if (overlap != null) {
-
-                // Get the rectangle of the tile coverage data with matching values
-                Rect src = TileBoundingBoxAndroidUtils.getRectangle(
-                        tileMatrix.getTileWidth(), tileMatrix.getTileHeight(),
-                        tileBoundingBox, overlap);
-
-                if (TileBoundingBoxAndroidUtils.isValidAllowEmpty(src)) {
-
-                    // Get the source dimensions
-                    int srcTop = Math.min(src.top,
-                            (int) tileMatrix.getTileHeight() - 1);
-                    int srcBottom = Math.min(src.bottom,
-                            (int) tileMatrix.getTileHeight() - 1);
-                    int srcLeft = Math.min(src.left,
-                            (int) tileMatrix.getTileWidth() - 1);
-                    int srcRight = Math.min(src.right,
-                            (int) tileMatrix.getTileWidth() - 1);
-
-                    // Get the gridded tile value for the tile
-                    GriddedTile griddedTile = getGriddedTile(tileRow.getId());
-
-                    // Get the coverage data tile image
-                    TImage image = createImage(tileRow);
-
-                    // Create the coverage data results for this tile
-                    Double[][] values = new Double[srcBottom - srcTop + 1][srcRight
-                            - srcLeft + 1];
-
-                    // Get or add the columns map to the rows map
-                    Map<Long, Double[][]> columnsMap = rowsMap.get(tileRow
-                            .getTileRow());
-                    if (columnsMap == null) {
-                        columnsMap = new TreeMap<Long, Double[][]>();
-                        rowsMap.put(tileRow.getTileRow(), columnsMap);
-                    }
-
-                    // Read and set the coverage data values
-                    for (int y = srcTop; y <= srcBottom; y++) {
-
-                        for (int x = srcLeft; x <= srcRight; x++) {
-
-                            // Get the coverage data value from the source pixel
-                            Double value = getValue(griddedTile,
-                                    image, x, y);
-
-                            values[y - srcTop][x - srcLeft] = value;
-                        }
-                    }
-
-                    // Set the coverage data values in the results map
-                    columnsMap.put(tileRow.getTileColumn(), values);
-
-                    // Increase the contributing tiles count
-                    tileCount++;
-
-                    // Track the min and max row and column
-                    minRow = minRow == null ? tileRow.getTileRow() : Math.min(
-                            minRow, tileRow.getTileRow());
-                    maxRow = maxRow == null ? tileRow.getTileRow() : Math.max(
-                            maxRow, tileRow.getTileRow());
-                    minColumn = minColumn == null ? tileRow.getTileColumn()
-                            : Math.min(minColumn, tileRow.getTileColumn());
-                    maxColumn = maxColumn == null ? tileRow.getTileColumn()
-                            : Math.max(maxColumn, tileRow.getTileColumn());
-                }
-            }
-        }
-
-        // Handle formatting the results
-        Double[][] values = formatUnboundedResults(tileMatrix, rowsMap,
-                tileCount, minRow, maxRow, minColumn, maxColumn);
-
-        return values;
-    }
-
-    /**
-     * Get the tile matrix for the zoom level as defined by the area of the
-     * request
-     *
-     * @param request coverage data request
-     * @return tile matrix or null
-     */
-    private TileMatrix getTileMatrix(CoverageDataRequest request) {
-
-        TileMatrix tileMatrix = null;
-
-        // Check if the request overlaps coverage data bounding box
-        if (request.overlap(coverageBoundingBox) != null) {
-
-            // Get the tile distance
-            BoundingBox projectedBoundingBox = request
-                    .getProjectedBoundingBox();
-            double distanceWidth = projectedBoundingBox.getMaxLongitude()
-                    - projectedBoundingBox.getMinLongitude();
-            double distanceHeight = projectedBoundingBox.getMaxLatitude()
-                    - projectedBoundingBox.getMinLatitude();
-
-            // Get the zoom level to request based upon the tile size
-            Long zoomLevel = tileDao.getClosestZoomLevel(distanceWidth,
-                    distanceHeight);
-
-            // If there is a matching zoom level
-            if (zoomLevel != null) {
-                tileMatrix = tileDao.getTileMatrix(zoomLevel);
-            }
-        }
-
-        return tileMatrix;
-    }
-
-    /**
-     * Get the tile row results of coverage data tiles needed to create the
-     * requested bounding box coverage data, sorted by row and then column
-     *
-     * @param projectedRequestBoundingBox bounding box projected to the coverage data
-     * @param tileMatrix                  tile matrix
-     * @return tile results or null
-     */
-    private TileCursor retrieveSortedTileResults(
-            BoundingBox projectedRequestBoundingBox, TileMatrix tileMatrix) {
-
-        TileCursor tileResults = null;
-
-        if (tileMatrix != null) {
-
-            // Get the tile grid
-            TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
-                    coverageBoundingBox, tileMatrix.getMatrixWidth(),
-                    tileMatrix.getMatrixHeight(), projectedRequestBoundingBox);
-
-            // Query for matching tiles in the tile grid
-            tileResults = tileDao.queryByTileGrid(tileGrid,
-                    tileMatrix.getZoomLevel(), TileTable.COLUMN_TILE_ROW + ","
-                            + TileTable.COLUMN_TILE_COLUMN);
-
-        }
-
-        return tileResults;
-    }
-
-    /**
-     * Get the coverage data value of the pixel in the tile row image
-     *
-     * @param tileRow tile row
-     * @param x       x coordinate
-     * @param y       y coordinate
-     * @return coverage data value
-     */
-    public double getValue(TileRow tileRow, int x, int y) {
-        GriddedTile griddedTile = getGriddedTile(tileRow.getId());
-        double value = getValue(griddedTile, tileRow, x, y);
-        return value;
     }
 
 }
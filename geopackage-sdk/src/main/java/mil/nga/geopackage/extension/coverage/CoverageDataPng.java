@@ -96,6 +96,29 @@ public class CoverageDataPng extends CoverageData<CoverageDataPngImage> {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double[] readValues(GriddedTile griddedTile,
+                                  CoverageDataPngImage image) {
+        double[] values;
+        if (image.getReader() != null) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            values = new double[width * height];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    values[y * width + x] = getDoubleValue(griddedTile,
+                            image.getPixel(x, y));
+                }
+            }
+        } else {
+            values = super.readValues(griddedTile, image);
+        }
+        return values;
+    }
+
     /**
      * Get the pixel value as a 16 bit unsigned integer value
      *
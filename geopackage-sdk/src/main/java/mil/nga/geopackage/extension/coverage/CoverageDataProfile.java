@@ -0,0 +1,94 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Coverage data profile of samples along a polyline, with {@link Double#NaN}
+ * values where no data
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class CoverageDataProfile {
+
+    /**
+     * Sample latitudes in the request projection
+     */
+    private final double[] latitudes;
+
+    /**
+     * Sample longitudes in the request projection
+     */
+    private final double[] longitudes;
+
+    /**
+     * Sample distances along the polyline in the request projection units
+     */
+    private final double[] distances;
+
+    /**
+     * Sample coverage data values
+     */
+    private final double[] values;
+
+    /**
+     * Constructor
+     *
+     * @param latitudes  sample latitudes
+     * @param longitudes sample longitudes
+     * @param distances  sample distances along the polyline
+     * @param values     sample coverage data values
+     */
+    public CoverageDataProfile(double[] latitudes, double[] longitudes,
+                               double[] distances, double[] values) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.distances = distances;
+        this.values = values;
+    }
+
+    /**
+     * Get the number of samples
+     *
+     * @return samples
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Get the sample latitudes in the request projection
+     *
+     * @return latitudes
+     */
+    public double[] getLatitudes() {
+        return latitudes;
+    }
+
+    /**
+     * Get the sample longitudes in the request projection
+     *
+     * @return longitudes
+     */
+    public double[] getLongitudes() {
+        return longitudes;
+    }
+
+    /**
+     * Get the sample distances along the polyline in the request projection
+     * units
+     *
+     * @return distances
+     */
+    public double[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * Get the sample coverage data values
+     *
+     * @return values, {@link Double#NaN} where no data
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+}
@@ -104,6 +104,29 @@ public class CoverageDataTiff extends CoverageData<CoverageDataTiffImage> {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double[] readValues(GriddedTile griddedTile,
+                                  CoverageDataTiffImage image) {
+        double[] values;
+        if (image.getDirectory() != null) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            values = new double[width * height];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    values[y * width + x] = getDoubleValue(griddedTile,
+                            image.getPixel(x, y));
+                }
+            }
+        } else {
+            values = super.readValues(griddedTile, image);
+        }
+        return values;
+    }
+
     /**
      * Get the pixel value as a float from the image and the coordinate
      *
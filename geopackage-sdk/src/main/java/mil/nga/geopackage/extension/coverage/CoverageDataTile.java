@@ -0,0 +1,112 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Decoded coverage data tile of the gridded tile and primitive coverage data
+ * values, with {@link Double#NaN} values where no data
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class CoverageDataTile {
+
+    /**
+     * Gridded tile
+     */
+    private final GriddedTile griddedTile;
+
+    /**
+     * Tile width
+     */
+    private final int width;
+
+    /**
+     * Tile height
+     */
+    private final int height;
+
+    /**
+     * Coverage data values of length width * height where each value is at:
+     * (y * width) + x
+     */
+    private final double[] values;
+
+    /**
+     * Constructor
+     *
+     * @param griddedTile gridded tile
+     * @param width       tile width
+     * @param height      tile height
+     * @param values      coverage data values of length width * height
+     */
+    public CoverageDataTile(GriddedTile griddedTile, int width, int height,
+                            double[] values) {
+        if (values.length != width * height) {
+            throw new IllegalArgumentException(
+                    "Coverage data values length of " + values.length
+                            + " does not match width " + width
+                            + " and height " + height);
+        }
+        this.griddedTile = griddedTile;
+        this.width = width;
+        this.height = height;
+        this.values = values;
+    }
+
+    /**
+     * Get the gridded tile
+     *
+     * @return gridded tile
+     */
+    public GriddedTile getGriddedTile() {
+        return griddedTile;
+    }
+
+    /**
+     * Get the tile width
+     *
+     * @return width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the tile height
+     *
+     * @return height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the coverage data values of length width * height where each value
+     * is at: (y * width) + x
+     *
+     * @return coverage data values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Get the coverage data value at the coordinate
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     * @return coverage data value or {@link Double#NaN} if no data
+     */
+    public double getValue(int x, int y) {
+        return values[y * width + x];
+    }
+
+    /**
+     * Get the approximate memory size of the decoded values in bytes
+     *
+     * @return bytes
+     */
+    public int getBytes() {
+        return values.length * 8;
+    }
+
+}
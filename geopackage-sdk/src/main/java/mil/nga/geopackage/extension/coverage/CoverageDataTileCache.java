@@ -0,0 +1,167 @@
+package mil.nga.geopackage.extension.coverage;
+
+import android.util.LruCache;
+
+import java.util.Map;
+
+/**
+ * Cache of decoded coverage data tiles of a single coverage data tile table,
+ * keyed by tile id and bounded by decoded value bytes. Clear the cache when
+ * the coverage data tiles or gridded tiles are modified.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class CoverageDataTileCache {
+
+    /**
+     * Default max decoded value bytes to retain in the cache
+     */
+    public static final int DEFAULT_CACHE_BYTES = 8 * 1024 * 1024;
+
+    /**
+     * Decoded tile cache
+     */
+    private LruCache<Long, CoverageDataTile> cache;
+
+    /**
+     * Decoded tile count
+     */
+    private int decodeCount = 0;
+
+    /**
+     * Cache hit count
+     */
+    private int hitCount = 0;
+
+    /**
+     * Constructor, created with max bytes of {@link #DEFAULT_CACHE_BYTES}
+     */
+    public CoverageDataTileCache() {
+        this(DEFAULT_CACHE_BYTES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxBytes max decoded value bytes to retain in the cache
+     */
+    public CoverageDataTileCache(int maxBytes) {
+        cache = createCache(maxBytes);
+    }
+
+    /**
+     * Get the cached decoded tile
+     *
+     * @param tileId tile id
+     * @return decoded tile or null if not cached
+     */
+    public synchronized CoverageDataTile get(long tileId) {
+        CoverageDataTile tile = cache.get(tileId);
+        if (tile != null) {
+            hitCount++;
+        }
+        return tile;
+    }
+
+    /**
+     * Cache a decoded tile
+     *
+     * @param tileId tile id
+     * @param tile   decoded tile
+     */
+    public synchronized void put(long tileId, CoverageDataTile tile) {
+        decodeCount++;
+        cache.put(tileId, tile);
+    }
+
+    /**
+     * Remove a cached decoded tile
+     *
+     * @param tileId tile id
+     * @return removed decoded tile or null
+     */
+    public synchronized CoverageDataTile remove(long tileId) {
+        return cache.remove(tileId);
+    }
+
+    /**
+     * Get the number of decoded tiles
+     *
+     * @return decode count
+     */
+    public synchronized int getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Get the number of cache hits
+     *
+     * @return hit count
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the decoded value bytes in the cache
+     *
+     * @return bytes
+     */
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Get the max decoded value bytes to retain in the cache
+     *
+     * @return max bytes
+     */
+    public synchronized int getMaxSize() {
+        return cache.maxSize();
+    }
+
+    /**
+     * Clear the cache
+     */
+    public synchronized void clear() {
+        cache.evictAll();
+    }
+
+    /**
+     * Resize the cache, retaining the most recently used tiles that fit
+     *
+     * @param maxBytes max decoded value bytes
+     */
+    public synchronized void resize(int maxBytes) {
+        // LruCache resize requires API 21, copy the entries from least to
+        // most recently used into a new cache
+        LruCache<Long, CoverageDataTile> resized = createCache(maxBytes);
+        for (Map.Entry<Long, CoverageDataTile> entry : cache.snapshot()
+                .entrySet()) {
+            resized.put(entry.getKey(), entry.getValue());
+        }
+        cache = resized;
+    }
+
+    /**
+     * Create a decoded tile cache bounded by decoded value bytes
+     *
+     * @param maxBytes max decoded value bytes
+     * @return decoded tile cache
+     */
+    private static LruCache<Long, CoverageDataTile> createCache(int maxBytes) {
+        return new LruCache<Long, CoverageDataTile>(maxBytes) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected int sizeOf(Long key, CoverageDataTile value) {
+                return value.getBytes();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,137 @@
+package mil.nga.geopackage.extension.coverage;
+
+/**
+ * Coverage data pixel value conversion and interpolation utilities, free of
+ * Android and database dependencies
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class CoverageDataUtils {
+
+    /**
+     * Convert the pixel value to a coverage data value by applying the gridded
+     * tile and gridded coverage scale and offset for integer coverage data
+     *
+     * @param griddedCoverage gridded coverage
+     * @param griddedTile     gridded tile
+     * @param pixelValue      pixel value
+     * @return coverage data value
+     */
+    public static double getValue(GriddedCoverage griddedCoverage,
+                                  GriddedTile griddedTile, double pixelValue) {
+        double value = pixelValue;
+        if (griddedCoverage != null
+                && griddedCoverage.getDataType() == GriddedCoverageDataType.INTEGER) {
+            if (griddedTile != null) {
+                value *= griddedTile.getScale();
+                value += griddedTile.getOffset();
+            }
+            value *= griddedCoverage.getScale();
+            value += griddedCoverage.getOffset();
+        }
+        return value;
+    }
+
+    /**
+     * Get the bilinear interpolation coverage data value
+     *
+     * @param offsetX     x source pixel offset
+     * @param offsetY     y source pixel offset
+     * @param minX        min x value
+     * @param maxX        max x value
+     * @param minY        min y value
+     * @param maxY        max y value
+     * @param topLeft     top left coverage value
+     * @param topRight    top right coverage value
+     * @param bottomLeft  bottom left coverage value
+     * @param bottomRight bottom right coverage value
+     * @return coverage data value
+     */
+    public static double getBilinearInterpolationValue(float offsetX,
+                                                       float offsetY, float minX, float maxX, float minY, float maxY,
+                                                       double topLeft, double topRight, double bottomLeft,
+                                                       double bottomRight) {
+
+        double topRow;
+        double bottomRow;
+        float diffX = maxX - minX;
+        if (diffX == 0) {
+            topRow = topLeft;
+            bottomRow = bottomLeft;
+        } else {
+            float diffLeft = offsetX;
+            float diffRight = diffX - offsetX;
+            topRow = ((diffRight / diffX) * topLeft)
+                    + ((diffLeft / diffX) * topRight);
+            bottomRow = ((diffRight / diffX) * bottomLeft)
+                    + ((diffLeft / diffX) * bottomRight);
+        }
+
+        double value;
+        float diffY = maxY - minY;
+        if (diffY == 0) {
+            value = topRow;
+        } else {
+            float diffTop = offsetY;
+            float diffBottom = diffY - offsetY;
+            value = ((diffBottom / diffY) * topRow)
+                    + ((diffTop / diffY) * bottomRow);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the bicubic interpolation coverage data value of 4 x 4 values
+     *
+     * @param values  4 x 4 coverage data values
+     * @param offsetX x offset between the middle two columns
+     * @param offsetY y offset between the middle two rows
+     * @return coverage data value
+     */
+    public static double getBicubicInterpolationValue(double[][] values,
+                                                      double offsetX, double offsetY) {
+        return getCubicInterpolationValue(
+                getCubicInterpolationValue(values[0], offsetX),
+                getCubicInterpolationValue(values[1], offsetX),
+                getCubicInterpolationValue(values[2], offsetX),
+                getCubicInterpolationValue(values[3], offsetX), offsetY);
+    }
+
+    /**
+     * Interpolate 4 values using the offset between value1 and value2
+     *
+     * @param values 4 coverage data values
+     * @param offset offset between the middle two values
+     * @return coverage data value
+     */
+    public static double getCubicInterpolationValue(double[] values,
+                                                    double offset) {
+        return getCubicInterpolationValue(values[0], values[1], values[2],
+                values[3], offset);
+    }
+
+    /**
+     * Interpolate 4 values using the offset between value1 and value2
+     *
+     * @param value0 index 0 value
+     * @param value1 index 1 value
+     * @param value2 index 2 value
+     * @param value3 index 3 value
+     * @param offset offset between the middle two values
+     * @return coverage data value
+     */
+    public static double getCubicInterpolationValue(double value0,
+                                                    double value1, double value2, double value3, double offset) {
+
+        double coefficient0 = 2 * value1;
+        double coefficient1 = value2 - value0;
+        double coefficient2 = 2 * value0 - 5 * value1 + 4 * value2 - value3;
+        double coefficient3 = -value0 + 3 * value1 - 3 * value2 + value3;
+
+        return (coefficient3 * offset * offset * offset + coefficient2
+                * offset * offset + coefficient1 * offset + coefficient0) / 2;
+    }
+
+}
@@ -0,0 +1,146 @@
+package mil.nga.geopackage.extension.coverage;
+
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+
+/**
+ * Coverage data results as primitive coverage data values, with
+ * {@link Double#NaN} values where no data
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class CoverageDataValues {
+
+    /**
+     * Coverage data values of length width * height where each value is at:
+     * (y * width) + x
+     */
+    private final double[] values;
+
+    /**
+     * Results width
+     */
+    private final int width;
+
+    /**
+     * Results height
+     */
+    private final int height;
+
+    /**
+     * Tile matrix used
+     */
+    private final TileMatrix tileMatrix;
+
+    /**
+     * Constructor
+     *
+     * @param values     coverage data values of length width * height
+     * @param width      results width
+     * @param height     results height
+     * @param tileMatrix tile matrix
+     */
+    public CoverageDataValues(double[] values, int width, int height,
+                              TileMatrix tileMatrix) {
+        if (values.length != width * height) {
+            throw new IllegalArgumentException(
+                    "Coverage data values length of " + values.length
+                            + " does not match width " + width
+                            + " and height " + height);
+        }
+        this.values = values;
+        this.width = width;
+        this.height = height;
+        this.tileMatrix = tileMatrix;
+    }
+
+    /**
+     * Get the coverage data values of length width * height where each value
+     * is at: (y * width) + x
+     *
+     * @return coverage data values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Get the results width
+     *
+     * @return width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the results height
+     *
+     * @return height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the tile matrix
+     *
+     * @return tile matrix
+     */
+    public TileMatrix getTileMatrix() {
+        return tileMatrix;
+    }
+
+    /**
+     * Get the zoom level of the results
+     *
+     * @return zoom level
+     */
+    public long getZoomLevel() {
+        return tileMatrix.getZoomLevel();
+    }
+
+    /**
+     * Get the coverage data value at the row and column
+     *
+     * @param row    row index
+     * @param column column index
+     * @return coverage data value or {@link Double#NaN} if no data
+     */
+    public double getValue(int row, int column) {
+        return values[row * width + column];
+    }
+
+    /**
+     * Check if there is a coverage data value at the row and column
+     *
+     * @param row    row index
+     * @param column column index
+     * @return true if a value
+     */
+    public boolean hasValue(int row, int column) {
+        return !Double.isNaN(getValue(row, column));
+    }
+
+    /**
+     * Get the coverage data results as boxed coverage data values, with null
+     * values where no data
+     *
+     * @return coverage data results
+     */
+    public CoverageDataResults toResults() {
+        Double[][] boxedValues = new Double[height][width];
+        for (int y = 0; y < height; y++) {
+            Double[] rowValues = boxedValues[y];
+            int index = y * width;
+            for (int x = 0; x < width; x++) {
+                double value = values[index + x];
+                if (!Double.isNaN(value)) {
+                    rowValues[x] = value;
+                }
+            }
+        }
+        return new CoverageDataResults(boxedValues, tileMatrix);
+    }
+
+}
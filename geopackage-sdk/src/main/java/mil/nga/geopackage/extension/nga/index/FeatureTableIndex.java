@@ -6,16 +6,20 @@ import com.j256.ormlite.misc.TransactionManager;
 import com.j256.ormlite.support.ConnectionSource;
 
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.features.user.FeatureColumn;
 import mil.nga.geopackage.features.user.FeatureCursor;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.features.user.FeatureRow;
 import mil.nga.geopackage.features.user.FeatureRowSync;
+import mil.nga.geopackage.features.user.FeatureTable;
+import mil.nga.geopackage.user.UserChunkIterator;
 import mil.nga.proj.Projection;
 import mil.nga.sf.GeometryEnvelope;
 
@@ -111,14 +115,14 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
 
         int count = 0;
 
-        long offset = 0;
         int chunkCount = 0;
 
         String[] columns = featureDao.getIdAndGeometryColumnNames();
 
-        while (chunkCount >= 0) {
+        final UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                .queryForChunks(columns, chunkLimit);
 
-            final long chunkOffset = offset;
+        while (chunkCount >= 0 && chunks.hasNext()) {
 
             try {
                 // Iterate through each row and index as a single transaction
@@ -128,7 +132,7 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
                         new Callable<Integer>() {
                             public Integer call() throws Exception {
 
-                                FeatureCursor cursor = featureDao.queryForChunk(columns, chunkLimit, chunkOffset);
+                                FeatureCursor cursor = chunks.next();
                                 int count = indexRows(tableIndex, cursor);
 
                                 return count;
@@ -143,7 +147,6 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
                         e);
             }
 
-            offset += chunkLimit;
         }
 
         // Update the last indexed time
@@ -165,6 +168,8 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
 
         int count = -1;
 
+        GeometryIndexDao geometryIndexDao = getGeometryIndexDao();
+
         try {
             while ((progress == null || progress.isActive())
                     && cursor.moveToNext()) {
@@ -172,10 +177,10 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
                     count++;
                 }
                 try {
-                    FeatureRow row = cursor.getRow();
-                    if (row.isValid()) {
-                        boolean indexed = index(tableIndex,
-                                row.getId(), row.getGeometry());
+                    GeometryEnvelope envelope = cursor.getGeometryEnvelope();
+                    if (cursor.hasId()) {
+                        boolean indexed = index(geometryIndexDao, tableIndex,
+                                cursor.getId(), envelope);
                         if (indexed) {
                             count++;
                         }
@@ -195,6 +200,37 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
         return count;
     }
 
+    /**
+     * Index the geometry envelope
+     *
+     * @param geometryIndexDao geometry index dao
+     * @param tableIndex       table index
+     * @param geomId           geometry id
+     * @param envelope         geometry envelope
+     * @return true if indexed
+     */
+    private boolean index(GeometryIndexDao geometryIndexDao,
+                          TableIndex tableIndex, long geomId, GeometryEnvelope envelope) {
+
+        boolean indexed = false;
+
+        if (envelope != null) {
+            GeometryIndex geometryIndex = geometryIndexDao.populate(tableIndex,
+                    geomId, envelope);
+            try {
+                geometryIndexDao.createOrUpdate(geometryIndex);
+                indexed = true;
+            } catch (SQLException e) {
+                throw new GeoPackageException(
+                        "Failed to create or update Geometry Index. GeoPackage: "
+                                + getGeoPackage().getName() + ", Table Name: "
+                                + getTableName() + ", Geom Id: " + geomId, e);
+            }
+        }
+
+        return indexed;
+    }
+
     /**
      * Delete the index for the feature row
      *
@@ -229,6 +265,17 @@ public class FeatureTableIndex extends FeatureTableCoreIndex {
         return row;
     }
 
+    /**
+     * Get the feature rows for the geometry ids, queried in batches of ids
+     *
+     * @param geomIds geometry ids
+     * @return feature row iterator, with null rows for missing features
+     * @since 6.4.1
+     */
+    public Iterator<FeatureRow> getFeatureRows(Iterator<Long> geomIds) {
+        return featureDao.queryForIdRows(geomIds);
+    }
+
     /**
      * Query for all Features
      *
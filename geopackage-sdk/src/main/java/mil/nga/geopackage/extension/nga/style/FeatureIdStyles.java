@@ -0,0 +1,270 @@
+package mil.nga.geopackage.extension.nga.style;
+
+import java.util.Arrays;
+
+import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.sf.GeometryType;
+
+/**
+ * Feature styles and icons resolved in bulk for a set of feature ids of a
+ * feature table, held by primitive feature id. Features without styles or
+ * icons resolve to the table styles and icons, matching
+ * {@link FeatureTableStyles#getFeatureStyle(long, GeometryType)} without
+ * further queries.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class FeatureIdStyles {
+
+    /**
+     * Feature table styles
+     */
+    private final FeatureTableStyles featureTableStyles;
+
+    /**
+     * Sorted feature ids with styles or icons
+     */
+    private long[] ids = new long[16];
+
+    /**
+     * Feature styles by id index
+     */
+    private Styles[] styles = new Styles[16];
+
+    /**
+     * Feature icons by id index
+     */
+    private Icons[] icons = new Icons[16];
+
+    /**
+     * Number of feature ids
+     */
+    private int size = 0;
+
+    /**
+     * Constructor
+     *
+     * @param featureTableStyles feature table styles
+     */
+    FeatureIdStyles(FeatureTableStyles featureTableStyles) {
+        this.featureTableStyles = featureTableStyles;
+    }
+
+    /**
+     * Get the feature table styles
+     *
+     * @return feature table styles
+     */
+    public FeatureTableStyles getFeatureTableStyles() {
+        return featureTableStyles;
+    }
+
+    /**
+     * Get the number of features with styles or icons
+     *
+     * @return feature count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the feature has styles or icons
+     *
+     * @param featureId feature id
+     * @return true if has styles or icons
+     */
+    public boolean has(long featureId) {
+        return index(featureId) >= 0;
+    }
+
+    /**
+     * Get the feature styles for the feature id
+     *
+     * @param featureId feature id
+     * @return styles or null
+     */
+    public Styles getStyles(long featureId) {
+        Styles featureStyles = null;
+        int index = index(featureId);
+        if (index >= 0) {
+            featureStyles = styles[index];
+        }
+        return featureStyles;
+    }
+
+    /**
+     * Get the feature icons for the feature id
+     *
+     * @param featureId feature id
+     * @return icons or null
+     */
+    public Icons getIcons(long featureId) {
+        Icons featureIcons = null;
+        int index = index(featureId);
+        if (index >= 0) {
+            featureIcons = icons[index];
+        }
+        return featureIcons;
+    }
+
+    /**
+     * Get the feature style (style and icon) of the feature row, searching in
+     * order: feature geometry type style or icon, feature default style or
+     * icon, table geometry type style or icon, table default style or icon
+     *
+     * @param featureRow feature row
+     * @return feature style
+     */
+    public FeatureStyle getFeatureStyle(FeatureRow featureRow) {
+        return getFeatureStyle(featureRow.getId(),
+                featureRow.getGeometryType());
+    }
+
+    /**
+     * Get the feature style (style and icon) of the feature, searching in
+     * order: feature geometry type style or icon, feature default style or
+     * icon, table geometry type style or icon, table default style or icon
+     *
+     * @param featureId    feature id
+     * @param geometryType geometry type
+     * @return feature style
+     */
+    public FeatureStyle getFeatureStyle(long featureId,
+                                        GeometryType geometryType) {
+
+        FeatureStyle featureStyle = null;
+
+        StyleRow style = getStyle(featureId, geometryType);
+        IconRow icon = getIcon(featureId, geometryType);
+
+        if (style != null || icon != null) {
+            featureStyle = new FeatureStyle(style, icon);
+        }
+
+        return featureStyle;
+    }
+
+    /**
+     * Get the style of the feature, searching in order: feature geometry type
+     * style, feature default style, table geometry type style, table default
+     * style
+     *
+     * @param featureId    feature id
+     * @param geometryType geometry type
+     * @return style row
+     */
+    public StyleRow getStyle(long featureId, GeometryType geometryType) {
+
+        StyleRow styleRow = null;
+
+        Styles featureStyles = getStyles(featureId);
+        if (featureStyles != null) {
+            styleRow = featureStyles.getStyle(geometryType);
+        }
+
+        if (styleRow == null) {
+
+            // Table Style
+            Styles tableStyles = featureTableStyles.getCachedTableStyles();
+            if (tableStyles != null) {
+                styleRow = tableStyles.getStyle(geometryType);
+            }
+
+        }
+
+        return styleRow;
+    }
+
+    /**
+     * Get the icon of the feature, searching in order: feature geometry type
+     * icon, feature default icon, table geometry type icon, table default icon
+     *
+     * @param featureId    feature id
+     * @param geometryType geometry type
+     * @return icon row
+     */
+    public IconRow getIcon(long featureId, GeometryType geometryType) {
+
+        IconRow iconRow = null;
+
+        Icons featureIcons = getIcons(featureId);
+        if (featureIcons != null) {
+            iconRow = featureIcons.getIcon(geometryType);
+        }
+
+        if (iconRow == null) {
+
+            // Table Icon
+            Icons tableIcons = featureTableStyles.getCachedTableIcons();
+            if (tableIcons != null) {
+                iconRow = tableIcons.getIcon(geometryType);
+            }
+
+        }
+
+        return iconRow;
+    }
+
+    /**
+     * Add a feature style, feature ids must be added in ascending order
+     *
+     * @param featureId    feature id
+     * @param styleRow     style row
+     * @param geometryType geometry type
+     */
+    void addStyle(long featureId, StyleRow styleRow,
+                  GeometryType geometryType) {
+        int index = add(featureId);
+        if (styles[index] == null) {
+            styles[index] = new Styles();
+        }
+        styles[index].setStyle(styleRow, geometryType);
+    }
+
+    /**
+     * Add a feature icon, feature ids must be added in ascending order
+     *
+     * @param featureId    feature id
+     * @param iconRow      icon row
+     * @param geometryType geometry type
+     */
+    void addIcon(long featureId, IconRow iconRow, GeometryType geometryType) {
+        int index = add(featureId);
+        if (icons[index] == null) {
+            icons[index] = new Icons();
+        }
+        icons[index].setIcon(iconRow, geometryType);
+    }
+
+    /**
+     * Add the feature id if not the last added id
+     *
+     * @param featureId feature id
+     * @return feature id index
+     */
+    private int add(long featureId) {
+        if (size == 0 || ids[size - 1] != featureId) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                styles = Arrays.copyOf(styles, capacity);
+                icons = Arrays.copyOf(icons, capacity);
+            }
+            ids[size++] = featureId;
+        }
+        return size - 1;
+    }
+
+    /**
+     * Get the index of the feature id
+     *
+     * @param featureId feature id
+     * @return index or negative value when not found
+     */
+    private int index(long featureId) {
+        return Arrays.binarySearch(ids, 0, size, featureId);
+    }
+
+}
@@ -1,15 +1,28 @@
 package mil.nga.geopackage.extension.nga.style;
 
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.attributes.AttributesRow;
 import mil.nga.geopackage.contents.Contents;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.FeatureIndexerIdQuery;
+import mil.nga.geopackage.extension.related.UserMappingTable;
 import mil.nga.geopackage.features.columns.GeometryColumns;
 import mil.nga.geopackage.features.user.FeatureRow;
 import mil.nga.geopackage.features.user.FeatureTable;
 import mil.nga.geopackage.style.PixelBounds;
+import mil.nga.geopackage.user.custom.UserCustomRow;
 import mil.nga.sf.GeometryType;
 
 /**
@@ -20,6 +33,12 @@ import mil.nga.sf.GeometryType;
  */
 public class FeatureTableStyles {
 
+    /**
+     * Max feature ids resolved per feature mapping query, limited by the
+     * query arguments of the style and icon mapping tables
+     */
+    private static final int MAX_FEATURE_ID_BATCH = 499;
+
     /**
      * Feature Styles
      */
@@ -35,6 +54,27 @@ public class FeatureTableStyles {
      */
     private final FeatureStyles cachedTableFeatureStyles = new FeatureStyles();
 
+    /**
+     * Cached style rows by id, for resolving feature id styles
+     */
+    private final Map<Long, StyleRow> cachedStyleRows = new HashMap<>();
+
+    /**
+     * Cached icon rows by id, for resolving feature id styles
+     */
+    private final Map<Long, IconRow> cachedIconRows = new HashMap<>();
+
+    /**
+     * Cached existing feature style and icon mapping table names, null
+     * entries when not existing
+     */
+    private String[] cachedFeatureMappingTables;
+
+    /**
+     * Cached feature id styles of all features
+     */
+    private FeatureIdStyles cachedFeatureIdStyles;
+
     /**
      * Constructor
      *
@@ -116,6 +156,7 @@ public class FeatureTableStyles {
      */
     public void createRelationships() {
         featureStyleExtension.createRelationships(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -133,6 +174,7 @@ public class FeatureTableStyles {
      */
     public void createStyleRelationship() {
         featureStyleExtension.createStyleRelationship(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -165,6 +207,7 @@ public class FeatureTableStyles {
      */
     public void createIconRelationship() {
         featureStyleExtension.createIconRelationship(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -198,6 +241,7 @@ public class FeatureTableStyles {
      */
     public void deleteRelationships() {
         featureStyleExtension.deleteRelationships(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -205,6 +249,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyleRelationship() {
         featureStyleExtension.deleteStyleRelationship(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -219,6 +264,7 @@ public class FeatureTableStyles {
      */
     public void deleteIconRelationship() {
         featureStyleExtension.deleteIconRelationship(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -808,6 +854,7 @@ public class FeatureTableStyles {
     public void setFeatureStyles(FeatureRow featureRow,
                                  FeatureStyles featureStyles) {
         featureStyleExtension.setFeatureStyles(featureRow, featureStyles);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -819,6 +866,7 @@ public class FeatureTableStyles {
     public void setFeatureStyles(long featureId, FeatureStyles featureStyles) {
         featureStyleExtension.setFeatureStyles(tableName, featureId,
                 featureStyles);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -829,6 +877,7 @@ public class FeatureTableStyles {
      */
     public void setFeatureStyle(FeatureRow featureRow, FeatureStyle featureStyle) {
         featureStyleExtension.setFeatureStyle(featureRow, featureStyle);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -843,6 +892,7 @@ public class FeatureTableStyles {
                                 GeometryType geometryType, FeatureStyle featureStyle) {
         featureStyleExtension.setFeatureStyle(featureRow, geometryType,
                 featureStyle);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -854,6 +904,7 @@ public class FeatureTableStyles {
     public void setFeatureStyleDefault(FeatureRow featureRow,
                                        FeatureStyle featureStyle) {
         featureStyleExtension.setFeatureStyleDefault(featureRow, featureStyle);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -867,6 +918,7 @@ public class FeatureTableStyles {
                                 FeatureStyle featureStyle) {
         featureStyleExtension.setFeatureStyle(tableName, featureId,
                 geometryType, featureStyle);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -878,6 +930,7 @@ public class FeatureTableStyles {
     public void setFeatureStyleDefault(long featureId, FeatureStyle featureStyle) {
         featureStyleExtension.setFeatureStyleDefault(tableName, featureId,
                 featureStyle);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -888,6 +941,7 @@ public class FeatureTableStyles {
      */
     public void setStyles(FeatureRow featureRow, Styles styles) {
         featureStyleExtension.setStyles(featureRow, styles);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -898,6 +952,7 @@ public class FeatureTableStyles {
      */
     public void setStyles(long featureId, Styles styles) {
         featureStyleExtension.setStyles(tableName, featureId, styles);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -908,6 +963,7 @@ public class FeatureTableStyles {
      */
     public void setStyle(FeatureRow featureRow, StyleRow style) {
         featureStyleExtension.setStyle(featureRow, style);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -920,6 +976,7 @@ public class FeatureTableStyles {
     public void setStyle(FeatureRow featureRow, GeometryType geometryType,
                          StyleRow style) {
         featureStyleExtension.setStyle(featureRow, geometryType, style);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -930,6 +987,7 @@ public class FeatureTableStyles {
      */
     public void setStyleDefault(FeatureRow featureRow, StyleRow style) {
         featureStyleExtension.setStyleDefault(featureRow, style);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -943,6 +1001,7 @@ public class FeatureTableStyles {
                          StyleRow style) {
         featureStyleExtension.setStyle(tableName, featureId, geometryType,
                 style);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -953,6 +1012,7 @@ public class FeatureTableStyles {
      */
     public void setStyleDefault(long featureId, StyleRow style) {
         featureStyleExtension.setStyleDefault(tableName, featureId, style);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -963,6 +1023,7 @@ public class FeatureTableStyles {
      */
     public void setIcons(FeatureRow featureRow, Icons icons) {
         featureStyleExtension.setIcons(featureRow, icons);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -973,6 +1034,7 @@ public class FeatureTableStyles {
      */
     public void setIcons(long featureId, Icons icons) {
         featureStyleExtension.setIcons(tableName, featureId, icons);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -983,6 +1045,7 @@ public class FeatureTableStyles {
      */
     public void setIcon(FeatureRow featureRow, IconRow icon) {
         featureStyleExtension.setIcon(featureRow, icon);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -995,6 +1058,7 @@ public class FeatureTableStyles {
     public void setIcon(FeatureRow featureRow, GeometryType geometryType,
                         IconRow icon) {
         featureStyleExtension.setIcon(featureRow, geometryType, icon);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1005,6 +1069,7 @@ public class FeatureTableStyles {
      */
     public void setIconDefault(FeatureRow featureRow, IconRow icon) {
         featureStyleExtension.setIconDefault(featureRow, icon);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1017,6 +1082,7 @@ public class FeatureTableStyles {
      */
     public void setIcon(long featureId, GeometryType geometryType, IconRow icon) {
         featureStyleExtension.setIcon(tableName, featureId, geometryType, icon);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1027,6 +1093,7 @@ public class FeatureTableStyles {
      */
     public void setIconDefault(long featureId, IconRow icon) {
         featureStyleExtension.setIconDefault(tableName, featureId, icon);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1035,6 +1102,7 @@ public class FeatureTableStyles {
      */
     public void deleteAllFeatureStyles() {
         featureStyleExtension.deleteAllFeatureStyles(tableName);
+        clearCachedFeatureIdStyles();
         clearCachedTableFeatureStyles();
     }
 
@@ -1043,6 +1111,7 @@ public class FeatureTableStyles {
      */
     public void deleteAllStyles() {
         featureStyleExtension.deleteAllStyles(tableName);
+        clearCachedFeatureIdStyles();
         clearCachedTableStyles();
     }
 
@@ -1051,6 +1120,7 @@ public class FeatureTableStyles {
      */
     public void deleteAllIcons() {
         featureStyleExtension.deleteAllIcons(tableName);
+        clearCachedFeatureIdStyles();
         clearCachedTableIcons();
     }
 
@@ -1142,11 +1212,297 @@ public class FeatureTableStyles {
         }
     }
 
+    /**
+     * Clear the cached feature id styles and the style and icon rows cached
+     * for resolving feature id styles. Call after modifying feature styles,
+     * icons, or style and icon rows outside of this feature table styles.
+     *
+     * @since 6.4.1
+     */
+    public void clearCachedFeatureIdStyles() {
+        synchronized (cachedStyleRows) {
+            cachedStyleRows.clear();
+            cachedIconRows.clear();
+            cachedFeatureMappingTables = null;
+            cachedFeatureIdStyles = null;
+        }
+    }
+
+    /**
+     * Get the cached feature id styles of all features in the table,
+     * resolving and caching if needed
+     *
+     * @return cached feature id styles
+     * @since 6.4.1
+     */
+    public FeatureIdStyles getCachedFeatureIdStyles() {
+        synchronized (cachedStyleRows) {
+            if (cachedFeatureIdStyles == null) {
+                cachedFeatureIdStyles = getFeatureIdStyles();
+            }
+            return cachedFeatureIdStyles;
+        }
+    }
+
+    /**
+     * Resolve the feature styles and icons of all features in the table with
+     * a single style and icon mapping query. Intended for small tables or
+     * tables rendered repeatedly.
+     *
+     * @return feature id styles
+     * @since 6.4.1
+     */
+    public FeatureIdStyles getFeatureIdStyles() {
+        FeatureIdStyles featureIdStyles = new FeatureIdStyles(this);
+        synchronized (cachedStyleRows) {
+            queryFeatureIdStyles(featureIdStyles, null, null);
+        }
+        return featureIdStyles;
+    }
+
+    /**
+     * Resolve the feature styles and icons of the feature ids, such as the
+     * features of a tile, with a single style and icon mapping query per
+     * batch of ids. Style and icon rows are queried once and cached.
+     *
+     * @param featureIds feature ids
+     * @return feature id styles
+     * @since 6.4.1
+     */
+    public FeatureIdStyles getFeatureIdStyles(long... featureIds) {
+
+        FeatureIdStyles featureIdStyles = new FeatureIdStyles(this);
+
+        long[] ids = Arrays.copyOf(featureIds, featureIds.length);
+        Arrays.sort(ids);
+
+        synchronized (cachedStyleRows) {
+            for (int start = 0; start < ids.length; start += MAX_FEATURE_ID_BATCH) {
+                int end = Math.min(start + MAX_FEATURE_ID_BATCH, ids.length);
+                FeatureIndexerIdQuery idQuery = new FeatureIndexerIdQuery(
+                        end - start);
+                for (int i = start; i < end; i++) {
+                    idQuery.addArgument(ids[i]);
+                }
+                queryFeatureIdStyles(featureIdStyles,
+                        idQuery.getWhere(UserMappingTable.COLUMN_BASE_ID),
+                        idQuery.getWhereArgs());
+            }
+        }
+
+        return featureIdStyles;
+    }
+
+    /**
+     * Count the feature style and icon mappings of the table
+     *
+     * @return feature mapping count
+     * @since 6.4.1
+     */
+    public int countFeatureMappings() {
+        int count = 0;
+        GeoPackage geoPackage = featureStyleExtension.getGeoPackage();
+        synchronized (cachedStyleRows) {
+            for (String mappingTable : getFeatureMappingTables()) {
+                if (mappingTable != null) {
+                    Cursor cursor = geoPackage.rawQuery("SELECT COUNT(*) FROM "
+                            + CoreSQLUtils.quoteWrap(mappingTable), null);
+                    try {
+                        if (cursor.moveToNext()) {
+                            count += cursor.getInt(0);
+                        }
+                    } finally {
+                        cursor.close();
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Query the feature style and icon mappings matching the where clause in
+     * a single query ordered by feature id and add them to the feature id
+     * styles
+     *
+     * @param featureIdStyles feature id styles
+     * @param where           base id where clause or null for all
+     * @param whereArgs       where arguments
+     */
+    private void queryFeatureIdStyles(FeatureIdStyles featureIdStyles,
+                                      String where, String[] whereArgs) {
+
+        String[] mappingTables = getFeatureMappingTables();
+
+        StringBuilder sql = new StringBuilder();
+        List<String> args = new ArrayList<>();
+        for (int type = 0; type < mappingTables.length; type++) {
+            if (mappingTables[type] != null) {
+                if (sql.length() > 0) {
+                    sql.append(" UNION ALL ");
+                }
+                sql.append("SELECT ").append(type).append(", ")
+                        .append(CoreSQLUtils.quoteWrap(UserMappingTable.COLUMN_BASE_ID))
+                        .append(", ")
+                        .append(CoreSQLUtils.quoteWrap(UserMappingTable.COLUMN_RELATED_ID))
+                        .append(", ")
+                        .append(CoreSQLUtils.quoteWrap(StyleMappingTable.COLUMN_GEOMETRY_TYPE_NAME))
+                        .append(" FROM ")
+                        .append(CoreSQLUtils.quoteWrap(mappingTables[type]));
+                if (where != null) {
+                    sql.append(" WHERE ").append(where);
+                    args.addAll(Arrays.asList(whereArgs));
+                }
+            }
+        }
+
+        if (sql.length() > 0) {
+
+            sql.append(" ORDER BY 2");
+
+            // Read the mappings, collecting uncached style and icon ids
+            int count = 0;
+            int[] types = new int[16];
+            long[] baseIds = new long[16];
+            long[] relatedIds = new long[16];
+            String[] geometryTypeNames = new String[16];
+            Set<Long> styleIds = new TreeSet<>();
+            Set<Long> iconIds = new TreeSet<>();
+
+            Cursor cursor = featureStyleExtension.getGeoPackage().rawQuery(
+                    sql.toString(), args.toArray(new String[0]));
+            try {
+                while (cursor.moveToNext()) {
+                    if (count == types.length) {
+                        int capacity = count * 2;
+                        types = Arrays.copyOf(types, capacity);
+                        baseIds = Arrays.copyOf(baseIds, capacity);
+                        relatedIds = Arrays.copyOf(relatedIds, capacity);
+                        geometryTypeNames = Arrays.copyOf(geometryTypeNames,
+                                capacity);
+                    }
+                    types[count] = cursor.getInt(0);
+                    baseIds[count] = cursor.getLong(1);
+                    relatedIds[count] = cursor.getLong(2);
+                    geometryTypeNames[count] = cursor.isNull(3) ? null
+                            : cursor.getString(3);
+                    if (types[count] == 0) {
+                        if (!cachedStyleRows.containsKey(relatedIds[count])) {
+                            styleIds.add(relatedIds[count]);
+                        }
+                    } else if (!cachedIconRows.containsKey(relatedIds[count])) {
+                        iconIds.add(relatedIds[count]);
+                    }
+                    count++;
+                }
+            } finally {
+                cursor.close();
+            }
+
+            cacheStyleRows(styleIds);
+            cacheIconRows(iconIds);
+
+            for (int i = 0; i < count; i++) {
+                GeometryType geometryType = null;
+                if (geometryTypeNames[i] != null) {
+                    geometryType = GeometryType.fromName(geometryTypeNames[i]);
+                }
+                if (types[i] == 0) {
+                    StyleRow styleRow = cachedStyleRows.get(relatedIds[i]);
+                    if (styleRow != null) {
+                        featureIdStyles.addStyle(baseIds[i], styleRow,
+                                geometryType);
+                    }
+                } else {
+                    IconRow iconRow = cachedIconRows.get(relatedIds[i]);
+                    if (iconRow != null) {
+                        featureIdStyles.addIcon(baseIds[i], iconRow,
+                                geometryType);
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Get the existing feature style and icon mapping table names, querying
+     * and caching if needed
+     *
+     * @return style and icon mapping table names, null when not existing
+     */
+    private String[] getFeatureMappingTables() {
+        if (cachedFeatureMappingTables == null) {
+            GeoPackage geoPackage = featureStyleExtension.getGeoPackage();
+            String[] mappingTables = new String[]{
+                    featureStyleExtension.getMappingTableName(
+                            FeatureStyleExtension.TABLE_MAPPING_STYLE, tableName),
+                    featureStyleExtension.getMappingTableName(
+                            FeatureStyleExtension.TABLE_MAPPING_ICON, tableName)};
+            for (int i = 0; i < mappingTables.length; i++) {
+                if (!geoPackage.isTableOrView(mappingTables[i])) {
+                    mappingTables[i] = null;
+                }
+            }
+            cachedFeatureMappingTables = mappingTables;
+        }
+        return cachedFeatureMappingTables;
+    }
+
+    /**
+     * Query and cache the style rows, with null rows for missing styles
+     *
+     * @param styleIds style ids
+     */
+    private void cacheStyleRows(Set<Long> styleIds) {
+        if (!styleIds.isEmpty()) {
+            StyleDao styleDao = featureStyleExtension.getStyleDao();
+            Iterator<Long> ids = styleIds.iterator();
+            if (styleDao != null) {
+                Iterator<AttributesRow> rows = styleDao.queryForIdRows(
+                        styleIds.iterator());
+                while (rows.hasNext()) {
+                    AttributesRow row = rows.next();
+                    cachedStyleRows.put(ids.next(),
+                            row != null ? styleDao.getRow(row) : null);
+                }
+            }
+            while (ids.hasNext()) {
+                cachedStyleRows.put(ids.next(), null);
+            }
+        }
+    }
+
+    /**
+     * Query and cache the icon rows, with null rows for missing icons
+     *
+     * @param iconIds icon ids
+     */
+    private void cacheIconRows(Set<Long> iconIds) {
+        if (!iconIds.isEmpty()) {
+            IconDao iconDao = featureStyleExtension.getIconDao();
+            Iterator<Long> ids = iconIds.iterator();
+            if (iconDao != null) {
+                Iterator<UserCustomRow> rows = iconDao.queryForIdRows(
+                        iconIds.iterator());
+                while (rows.hasNext()) {
+                    UserCustomRow row = rows.next();
+                    cachedIconRows.put(ids.next(),
+                            row != null ? iconDao.getRow(row) : null);
+                }
+            }
+            while (ids.hasNext()) {
+                cachedIconRows.put(ids.next(), null);
+            }
+        }
+    }
+
     /**
      * Delete all feature styles
      */
     public void deleteFeatureStyles() {
         featureStyleExtension.deleteFeatureStyles(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1154,6 +1510,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyles() {
         featureStyleExtension.deleteStyles(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1163,6 +1520,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyles(FeatureRow featureRow) {
         featureStyleExtension.deleteStyles(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1172,6 +1530,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyles(long featureId) {
         featureStyleExtension.deleteStyles(tableName, featureId);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1181,6 +1540,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyleDefault(FeatureRow featureRow) {
         featureStyleExtension.deleteStyleDefault(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1190,6 +1550,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyleDefault(long featureId) {
         featureStyleExtension.deleteStyleDefault(tableName, featureId);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1199,6 +1560,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyle(FeatureRow featureRow) {
         featureStyleExtension.deleteStyle(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1209,6 +1571,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyle(FeatureRow featureRow, GeometryType geometryType) {
         featureStyleExtension.deleteStyle(featureRow, geometryType);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1219,6 +1582,7 @@ public class FeatureTableStyles {
      */
     public void deleteStyle(long featureId, GeometryType geometryType) {
         featureStyleExtension.deleteStyle(tableName, featureId, geometryType);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1226,6 +1590,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcons() {
         featureStyleExtension.deleteIcons(tableName);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1235,6 +1600,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcons(FeatureRow featureRow) {
         featureStyleExtension.deleteIcons(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1244,6 +1610,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcons(long featureId) {
         featureStyleExtension.deleteIcons(tableName, featureId);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1253,6 +1620,7 @@ public class FeatureTableStyles {
      */
     public void deleteIconDefault(FeatureRow featureRow) {
         featureStyleExtension.deleteIconDefault(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1262,6 +1630,7 @@ public class FeatureTableStyles {
      */
     public void deleteIconDefault(long featureId) {
         featureStyleExtension.deleteIconDefault(tableName, featureId);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1271,6 +1640,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcon(FeatureRow featureRow) {
         featureStyleExtension.deleteIcon(featureRow);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1281,6 +1651,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcon(FeatureRow featureRow, GeometryType geometryType) {
         featureStyleExtension.deleteIcon(featureRow, geometryType);
+        clearCachedFeatureIdStyles();
     }
 
     /**
@@ -1291,6 +1662,7 @@ public class FeatureTableStyles {
      */
     public void deleteIcon(long featureId, GeometryType geometryType) {
         featureStyleExtension.deleteIcon(tableName, featureId, geometryType);
+        clearCachedFeatureIdStyles();
     }
 
     /**
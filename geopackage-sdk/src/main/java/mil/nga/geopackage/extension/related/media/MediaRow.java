@@ -3,9 +3,13 @@ package mil.nga.geopackage.extension.related.media;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import mil.nga.geopackage.io.BitmapConverter;
+import mil.nga.geopackage.io.GeoPackageIOUtils;
 import mil.nga.geopackage.user.custom.UserCustomColumn;
 import mil.nga.geopackage.user.custom.UserCustomRow;
 
@@ -157,6 +161,76 @@ public class MediaRow extends UserCustomRow {
         return BitmapConverter.toBitmap(getData(), options);
     }
 
+    /**
+     * Get a data input stream. Loaded data is streamed from memory, otherwise
+     * the data is lazily read in chunks from the media table.
+     *
+     * @param dao media dao
+     * @return data input stream, null if no data
+     * @since 6.4.1
+     */
+    public InputStream getDataStream(MediaDao dao) {
+        InputStream stream = null;
+        byte[] data = getData();
+        if (data != null) {
+            stream = new ByteArrayInputStream(data);
+        } else if (hasId()) {
+            stream = dao.openBlobStream(getId(), getDataColumn().getName());
+        }
+        return stream;
+    }
+
+    /**
+     * Get the data bitmap with decoding options, decoded from a data stream
+     * without materializing unloaded data bytes
+     *
+     * @param dao     media dao
+     * @param options bitmap options
+     * @return data bitmap, null if no data
+     * @since 6.4.1
+     */
+    public Bitmap getDataBitmap(MediaDao dao, BitmapFactory.Options options) {
+        Bitmap bitmap = null;
+        InputStream stream = getDataStream(dao);
+        if (stream != null) {
+            try {
+                bitmap = BitmapConverter.toBitmap(stream, options);
+            } finally {
+                GeoPackageIOUtils.closeQuietly(stream);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Copy the data to an output stream, without materializing unloaded data
+     * bytes
+     *
+     * @param dao    media dao
+     * @param stream output stream
+     * @return true if data was copied, false if no data
+     * @throws IOException upon failure
+     * @since 6.4.1
+     */
+    public boolean copyData(MediaDao dao, OutputStream stream)
+            throws IOException {
+        boolean copied = false;
+        InputStream dataStream = getDataStream(dao);
+        if (dataStream != null) {
+            try {
+                byte[] buffer = new byte[GeoPackageIOUtils.COPY_BUFFER_SIZE];
+                int length;
+                while ((length = dataStream.read(buffer)) != -1) {
+                    stream.write(buffer, 0, length);
+                }
+                copied = true;
+            } finally {
+                GeoPackageIOUtils.closeQuietly(dataStream);
+            }
+        }
+        return copied;
+    }
+
     /**
      * Set the data from a full quality bitmap
      *
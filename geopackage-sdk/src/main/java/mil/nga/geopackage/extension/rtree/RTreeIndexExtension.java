@@ -3,6 +3,7 @@ package mil.nga.geopackage.extension.rtree;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.db.GeoPackageConnection;
 import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.extension.Extensions;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.geom.GeoPackageGeometryData;
 import mil.nga.geopackage.user.custom.UserCustomDao;
@@ -13,6 +14,9 @@ import mil.nga.sf.GeometryEnvelope;
  * RTree Index Extension
  * TODO User defined functions that return values are not currently supported for Android
  * <p>
+ * The RTree Index is loaded and maintained in Java by the
+ * {@link RTreeIndexMaintainer} in place of the SQL functions and triggers.
+ * <p>
  * <a href="https://www.geopackage.org/spec/#extension_rtree">https://www.geopackage.org/spec/#extension_rtree</a>
  *
  * @author osbornb
@@ -75,6 +79,50 @@ public class RTreeIndexExtension extends RTreeIndexCoreExtension {
         return new RTreeIndexTableDao(this, userCustomDao, featureDao);
     }
 
+    /**
+     * {@inheritDoc}
+     * Creates and loads the RTree Index without the SQL functions and
+     * triggers, which are replaced by the {@link RTreeIndexMaintainer}
+     */
+    @Override
+    public Extensions create(String tableName, String geometryColumnName,
+                             String idColumnName) {
+
+        Extensions extension = getOrCreate(tableName, geometryColumnName);
+
+        createRTreeIndex(tableName, geometryColumnName);
+        loadRTreeIndex(tableName, geometryColumnName, idColumnName);
+
+        return extension;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Loads the RTree Index from envelopes read in Java
+     */
+    @Override
+    public void loadRTreeIndex(String tableName, String geometryColumnName,
+                               String idColumnName) {
+        FeatureDao featureDao = getGeoPackage().getFeatureDao(tableName);
+        getMaintainer(featureDao).load();
+    }
+
+    /**
+     * Get a RTree Index maintainer for the feature dao, the dao's maintainer
+     * when already set
+     *
+     * @param featureDao feature DAO
+     * @return RTree Index maintainer
+     * @since 6.4.1
+     */
+    public RTreeIndexMaintainer getMaintainer(FeatureDao featureDao) {
+        RTreeIndexMaintainer maintainer = featureDao.getRTreeIndexMaintainer();
+        if (maintainer == null) {
+            maintainer = new RTreeIndexMaintainer(this, featureDao);
+        }
+        return maintainer;
+    }
+
     /**
      * {@inheritDoc}
      */
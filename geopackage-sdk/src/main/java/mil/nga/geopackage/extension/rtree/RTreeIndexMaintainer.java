@@ -0,0 +1,430 @@
+package mil.nga.geopackage.extension.rtree;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageSQLiteDatabase;
+import mil.nga.geopackage.db.GeoPackageSQLiteStatement;
+import mil.nga.geopackage.features.user.FeatureColumn;
+import mil.nga.geopackage.features.user.FeatureCursor;
+import mil.nga.geopackage.features.user.FeatureDao;
+import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.geopackage.features.user.FeatureTable;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.geom.GeometryEnvelopeReader;
+import mil.nga.geopackage.io.GeoPackageProgress;
+import mil.nga.geopackage.user.UserChunkIterator;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * RTree Index Maintainer, populates and maintains the RTree Index virtual
+ * table of a feature table from geometry envelopes read in Java. Replaces the
+ * RTree Index extension triggers, which require user defined SQL functions
+ * that are not supported on Android.
+ * <p>
+ * RTree statements execute on the active connection of the feature DAO at
+ * the time of the write, so feature DAO writes and their RTree updates share
+ * the same connection and transactions. The connection choice of the feature
+ * DAO is left unchanged, the connection must support the SQLite RTree module.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class RTreeIndexMaintainer {
+
+    /**
+     * Feature DAO
+     */
+    private final FeatureDao featureDao;
+
+    /**
+     * RTree Index table name
+     */
+    private final String rTreeTableName;
+
+    /**
+     * RTree insert SQL
+     */
+    private final String insertSql;
+
+    /**
+     * RTree delete by id SQL
+     */
+    private final String deleteSql;
+
+    /**
+     * Progress
+     */
+    protected GeoPackageProgress progress;
+
+    /**
+     * Query single chunk limit
+     */
+    protected int chunkLimit = 1000;
+
+    /**
+     * Constructor
+     *
+     * @param rTree      RTree extension
+     * @param featureDao feature DAO
+     */
+    public RTreeIndexMaintainer(RTreeIndexExtension rTree,
+                                FeatureDao featureDao) {
+        this(featureDao, rTree.getRTreeTable(featureDao.getTable())
+                .getTableName());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param featureDao     feature DAO
+     * @param rTreeTableName RTree Index table name
+     */
+    public RTreeIndexMaintainer(FeatureDao featureDao, String rTreeTableName) {
+        this.featureDao = featureDao;
+        this.rTreeTableName = rTreeTableName;
+
+        String rTreeTable = CoreSQLUtils.quoteWrap(rTreeTableName);
+        insertSql = "INSERT INTO " + rTreeTable + " ("
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_ID) + ", "
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_MIN_X) + ", "
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_MAX_X) + ", "
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_MIN_Y) + ", "
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_MAX_Y)
+                + ") VALUES (?, ?, ?, ?, ?)";
+        deleteSql = "DELETE FROM " + rTreeTable + " WHERE "
+                + CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_ID)
+                + " = ?";
+    }
+
+    /**
+     * Get the feature DAO
+     *
+     * @return feature DAO
+     */
+    public FeatureDao getFeatureDao() {
+        return featureDao;
+    }
+
+    /**
+     * Get the RTree Index table name
+     *
+     * @return RTree Index table name
+     */
+    public String getRTreeTableName() {
+        return rTreeTableName;
+    }
+
+    /**
+     * Set the progress tracker
+     *
+     * @param progress progress tracker
+     */
+    public void setProgress(GeoPackageProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Get the SQL query chunk limit
+     *
+     * @return chunk limit
+     */
+    public int getChunkLimit() {
+        return chunkLimit;
+    }
+
+    /**
+     * Set the SQL query chunk limit
+     *
+     * @param chunkLimit chunk limit
+     */
+    public void setChunkLimit(int chunkLimit) {
+        this.chunkLimit = chunkLimit;
+    }
+
+    /**
+     * Load the RTree Index table from the feature table geometries, replacing
+     * any existing index rows, as a single transaction
+     *
+     * @return count of indexed geometries
+     */
+    public int load() {
+
+        int count = 0;
+
+        GeoPackageSQLiteDatabase db = getDb();
+
+        boolean successful = false;
+        featureDao.beginTransaction();
+        try {
+
+            db.execSQL("DELETE FROM "
+                    + CoreSQLUtils.quoteWrap(rTreeTableName));
+
+            GeoPackageSQLiteStatement statement = db.compileStatement(insertSql);
+            try {
+
+                double[] envelope = new double[4];
+
+                UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                        .queryForChunks(featureDao.getIdAndGeometryColumnNames(),
+                                chunkLimit);
+
+                while ((progress == null || progress.isActive())
+                        && chunks.hasNext()) {
+
+                    FeatureCursor cursor = chunks.next();
+                    try {
+                        while ((progress == null || progress.isActive())
+                                && cursor.moveToNext()) {
+                            if (cursor.getGeometryEnvelope(envelope)) {
+                                statement.bindLong(1, cursor.getId());
+                                statement.bindDouble(2,
+                                        envelope[GeometryEnvelopeReader.MIN_X]);
+                                statement.bindDouble(3,
+                                        envelope[GeometryEnvelopeReader.MAX_X]);
+                                statement.bindDouble(4,
+                                        envelope[GeometryEnvelopeReader.MIN_Y]);
+                                statement.bindDouble(5,
+                                        envelope[GeometryEnvelopeReader.MAX_Y]);
+                                statement.executeInsert();
+                                statement.clearBindings();
+                                count++;
+                            }
+                            if (progress != null) {
+                                progress.addProgress(1);
+                            }
+                        }
+                    } finally {
+                        cursor.close();
+                    }
+
+                }
+
+            } finally {
+                statement.close();
+            }
+
+            successful = progress == null || progress.isActive();
+
+        } catch (Exception e) {
+            throw new GeoPackageException(
+                    "Failed to load RTree Index. Feature Table: "
+                            + featureDao.getTableName() + ", RTree Table: "
+                            + rTreeTableName, e);
+        } finally {
+            featureDao.endTransaction(successful);
+        }
+
+        return count;
+    }
+
+    /**
+     * Index the feature row geometry, replacing any existing index row
+     *
+     * @param row feature row
+     * @return true if indexed
+     */
+    public boolean index(FeatureRow row) {
+        return index(row.getId(), row.getGeometry());
+    }
+
+    /**
+     * Index the geometry, replacing any existing index row
+     *
+     * @param id           feature id
+     * @param geometryData geometry data
+     * @return true if indexed
+     */
+    public boolean index(long id, GeoPackageGeometryData geometryData) {
+        GeometryEnvelope envelope = null;
+        if (geometryData != null && !geometryData.isEmpty()
+                && geometryData.getGeometry() != null) {
+            envelope = geometryData.getOrBuildEnvelope();
+        }
+        return index(id, envelope);
+    }
+
+    /**
+     * Index the geometry bytes, replacing any existing index row
+     *
+     * @param id            feature id
+     * @param geometryBytes GeoPackage geometry bytes
+     * @return true if indexed
+     */
+    public boolean index(long id, byte[] geometryBytes) {
+        return index(id, readEnvelope(geometryBytes));
+    }
+
+    /**
+     * Index the geometry envelope, replacing any existing index row
+     *
+     * @param id       feature id
+     * @param envelope geometry envelope, null to only remove the index row
+     * @return true if indexed
+     */
+    public boolean index(long id, GeometryEnvelope envelope) {
+        execute(deleteSql, new Object[]{id});
+        boolean indexed = envelope != null;
+        if (indexed) {
+            execute(insertSql, new Object[]{id, envelope.getMinX(),
+                    envelope.getMaxX(), envelope.getMinY(),
+                    envelope.getMaxY()});
+        }
+        return indexed;
+    }
+
+    /**
+     * Index the geometry bytes for all feature rows matching the where clause,
+     * replacing any existing index rows. Call before updating the matching
+     * rows to the geometry.
+     *
+     * @param geometryBytes GeoPackage geometry bytes
+     * @param where         where clause
+     * @param whereArgs     where arguments
+     */
+    public void index(byte[] geometryBytes, String where, String[] whereArgs) {
+
+        delete(where, whereArgs);
+
+        GeometryEnvelope envelope = readEnvelope(geometryBytes);
+        if (envelope != null) {
+            StringBuilder sql = new StringBuilder();
+            sql.append("INSERT INTO ");
+            sql.append(CoreSQLUtils.quoteWrap(rTreeTableName));
+            sql.append(" SELECT ");
+            sql.append(CoreSQLUtils.quoteWrap(featureDao.getPkColumnName()));
+            sql.append(", ?, ?, ?, ? FROM ");
+            sql.append(CoreSQLUtils.quoteWrap(featureDao.getTableName()));
+            appendWhere(sql, where);
+            execute(sql.toString(), bindArgs(new Object[]{
+                    envelope.getMinX(), envelope.getMaxX(),
+                    envelope.getMinY(), envelope.getMaxY()}, whereArgs));
+        }
+
+    }
+
+    /**
+     * Delete the index row for the feature id
+     *
+     * @param id feature id
+     */
+    public void delete(long id) {
+        execute(deleteSql, new Object[]{id});
+    }
+
+    /**
+     * Delete the index rows for the feature rows matching the where clause.
+     * Call before deleting the matching feature rows.
+     *
+     * @param where     where clause
+     * @param whereArgs where arguments
+     */
+    public void delete(String where, String[] whereArgs) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("DELETE FROM ");
+        sql.append(CoreSQLUtils.quoteWrap(rTreeTableName));
+        if (where != null) {
+            sql.append(" WHERE ");
+            sql.append(CoreSQLUtils.quoteWrap(RTreeIndexExtension.COLUMN_ID));
+            sql.append(" IN (SELECT ");
+            sql.append(CoreSQLUtils.quoteWrap(featureDao.getPkColumnName()));
+            sql.append(" FROM ");
+            sql.append(CoreSQLUtils.quoteWrap(featureDao.getTableName()));
+            appendWhere(sql, where);
+            sql.append(")");
+        }
+        execute(sql.toString(), bindArgs(new Object[0], whereArgs));
+    }
+
+    /**
+     * Read the envelope from the geometry bytes, decoding the geometry only
+     * when the envelope can not be read directly
+     *
+     * @param geometryBytes GeoPackage geometry bytes
+     * @return envelope or null
+     */
+    private static GeometryEnvelope readEnvelope(byte[] geometryBytes) {
+        GeometryEnvelope envelope = null;
+        if (geometryBytes != null) {
+            try {
+                envelope = GeometryEnvelopeReader.readEnvelope(geometryBytes);
+            } catch (GeoPackageException e) {
+                envelope = GeoPackageGeometryData.create(geometryBytes)
+                        .getOrBuildEnvelope();
+            }
+        }
+        return envelope;
+    }
+
+    /**
+     * Get the active connection of the feature DAO, used by its row writes
+     *
+     * @return active connection
+     */
+    private GeoPackageSQLiteDatabase getDb() {
+        return featureDao.getDatabaseConnection().getActive();
+    }
+
+    /**
+     * Execute the SQL statement with bind arguments on the active connection
+     * of the feature DAO
+     *
+     * @param sql  SQL statement
+     * @param args bind arguments
+     */
+    private void execute(String sql, Object[] args) {
+        GeoPackageSQLiteStatement statement = getDb().compileStatement(sql);
+        try {
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                int index = i + 1;
+                if (arg == null) {
+                    statement.bindNull(index);
+                } else if (arg instanceof Long) {
+                    statement.bindLong(index, (Long) arg);
+                } else if (arg instanceof Double) {
+                    statement.bindDouble(index, (Double) arg);
+                } else if (arg instanceof byte[]) {
+                    statement.bindBlob(index, (byte[]) arg);
+                } else {
+                    statement.bindString(index, arg.toString());
+                }
+            }
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * Append the where clause
+     *
+     * @param sql   SQL builder
+     * @param where where clause
+     */
+    private static void appendWhere(StringBuilder sql, String where) {
+        if (where != null) {
+            sql.append(" WHERE ");
+            sql.append(where);
+        }
+    }
+
+    /**
+     * Combine the bind arguments with the where arguments
+     *
+     * @param args      bind arguments
+     * @param whereArgs where arguments
+     * @return combined arguments
+     */
+    private static Object[] bindArgs(Object[] args, String[] whereArgs) {
+        Object[] bindArgs = args;
+        if (whereArgs != null && whereArgs.length > 0) {
+            bindArgs = new Object[args.length + whereArgs.length];
+            System.arraycopy(args, 0, bindArgs, 0, args.length);
+            System.arraycopy(whereArgs, 0, bindArgs, args.length,
+                    whereArgs.length);
+        }
+        return bindArgs;
+    }
+
+}
@@ -122,6 +122,45 @@ public class RTreeIndexTableDao extends UserCustomDao {
         rTree.delete(featureDao.getTable());
     }
 
+    /**
+     * Reload the RTree extension index rows from the feature table, bringing
+     * a stale RTree Index back in sync with the feature table
+     *
+     * @return count of indexed geometries
+     * @since 6.4.1
+     */
+    public int load() {
+        validateRTree();
+        RTreeIndexMaintainer maintainer = rTree.getMaintainer(featureDao);
+        maintainer.setProgress(progress);
+        try {
+            return maintainer.load();
+        } finally {
+            maintainer.setProgress(null);
+        }
+    }
+
+    /**
+     * Index the feature row, replacing any existing index row
+     *
+     * @param row feature row
+     * @return true if indexed
+     * @since 6.4.1
+     */
+    public boolean index(FeatureRow row) {
+        return rTree.getMaintainer(featureDao).index(row);
+    }
+
+    /**
+     * Delete the index row for the feature id
+     *
+     * @param geomId geometry id
+     * @since 6.4.1
+     */
+    public void deleteIndex(long geomId) {
+        rTree.getMaintainer(featureDao).delete(geomId);
+    }
+
     /**
      * Get the RTree index extension
      *
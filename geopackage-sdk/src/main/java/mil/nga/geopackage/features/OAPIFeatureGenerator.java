@@ -1,5 +1,6 @@
 package mil.nga.geopackage.features;
 
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -7,6 +8,8 @@ import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.features.user.FeatureColumn;
 import mil.nga.geopackage.features.user.FeatureDao;
 import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.geopackage.features.user.FeatureTable;
+import mil.nga.geopackage.user.UserRowWriter;
 import mil.nga.sf.Geometry;
 
 /**
@@ -21,6 +24,11 @@ public class OAPIFeatureGenerator extends OAPIFeatureCoreGenerator {
      */
     protected FeatureDao featureDao;
 
+    /**
+     * Feature row writer, open while generating features
+     */
+    private UserRowWriter<FeatureColumn, FeatureTable, FeatureRow> featureWriter;
+
     /**
      * Constructor
      *
@@ -51,6 +59,24 @@ public class OAPIFeatureGenerator extends OAPIFeatureCoreGenerator {
         return featureDao;
     }
 
+    /**
+     * {@inheritDoc}
+     * Saves features through a compiled statement feature row writer
+     */
+    @Override
+    public int generateFeatures() throws SQLException {
+        int count;
+        try {
+            count = super.generateFeatures();
+        } finally {
+            if (featureWriter != null) {
+                featureWriter.close();
+                featureWriter = null;
+            }
+        }
+        return count;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -89,7 +115,10 @@ public class OAPIFeatureGenerator extends OAPIFeatureCoreGenerator {
      * @param featureRow feature row
      */
     protected void saveFeature(FeatureRow featureRow) {
-        featureDao.create(featureRow);
+        if (featureWriter == null) {
+            featureWriter = featureDao.createRowWriter();
+        }
+        featureWriter.insert(featureRow);
     }
 
 }
@@ -50,26 +50,7 @@ public class FeatureIndexGeoPackageResults implements FeatureIndexResults {
      */
     @Override
     public Iterator<FeatureRow> iterator() {
-        return new Iterator<FeatureRow>() {
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public boolean hasNext() {
-                return geometryIndices.hasNext();
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public FeatureRow next() {
-                GeometryIndex geometryIndex = geometryIndices.next();
-                FeatureRow featureRow = featureTableIndex.getFeatureRow(geometryIndex);
-                return featureRow;
-            }
-        };
+        return featureTableIndex.getFeatureRows(ids().iterator());
     }
 
     /**
@@ -441,8 +441,7 @@ public class FeatureIndexManager {
                 indexed = getRequiredFeatureIndexer().index(row);
                 break;
             case RTREE:
-                // Updated by triggers, ignore for RTree
-                indexed = true;
+                indexed = rTreeIndexTableDao.index(row);
                 break;
             default:
                 throw new GeoPackageException("Unsupported FeatureIndexType: " + type);
@@ -601,7 +600,7 @@ public class FeatureIndexManager {
                 deleted = getRequiredFeatureIndexer().deleteIndex(geomId);
                 break;
             case RTREE:
-                // Updated by triggers, ignore for RTree
+                rTreeIndexTableDao.deleteIndex(geomId);
                 deleted = true;
                 break;
             default:
@@ -48,20 +48,7 @@ public class FeatureIndexMetadataResults implements FeatureIndexResults {
      */
     @Override
     public Iterator<FeatureRow> iterator() {
-        return new Iterator<FeatureRow>() {
-
-            @Override
-            public boolean hasNext() {
-                return geometryMetadata.getCount() > 0 && !geometryMetadata.isLast();
-            }
-
-            @Override
-            public FeatureRow next() {
-                geometryMetadata.moveToNext();
-                FeatureRow featureRow = featureIndexer.getFeatureRow(geometryMetadata);
-                return featureRow;
-            }
-        };
+        return featureIndexer.getFeatureRows(ids().iterator());
     }
 
     /**
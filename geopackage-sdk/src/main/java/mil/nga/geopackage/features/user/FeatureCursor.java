@@ -4,10 +4,14 @@ import android.database.Cursor;
 
 import java.util.List;
 
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.GeoPackageDataType;
 import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.geom.GeometryEnvelopeReader;
 import mil.nga.geopackage.user.UserCursor;
 import mil.nga.geopackage.user.UserDao;
 import mil.nga.geopackage.user.UserInvalidCursor;
+import mil.nga.sf.GeometryEnvelope;
 
 /**
  * Feature Cursor to wrap a database cursor for feature queries
@@ -63,6 +67,22 @@ public class FeatureCursor extends
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     * Handles geometries
+     */
+    @Override
+    protected Object getRowValue(int index, GeoPackageDataType dataType) {
+        Object value;
+        FeatureColumns columns = getColumns();
+        if (columns.hasGeometryColumn() && index == columns.getGeometryIndex()) {
+            value = getGeometry();
+        } else {
+            value = super.getRowValue(index, dataType);
+        }
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,6 +114,118 @@ public class FeatureCursor extends
         return geometry;
     }
 
+    /**
+     * Get the geometry envelope, read from the geometry header or scanned
+     * from the geometry bytes without decoding the geometry when possible
+     *
+     * @return geometry envelope or null
+     * @since 6.4.1
+     */
+    public GeometryEnvelope getGeometryEnvelope() {
+
+        GeometryEnvelope envelope = null;
+
+        byte[] geometryBytes = getGeometryBytes();
+        if (geometryBytes != null) {
+            try {
+                envelope = GeometryEnvelopeReader.readEnvelope(geometryBytes);
+            } catch (GeoPackageException e) {
+                envelope = GeoPackageGeometryData.create(geometryBytes)
+                        .getOrBuildEnvelope();
+            }
+        } else {
+            FeatureRow row = getRow();
+            if (row.isValid()) {
+                envelope = row.getGeometryEnvelope();
+            }
+        }
+
+        return envelope;
+    }
+
+    /**
+     * Get the geometry envelope into the envelope array, read from the
+     * geometry header or scanned from the geometry bytes without decoding the
+     * geometry when possible. See {@link GeometryEnvelopeReader} for the
+     * envelope array layout.
+     *
+     * @param envelope envelope array of at least 4 values
+     * @return true if an envelope was read
+     * @since 6.4.1
+     */
+    public boolean getGeometryEnvelope(double[] envelope) {
+
+        boolean read = false;
+
+        byte[] geometryBytes = getGeometryBytes();
+        if (geometryBytes != null) {
+            try {
+                read = GeometryEnvelopeReader.readEnvelope(geometryBytes,
+                        envelope);
+            } catch (GeoPackageException e) {
+                read = toArray(GeoPackageGeometryData.create(geometryBytes)
+                        .getOrBuildEnvelope(), envelope);
+            }
+        } else {
+            FeatureRow row = getRow();
+            if (row.isValid()) {
+                read = toArray(row.getGeometryEnvelope(), envelope);
+            }
+        }
+
+        return read;
+    }
+
+    /**
+     * Get the geometry bytes of the current row when directly readable. Rows
+     * with a null primary key (invalid large rows) or null geometry bytes
+     * return null and should be read through {@link #getRow()}.
+     *
+     * @return geometry bytes or null
+     * @since 6.4.1
+     */
+    public byte[] getGeometryBytes() {
+
+        byte[] geometryBytes = null;
+
+        FeatureColumns columns = getColumns();
+        if (columns.hasGeometryColumn() && hasId()) {
+            geometryBytes = (byte[]) getValue(columns.getGeometryIndex(),
+                    GeoPackageDataType.BLOB);
+        }
+
+        return geometryBytes;
+    }
+
+    /**
+     * Copy the geometry envelope into the envelope array
+     *
+     * @param geometryEnvelope geometry envelope
+     * @param envelope         envelope array
+     * @return true if copied, false if a null envelope
+     */
+    private static boolean toArray(GeometryEnvelope geometryEnvelope,
+                                   double[] envelope) {
+        boolean copied = geometryEnvelope != null;
+        if (copied) {
+            envelope[GeometryEnvelopeReader.MIN_X] = geometryEnvelope.getMinX();
+            envelope[GeometryEnvelopeReader.MIN_Y] = geometryEnvelope.getMinY();
+            envelope[GeometryEnvelopeReader.MAX_X] = geometryEnvelope.getMaxX();
+            envelope[GeometryEnvelopeReader.MAX_Y] = geometryEnvelope.getMaxY();
+            if (envelope.length >= GeometryEnvelopeReader.ENVELOPE_LENGTH) {
+                envelope[GeometryEnvelopeReader.MIN_Z] = geometryEnvelope.hasZ()
+                        ? geometryEnvelope.getMinZ() : Double.NaN;
+                envelope[GeometryEnvelopeReader.MAX_Z] = geometryEnvelope.hasZ()
+                        ? geometryEnvelope.getMaxZ() : Double.NaN;
+                envelope[GeometryEnvelopeReader.MIN_M] = geometryEnvelope.hasM()
+                        ? geometryEnvelope.getMinM() : Double.NaN;
+                envelope[GeometryEnvelopeReader.MAX_M] = geometryEnvelope.hasM()
+                        ? geometryEnvelope.getMaxM() : Double.NaN;
+            }
+        }
+        return copied;
+    }
+
     /**
      * Enable requery attempt of invalid rows after iterating through original query rows.
      * Only supported for {@link #moveToNext()} and {@link #getRow()} usage.
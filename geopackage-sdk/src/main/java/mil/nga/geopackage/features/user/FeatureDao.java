@@ -1,9 +1,12 @@
 package mil.nga.geopackage.features.user;
 
+import android.content.ContentValues;
+
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackageException;
 import mil.nga.geopackage.contents.Contents;
 import mil.nga.geopackage.db.GeoPackageConnection;
+import mil.nga.geopackage.extension.rtree.RTreeIndexMaintainer;
 import mil.nga.geopackage.features.columns.GeometryColumns;
 import mil.nga.geopackage.srs.SpatialReferenceSystem;
 import mil.nga.geopackage.user.UserDao;
@@ -28,6 +31,11 @@ public class FeatureDao extends
      */
     private final GeometryColumns geometryColumns;
 
+    /**
+     * RTree Index maintainer, keeps the RTree Index in sync with writes
+     */
+    private RTreeIndexMaintainer rTreeIndexMaintainer;
+
     /**
      * Constructor
      *
@@ -64,6 +72,10 @@ public class FeatureDao extends
      */
     public FeatureDao(FeatureDao featureDao) {
         this(featureDao.getDatabase(), featureDao.getDb(), featureDao.getGeometryColumns(), featureDao.getTable());
+        if (featureDao.rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer = new RTreeIndexMaintainer(this,
+                    featureDao.rTreeIndexMaintainer.getRTreeTableName());
+        }
     }
 
     /**
@@ -188,4 +200,143 @@ public class FeatureDao extends
         return getTable().getIdAndGeometryColumnNames();
     }
 
+    /**
+     * Get the RTree Index maintainer
+     *
+     * @return RTree Index maintainer or null
+     * @since 6.4.1
+     */
+    public RTreeIndexMaintainer getRTreeIndexMaintainer() {
+        return rTreeIndexMaintainer;
+    }
+
+    /**
+     * Set the RTree Index maintainer to keep the RTree Index in sync with
+     * inserts, updates, and deletes made through this DAO
+     *
+     * @param rTreeIndexMaintainer RTree Index maintainer, null to stop
+     *                             maintaining
+     * @since 6.4.1
+     */
+    public void setRTreeIndexMaintainer(
+            RTreeIndexMaintainer rTreeIndexMaintainer) {
+        this.rTreeIndexMaintainer = rTreeIndexMaintainer;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public long insert(FeatureRow row) {
+        long id = super.insert(row);
+        if (rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer.index(id, row.getGeometry());
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    protected void onRowInserted(FeatureRow row, long id) {
+        if (rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer.index(id, row.getGeometry());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    protected void onRowUpdated(FeatureRow row, int updated) {
+        if (rTreeIndexMaintainer != null && updated > 0) {
+            rTreeIndexMaintainer.index(row);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public long insert(ContentValues values) {
+        long id = super.insert(values);
+        if (rTreeIndexMaintainer != null && id != -1) {
+            rTreeIndexMaintainer.index(id,
+                    values.getAsByteArray(getGeometryColumnName()));
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public long insertOrThrow(ContentValues values) {
+        long id = super.insertOrThrow(values);
+        if (rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer.index(id,
+                    values.getAsByteArray(getGeometryColumnName()));
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public int update(FeatureRow row) {
+        int updated = super.update(row);
+        if (rTreeIndexMaintainer != null && updated > 0) {
+            rTreeIndexMaintainer.index(row);
+        }
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public int update(ContentValues values, String whereClause,
+                      String[] whereArgs) {
+        if (rTreeIndexMaintainer != null
+                && values.containsKey(getGeometryColumnName())) {
+            rTreeIndexMaintainer.index(
+                    values.getAsByteArray(getGeometryColumnName()),
+                    whereClause, whereArgs);
+        }
+        return super.update(values, whereClause, whereArgs);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public int deleteById(long id) {
+        if (rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer.delete(id);
+        }
+        return super.deleteById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintains the RTree Index
+     */
+    @Override
+    public int delete(String whereClause, String[] whereArgs) {
+        if (rTreeIndexMaintainer != null) {
+            rTreeIndexMaintainer.delete(whereClause, whereArgs);
+        }
+        return super.delete(whereClause, whereArgs);
+    }
+
 }
@@ -1,7 +1,5 @@
 package mil.nga.geopackage.features.user;
 
-import android.content.ContentValues;
-
 import java.io.IOException;
 import java.util.Arrays;
 
@@ -111,8 +109,9 @@ public class FeatureRow extends UserRow<FeatureColumn, FeatureTable> {
      * Handles geometry columns
      */
     @Override
-    protected void columnToContentValue(ContentValues contentValues,
-                                        FeatureColumn column, Object value) {
+    protected Object getDatabaseValue(FeatureColumn column, Object value) {
+
+        Object databaseValue;
 
         if (column.isGeometry()) {
 
@@ -121,7 +120,7 @@ public class FeatureRow extends UserRow<FeatureColumn, FeatureTable> {
             if (value instanceof GeoPackageGeometryData) {
                 GeoPackageGeometryData geometryData = (GeoPackageGeometryData) value;
                 try {
-                    contentValues.put(columnName, geometryData.toBytes());
+                    databaseValue = geometryData.toBytes();
                 } catch (IOException e) {
                     throw new GeoPackageException(
                             "Failed to write Geometry Data bytes. column: "
@@ -129,7 +128,7 @@ public class FeatureRow extends UserRow<FeatureColumn, FeatureTable> {
                             e);
                 }
             } else if (value instanceof byte[]) {
-                contentValues.put(columnName, (byte[]) value);
+                databaseValue = value;
             } else {
                 throw new GeoPackageException(
                         "Unsupported update geometry column value type. column: "
@@ -137,9 +136,10 @@ public class FeatureRow extends UserRow<FeatureColumn, FeatureTable> {
                                 + value.getClass().getName());
             }
         } else {
-            super.columnToContentValue(contentValues, column, value);
+            databaseValue = super.getDatabaseValue(column, value);
         }
 
+        return databaseValue;
     }
 
     /**
@@ -7,6 +7,8 @@ import java.util.Map;
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.features.index.FeatureIndexManager;
+import mil.nga.geopackage.geom.GeometryEnvelopeReader;
+import mil.nga.geopackage.user.UserChunkIterator;
 import mil.nga.proj.Projection;
 import mil.nga.proj.ProjectionTransform;
 import mil.nga.sf.GeometryEnvelope;
@@ -459,23 +461,18 @@ public class ManualFeatureQuery {
 
         GeometryEnvelope envelope = null;
 
-        long offset = 0;
-        boolean hasResults = true;
+        String[] columns = featureDao.getIdAndGeometryColumnNames();
 
-        String[] columns = new String[]{featureDao.getGeometryColumnName()};
+        UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                .queryForChunks(columns, chunkLimit);
 
-        while (hasResults) {
+        while (chunks.hasNext()) {
 
-            hasResults = false;
-
-            FeatureCursor featureCursor = featureDao.queryForChunk(columns,
-                    chunkLimit, offset);
+            FeatureCursor featureCursor = chunks.next();
             try {
                 while (featureCursor.moveToNext()) {
-                    hasResults = true;
 
-                    FeatureRow featureRow = featureCursor.getRow();
-                    GeometryEnvelope featureEnvelope = featureRow
+                    GeometryEnvelope featureEnvelope = featureCursor
                             .getGeometryEnvelope();
                     if (featureEnvelope != null) {
 
@@ -491,7 +488,6 @@ public class ManualFeatureQuery {
                 featureCursor.close();
             }
 
-            offset += chunkLimit;
         }
 
         BoundingBox boundingBox = null;
@@ -1738,9 +1734,6 @@ public class ManualFeatureQuery {
 
         List<Long> featureIds = new ArrayList<>();
 
-        long offset = 0;
-        boolean hasResults = true;
-
         minX -= tolerance;
         maxX += tolerance;
         minY -= tolerance;
@@ -1748,28 +1741,31 @@ public class ManualFeatureQuery {
 
         String[] queryColumns = featureDao.getIdAndGeometryColumnNames();
 
-        while (hasResults) {
+        double[] envelope = new double[4];
 
-            hasResults = false;
+        UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                .queryForChunks(distinct, queryColumns, where, whereArgs,
+                        chunkLimit);
 
-            FeatureCursor featureCursor = featureDao.queryForChunk(distinct, queryColumns,
-                    where, whereArgs, chunkLimit, offset);
+        while (chunks.hasNext()) {
+
+            FeatureCursor featureCursor = chunks.next();
             try {
                 while (featureCursor.moveToNext()) {
-                    hasResults = true;
 
-                    FeatureRow featureRow = featureCursor.getRow();
-                    GeometryEnvelope envelope = featureRow
-                            .getGeometryEnvelope();
-                    if (envelope != null) {
+                    if (featureCursor.getGeometryEnvelope(envelope)) {
 
-                        double minXMax = Math.max(minX, envelope.getMinX());
-                        double maxXMin = Math.min(maxX, envelope.getMaxX());
-                        double minYMax = Math.max(minY, envelope.getMinY());
-                        double maxYMin = Math.min(maxY, envelope.getMaxY());
+                        double minXMax = Math.max(minX,
+                                envelope[GeometryEnvelopeReader.MIN_X]);
+                        double maxXMin = Math.min(maxX,
+                                envelope[GeometryEnvelopeReader.MAX_X]);
+                        double minYMax = Math.max(minY,
+                                envelope[GeometryEnvelopeReader.MIN_Y]);
+                        double maxYMin = Math.min(maxY,
+                                envelope[GeometryEnvelopeReader.MAX_Y]);
 
                         if (minXMax <= maxXMin && minYMax <= maxYMin) {
-                            featureIds.add(featureRow.getId());
+                            featureIds.add(featureCursor.getId());
                         }
 
                     }
@@ -1778,7 +1774,6 @@ public class ManualFeatureQuery {
                 featureCursor.close();
             }
 
-            offset += chunkLimit;
         }
 
         ManualFeatureQueryResults results = new ManualFeatureQueryResults(
@@ -2873,9 +2868,6 @@ public class ManualFeatureQuery {
         int index = 0;
         List<Long> featureIds = new ArrayList<>();
 
-        long localOffset = 0;
-        boolean hasResults = true;
-
         minX -= tolerance;
         maxX += tolerance;
         minY -= tolerance;
@@ -2883,29 +2875,32 @@ public class ManualFeatureQuery {
 
         String[] queryColumns = featureDao.getIdAndGeometryColumnNames();
 
-        while (hasResults) {
+        double[] envelope = new double[4];
+
+        UserChunkIterator<FeatureColumn, FeatureTable, FeatureRow, FeatureCursor> chunks = featureDao
+                .queryForChunks(distinct, queryColumns, where, whereArgs,
+                        chunkLimit);
 
-            hasResults = false;
+        while (featureIds.size() < limit && chunks.hasNext()) {
 
-            FeatureCursor cursor = featureDao.queryForChunk(distinct,
-                    queryColumns, where, whereArgs, chunkLimit, localOffset);
+            FeatureCursor cursor = chunks.next();
             try {
                 while (cursor.moveToNext()) {
-                    hasResults = true;
 
-                    FeatureRow featureRow = cursor.getRow();
-                    GeometryEnvelope envelope = featureRow
-                            .getGeometryEnvelope();
-                    if (envelope != null) {
+                    if (cursor.getGeometryEnvelope(envelope)) {
 
-                        double minXMax = Math.max(minX, envelope.getMinX());
-                        double maxXMin = Math.min(maxX, envelope.getMaxX());
-                        double minYMax = Math.max(minY, envelope.getMinY());
-                        double maxYMin = Math.min(maxY, envelope.getMaxY());
+                        double minXMax = Math.max(minX,
+                                envelope[GeometryEnvelopeReader.MIN_X]);
+                        double maxXMin = Math.min(maxX,
+                                envelope[GeometryEnvelopeReader.MAX_X]);
+                        double minYMax = Math.max(minY,
+                                envelope[GeometryEnvelopeReader.MIN_Y]);
+                        double maxYMin = Math.min(maxY,
+                                envelope[GeometryEnvelopeReader.MAX_Y]);
 
                         if (minXMax <= maxXMin && minYMax <= maxYMin) {
                             if (offset <= index) {
-                                featureIds.add(featureRow.getId());
+                                featureIds.add(cursor.getId());
                                 if (featureIds.size() >= limit) {
                                     break;
                                 }
@@ -2919,7 +2914,6 @@ public class ManualFeatureQuery {
                 cursor.close();
             }
 
-            localOffset += chunkLimit;
         }
 
         ManualFeatureQueryResults results = new ManualFeatureQueryResults(
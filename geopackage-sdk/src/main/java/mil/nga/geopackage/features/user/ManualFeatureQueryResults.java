@@ -6,7 +6,8 @@ import java.util.List;
 import mil.nga.geopackage.features.index.FeatureIndexResults;
 
 /**
- * Manual Feature Query Results which includes the ids used to read each row
+ * Manual Feature Query Results which includes the ids used to read each row.
+ * Rows are read in batches of ids.
  *
  * @author osbornb
  * @since 3.1.0
@@ -87,27 +88,7 @@ public class ManualFeatureQueryResults implements FeatureIndexResults {
      */
     @Override
     public Iterator<FeatureRow> iterator() {
-        return new Iterator<FeatureRow>() {
-
-            int index = 0;
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public boolean hasNext() {
-                return index < featureIds.size();
-            }
-
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public FeatureRow next() {
-                return featureDao.queryForIdRow(columns,
-                        featureIds.get(index++));
-            }
-        };
+        return featureDao.queryForIdRows(columns, featureIds.iterator());
     }
 
     /**
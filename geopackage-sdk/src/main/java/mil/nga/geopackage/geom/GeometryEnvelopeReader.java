@@ -0,0 +1,409 @@
+package mil.nga.geopackage.geom;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.sf.GeometryEnvelope;
+
+/**
+ * Reads the envelope of GeoPackage geometry binary bytes without decoding the
+ * geometry. The envelope is read from the GeoPackage binary header when
+ * present, otherwise the WKB geometry is scanned for coordinate ranges
+ * without creating geometry objects.
+ * <p>
+ * Envelope arrays hold [min x, min y, max x, max y] and when at least 8 values
+ * long additionally [min z, max z, min m, max m]. Unset z and m ranges are
+ * left as NaN.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class GeometryEnvelopeReader {
+
+    /**
+     * Envelope array index of the min x
+     */
+    public static final int MIN_X = 0;
+
+    /**
+     * Envelope array index of the min y
+     */
+    public static final int MIN_Y = 1;
+
+    /**
+     * Envelope array index of the max x
+     */
+    public static final int MAX_X = 2;
+
+    /**
+     * Envelope array index of the max y
+     */
+    public static final int MAX_Y = 3;
+
+    /**
+     * Envelope array index of the min z
+     */
+    public static final int MIN_Z = 4;
+
+    /**
+     * Envelope array index of the max z
+     */
+    public static final int MAX_Z = 5;
+
+    /**
+     * Envelope array index of the min m
+     */
+    public static final int MIN_M = 6;
+
+    /**
+     * Envelope array index of the max m
+     */
+    public static final int MAX_M = 7;
+
+    /**
+     * Envelope array length including z and m ranges
+     */
+    public static final int ENVELOPE_LENGTH = 8;
+
+    /**
+     * GeoPackage binary header length before the envelope
+     */
+    private static final int HEADER_LENGTH = 8;
+
+    /**
+     * WKB 2.5D z flag
+     */
+    private static final long WKB25D = 0x80000000L;
+
+    /**
+     * Private constructor
+     */
+    private GeometryEnvelopeReader() {
+
+    }
+
+    /**
+     * Read the envelope from GeoPackage geometry binary bytes
+     *
+     * @param bytes geometry bytes
+     * @return envelope or null if an empty geometry
+     */
+    public static GeometryEnvelope readEnvelope(byte[] bytes) {
+
+        GeometryEnvelope envelope = null;
+
+        double[] values = new double[ENVELOPE_LENGTH];
+        if (readEnvelope(bytes, values)) {
+
+            boolean hasZ = !Double.isNaN(values[MIN_Z]);
+            boolean hasM = !Double.isNaN(values[MIN_M]);
+
+            envelope = new GeometryEnvelope(hasZ, hasM);
+            envelope.setMinX(values[MIN_X]);
+            envelope.setMinY(values[MIN_Y]);
+            envelope.setMaxX(values[MAX_X]);
+            envelope.setMaxY(values[MAX_Y]);
+            if (hasZ) {
+                envelope.setMinZ(values[MIN_Z]);
+                envelope.setMaxZ(values[MAX_Z]);
+            }
+            if (hasM) {
+                envelope.setMinM(values[MIN_M]);
+                envelope.setMaxM(values[MAX_M]);
+            }
+        }
+
+        return envelope;
+    }
+
+    /**
+     * Read the envelope from GeoPackage geometry binary bytes into the
+     * envelope array
+     *
+     * @param bytes    geometry bytes
+     * @param envelope envelope array of at least 4 values
+     * @return true if read, false if an empty geometry
+     */
+    public static boolean readEnvelope(byte[] bytes, double[] envelope) {
+
+        if (bytes.length < HEADER_LENGTH || bytes[0] != 'G'
+                || bytes[1] != 'P') {
+            throw new GeoPackageException(
+                    "Unexpected GeoPackage Geometry magic number, Expected: GP");
+        }
+
+        int flags = bytes[3];
+        boolean extended = ((flags >> 5) & 1) == 1;
+        boolean empty = ((flags >> 4) & 1) == 1;
+        int envelopeIndicator = (flags >> 1) & 7;
+        boolean littleEndian = (flags & 1) == 1;
+
+        boolean zm = envelope.length >= ENVELOPE_LENGTH;
+        if (zm) {
+            envelope[MIN_Z] = Double.NaN;
+            envelope[MAX_Z] = Double.NaN;
+            envelope[MIN_M] = Double.NaN;
+            envelope[MAX_M] = Double.NaN;
+        }
+
+        boolean read = false;
+
+        if (envelopeIndicator > 0) {
+
+            if (envelopeIndicator > 4) {
+                throw new GeoPackageException(
+                        "Unexpected GeoPackage Geometry flags. Envelope contents indicator must be between 0 and 4. Actual: "
+                                + envelopeIndicator);
+            }
+
+            int offset = HEADER_LENGTH;
+            envelope[MIN_X] = readDouble(bytes, offset, littleEndian);
+            envelope[MAX_X] = readDouble(bytes, offset + 8, littleEndian);
+            envelope[MIN_Y] = readDouble(bytes, offset + 16, littleEndian);
+            envelope[MAX_Y] = readDouble(bytes, offset + 24, littleEndian);
+            offset += 32;
+            if (envelopeIndicator == 2 || envelopeIndicator == 4) {
+                if (zm) {
+                    envelope[MIN_Z] = readDouble(bytes, offset, littleEndian);
+                    envelope[MAX_Z] = readDouble(bytes, offset + 8,
+                            littleEndian);
+                }
+                offset += 16;
+            }
+            if (zm && (envelopeIndicator == 3 || envelopeIndicator == 4)) {
+                envelope[MIN_M] = readDouble(bytes, offset, littleEndian);
+                envelope[MAX_M] = readDouble(bytes, offset + 8, littleEndian);
+            }
+            read = true;
+
+        } else if (!empty) {
+
+            if (extended) {
+                throw new GeoPackageException(
+                        "Extended GeoPackage Geometry without a header envelope can not be scanned");
+            }
+
+            envelope[MIN_X] = Double.POSITIVE_INFINITY;
+            envelope[MIN_Y] = Double.POSITIVE_INFINITY;
+            envelope[MAX_X] = Double.NEGATIVE_INFINITY;
+            envelope[MAX_Y] = Double.NEGATIVE_INFINITY;
+
+            scanGeometry(bytes, HEADER_LENGTH, envelope, zm);
+
+            read = envelope[MIN_X] <= envelope[MAX_X];
+        }
+
+        return read;
+    }
+
+    /**
+     * Scan the WKB geometry at the offset, expanding the envelope
+     *
+     * @param bytes    bytes
+     * @param offset   geometry offset
+     * @param envelope envelope array
+     * @param zm       true to expand z and m ranges
+     * @return offset after the geometry
+     */
+    private static int scanGeometry(byte[] bytes, int offset,
+                                    double[] envelope, boolean zm) {
+
+        boolean littleEndian = bytes[offset] != 0;
+        offset++;
+
+        long typeCode = readInt(bytes, offset, littleEndian) & 0xFFFFFFFFL;
+        offset += 4;
+
+        boolean hasZ = false;
+        if (typeCode > WKB25D) {
+            hasZ = true;
+            typeCode -= WKB25D;
+        }
+        int code = (int) typeCode;
+        int mode = code / 1000;
+        if (mode == 1 || mode == 3) {
+            hasZ = true;
+        }
+        boolean hasM = mode == 2 || mode == 3;
+
+        switch (code % 1000) {
+            case 1: // Point
+                offset = scanPoint(bytes, offset, littleEndian, hasZ, hasM,
+                        envelope, zm);
+                break;
+            case 2: // LineString
+            case 8: // CircularString
+                offset = scanPoints(bytes, offset, littleEndian, hasZ, hasM,
+                        envelope, zm);
+                break;
+            case 3: // Polygon
+            case 17: // Triangle
+                int rings = readInt(bytes, offset, littleEndian);
+                offset += 4;
+                for (int i = 0; i < rings; i++) {
+                    offset = scanPoints(bytes, offset, littleEndian, hasZ,
+                            hasM, envelope, zm);
+                }
+                break;
+            case 4: // MultiPoint
+            case 5: // MultiLineString
+            case 6: // MultiPolygon
+            case 7: // GeometryCollection
+            case 9: // CompoundCurve
+            case 10: // CurvePolygon
+            case 11: // MultiCurve
+            case 12: // MultiSurface
+            case 15: // PolyhedralSurface
+            case 16: // TIN
+                int geometries = readInt(bytes, offset, littleEndian);
+                offset += 4;
+                for (int i = 0; i < geometries; i++) {
+                    offset = scanGeometry(bytes, offset, envelope, zm);
+                }
+                break;
+            default:
+                throw new GeoPackageException(
+                        "Unsupported WKB Geometry code for envelope scan: "
+                                + code);
+        }
+
+        return offset;
+    }
+
+    /**
+     * Scan a count prefixed sequence of points
+     *
+     * @param bytes        bytes
+     * @param offset       points count offset
+     * @param littleEndian little endian byte order
+     * @param hasZ         true if points have z
+     * @param hasM         true if points have m
+     * @param envelope     envelope array
+     * @param zm           true to expand z and m ranges
+     * @return offset after the points
+     */
+    private static int scanPoints(byte[] bytes, int offset,
+                                  boolean littleEndian, boolean hasZ, boolean hasM,
+                                  double[] envelope, boolean zm) {
+        int points = readInt(bytes, offset, littleEndian);
+        offset += 4;
+        for (int i = 0; i < points; i++) {
+            offset = scanPoint(bytes, offset, littleEndian, hasZ, hasM,
+                    envelope, zm);
+        }
+        return offset;
+    }
+
+    /**
+     * Scan a point, expanding the envelope. Points with NaN coordinates
+     * (empty points) are skipped.
+     *
+     * @param bytes        bytes
+     * @param offset       point offset
+     * @param littleEndian little endian byte order
+     * @param hasZ         true if the point has z
+     * @param hasM         true if the point has m
+     * @param envelope     envelope array
+     * @param zm           true to expand z and m ranges
+     * @return offset after the point
+     */
+    private static int scanPoint(byte[] bytes, int offset,
+                                 boolean littleEndian, boolean hasZ, boolean hasM,
+                                 double[] envelope, boolean zm) {
+
+        double x = readDouble(bytes, offset, littleEndian);
+        double y = readDouble(bytes, offset + 8, littleEndian);
+        offset += 16;
+
+        boolean empty = Double.isNaN(x) || Double.isNaN(y);
+        if (!empty) {
+            expand(envelope, MIN_X, MAX_X, x);
+            expand(envelope, MIN_Y, MAX_Y, y);
+        }
+
+        if (hasZ) {
+            if (zm && !empty) {
+                expand(envelope, MIN_Z, MAX_Z,
+                        readDouble(bytes, offset, littleEndian));
+            }
+            offset += 8;
+        }
+
+        if (hasM) {
+            if (zm && !empty) {
+                expand(envelope, MIN_M, MAX_M,
+                        readDouble(bytes, offset, littleEndian));
+            }
+            offset += 8;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Expand the envelope range with the value
+     *
+     * @param envelope envelope array
+     * @param minIndex range min index
+     * @param maxIndex range max index
+     * @param value    value
+     */
+    private static void expand(double[] envelope, int minIndex, int maxIndex,
+                               double value) {
+        if (!Double.isNaN(value)) {
+            double min = envelope[minIndex];
+            if (Double.isNaN(min) || value < min) {
+                envelope[minIndex] = value;
+            }
+            double max = envelope[maxIndex];
+            if (Double.isNaN(max) || value > max) {
+                envelope[maxIndex] = value;
+            }
+        }
+    }
+
+    /**
+     * Read a 4 byte integer
+     *
+     * @param bytes        bytes
+     * @param offset       offset
+     * @param littleEndian little endian byte order
+     * @return integer
+     */
+    private static int readInt(byte[] bytes, int offset,
+                               boolean littleEndian) {
+        int value;
+        if (littleEndian) {
+            value = (bytes[offset] & 0xFF)
+                    | ((bytes[offset + 1] & 0xFF) << 8)
+                    | ((bytes[offset + 2] & 0xFF) << 16)
+                    | ((bytes[offset + 3] & 0xFF) << 24);
+        } else {
+            value = ((bytes[offset] & 0xFF) << 24)
+                    | ((bytes[offset + 1] & 0xFF) << 16)
+                    | ((bytes[offset + 2] & 0xFF) << 8)
+                    | (bytes[offset + 3] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Read an 8 byte double
+     *
+     * @param bytes        bytes
+     * @param offset       offset
+     * @param littleEndian little endian byte order
+     * @return double
+     */
+    private static double readDouble(byte[] bytes, int offset,
+                                     boolean littleEndian) {
+        long high = readInt(bytes, offset, littleEndian) & 0xFFFFFFFFL;
+        long low = readInt(bytes, offset + 4, littleEndian) & 0xFFFFFFFFL;
+        long bits;
+        if (littleEndian) {
+            bits = (low << 32) | high;
+        } else {
+            bits = (high << 32) | low;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+}
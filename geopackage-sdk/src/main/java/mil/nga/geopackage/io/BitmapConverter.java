@@ -7,6 +7,7 @@ import android.graphics.BitmapFactory.Options;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Conversions between Bitmaps and image bytes
@@ -38,6 +39,19 @@ public class BitmapConverter {
         return bitmap;
     }
 
+    /**
+     * Decode the input stream to a bitmap, with options
+     *
+     * @param stream  image input stream
+     * @param options decode options
+     * @return image bitmap
+     * @since 6.4.1
+     */
+    public static Bitmap toBitmap(InputStream stream, Options options) {
+        Bitmap bitmap = BitmapFactory.decodeStream(stream, null, options);
+        return bitmap;
+    }
+
     /**
      * Compress the bitmap to a byte array at full quality
      *
@@ -0,0 +1,138 @@
+package mil.nga.geopackage.io;
+
+import java.io.Closeable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread pool splitting work across a number of threads. Uses a caller
+ * supplied executor when set, otherwise a fixed size pool of daemon threads
+ * created when first needed. Closing shuts down the created pool, a caller
+ * supplied executor is left for the caller to shut down.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class ThreadPool implements Closeable {
+
+    /**
+     * Thread name
+     */
+    private final String name;
+
+    /**
+     * Number of threads
+     */
+    private int threads = 1;
+
+    /**
+     * Caller supplied executor
+     */
+    private ExecutorService executor;
+
+    /**
+     * Created executor, owned and shut down by the pool
+     */
+    private ExecutorService createdExecutor;
+
+    /**
+     * Constructor
+     *
+     * @param name thread name
+     */
+    public ThreadPool(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get the number of threads
+     *
+     * @return threads
+     */
+    public synchronized int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of threads. With a caller supplied executor, the number
+     * of threads splitting the work.
+     *
+     * @param threads threads
+     */
+    public synchronized void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    "Threads must be at least 1. threads: " + threads);
+        }
+        if (threads != this.threads) {
+            shutdown();
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Get the caller supplied executor
+     *
+     * @return executor or null
+     */
+    public synchronized ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set a caller supplied executor, shared with other work and shut down by
+     * the caller
+     *
+     * @param executor executor, null to create a pool when needed
+     */
+    public synchronized void setExecutor(ExecutorService executor) {
+        shutdown();
+        this.executor = executor;
+    }
+
+    /**
+     * Get the executor to run work on, the caller supplied executor or the
+     * created pool
+     *
+     * @return executor
+     */
+    public synchronized ExecutorService getActiveExecutor() {
+        ExecutorService activeExecutor = executor;
+        if (activeExecutor == null) {
+            if (createdExecutor == null) {
+                createdExecutor = Executors.newFixedThreadPool(threads,
+                        new ThreadFactory() {
+                            @Override
+                            public Thread newThread(Runnable runnable) {
+                                Thread thread = new Thread(runnable, name);
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+            }
+            activeExecutor = createdExecutor;
+        }
+        return activeExecutor;
+    }
+
+    /**
+     * Shut down the created pool threads. The pool is created again if
+     * needed after closing.
+     */
+    @Override
+    public synchronized void close() {
+        shutdown();
+    }
+
+    /**
+     * Shut down the created pool
+     */
+    private void shutdown() {
+        if (createdExecutor != null) {
+            createdExecutor.shutdown();
+            createdExecutor = null;
+        }
+    }
+
+}
@@ -12,15 +12,24 @@ import org.locationtech.proj4j.units.Units;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
@@ -55,6 +64,20 @@ import mil.nga.proj.ProjectionTransform;
  */
 public abstract class TileGenerator {
 
+    /**
+     * Default max number of tiles inserted per transaction when creating
+     * tiles with multiple threads
+     *
+     * @since 6.4.1
+     */
+    public static final int DEFAULT_TRANSACTION_SIZE = 500;
+
+    /**
+     * Max number of created tiles waiting to be inserted per thread, bounding
+     * the memory of tiles in progress
+     */
+    private static final int QUEUED_TILES_PER_THREAD = 4;
+
     /**
      * Context
      */
@@ -152,6 +175,18 @@ public abstract class TileGenerator {
      */
     private boolean skipExisting = false;
 
+    /**
+     * Number of threads creating tiles, tiles are created serially on the
+     * calling thread when 1
+     */
+    private int threads = 1;
+
+    /**
+     * Max number of tiles inserted per transaction when creating tiles with
+     * multiple threads
+     */
+    private int transactionSize = DEFAULT_TRANSACTION_SIZE;
+
     /**
      * Constructor
      *
@@ -501,6 +536,61 @@ public abstract class TileGenerator {
         this.skipExisting = skipExisting;
     }
 
+    /**
+     * Get the number of threads creating tiles
+     *
+     * @return threads
+     * @since 6.4.1
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of threads creating tiles. When more than 1, tiles are
+     * created in parallel by a pool of threads while the calling thread
+     * inserts them in batched transactions. Implementations of
+     * {@link #createTile(int, long, long)} must be thread safe when using
+     * multiple threads. Default is 1, creating and inserting tiles serially
+     *
+     * @param threads number of threads
+     * @since 6.4.1
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    "Threads must be at least 1. threads: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Get the max number of tiles inserted per transaction when creating tiles
+     * with multiple threads
+     *
+     * @return transaction size
+     * @since 6.4.1
+     */
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    /**
+     * Set the max number of tiles inserted per transaction when creating tiles
+     * with multiple threads
+     *
+     * @param transactionSize transaction size
+     * @since 6.4.1
+     */
+    public void setTransactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new IllegalArgumentException(
+                    "Transaction size must be at least 1. transaction size: "
+                            + transactionSize);
+        }
+        this.transactionSize = transactionSize;
+    }
+
     /**
      * Get the tile count of tiles to be generated
      *
@@ -954,11 +1044,6 @@ public abstract class TileGenerator {
                               TileGrid localTileGrid, long matrixWidth, long matrixHeight,
                               boolean update) throws SQLException, IOException {
 
-        int count = 0;
-
-        Integer tileWidth = null;
-        Integer tileHeight = null;
-
         Map<Long, Set<Long>> existingTiles = null;
         if (update && skipExisting) {
             existingTiles = new HashMap<>();
@@ -985,107 +1070,101 @@ public abstract class TileGenerator {
             }
         }
 
-        // Download and create the tile and each coordinate
-        for (long x = tileGrid.getMinX(); x <= tileGrid.getMaxX(); x++) {
+        TileWriter writer = new TileWriter(tileDao, zoomLevel, update);
 
-            // Check if the progress has been canceled
-            if (progress != null && !progress.isActive()) {
-                break;
-            }
-
-            long tileColumn = x;
-            // Update the column to the local tile grid location
-            if (localTileGrid != null) {
-                tileColumn = (x - tileGrid.getMinX()) + localTileGrid.getMinX();
-            }
+        ExecutorService executor = null;
+        CompletionService<GeneratedTile> completionService = null;
+        int maxQueued = 0;
+        int queued = 0;
+        if (threads > 1) {
+            executor = Executors.newFixedThreadPool(threads);
+            completionService = new ExecutorCompletionService<>(executor);
+            maxQueued = threads * QUEUED_TILES_PER_THREAD;
+        }
 
-            Set<Long> existingColumnRows = null;
-            if (existingTiles != null) {
-                existingColumnRows = existingTiles.get(tileColumn);
-            }
+        try {
 
-            for (long y = tileGrid.getMinY(); y <= tileGrid.getMaxY(); y++) {
+            // Download and create the tile and each coordinate
+            for (long x = tileGrid.getMinX(); x <= tileGrid.getMaxX(); x++) {
 
                 // Check if the progress has been canceled
                 if (progress != null && !progress.isActive()) {
                     break;
                 }
 
-                long tileRow = y;
-                // Update the row to the local tile grid location
+                long tileColumn = x;
+                // Update the column to the local tile grid location
                 if (localTileGrid != null) {
-                    tileRow = (y - tileGrid.getMinY())
-                            + localTileGrid.getMinY();
+                    tileColumn = (x - tileGrid.getMinX()) + localTileGrid.getMinX();
                 }
 
-                boolean createTile = true;
-                if (existingColumnRows != null) {
-                    createTile = !existingColumnRows.contains(tileRow);
+                Set<Long> existingColumnRows = null;
+                if (existingTiles != null) {
+                    existingColumnRows = existingTiles.get(tileColumn);
                 }
 
-                if (createTile) {
-                    try {
+                for (long y = tileGrid.getMinY(); y <= tileGrid.getMaxY(); y++) {
 
-                        // Create the tile
-                        byte[] tileBytes = createTile(zoomLevel, x, y);
+                    // Check if the progress has been canceled
+                    if (progress != null && !progress.isActive()) {
+                        break;
+                    }
 
-                        if (tileBytes != null && tileBytes.length > 0) {
+                    long tileRow = y;
+                    // Update the row to the local tile grid location
+                    if (localTileGrid != null) {
+                        tileRow = (y - tileGrid.getMinY())
+                                + localTileGrid.getMinY();
+                    }
 
-                            Bitmap bitmap = null;
+                    boolean createTile = true;
+                    if (existingColumnRows != null) {
+                        createTile = !existingColumnRows.contains(tileRow);
+                    }
 
-                            // Compress the image
-                            if (compressFormat != null) {
-                                bitmap = BitmapConverter.toBitmap(tileBytes, options);
-                                if (bitmap != null) {
-                                    tileBytes = BitmapConverter.toBytes(bitmap,
-                                            compressFormat, compressQuality);
-                                }
-                            }
+                    if (createTile && completionService != null) {
 
-                            // Create a new tile row
-                            TileRow newRow = tileDao.newRow();
-                            newRow.setZoomLevel(zoomLevel);
+                        // Insert created tiles until there is room to queue the tile
+                        while (queued >= maxQueued) {
+                            queued -= writeTiles(completionService, writer);
+                        }
 
-                            // If an update, delete an existing row
-                            if (update) {
-                                tileDao.deleteTile(tileColumn, tileRow, zoomLevel);
-                            }
+                        completionService.submit(new TileTask(zoomLevel,
+                                x, y, tileColumn, tileRow));
+                        queued++;
 
-                            newRow.setTileColumn(tileColumn);
-                            newRow.setTileRow(tileRow);
-                            newRow.setTileData(tileBytes);
-                            tileDao.create(newRow);
-
-                            count++;
-
-                            // Determine the tile width and height
-                            if (tileWidth == null) {
-                                if (bitmap == null) {
-                                    bitmap = BitmapConverter.toBitmap(tileBytes,
-                                            options);
-                                }
-                                if (bitmap != null) {
-                                    tileWidth = bitmap.getWidth();
-                                    tileHeight = bitmap.getHeight();
-                                }
-                            }
+                    } else {
+
+                        if (createTile) {
+                            writer.write(createTile(zoomLevel, x, y,
+                                    tileColumn, tileRow));
+                        }
+
+                        // Update the progress count, even on failures
+                        if (progress != null) {
+                            progress.addProgress(1);
                         }
-                    } catch (Exception e) {
-                        Log.w(TileGenerator.class.getSimpleName(), "Failed to create tile. Zoom: "
-                                + zoomLevel + ", x: " + x + ", y: " + y, e);
-                        // Skip this tile, don't increase count
                     }
-                }
 
-                // Update the progress count, even on failures
-                if (progress != null) {
-                    progress.addProgress(1);
                 }
 
             }
 
+            // Insert the remaining queued tiles
+            while (queued > 0 && (progress == null || progress.isActive())) {
+                queued -= writeTiles(completionService, writer);
+            }
+
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
 
+        int count = writer.getCount();
+        Integer tileWidth = writer.getTileWidth();
+        Integer tileHeight = writer.getTileHeight();
+
         // If none of the tiles were translated into a bitmap with dimensions,
         // delete them
         if ((tileWidth == null || tileHeight == null)
@@ -1154,6 +1233,382 @@ public abstract class TileGenerator {
         return count;
     }
 
+    /**
+     * Wait for at least one created tile and insert it along with any other
+     * created tiles, up to the transaction size, in a single transaction. The
+     * transaction never waits on tile creation, so tile creation reading from
+     * the database is only blocked while inserting.
+     *
+     * @param completionService tile creation completion service
+     * @param writer            tile writer
+     * @return number of created tiles inserted or skipped
+     */
+    private int writeTiles(CompletionService<GeneratedTile> completionService,
+                           TileWriter writer) {
+
+        List<GeneratedTile> tiles = new ArrayList<>();
+        try {
+            tiles.add(completionService.take().get());
+            Future<GeneratedTile> future;
+            while (tiles.size() < transactionSize
+                    && (future = completionService.poll()) != null) {
+                tiles.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeoPackageException(
+                    "Interrupted while generating tiles. Table: " + tableName,
+                    e);
+        } catch (ExecutionException e) {
+            throw new GeoPackageException(
+                    "Failed to generate tiles. Table: " + tableName,
+                    e.getCause());
+        }
+
+        writer.write(tiles);
+
+        // Update the progress count, even on failures
+        if (progress != null) {
+            progress.addProgress(tiles.size());
+        }
+
+        return tiles.size();
+    }
+
+    /**
+     * Create and compress the tile
+     *
+     * @param zoomLevel  zoom level
+     * @param x          x coordinate
+     * @param y          y coordinate
+     * @param tileColumn tile column
+     * @param tileRow    tile row
+     * @return generated tile, null bytes when not created
+     */
+    private GeneratedTile createTile(int zoomLevel, long x, long y,
+                                     long tileColumn, long tileRow) {
+
+        GeneratedTile tile = new GeneratedTile(zoomLevel, x, y, tileColumn,
+                tileRow);
+
+        try {
+
+            // Create the tile
+            byte[] tileBytes = createTile(zoomLevel, x, y);
+
+            if (tileBytes != null && tileBytes.length > 0) {
+
+                // Compress the image
+                if (compressFormat != null) {
+                    Bitmap bitmap = BitmapConverter.toBitmap(tileBytes, options);
+                    if (bitmap != null) {
+                        tile.setDimensions(bitmap.getWidth(), bitmap.getHeight());
+                        tileBytes = BitmapConverter.toBytes(bitmap,
+                                compressFormat, compressQuality);
+                    }
+                }
+
+                tile.setBytes(tileBytes);
+            }
+        } catch (Exception e) {
+            Log.w(TileGenerator.class.getSimpleName(), "Failed to create tile. Zoom: "
+                    + zoomLevel + ", x: " + x + ", y: " + y, e);
+            // Skip this tile, don't increase count
+        }
+
+        return tile;
+    }
+
+    /**
+     * Tile created for insertion
+     */
+    private static class GeneratedTile {
+
+        /**
+         * Zoom level
+         */
+        private final int zoomLevel;
+
+        /**
+         * X coordinate
+         */
+        private final long x;
+
+        /**
+         * Y coordinate
+         */
+        private final long y;
+
+        /**
+         * Tile column
+         */
+        private final long tileColumn;
+
+        /**
+         * Tile row
+         */
+        private final long tileRow;
+
+        /**
+         * Tile bytes
+         */
+        private byte[] bytes;
+
+        /**
+         * Tile width when decoded
+         */
+        private Integer width;
+
+        /**
+         * Tile height when decoded
+         */
+        private Integer height;
+
+        /**
+         * Constructor
+         *
+         * @param zoomLevel  zoom level
+         * @param x          x coordinate
+         * @param y          y coordinate
+         * @param tileColumn tile column
+         * @param tileRow    tile row
+         */
+        GeneratedTile(int zoomLevel, long x, long y, long tileColumn,
+                      long tileRow) {
+            this.zoomLevel = zoomLevel;
+            this.x = x;
+            this.y = y;
+            this.tileColumn = tileColumn;
+            this.tileRow = tileRow;
+        }
+
+        /**
+         * Set the tile bytes
+         *
+         * @param bytes tile bytes
+         */
+        void setBytes(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Set the decoded tile dimensions
+         *
+         * @param width  tile width
+         * @param height tile height
+         */
+        void setDimensions(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+    }
+
+    /**
+     * Tile creation task for a tile creation thread
+     */
+    private class TileTask implements Callable<GeneratedTile> {
+
+        /**
+         * Zoom level
+         */
+        private final int zoomLevel;
+
+        /**
+         * X coordinate
+         */
+        private final long x;
+
+        /**
+         * Y coordinate
+         */
+        private final long y;
+
+        /**
+         * Tile column
+         */
+        private final long tileColumn;
+
+        /**
+         * Tile row
+         */
+        private final long tileRow;
+
+        /**
+         * Constructor
+         *
+         * @param zoomLevel  zoom level
+         * @param x          x coordinate
+         * @param y          y coordinate
+         * @param tileColumn tile column
+         * @param tileRow    tile row
+         */
+        TileTask(int zoomLevel, long x, long y, long tileColumn,
+                 long tileRow) {
+            this.zoomLevel = zoomLevel;
+            this.x = x;
+            this.y = y;
+            this.tileColumn = tileColumn;
+            this.tileRow = tileRow;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GeneratedTile call() {
+            return createTile(zoomLevel, x, y, tileColumn, tileRow);
+        }
+
+    }
+
+    /**
+     * Inserts created tiles for a zoom level, tracking the count and tile
+     * dimensions
+     */
+    private class TileWriter {
+
+        /**
+         * Tile DAO
+         */
+        private final TileDao tileDao;
+
+        /**
+         * Zoom level
+         */
+        private final int zoomLevel;
+
+        /**
+         * Update flag, delete existing tiles before inserting
+         */
+        private final boolean update;
+
+        /**
+         * Inserted tile count
+         */
+        private int count = 0;
+
+        /**
+         * Tile width
+         */
+        private Integer tileWidth = null;
+
+        /**
+         * Tile height
+         */
+        private Integer tileHeight = null;
+
+        /**
+         * Constructor
+         *
+         * @param tileDao   tile dao
+         * @param zoomLevel zoom level
+         * @param update    update flag
+         */
+        TileWriter(TileDao tileDao, int zoomLevel, boolean update) {
+            this.tileDao = tileDao;
+            this.zoomLevel = zoomLevel;
+            this.update = update;
+        }
+
+        /**
+         * Get the inserted tile count
+         *
+         * @return count
+         */
+        int getCount() {
+            return count;
+        }
+
+        /**
+         * Get the tile width
+         *
+         * @return tile width or null
+         */
+        Integer getTileWidth() {
+            return tileWidth;
+        }
+
+        /**
+         * Get the tile height
+         *
+         * @return tile height or null
+         */
+        Integer getTileHeight() {
+            return tileHeight;
+        }
+
+        /**
+         * Insert the tiles in a single transaction
+         *
+         * @param tiles generated tiles
+         */
+        void write(List<GeneratedTile> tiles) {
+            boolean successful = false;
+            tileDao.beginTransaction();
+            try {
+                for (GeneratedTile tile : tiles) {
+                    write(tile);
+                }
+                successful = true;
+            } finally {
+                tileDao.endTransaction(successful);
+            }
+        }
+
+        /**
+         * Insert the tile
+         *
+         * @param tile generated tile
+         */
+        void write(GeneratedTile tile) {
+
+            byte[] tileBytes = tile.bytes;
+
+            if (tileBytes != null) {
+
+                try {
+
+                    // Create a new tile row
+                    TileRow newRow = tileDao.newRow();
+                    newRow.setZoomLevel(zoomLevel);
+
+                    // If an update, delete an existing row
+                    if (update) {
+                        tileDao.deleteTile(tile.tileColumn, tile.tileRow, zoomLevel);
+                    }
+
+                    newRow.setTileColumn(tile.tileColumn);
+                    newRow.setTileRow(tile.tileRow);
+                    newRow.setTileData(tileBytes);
+                    tileDao.create(newRow);
+
+                    count++;
+
+                    // Determine the tile width and height
+                    if (tileWidth == null) {
+                        if (tile.width != null) {
+                            tileWidth = tile.width;
+                            tileHeight = tile.height;
+                        } else {
+                            Bitmap bitmap = BitmapConverter.toBitmap(tileBytes,
+                                    options);
+                            if (bitmap != null) {
+                                tileWidth = bitmap.getWidth();
+                                tileHeight = bitmap.getHeight();
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    Log.w(TileGenerator.class.getSimpleName(), "Failed to create tile. Zoom: "
+                            + zoomLevel + ", x: " + tile.x + ", y: " + tile.y, e);
+                    // Skip this tile, don't increase count
+                }
+            }
+        }
+
+    }
+
     /**
      * Called after set up and right before tile generation starts for the first
      * zoom level
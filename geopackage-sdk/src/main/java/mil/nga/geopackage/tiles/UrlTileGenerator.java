@@ -1,6 +1,7 @@
 package mil.nga.geopackage.tiles;
 
 import android.content.Context;
+import android.util.Log;
 
 import org.locationtech.proj4j.units.Units;
 
@@ -33,6 +34,26 @@ import mil.nga.proj.Projection;
  */
 public class UrlTileGenerator extends TileGenerator {
 
+    /**
+     * Default number of retries of a failed tile download
+     *
+     * @since 6.4.1
+     */
+    public static final int DEFAULT_RETRIES = 2;
+
+    /**
+     * Default delay in milliseconds before the first retry, doubled for each
+     * following retry
+     *
+     * @since 6.4.1
+     */
+    public static final int DEFAULT_RETRY_DELAY = 500;
+
+    /**
+     * HTTP too many requests response code
+     */
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
     /**
      * Tile URL
      */
@@ -63,6 +84,36 @@ public class UrlTileGenerator extends TileGenerator {
      */
     private Map<String, List<String>> httpHeader;
 
+    /**
+     * Connect timeout in milliseconds, 0 for no timeout
+     */
+    private int connectTimeout = 0;
+
+    /**
+     * Read timeout in milliseconds, 0 for no timeout
+     */
+    private int readTimeout = 0;
+
+    /**
+     * Number of retries of a failed tile download
+     */
+    private int retries = DEFAULT_RETRIES;
+
+    /**
+     * Delay in milliseconds before the first retry
+     */
+    private int retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Max requests per second per host, 0 for no limit
+     */
+    private double maxRequestsPerSecond = 0;
+
+    /**
+     * Next permitted request times in nanoseconds by host
+     */
+    private final Map<String, Long> hostRequestTimes = new HashMap<>();
+
     /**
      * Constructor
      *
@@ -272,6 +323,109 @@ public class UrlTileGenerator extends TileGenerator {
         }
     }
 
+    /**
+     * Get the connect timeout
+     *
+     * @return connect timeout in milliseconds, 0 for no timeout
+     * @since 6.4.1
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Set the connect timeout
+     *
+     * @param connectTimeout connect timeout in milliseconds, 0 for no timeout
+     * @since 6.4.1
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Get the read timeout
+     *
+     * @return read timeout in milliseconds, 0 for no timeout
+     * @since 6.4.1
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Set the read timeout
+     *
+     * @param readTimeout read timeout in milliseconds, 0 for no timeout
+     * @since 6.4.1
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Get the number of retries of a failed tile download
+     *
+     * @return retries
+     * @since 6.4.1
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Set the number of retries of a tile download failing with a server
+     * error, too many requests response, or I/O failure such as a timeout
+     *
+     * @param retries retries
+     * @since 6.4.1
+     */
+    public void setRetries(int retries) {
+        this.retries = retries;
+    }
+
+    /**
+     * Get the delay before the first retry
+     *
+     * @return retry delay in milliseconds
+     * @since 6.4.1
+     */
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Set the delay before the first retry, doubled for each following retry
+     *
+     * @param retryDelay retry delay in milliseconds
+     * @since 6.4.1
+     */
+    public void setRetryDelay(int retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Get the max requests per second per host
+     *
+     * @return max requests per second, 0 for no limit
+     * @since 6.4.1
+     */
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Set the max requests per second per host, shared by all download
+     * threads. Concurrent downloads are set with
+     * {@link #setThreads(int)}
+     *
+     * @param maxRequestsPerSecond max requests per second, 0 for no limit
+     * @since 6.4.1
+     */
+    public void setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
     /**
      * Determine if the url has bounding box variables
      *
@@ -418,9 +572,63 @@ public class UrlTileGenerator extends TileGenerator {
                     + zoomUrl + ", z=" + z + ", x=" + x + ", y=" + y, e);
         }
 
-        HttpURLConnection connection = null;
+        for (int attempt = 0; bytes == null; attempt++) {
+
+            boolean retry = attempt < retries;
+            try {
+
+                bytes = download(url, retry);
+
+            } catch (IOException e) {
+                if (!retry) {
+                    throw new GeoPackageException("Failed to download tile. URL: "
+                            + zoomUrl + ", z=" + z + ", x=" + x + ", y=" + y, e);
+                }
+                Log.w(UrlTileGenerator.class.getSimpleName(),
+                        "Failed to download tile, retrying. Attempt: "
+                                + (attempt + 1) + ", URL: " + zoomUrl, e);
+            } catch (GeoPackageException e) {
+                throw new GeoPackageException("Failed to download tile. URL: "
+                        + zoomUrl + ", z=" + z + ", x=" + x + ", y=" + y, e);
+            }
+
+            // Back off before retrying
+            if (bytes == null) {
+                try {
+                    Thread.sleep((long) retryDelay << Math.min(attempt, 16));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new GeoPackageException(
+                            "Interrupted while downloading tile. URL: "
+                                    + zoomUrl + ", z=" + z + ", x=" + x
+                                    + ", y=" + y, e);
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Download the URL bytes, following a redirect. Response bodies are fully
+     * read and closed without disconnecting so the connection can be kept
+     * alive and reused by following requests to the host.
+     *
+     * @param url   URL
+     * @param retry true if a retryable failure should return null instead of
+     *              failing
+     * @return bytes, null for a retryable failure
+     * @throws IOException upon connection failure
+     */
+    private byte[] download(URL url, boolean retry) throws IOException {
+
+        byte[] bytes = null;
+
+        limitRate(url.getHost());
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        boolean successful = false;
         try {
-            connection = (HttpURLConnection) url.openConnection();
             configureRequest(connection);
             connection.connect();
 
@@ -429,26 +637,32 @@ public class UrlTileGenerator extends TileGenerator {
                     || responseCode == HttpURLConnection.HTTP_MOVED_TEMP
                     || responseCode == HttpURLConnection.HTTP_SEE_OTHER) {
                 String redirect = connection.getHeaderField("Location");
-                connection.disconnect();
+                discard(connection);
                 url = new URL(redirect);
+                limitRate(url.getHost());
                 connection = (HttpURLConnection) url.openConnection();
                 configureRequest(connection);
                 connection.connect();
+                responseCode = connection.getResponseCode();
             }
 
-            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
-                throw new GeoPackageException("Failed to download tile. URL: "
-                        + zoomUrl + ", z=" + z + ", x=" + x + ", y=" + y);
+            if (responseCode == HttpURLConnection.HTTP_OK) {
+                bytes = GeoPackageIOUtils.streamBytes(connection.getInputStream());
+            } else {
+                discard(connection);
+                boolean retryable = responseCode >= HttpURLConnection.HTTP_INTERNAL_ERROR
+                        || responseCode == HTTP_TOO_MANY_REQUESTS;
+                if (!retry || !retryable) {
+                    throw new GeoPackageException(
+                            "Failed to download tile. Response Code: "
+                                    + responseCode);
+                }
             }
 
-            InputStream geoPackageStream = connection.getInputStream();
-            bytes = GeoPackageIOUtils.streamBytes(geoPackageStream);
-
-        } catch (IOException e) {
-            throw new GeoPackageException("Failed to download tile. URL: "
-                    + zoomUrl + ", z=" + z + ", x=" + x + ", y=" + y, e);
+            successful = true;
         } finally {
-            if (connection != null) {
+            // Only close the connection on failure, keeping it alive otherwise
+            if (!successful) {
                 connection.disconnect();
             }
         }
@@ -456,6 +670,59 @@ public class UrlTileGenerator extends TileGenerator {
         return bytes;
     }
 
+    /**
+     * Read and close the error or redirect response body so the connection
+     * can be reused
+     *
+     * @param connection HTTP URL connection
+     */
+    private static void discard(HttpURLConnection connection) {
+        try {
+            InputStream stream = connection.getErrorStream();
+            if (stream == null) {
+                stream = connection.getInputStream();
+            }
+            if (stream != null) {
+                GeoPackageIOUtils.streamBytes(stream);
+            }
+        } catch (IOException e) {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Wait until a request to the host is permitted by the max requests per
+     * second
+     *
+     * @param host host
+     */
+    private void limitRate(String host) {
+        if (maxRequestsPerSecond > 0) {
+
+            long interval = (long) (1000000000L / maxRequestsPerSecond);
+
+            long requestTime;
+            synchronized (hostRequestTimes) {
+                long now = System.nanoTime();
+                Long nextTime = hostRequestTimes.get(host);
+                requestTime = nextTime != null ? Math.max(now, nextTime) : now;
+                hostRequestTimes.put(host, requestTime + interval);
+            }
+
+            long wait = requestTime - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait / 1000000L, (int) (wait % 1000000L));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new GeoPackageException(
+                            "Interrupted while waiting to download tile. Host: "
+                                    + host, e);
+                }
+            }
+        }
+    }
+
     /**
      * Configure the connection HTTP method and header
      *
@@ -469,6 +736,9 @@ public class UrlTileGenerator extends TileGenerator {
             connection.setRequestMethod(httpMethod);
         }
 
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+
         if (httpHeader != null) {
             for (Map.Entry<String, List<String>> fieldEntry : httpHeader
                     .entrySet()) {
@@ -1,16 +1,17 @@
 package mil.nga.geopackage.tiles.features;
 
-import android.annotation.TargetApi;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.RectF;
+import android.os.Build;
 import android.util.Log;
 import android.util.LruCache;
 
 import java.util.List;
+import java.util.Map;
 
 import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
@@ -53,11 +54,29 @@ public class DefaultFeatureTiles extends FeatureTiles {
      */
     public static final int DEFAULT_GEOMETRY_CACHE_SIZE = 1000;
 
+    /**
+     * Default max bytes of projected feature geometries to retain in cache
+     *
+     * @since 6.4.1
+     */
+    public static final int DEFAULT_GEOMETRY_CACHE_BYTES = 16 * 1024 * 1024;
+
     /**
      * Geometry cache
+     *
+     * @deprecated no longer populated when drawing, feature geometries are
+     * cached projected to Web Mercator and bounded by bytes, see
+     * {@link #setGeometryCacheBytes(int)}
      */
+    @Deprecated
     protected final LruCache<Long, GeoPackageGeometryData> geometryCache = new LruCache<>(DEFAULT_GEOMETRY_CACHE_SIZE);
 
+    /**
+     * Geometry cache of feature geometries projected to Web Mercator, by
+     * feature id and bounded by approximate bytes
+     */
+    private volatile LruCache<Long, FeatureTileGeometry> projectedGeometryCache = createProjectedGeometryCache(DEFAULT_GEOMETRY_CACHE_BYTES);
+
     /**
      * When true, geometries are cached.  Default is true
      */
@@ -197,6 +216,7 @@ public class DefaultFeatureTiles extends FeatureTiles {
      */
     public void clearGeometryCache() {
         geometryCache.evictAll();
+        projectedGeometryCache.evictAll();
     }
 
     /**
@@ -204,10 +224,59 @@ public class DefaultFeatureTiles extends FeatureTiles {
      *
      * @param size new size
      * @since 3.3.0
+     * @deprecated geometry cache is bounded by bytes, use
+     * {@link #setGeometryCacheBytes(int)}. The size is converted to bytes
+     * relative to the default cache size and bytes
      */
-    @TargetApi(21)
+    @Deprecated
     public void setGeometryCacheSize(int size) {
-        geometryCache.resize(size);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            geometryCache.resize(size);
+        }
+        setGeometryCacheBytes((int) Math.min(Integer.MAX_VALUE,
+                (long) size * (DEFAULT_GEOMETRY_CACHE_BYTES / DEFAULT_GEOMETRY_CACHE_SIZE)));
+    }
+
+    /**
+     * Set / resize the max bytes of projected geometries in the geometry cache
+     *
+     * @param bytes new max bytes
+     * @since 6.4.1
+     */
+    public synchronized void setGeometryCacheBytes(int bytes) {
+        // LruCache resize requires API 21, copy the entries from least to
+        // most recently used into a new cache
+        LruCache<Long, FeatureTileGeometry> resized = createProjectedGeometryCache(bytes);
+        for (Map.Entry<Long, FeatureTileGeometry> entry : projectedGeometryCache
+                .snapshot().entrySet()) {
+            resized.put(entry.getKey(), entry.getValue());
+        }
+        projectedGeometryCache = resized;
+    }
+
+    /**
+     * Get the approximate bytes of projected geometries in the geometry cache
+     *
+     * @return cached bytes
+     * @since 6.4.1
+     */
+    public int getGeometryCacheBytes() {
+        return projectedGeometryCache.size();
+    }
+
+    /**
+     * Create a projected geometry cache bounded by approximate bytes
+     *
+     * @param bytes max bytes
+     * @return projected geometry cache
+     */
+    private static LruCache<Long, FeatureTileGeometry> createProjectedGeometryCache(int bytes) {
+        return new LruCache<Long, FeatureTileGeometry>(bytes) {
+            @Override
+            protected int sizeOf(Long key, FeatureTileGeometry value) {
+                return value.getSize();
+            }
+        };
     }
 
     /**
@@ -251,6 +320,9 @@ public class DefaultFeatureTiles extends FeatureTiles {
         GeometryTransform transform = getProjectionToWebMercatorTransform(featureDao.getProjection());
         BoundingBox expandedBoundingBox = expandBoundingBox(boundingBox);
 
+        // Rows are only drawn, reuse a single row for the closed cursor
+        cursor.setReuseRow(true);
+
         boolean drawn = false;
         while (cursor.moveToNext()) {
             FeatureRow row = cursor.getRow();
@@ -317,48 +389,52 @@ public class DefaultFeatureTiles extends FeatureTiles {
 
         try {
 
-            GeoPackageGeometryData geomData = null;
-            BoundingBox transformedBoundingBox = null;
-            long rowId = -1;
-
-            // Check the cache for the geometry data
             if (cacheGeometries) {
-                rowId = row.getId();
-                geomData = geometryCache.get(rowId);
-                if (geomData != null) {
-                    transformedBoundingBox = geomData.getBoundingBox();
-                }
-            }
 
-            if (geomData == null) {
-                // Read the geometry
-                geomData = row.getGeometry();
-            }
+                // Check the cache for the projected geometry
+                long rowId = row.getId();
+                FeatureTileGeometry tileGeometry = projectedGeometryCache.get(rowId);
+
+                if (tileGeometry == null) {
+                    // Read and project the geometry
+                    GeoPackageGeometryData geomData = row.getGeometry();
+                    if (geomData != null) {
+                        Geometry geometry = geomData.getGeometry();
+                        if (geometry != null) {
+                            tileGeometry = FeatureTileGeometry.create(geometry, transform);
+                            projectedGeometryCache.put(rowId, tileGeometry);
+                        }
+                    }
+                }
 
-            if (geomData != null) {
-                Geometry geometry = geomData.getGeometry();
-                if (geometry != null) {
+                if (tileGeometry != null) {
+                    BoundingBox transformedBoundingBox = tileGeometry.getBoundingBox();
+                    if (transformedBoundingBox != null
+                            && expandedBoundingBox.intersects(transformedBoundingBox, true)) {
 
-                    if (transformedBoundingBox == null) {
-                        BoundingBox geometryBoundingBox = geomData.getOrBuildBoundingBox();
-                        transformedBoundingBox = geometryBoundingBox.transform(transform);
+                        double simplifyTolerance = TileBoundingBoxUtils.toleranceDistance(zoom, tileWidth, tileHeight);
+                        drawn = drawShape(simplifyTolerance, boundingBox, canvas, row, tileGeometry);
 
-                        if (cacheGeometries) {
-                            // Set the geometry envelope to the transformed bounding box
-                            geomData.setEnvelope(transformedBoundingBox.buildEnvelope());
-                        }
                     }
+                }
 
-                    if (cacheGeometries) {
-                        // Cache the geometry
-                        geometryCache.put(rowId, geomData);
-                    }
+            } else {
+
+                // Read the geometry
+                GeoPackageGeometryData geomData = row.getGeometry();
+                if (geomData != null) {
+                    Geometry geometry = geomData.getGeometry();
+                    if (geometry != null) {
 
-                    if (expandedBoundingBox.intersects(transformedBoundingBox, true)) {
+                        BoundingBox geometryBoundingBox = geomData.getOrBuildBoundingBox();
+                        BoundingBox transformedBoundingBox = geometryBoundingBox.transform(transform);
 
-                        double simplifyTolerance = TileBoundingBoxUtils.toleranceDistance(zoom, tileWidth, tileHeight);
-                        drawn = drawShape(simplifyTolerance, boundingBox, transform, canvas, row, geometry);
+                        if (expandedBoundingBox.intersects(transformedBoundingBox, true)) {
 
+                            double simplifyTolerance = TileBoundingBoxUtils.toleranceDistance(zoom, tileWidth, tileHeight);
+                            drawn = drawShape(simplifyTolerance, boundingBox, transform, canvas, row, geometry);
+
+                        }
                     }
                 }
             }
@@ -370,6 +446,90 @@ public class DefaultFeatureTiles extends FeatureTiles {
         return drawn;
     }
 
+    /**
+     * Draw the projected geometry on the canvas
+     *
+     * @param simplifyTolerance simplify tolerance in meters
+     * @param boundingBox       bounding box
+     * @param canvas            feature tile canvas
+     * @param featureRow        feature row
+     * @param tileGeometry      projected feature geometry
+     * @return true if drawn
+     */
+    private boolean drawShape(double simplifyTolerance, BoundingBox boundingBox, FeatureTileCanvas canvas, FeatureRow featureRow, FeatureTileGeometry tileGeometry) {
+
+        boolean drawn = false;
+
+        FeatureStyle featureStyle = null;
+        if (tileGeometry.getType() != FeatureTileGeometry.Type.COLLECTION) {
+            featureStyle = getFeatureStyle(featureRow, tileGeometry.getGeometryType());
+        }
+
+        switch (tileGeometry.getType()) {
+
+            case POINTS:
+                for (double[] coordinates : tileGeometry.getCoordinates()) {
+                    for (int i = 0; i < coordinates.length; i += 2) {
+                        drawn = drawPoint(boundingBox, canvas, coordinates[i], coordinates[i + 1], featureStyle) || drawn;
+                    }
+                }
+                break;
+            case LINES:
+                Path linePath = new Path();
+                for (double[] coordinates : tileGeometry.getCoordinates()) {
+                    addCoordinates(simplifyTolerance, boundingBox, linePath, coordinates);
+                }
+                drawn = drawLinePath(canvas, linePath, featureStyle);
+                break;
+            case POLYGONS:
+                Path polygonPath = new Path();
+                for (double[] coordinates : tileGeometry.getCoordinates()) {
+                    addCoordinates(simplifyTolerance, boundingBox, polygonPath, coordinates);
+                    polygonPath.close();
+                }
+                drawn = drawPolygonPath(canvas, polygonPath, featureStyle);
+                break;
+            case COLLECTION:
+                for (FeatureTileGeometry geometryFromCollection : tileGeometry.getGeometries()) {
+                    drawn = drawShape(simplifyTolerance, boundingBox, canvas, featureRow, geometryFromCollection) || drawn;
+                }
+                break;
+            default:
+                throw new GeoPackageException("Unsupported Geometry Type: "
+                        + tileGeometry.getGeometryType().getName());
+        }
+
+        return drawn;
+    }
+
+    /**
+     * Add the projected coordinates to the path
+     *
+     * @param simplifyTolerance simplify tolerance in meters
+     * @param boundingBox       bounding box
+     * @param path              path
+     * @param coordinates       packed Web Mercator coordinates
+     */
+    private void addCoordinates(double simplifyTolerance, BoundingBox boundingBox, Path path, double[] coordinates) {
+
+        // Try to simplify the number of points
+        if (simplifyGeometries) {
+            coordinates = FeatureTileGeometry.simplify(coordinates, simplifyTolerance);
+        }
+
+        for (int i = 0; i < coordinates.length; i += 2) {
+            float x = TileBoundingBoxUtils.getXPixel(tileWidth, boundingBox,
+                    coordinates[i]);
+            float y = TileBoundingBoxUtils.getYPixel(tileHeight, boundingBox,
+                    coordinates[i + 1]);
+            if (i == 0) {
+                path.moveTo(x, y);
+            } else {
+                path.lineTo(x, y);
+            }
+        }
+    }
+
     /**
      * Draw the geometry on the canvas
      *
@@ -610,14 +770,28 @@ public class DefaultFeatureTiles extends FeatureTiles {
      * @return true if drawn
      */
     private boolean drawPoint(BoundingBox boundingBox, GeometryTransform transform, FeatureTileCanvas canvas, Point point, FeatureStyle featureStyle) {
+        Point webMercatorPoint = transform.transform(point);
+        return drawPoint(boundingBox, canvas, webMercatorPoint.getX(), webMercatorPoint.getY(), featureStyle);
+    }
+
+    /**
+     * Draw the Web Mercator point on the canvas
+     *
+     * @param boundingBox  bounding box
+     * @param canvas       draw canvas
+     * @param webMercatorX Web Mercator x
+     * @param webMercatorY Web Mercator y
+     * @param featureStyle feature style
+     * @return true if drawn
+     */
+    private boolean drawPoint(BoundingBox boundingBox, FeatureTileCanvas canvas, double webMercatorX, double webMercatorY, FeatureStyle featureStyle) {
 
         boolean drawn = false;
 
-        Point webMercatorPoint = transform.transform(point);
         float x = TileBoundingBoxUtils.getXPixel(tileWidth, boundingBox,
-                webMercatorPoint.getX());
+                webMercatorX);
         float y = TileBoundingBoxUtils.getYPixel(tileHeight, boundingBox,
-                webMercatorPoint.getY());
+                webMercatorY);
 
         if (featureStyle != null && featureStyle.useIcon()) {
 
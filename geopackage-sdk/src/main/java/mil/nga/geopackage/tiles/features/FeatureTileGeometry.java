@@ -0,0 +1,469 @@
+package mil.nga.geopackage.tiles.features;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.proj.ProjectionTransform;
+import mil.nga.sf.CompoundCurve;
+import mil.nga.sf.Geometry;
+import mil.nga.sf.GeometryCollection;
+import mil.nga.sf.GeometryType;
+import mil.nga.sf.LineString;
+import mil.nga.sf.MultiLineString;
+import mil.nga.sf.MultiPoint;
+import mil.nga.sf.MultiPolygon;
+import mil.nga.sf.Point;
+import mil.nga.sf.Polygon;
+import mil.nga.sf.PolyhedralSurface;
+
+/**
+ * Feature tile geometry, a feature geometry projected once to the tile
+ * projection and stored as packed coordinate arrays ([x0, y0, x1, y1, ...])
+ * for drawing at any zoom level with only pixel math.
+ * <p>
+ * Point geometries hold a single array of all points, line geometries an
+ * array per line, and polygon geometries an array per drawn ring. Geometry
+ * collections hold a child tile geometry per geometry.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class FeatureTileGeometry {
+
+    /**
+     * Approximate object overhead bytes
+     */
+    private static final int OBJECT_BYTES = 16;
+
+    /**
+     * Draw type of the coordinates
+     */
+    public enum Type {
+
+        /**
+         * Individually drawn points
+         */
+        POINTS,
+
+        /**
+         * Lines drawn as a single path
+         */
+        LINES,
+
+        /**
+         * Polygon rings drawn as a single closed path
+         */
+        POLYGONS,
+
+        /**
+         * Collection of individually drawn geometries
+         */
+        COLLECTION
+
+    }
+
+    /**
+     * Geometry type
+     */
+    private final GeometryType geometryType;
+
+    /**
+     * Draw type
+     */
+    private final Type type;
+
+    /**
+     * Packed projected coordinates
+     */
+    private final double[][] coordinates;
+
+    /**
+     * Collection geometries
+     */
+    private final FeatureTileGeometry[] geometries;
+
+    /**
+     * Projected bounding box
+     */
+    private final BoundingBox boundingBox;
+
+    /**
+     * Approximate memory size in bytes
+     */
+    private final int size;
+
+    /**
+     * Create a tile geometry by projecting the geometry
+     *
+     * @param geometry  geometry
+     * @param transform projection transform to the tile projection
+     * @return tile geometry
+     */
+    public static FeatureTileGeometry create(Geometry geometry,
+                                             ProjectionTransform transform) {
+
+        GeometryType geometryType = geometry.getGeometryType();
+
+        Type type;
+        List<double[]> coordinates = new ArrayList<>();
+        List<FeatureTileGeometry> geometries = null;
+
+        switch (geometryType) {
+
+            case POINT:
+                type = Type.POINTS;
+                coordinates.add(project(transform, (Point) geometry));
+                break;
+            case MULTIPOINT:
+                type = Type.POINTS;
+                coordinates.add(project(transform,
+                        ((MultiPoint) geometry).getPoints()));
+                break;
+            case LINESTRING:
+            case CIRCULARSTRING:
+                type = Type.LINES;
+                addLine(transform, coordinates, (LineString) geometry);
+                break;
+            case MULTILINESTRING:
+                type = Type.LINES;
+                for (LineString lineString : ((MultiLineString) geometry)
+                        .getLineStrings()) {
+                    addLine(transform, coordinates, lineString);
+                }
+                break;
+            case COMPOUNDCURVE:
+                type = Type.LINES;
+                for (LineString lineString : ((CompoundCurve) geometry)
+                        .getLineStrings()) {
+                    addLine(transform, coordinates, lineString);
+                }
+                break;
+            case POLYGON:
+            case TRIANGLE:
+                type = Type.POLYGONS;
+                addPolygon(transform, coordinates, (Polygon) geometry);
+                break;
+            case MULTIPOLYGON:
+                type = Type.POLYGONS;
+                for (Polygon polygon : ((MultiPolygon) geometry)
+                        .getPolygons()) {
+                    addPolygon(transform, coordinates, polygon);
+                }
+                break;
+            case POLYHEDRALSURFACE:
+            case TIN:
+                type = Type.POLYGONS;
+                for (Polygon polygon : ((PolyhedralSurface) geometry)
+                        .getPolygons()) {
+                    addPolygon(transform, coordinates, polygon);
+                }
+                break;
+            case GEOMETRYCOLLECTION:
+                type = Type.COLLECTION;
+                @SuppressWarnings("unchecked")
+                GeometryCollection<Geometry> geometryCollection = (GeometryCollection<Geometry>) geometry;
+                geometries = new ArrayList<>();
+                for (Geometry childGeometry : geometryCollection
+                        .getGeometries()) {
+                    geometries.add(create(childGeometry, transform));
+                }
+                break;
+            default:
+                throw new GeoPackageException("Unsupported Geometry Type: "
+                        + geometryType.getName());
+        }
+
+        FeatureTileGeometry[] geometryArray = null;
+        if (geometries != null) {
+            geometryArray = geometries
+                    .toArray(new FeatureTileGeometry[geometries.size()]);
+        }
+
+        return new FeatureTileGeometry(geometryType, type,
+                coordinates.toArray(new double[coordinates.size()][]),
+                geometryArray);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param geometryType geometry type
+     * @param type         draw type
+     * @param coordinates  packed projected coordinates
+     * @param geometries   collection geometries
+     */
+    private FeatureTileGeometry(GeometryType geometryType, Type type,
+                                double[][] coordinates, FeatureTileGeometry[] geometries) {
+        this.geometryType = geometryType;
+        this.type = type;
+        this.coordinates = coordinates;
+        this.geometries = geometries;
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        int size = 3 * OBJECT_BYTES;
+        for (double[] values : coordinates) {
+            for (int i = 0; i < values.length; i += 2) {
+                minX = Math.min(minX, values[i]);
+                maxX = Math.max(maxX, values[i]);
+                minY = Math.min(minY, values[i + 1]);
+                maxY = Math.max(maxY, values[i + 1]);
+            }
+            size += OBJECT_BYTES + 8 * values.length;
+        }
+        if (geometries != null) {
+            for (FeatureTileGeometry geometry : geometries) {
+                BoundingBox geometryBoundingBox = geometry.getBoundingBox();
+                if (geometryBoundingBox != null) {
+                    minX = Math.min(minX, geometryBoundingBox.getMinLongitude());
+                    maxX = Math.max(maxX, geometryBoundingBox.getMaxLongitude());
+                    minY = Math.min(minY, geometryBoundingBox.getMinLatitude());
+                    maxY = Math.max(maxY, geometryBoundingBox.getMaxLatitude());
+                }
+                size += geometry.getSize();
+            }
+        }
+        if (minX <= maxX && minY <= maxY) {
+            boundingBox = new BoundingBox(minX, minY, maxX, maxY);
+        } else {
+            boundingBox = null;
+        }
+        this.size = size;
+    }
+
+    /**
+     * Get the geometry type
+     *
+     * @return geometry type
+     */
+    public GeometryType getGeometryType() {
+        return geometryType;
+    }
+
+    /**
+     * Get the draw type
+     *
+     * @return draw type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get the packed projected coordinates
+     *
+     * @return coordinate arrays
+     */
+    public double[][] getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * Get the collection geometries
+     *
+     * @return geometries or null if not a collection
+     */
+    public FeatureTileGeometry[] getGeometries() {
+        return geometries;
+    }
+
+    /**
+     * Get the projected bounding box
+     *
+     * @return bounding box or null if no coordinates
+     */
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
+    /**
+     * Get the approximate memory size in bytes
+     *
+     * @return bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Simplify packed coordinates to a similar curve with fewer points using
+     * the Ramer-Douglas-Peucker algorithm, matching
+     * {@link mil.nga.sf.util.GeometryUtils#simplifyPoints(List, double)}
+     *
+     * @param coordinates packed coordinates
+     * @param tolerance   minimum distance from a simplified line for a point
+     *                    to be kept
+     * @return simplified packed coordinates
+     */
+    public static double[] simplify(double[] coordinates, double tolerance) {
+
+        int count = coordinates.length / 2;
+        if (count < 3) {
+            return coordinates;
+        }
+
+        boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+        int kept = 2;
+
+        int[] stack = new int[2 * count];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        stack[stackSize++] = count - 1;
+
+        while (stackSize > 0) {
+
+            int end = stack[--stackSize];
+            int start = stack[--stackSize];
+
+            double maxDistance = 0.0;
+            int index = 0;
+            for (int i = start + 1; i < end; i++) {
+                double distance = perpendicularDistance(coordinates, i, start,
+                        end);
+                if (distance > maxDistance) {
+                    index = i;
+                    maxDistance = distance;
+                }
+            }
+
+            if (maxDistance > tolerance) {
+                keep[index] = true;
+                kept++;
+                stack[stackSize++] = start;
+                stack[stackSize++] = index;
+                stack[stackSize++] = index;
+                stack[stackSize++] = end;
+            }
+        }
+
+        double[] simplified = coordinates;
+        if (kept < count) {
+            simplified = new double[2 * kept];
+            int simplifiedIndex = 0;
+            for (int i = 0; i < count; i++) {
+                if (keep[i]) {
+                    simplified[simplifiedIndex++] = coordinates[2 * i];
+                    simplified[simplifiedIndex++] = coordinates[2 * i + 1];
+                }
+            }
+        }
+
+        return simplified;
+    }
+
+    /**
+     * Get the distance of the point from the line segment
+     *
+     * @param coordinates packed coordinates
+     * @param point       point index
+     * @param lineStart   line start point index
+     * @param lineEnd     line end point index
+     * @return distance
+     */
+    private static double perpendicularDistance(double[] coordinates,
+                                                int point, int lineStart, int lineEnd) {
+
+        double x = coordinates[2 * point];
+        double y = coordinates[2 * point + 1];
+        double startX = coordinates[2 * lineStart];
+        double startY = coordinates[2 * lineStart + 1];
+        double endX = coordinates[2 * lineEnd];
+        double endY = coordinates[2 * lineEnd + 1];
+
+        double vX = endX - startX;
+        double vY = endY - startY;
+        double wX = x - startX;
+        double wY = y - startY;
+        double c1 = wX * vX + wY * vY;
+        double c2 = vX * vX + vY * vY;
+
+        double x2;
+        double y2;
+        if (c1 <= 0) {
+            x2 = startX;
+            y2 = startY;
+        } else if (c2 <= c1) {
+            x2 = endX;
+            y2 = endY;
+        } else {
+            double b = c1 / c2;
+            x2 = startX + b * vX;
+            y2 = startY + b * vY;
+        }
+
+        double dX = x2 - x;
+        double dY = y2 - y;
+        return Math.sqrt(dX * dX + dY * dY);
+    }
+
+    /**
+     * Add the projected line when it has at least two points
+     *
+     * @param transform   projection transform
+     * @param coordinates coordinate arrays
+     * @param lineString  line string
+     */
+    private static void addLine(ProjectionTransform transform,
+                                List<double[]> coordinates, LineString lineString) {
+        List<Point> points = lineString.getPoints();
+        if (points.size() >= 2) {
+            coordinates.add(project(transform, points));
+        }
+    }
+
+    /**
+     * Add the projected polygon rings when the exterior ring has at least
+     * two points, skipping holes with fewer than two points
+     *
+     * @param transform   projection transform
+     * @param coordinates coordinate arrays
+     * @param polygon     polygon
+     */
+    private static void addPolygon(ProjectionTransform transform,
+                                   List<double[]> coordinates, Polygon polygon) {
+        List<LineString> rings = polygon.getRings();
+        if (!rings.isEmpty() && rings.get(0).getPoints().size() >= 2) {
+            for (LineString ring : rings) {
+                addLine(transform, coordinates, ring);
+            }
+        }
+    }
+
+    /**
+     * Project a point
+     *
+     * @param transform projection transform
+     * @param point     point
+     * @return packed coordinates
+     */
+    private static double[] project(ProjectionTransform transform, Point point) {
+        return transform.transform(point.getX(), point.getY());
+    }
+
+    /**
+     * Project points
+     *
+     * @param transform projection transform
+     * @param points    points
+     * @return packed coordinates
+     */
+    private static double[] project(ProjectionTransform transform,
+                                    List<Point> points) {
+        double[] values = new double[2 * points.size()];
+        int index = 0;
+        for (Point point : points) {
+            double[] projected = transform.transform(point.getX(),
+                    point.getY());
+            values[index++] = projected[0];
+            values[index++] = projected[1];
+        }
+        return values;
+    }
+
+}
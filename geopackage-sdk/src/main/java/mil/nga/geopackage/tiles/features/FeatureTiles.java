@@ -21,6 +21,7 @@ import mil.nga.geopackage.BoundingBox;
 import mil.nga.geopackage.GeoPackage;
 import mil.nga.geopackage.GeoPackageException;
 import mil.nga.geopackage.R;
+import mil.nga.geopackage.extension.nga.style.FeatureIdStyles;
 import mil.nga.geopackage.extension.nga.style.FeatureStyle;
 import mil.nga.geopackage.extension.nga.style.FeatureTableStyles;
 import mil.nga.geopackage.extension.nga.style.IconCache;
@@ -66,6 +67,14 @@ public abstract class FeatureTiles {
     protected static final Projection WEB_MERCATOR_PROJECTION = ProjectionFactory
             .getProjection(ProjectionConstants.EPSG_WEB_MERCATOR);
 
+    /**
+     * Default max feature style and icon mappings of a table to resolve and
+     * cache for all features
+     *
+     * @since 6.4.1
+     */
+    public static final int DEFAULT_MAX_CACHED_FEATURE_STYLES = 10000;
+
     /**
      * Context
      */
@@ -166,6 +175,18 @@ public abstract class FeatureTiles {
      */
     private IconCache iconCache = new IconCache();
 
+    /**
+     * Max feature style and icon mappings of a table to resolve and cache for
+     * all features, tables with more mappings resolve each drawn feature
+     */
+    protected int maxCachedFeatureStyles = DEFAULT_MAX_CACHED_FEATURE_STYLES;
+
+    /**
+     * True when the table feature styles are resolved and cached for all
+     * features, null until determined
+     */
+    private Boolean cacheFeatureStyles;
+
     /**
      * Height overlapping pixels between tile images
      */
@@ -545,6 +566,31 @@ public abstract class FeatureTiles {
      */
     public void setFeatureTableStyles(FeatureTableStyles featureTableStyles) {
         this.featureTableStyles = featureTableStyles;
+        cacheFeatureStyles = null;
+    }
+
+    /**
+     * Get the max feature style and icon mappings of a table to resolve and
+     * cache for all features in a single query
+     *
+     * @return max cached feature style mappings
+     * @since 6.4.1
+     */
+    public int getMaxCachedFeatureStyles() {
+        return maxCachedFeatureStyles;
+    }
+
+    /**
+     * Set the max feature style and icon mappings of a table to resolve and
+     * cache for all features in a single query. Tables with more mappings
+     * resolve the styles of each drawn feature with a single query.
+     *
+     * @param maxCachedFeatureStyles max cached feature style mappings
+     * @since 6.4.1
+     */
+    public void setMaxCachedFeatureStyles(int maxCachedFeatureStyles) {
+        this.maxCachedFeatureStyles = maxCachedFeatureStyles;
+        cacheFeatureStyles = null;
     }
 
     /**
@@ -565,6 +611,19 @@ public abstract class FeatureTiles {
     public void clearCache() {
         clearStylePaintCache();
         clearIconCache();
+        clearFeatureStyleCache();
+    }
+
+    /**
+     * Clear the resolved feature style cache
+     *
+     * @since 6.4.1
+     */
+    public void clearFeatureStyleCache() {
+        if (featureTableStyles != null) {
+            featureTableStyles.clearCachedFeatureIdStyles();
+        }
+        cacheFeatureStyles = null;
     }
 
     /**
@@ -1412,11 +1471,7 @@ public abstract class FeatureTiles {
      * @return feature style
      */
     protected FeatureStyle getFeatureStyle(FeatureRow featureRow) {
-        FeatureStyle featureStyle = null;
-        if (featureTableStyles != null) {
-            featureStyle = featureTableStyles.getFeatureStyle(featureRow);
-        }
-        return featureStyle;
+        return getFeatureStyle(featureRow, featureRow.getGeometryType());
     }
 
     /**
@@ -1428,12 +1483,35 @@ public abstract class FeatureTiles {
      */
     protected FeatureStyle getFeatureStyle(FeatureRow featureRow, GeometryType geometryType) {
         FeatureStyle featureStyle = null;
-        if (featureTableStyles != null) {
-            featureStyle = featureTableStyles.getFeatureStyle(featureRow, geometryType);
+        FeatureTableStyles tableStyles = featureTableStyles;
+        if (tableStyles != null) {
+            FeatureIdStyles featureIdStyles;
+            if (isCacheFeatureStyles(tableStyles)) {
+                featureIdStyles = tableStyles.getCachedFeatureIdStyles();
+            } else {
+                featureIdStyles = tableStyles.getFeatureIdStyles(featureRow.getId());
+            }
+            featureStyle = featureIdStyles.getFeatureStyle(featureRow.getId(), geometryType);
         }
         return featureStyle;
     }
 
+    /**
+     * Determine if the table feature styles are resolved and cached for all
+     * features, when the table feature style mappings are within the max
+     *
+     * @param tableStyles feature table styles
+     * @return true to use the cached feature id styles
+     */
+    private boolean isCacheFeatureStyles(FeatureTableStyles tableStyles) {
+        Boolean cache = cacheFeatureStyles;
+        if (cache == null) {
+            cache = tableStyles.countFeatureMappings() <= maxCachedFeatureStyles;
+            cacheFeatureStyles = cache;
+        }
+        return cache;
+    }
+
     /**
      * Get the icon bitmap from the icon row
      *
@@ -10,7 +10,9 @@ import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
 import mil.nga.geopackage.tiles.TileGrid;
 import mil.nga.geopackage.tiles.matrix.TileMatrix;
 import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
+import mil.nga.geopackage.tiles.retriever.ApproximateReprojection;
 import mil.nga.geopackage.tiles.retriever.GeoPackageTile;
+import mil.nga.geopackage.tiles.retriever.TileBitmapCache;
 import mil.nga.geopackage.tiles.retriever.TileCreator;
 import mil.nga.geopackage.tiles.user.TileDao;
 import mil.nga.geopackage.tiles.user.TileRow;
@@ -24,6 +26,16 @@ import mil.nga.proj.Projection;
  */
 public class TileReprojection extends TileReprojectionCore {
 
+    /**
+     * Approximate reprojection options, null to reproject each pixel
+     */
+    private ApproximateReprojection approximateReprojection;
+
+    /**
+     * Decoded source tile bitmap cache, null to decode each drawn tile
+     */
+    private TileBitmapCache bitmapCache;
+
     /**
      * Create a Reprojection from a GeoPackage tile table, replacing the
      * existing tiles
@@ -448,6 +460,49 @@ public class TileReprojection extends TileReprojectionCore {
         return (TileDao) super.reprojectTileDao;
     }
 
+    /**
+     * Get the approximate reprojection options
+     *
+     * @return approximate reprojection options, null when reprojecting each pixel
+     * @since 6.4.1
+     */
+    public ApproximateReprojection getApproximateReprojection() {
+        return approximateReprojection;
+    }
+
+    /**
+     * Set the approximate reprojection options, interpolating reprojected
+     * pixels between a grid of transformed pixels
+     *
+     * @param approximateReprojection approximate reprojection options, null to
+     *                                reproject each pixel
+     * @since 6.4.1
+     */
+    public void setApproximateReprojection(ApproximateReprojection approximateReprojection) {
+        this.approximateReprojection = approximateReprojection;
+    }
+
+    /**
+     * Get the decoded source tile bitmap cache
+     *
+     * @return bitmap cache, null when decoding each drawn tile
+     * @since 6.4.1
+     */
+    public TileBitmapCache getBitmapCache() {
+        return bitmapCache;
+    }
+
+    /**
+     * Set the decoded source tile bitmap cache, reusing decoded source tiles
+     * across neighboring reprojected tiles
+     *
+     * @param bitmapCache bitmap cache, null to decode each drawn tile
+     * @since 6.4.1
+     */
+    public void setBitmapCache(TileBitmapCache bitmapCache) {
+        this.bitmapCache = bitmapCache;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -571,6 +626,8 @@ public class TileReprojection extends TileReprojectionCore {
 
         TileCreator tileCreator = new TileCreator(tileDao, (int) tileWidth,
                 (int) tileHeight, reprojectTileDao.getProjection());
+        tileCreator.setApproximateReprojection(approximateReprojection);
+        tileCreator.setBitmapCache(bitmapCache);
 
         for (long tileRow = tileGrid.getMinY(); tileRow <= tileGrid
                 .getMaxY(); tileRow++) {
@@ -0,0 +1,603 @@
+package mil.nga.geopackage.tiles.retriever;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.io.ThreadPool;
+import mil.nga.proj.ProjectionTransform;
+
+/**
+ * Approximate tile reprojection, transforming a coarse control grid of
+ * request pixels to the tiles projection and bilinearly interpolating the
+ * source pixel locations in between. Grid cells with an interpolation error
+ * above the max error at their center or edge midpoints are subdivided,
+ * down to exact transformations of individual pixels. Close to shut down
+ * the row reprojection threads created when using multiple threads.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class ApproximateReprojection implements Closeable {
+
+    /**
+     * Default pixels between control grid points
+     */
+    public static final int DEFAULT_GRID_SIZE = 16;
+
+    /**
+     * Default max interpolation error in source tile pixels
+     */
+    public static final double DEFAULT_MAX_ERROR = 0.125;
+
+    /**
+     * Pixels between control grid points
+     */
+    private int gridSize = DEFAULT_GRID_SIZE;
+
+    /**
+     * Max interpolation error in source tile pixels
+     */
+    private double maxError = DEFAULT_MAX_ERROR;
+
+    /**
+     * Row reprojection threads
+     */
+    private final ThreadPool threadPool = new ThreadPool(
+            ApproximateReprojection.class.getSimpleName());
+
+    /**
+     * Constructor
+     */
+    public ApproximateReprojection() {
+
+    }
+
+    /**
+     * Constructor
+     *
+     * @param gridSize pixels between control grid points
+     * @param maxError max interpolation error in source tile pixels
+     */
+    public ApproximateReprojection(int gridSize, double maxError) {
+        setGridSize(gridSize);
+        setMaxError(maxError);
+    }
+
+    /**
+     * Get the pixels between control grid points
+     *
+     * @return grid size
+     */
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    /**
+     * Set the pixels between control grid points
+     *
+     * @param gridSize grid size
+     */
+    public void setGridSize(int gridSize) {
+        if (gridSize < 1) {
+            throw new IllegalArgumentException(
+                    "Grid size must be at least 1. grid size: " + gridSize);
+        }
+        this.gridSize = gridSize;
+    }
+
+    /**
+     * Get the max interpolation error in source tile pixels
+     *
+     * @return max error
+     */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /**
+     * Set the max interpolation error in source tile pixels
+     *
+     * @param maxError max error
+     */
+    public void setMaxError(double maxError) {
+        if (Double.isNaN(maxError) || maxError < 0) {
+            throw new IllegalArgumentException(
+                    "Max error must be a non negative number. max error: "
+                            + maxError);
+        }
+        this.maxError = maxError;
+    }
+
+    /**
+     * Get the number of threads splitting the tile rows
+     *
+     * @return threads
+     */
+    public int getThreads() {
+        return threadPool.getThreads();
+    }
+
+    /**
+     * Set the number of threads splitting the tile rows
+     *
+     * @param threads threads
+     */
+    public void setThreads(int threads) {
+        threadPool.setThreads(threads);
+    }
+
+    /**
+     * Get the caller supplied executor running the row reprojection threads
+     *
+     * @return executor or null
+     */
+    public ExecutorService getExecutor() {
+        return threadPool.getExecutor();
+    }
+
+    /**
+     * Set a caller supplied executor to run the row reprojection threads, in
+     * place of a created pool. The executor is not shut down on close.
+     *
+     * @param executor executor, null to create a pool when needed
+     */
+    public void setExecutor(ExecutorService executor) {
+        threadPool.setExecutor(executor);
+    }
+
+    /**
+     * Shut down the created row reprojection threads
+     */
+    @Override
+    public void close() {
+        threadPool.close();
+    }
+
+    /**
+     * Reproject the tile pixels
+     *
+     * @param pixels                  tile pixels in the tiles projection
+     * @param width                   tile width
+     * @param height                  tile height
+     * @param requestedTileWidth      requested tile width
+     * @param requestedTileHeight     requested tile height
+     * @param requestBoundingBox      request bounding box in the request projection
+     * @param transformRequestToTiles transformation from request to tiles
+     * @param tilesBoundingBox        request bounding box in the tiles projection
+     * @return projected tile pixels
+     */
+    public int[] reproject(int[] pixels, int width, int height,
+                           int requestedTileWidth, int requestedTileHeight,
+                           BoundingBox requestBoundingBox,
+                           ProjectionTransform transformRequestToTiles,
+                           BoundingBox tilesBoundingBox) {
+
+        int[] projectedPixels = new int[requestedTileWidth * requestedTileHeight];
+
+        // Split the control grid cell rows into row bands
+        int cellRows = Math.max((requestedTileHeight - 2) / gridSize + 1, 1);
+        int bands = Math.min(threadPool.getThreads(), cellRows);
+
+        if (bands <= 1) {
+            new Reprojection(pixels, width, height, projectedPixels,
+                    requestedTileWidth, requestedTileHeight,
+                    requestBoundingBox, transformRequestToTiles,
+                    tilesBoundingBox).reproject(0, requestedTileHeight);
+        } else {
+
+            ExecutorService executor = threadPool.getActiveExecutor();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int band = 0; band < bands; band++) {
+                final int minY = Math.min(
+                        (int) ((long) cellRows * band / bands) * gridSize,
+                        requestedTileHeight);
+                final int maxY = band + 1 == bands ? requestedTileHeight
+                        : Math.min((int) ((long) cellRows * (band + 1) / bands)
+                        * gridSize, requestedTileHeight);
+                // Projection transforms are not thread safe
+                final Reprojection reprojection = new Reprojection(pixels,
+                        width, height, projectedPixels, requestedTileWidth,
+                        requestedTileHeight, requestBoundingBox,
+                        ProjectionTransform.create(transformRequestToTiles),
+                        tilesBoundingBox);
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        reprojection.reproject(minY, maxY);
+                    }
+                }));
+            }
+
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GeoPackageException(
+                        "Interrupted while reprojecting tile", e);
+            } catch (ExecutionException e) {
+                throw new GeoPackageException("Failed to reproject tile",
+                        e.getCause());
+            }
+        }
+
+        return projectedPixels;
+    }
+
+    /**
+     * Reprojection of a single tile
+     */
+    private class Reprojection {
+
+        /**
+         * Tile pixels
+         */
+        private final int[] pixels;
+
+        /**
+         * Tile width
+         */
+        private final int width;
+
+        /**
+         * Tile height
+         */
+        private final int height;
+
+        /**
+         * Projected tile pixels
+         */
+        private final int[] projectedPixels;
+
+        /**
+         * Requested tile width
+         */
+        private final int requestedTileWidth;
+
+        /**
+         * Requested tile height
+         */
+        private final int requestedTileHeight;
+
+        /**
+         * Transformation from request to tiles
+         */
+        private final ProjectionTransform transformRequestToTiles;
+
+        /**
+         * Request min longitude
+         */
+        private final double requestMinLongitude;
+
+        /**
+         * Request max latitude
+         */
+        private final double requestMaxLatitude;
+
+        /**
+         * Requested width units per pixel
+         */
+        private final double requestedWidthUnitsPerPixel;
+
+        /**
+         * Requested height units per pixel
+         */
+        private final double requestedHeightUnitsPerPixel;
+
+        /**
+         * Tiles min longitude
+         */
+        private final double tilesMinLongitude;
+
+        /**
+         * Tiles max latitude
+         */
+        private final double tilesMaxLatitude;
+
+        /**
+         * Tiles width distance
+         */
+        private final double tilesDistanceWidth;
+
+        /**
+         * Tiles height distance
+         */
+        private final double tilesDistanceHeight;
+
+        /**
+         * Constructor
+         *
+         * @param pixels                  tile pixels
+         * @param width                   tile width
+         * @param height                  tile height
+         * @param projectedPixels         projected tile pixels
+         * @param requestedTileWidth      requested tile width
+         * @param requestedTileHeight     requested tile height
+         * @param requestBoundingBox      request bounding box
+         * @param transformRequestToTiles transformation from request to tiles
+         * @param tilesBoundingBox        request bounding box in the tiles projection
+         */
+        Reprojection(int[] pixels, int width, int height,
+                     int[] projectedPixels, int requestedTileWidth,
+                     int requestedTileHeight, BoundingBox requestBoundingBox,
+                     ProjectionTransform transformRequestToTiles,
+                     BoundingBox tilesBoundingBox) {
+            this.pixels = pixels;
+            this.width = width;
+            this.height = height;
+            this.projectedPixels = projectedPixels;
+            this.requestedTileWidth = requestedTileWidth;
+            this.requestedTileHeight = requestedTileHeight;
+            this.transformRequestToTiles = transformRequestToTiles;
+            requestMinLongitude = requestBoundingBox.getMinLongitude();
+            requestMaxLatitude = requestBoundingBox.getMaxLatitude();
+            requestedWidthUnitsPerPixel = (requestBoundingBox.getMaxLongitude() - requestBoundingBox.getMinLongitude()) / requestedTileWidth;
+            requestedHeightUnitsPerPixel = (requestBoundingBox.getMaxLatitude() - requestBoundingBox.getMinLatitude()) / requestedTileHeight;
+            tilesMinLongitude = tilesBoundingBox.getMinLongitude();
+            tilesMaxLatitude = tilesBoundingBox.getMaxLatitude();
+            tilesDistanceWidth = tilesBoundingBox.getMaxLongitude() - tilesBoundingBox.getMinLongitude();
+            tilesDistanceHeight = tilesBoundingBox.getMaxLatitude() - tilesBoundingBox.getMinLatitude();
+        }
+
+        /**
+         * Reproject the rows from the min row to the max row, exclusive
+         *
+         * @param minY min row, a multiple of the grid size
+         * @param maxY max row, exclusive
+         */
+        void reproject(int minY, int maxY) {
+
+            int maxX = requestedTileWidth - 1;
+            int lastY = maxY - 1;
+
+            // Control grid columns
+            int columns = Math.max((maxX - 1) / gridSize + 1, 1) + 1;
+            int[] gridX = new int[columns];
+            for (int i = 0; i < columns - 1; i++) {
+                gridX[i] = i * gridSize;
+            }
+            gridX[columns - 1] = maxX;
+
+            // Transformed control grid rows, reusing the bottom row of each
+            // cell row as the top row of the next
+            double[] top = new double[2 * columns];
+            double[] bottom = new double[2 * columns];
+            transformRow(minY, gridX, top);
+
+            for (int cellMinY = minY; cellMinY < lastY || cellMinY == minY; cellMinY += gridSize) {
+
+                int cellMaxY = Math.min(cellMinY + gridSize, lastY);
+                transformRow(cellMaxY, gridX, bottom);
+
+                for (int i = 0; i < columns - 1; i++) {
+                    fillCell(gridX[i], cellMinY, gridX[i + 1], cellMaxY,
+                            top[2 * i], top[2 * i + 1],
+                            top[2 * i + 2], top[2 * i + 3],
+                            bottom[2 * i], bottom[2 * i + 1],
+                            bottom[2 * i + 2], bottom[2 * i + 3]);
+                }
+
+                double[] swap = top;
+                top = bottom;
+                bottom = swap;
+
+                if (cellMaxY >= lastY) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Transform the control grid points of a row to source pixels
+         *
+         * @param y      row
+         * @param gridX  control grid columns
+         * @param source source pixel coordinates
+         */
+        private void transformRow(int y, int[] gridX, double[] source) {
+            for (int i = 0; i < gridX.length; i++) {
+                double[] sourcePixel = sourcePixel(gridX[i], y);
+                source[2 * i] = sourcePixel[0];
+                source[2 * i + 1] = sourcePixel[1];
+            }
+        }
+
+        /**
+         * Fill the pixels of a cell, inclusive of all edges, interpolating
+         * within the max error or subdividing
+         *
+         * @param minX min column
+         * @param minY min row
+         * @param maxX max column
+         * @param maxY max row
+         * @param x00  top left source x
+         * @param y00  top left source y
+         * @param x10  top right source x
+         * @param y10  top right source y
+         * @param x01  bottom left source x
+         * @param y01  bottom left source y
+         * @param x11  bottom right source x
+         * @param y11  bottom right source y
+         */
+        private void fillCell(int minX, int minY, int maxX, int maxY,
+                              double x00, double y00, double x10, double y10,
+                              double x01, double y01, double x11, double y11) {
+
+            int cellWidth = maxX - minX;
+            int cellHeight = maxY - minY;
+
+            if (cellWidth <= 1 && cellHeight <= 1) {
+
+                // Every pixel is a transformed corner
+                setPixel(minX, minY, x00, y00);
+                setPixel(maxX, minY, x10, y10);
+                setPixel(minX, maxY, x01, y01);
+                setPixel(maxX, maxY, x11, y11);
+
+            } else {
+
+                int midX = minX + cellWidth / 2;
+                int midY = minY + cellHeight / 2;
+
+                double[] top = sourcePixel(midX, minY);
+                double[] left = sourcePixel(minX, midY);
+                double[] center = sourcePixel(midX, midY);
+                double[] right = sourcePixel(maxX, midY);
+                double[] bottom = sourcePixel(midX, maxY);
+
+                double u = cellWidth > 0 ? (midX - minX) / (double) cellWidth : 0;
+                double v = cellHeight > 0 ? (midY - minY) / (double) cellHeight : 0;
+
+                boolean interpolate = withinError(top, x00, y00, x10, y10, u)
+                        && withinError(bottom, x01, y01, x11, y11, u)
+                        && withinError(left, x00, y00, x01, y01, v)
+                        && withinError(right, x10, y10, x11, y11, v)
+                        && withinError(center,
+                        x00 + (x10 - x00) * u + ((x01 + (x11 - x01) * u) - (x00 + (x10 - x00) * u)) * v,
+                        y00 + (y10 - y00) * u + ((y01 + (y11 - y01) * u) - (y00 + (y10 - y00) * u)) * v);
+
+                if (interpolate) {
+                    interpolateCell(minX, minY, maxX, maxY, x00, y00, x10, y10,
+                            x01, y01, x11, y11);
+                } else if (cellWidth >= cellHeight) {
+                    // Split the columns
+                    fillCell(minX, minY, midX, maxY, x00, y00, top[0], top[1],
+                            x01, y01, bottom[0], bottom[1]);
+                    fillCell(midX, minY, maxX, maxY, top[0], top[1], x10, y10,
+                            bottom[0], bottom[1], x11, y11);
+                } else {
+                    // Split the rows
+                    fillCell(minX, minY, maxX, midY, x00, y00, x10, y10,
+                            left[0], left[1], right[0], right[1]);
+                    fillCell(minX, midY, maxX, maxY, left[0], left[1],
+                            right[0], right[1], x01, y01, x11, y11);
+                }
+            }
+        }
+
+        /**
+         * Check if the transformed source pixel is within the max error of
+         * the linear interpolation between two source pixels
+         *
+         * @param source transformed source pixel
+         * @param x0     first source x
+         * @param y0     first source y
+         * @param x1     second source x
+         * @param y1     second source y
+         * @param t      interpolation fraction
+         * @return true if within the max error
+         */
+        private boolean withinError(double[] source, double x0, double y0,
+                                    double x1, double y1, double t) {
+            return withinError(source, x0 + (x1 - x0) * t, y0 + (y1 - y0) * t);
+        }
+
+        /**
+         * Check if the transformed source pixel is within the max error of the
+         * interpolated source pixel
+         *
+         * @param source transformed source pixel
+         * @param x      interpolated source x
+         * @param y      interpolated source y
+         * @return true if within the max error
+         */
+        private boolean withinError(double[] source, double x, double y) {
+            // Non finite values fail the comparisons
+            return Math.abs(source[0] - x) <= maxError
+                    && Math.abs(source[1] - y) <= maxError;
+        }
+
+        /**
+         * Fill the pixels of a cell, inclusive of all edges, by bilinear
+         * interpolation of the corner source pixels
+         *
+         * @param minX min column
+         * @param minY min row
+         * @param maxX max column
+         * @param maxY max row
+         * @param x00  top left source x
+         * @param y00  top left source y
+         * @param x10  top right source x
+         * @param y10  top right source y
+         * @param x01  bottom left source x
+         * @param y01  bottom left source y
+         * @param x11  bottom right source x
+         * @param y11  bottom right source y
+         */
+        private void interpolateCell(int minX, int minY, int maxX, int maxY,
+                                     double x00, double y00, double x10, double y10,
+                                     double x01, double y01, double x11, double y11) {
+
+            int cellWidth = maxX - minX;
+            int cellHeight = maxY - minY;
+
+            for (int y = minY; y <= maxY; y++) {
+
+                double v = cellHeight > 0 ? (y - minY) / (double) cellHeight : 0;
+
+                // Row start and end source pixels
+                double startX = x00 + (x01 - x00) * v;
+                double startY = y00 + (y01 - y00) * v;
+                double endX = x10 + (x11 - x10) * v;
+                double endY = y10 + (y11 - y10) * v;
+
+                for (int x = minX; x <= maxX; x++) {
+                    double u = cellWidth > 0 ? (x - minX) / (double) cellWidth : 0;
+                    setPixel(x, y, startX + (endX - startX) * u,
+                            startY + (endY - startY) * u);
+                }
+            }
+        }
+
+        /**
+         * Transform the request pixel to the source tile pixel coordinate
+         *
+         * @param x request column
+         * @param y request row
+         * @return source pixel x and y
+         */
+        private double[] sourcePixel(int x, int y) {
+
+            double longitude = requestMinLongitude + (x * requestedWidthUnitsPerPixel);
+            double latitude = requestMaxLatitude - (y * requestedHeightUnitsPerPixel);
+            double[] projected = transformRequestToTiles.transform(longitude,
+                    latitude);
+
+            projected[0] = ((projected[0] - tilesMinLongitude) / tilesDistanceWidth) * width;
+            projected[1] = ((tilesMaxLatitude - projected[1]) / tilesDistanceHeight) * height;
+
+            return projected;
+        }
+
+        /**
+         * Set the request pixel color from the source tile pixel
+         *
+         * @param x       request column
+         * @param y       request row
+         * @param sourceX source pixel x
+         * @param sourceY source pixel y
+         */
+        private void setPixel(int x, int y, double sourceX, double sourceY) {
+
+            int xPixel = (int) Math.round(sourceX);
+            int yPixel = (int) Math.round(sourceY);
+
+            xPixel = Math.max(0, xPixel);
+            xPixel = Math.min(width - 1, xPixel);
+
+            yPixel = Math.max(0, yPixel);
+            yPixel = Math.min(height - 1, yPixel);
+
+            projectedPixels[(y * requestedTileWidth) + x] = pixels[(yPixel * width) + xPixel];
+        }
+
+    }
+
+}
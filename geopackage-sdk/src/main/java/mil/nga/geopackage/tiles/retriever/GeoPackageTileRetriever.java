@@ -97,4 +97,46 @@ public class GeoPackageTileRetriever implements TileRetriever {
         tileCreator.setScaling(scaling);
     }
 
+    /**
+     * Get the approximate reprojection options
+     *
+     * @return approximate reprojection options, null when reprojecting each pixel
+     * @since 6.4.1
+     */
+    public ApproximateReprojection getApproximateReprojection() {
+        return tileCreator.getApproximateReprojection();
+    }
+
+    /**
+     * Set the approximate reprojection options for tiles not in Web Mercator
+     *
+     * @param approximateReprojection approximate reprojection options, null to
+     *                                reproject each pixel
+     * @since 6.4.1
+     */
+    public void setApproximateReprojection(ApproximateReprojection approximateReprojection) {
+        tileCreator.setApproximateReprojection(approximateReprojection);
+    }
+
+    /**
+     * Get the decoded source tile bitmap cache
+     *
+     * @return bitmap cache, null when decoding each drawn tile
+     * @since 6.4.1
+     */
+    public TileBitmapCache getBitmapCache() {
+        return tileCreator.getBitmapCache();
+    }
+
+    /**
+     * Set the decoded source tile bitmap cache, reusing decoded tiles across
+     * neighboring requested tiles. A cache can be shared by retrievers.
+     *
+     * @param bitmapCache bitmap cache, null to decode each drawn tile
+     * @since 6.4.1
+     */
+    public void setBitmapCache(TileBitmapCache bitmapCache) {
+        tileCreator.setBitmapCache(bitmapCache);
+    }
+
 }
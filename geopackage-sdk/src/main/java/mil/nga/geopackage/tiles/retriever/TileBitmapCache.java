@@ -0,0 +1,347 @@
+package mil.nga.geopackage.tiles.retriever;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.geopackage.tiles.user.TileRow;
+
+/**
+ * Cache of decoded source tile bitmaps keyed by GeoPackage, table, zoom,
+ * column, and row, bounded by bitmap bytes. A cache can be shared by tile
+ * creators across tables and threads. Acquired bitmaps are held until
+ * released, evicted bitmaps are recycled once no longer held. Clear the
+ * cache when cached tile tables are modified.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class TileBitmapCache {
+
+    /**
+     * Default max bitmap bytes to retain in the cache
+     */
+    public static final int DEFAULT_CACHE_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Decoded tile bitmap cache
+     */
+    private LruCache<TileKey, CachedBitmap> cache;
+
+    /**
+     * Acquired cached bitmaps not yet released
+     */
+    private final Map<Bitmap, CachedBitmap> acquired = new IdentityHashMap<>();
+
+    /**
+     * Decoded tile count
+     */
+    private int decodeCount = 0;
+
+    /**
+     * Cache hit count
+     */
+    private int hitCount = 0;
+
+    /**
+     * Constructor, created with max bytes of {@link #DEFAULT_CACHE_BYTES}
+     */
+    public TileBitmapCache() {
+        this(DEFAULT_CACHE_BYTES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxBytes max bitmap bytes to retain in the cache
+     */
+    public TileBitmapCache(int maxBytes) {
+        cache = createCache(maxBytes);
+    }
+
+    /**
+     * Acquire the decoded bitmap of the tile row, decoding and caching it if
+     * not cached. The bitmap must be released with {@link #release(Bitmap)}
+     * when no longer used.
+     *
+     * @param tileDao tile dao
+     * @param tileRow tile row
+     * @return tile bitmap or null if not decodable
+     */
+    public Bitmap acquire(TileDao tileDao, TileRow tileRow) {
+
+        TileKey key = new TileKey(tileDao.getDatabase(),
+                tileDao.getTableName(), tileRow.getZoomLevel(),
+                tileRow.getTileColumn(), tileRow.getTileRow());
+
+        Bitmap bitmap = null;
+
+        synchronized (this) {
+            CachedBitmap cached = cache.get(key);
+            if (cached != null) {
+                hitCount++;
+                bitmap = hold(cached);
+            }
+        }
+
+        if (bitmap == null) {
+
+            // Decode outside of the lock, keeping any bitmap cached meanwhile
+            Bitmap decoded = tileRow.getTileDataBitmap();
+            if (decoded != null) {
+                synchronized (this) {
+                    decodeCount++;
+                    CachedBitmap cached = cache.get(key);
+                    if (cached == null) {
+                        cached = new CachedBitmap(decoded);
+                        bitmap = hold(cached);
+                        cache.put(key, cached);
+                    } else {
+                        bitmap = hold(cached);
+                        decoded.recycle();
+                    }
+                }
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Release an acquired bitmap, recycling it if evicted while held
+     *
+     * @param bitmap acquired bitmap
+     */
+    public synchronized void release(Bitmap bitmap) {
+        CachedBitmap cached = acquired.get(bitmap);
+        if (cached != null && --cached.holds == 0) {
+            acquired.remove(bitmap);
+            if (cached.removed) {
+                bitmap.recycle();
+            }
+        }
+    }
+
+    /**
+     * Get the number of decoded tiles
+     *
+     * @return decode count
+     */
+    public synchronized int getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Get the number of cache hits
+     *
+     * @return hit count
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the bitmap bytes in the cache
+     *
+     * @return bytes
+     */
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Get the max bitmap bytes to retain in the cache
+     *
+     * @return max bytes
+     */
+    public synchronized int getMaxSize() {
+        return cache.maxSize();
+    }
+
+    /**
+     * Clear the cache, recycling bitmaps not currently held
+     */
+    public synchronized void clear() {
+        cache.evictAll();
+    }
+
+    /**
+     * Resize the cache, retaining the most recently used bitmaps that fit
+     *
+     * @param maxBytes max bitmap bytes
+     */
+    public synchronized void resize(int maxBytes) {
+        // LruCache resize requires API 21, copy the entries from least to
+        // most recently used into a new cache
+        LruCache<TileKey, CachedBitmap> resized = createCache(maxBytes);
+        for (Map.Entry<TileKey, CachedBitmap> entry : cache.snapshot()
+                .entrySet()) {
+            resized.put(entry.getKey(), entry.getValue());
+        }
+        cache = resized;
+    }
+
+    /**
+     * Create a bitmap cache, recycling removed bitmaps once no longer held
+     *
+     * @param maxBytes max bitmap bytes to retain in the cache
+     * @return bitmap cache
+     */
+    private LruCache<TileKey, CachedBitmap> createCache(int maxBytes) {
+        return new LruCache<TileKey, CachedBitmap>(maxBytes) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected int sizeOf(TileKey key, CachedBitmap value) {
+                return value.bytes;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            protected void entryRemoved(boolean evicted, TileKey key,
+                                        CachedBitmap oldValue, CachedBitmap newValue) {
+                oldValue.removed = true;
+                if (oldValue.holds == 0) {
+                    oldValue.bitmap.recycle();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Hold the cached bitmap until released
+     *
+     * @param cached cached bitmap
+     * @return bitmap
+     */
+    private Bitmap hold(CachedBitmap cached) {
+        if (cached.holds++ == 0) {
+            acquired.put(cached.bitmap, cached);
+        }
+        return cached.bitmap;
+    }
+
+    /**
+     * Cached bitmap with the number of current holds
+     */
+    private static class CachedBitmap {
+
+        /**
+         * Bitmap
+         */
+        private final Bitmap bitmap;
+
+        /**
+         * Bitmap bytes
+         */
+        private final int bytes;
+
+        /**
+         * Acquired and not released count
+         */
+        private int holds = 0;
+
+        /**
+         * Removed from the cache flag
+         */
+        private boolean removed = false;
+
+        /**
+         * Constructor
+         *
+         * @param bitmap bitmap
+         */
+        private CachedBitmap(Bitmap bitmap) {
+            this.bitmap = bitmap;
+            this.bytes = bitmap.getRowBytes() * bitmap.getHeight();
+        }
+
+    }
+
+    /**
+     * Tile cache key
+     */
+    private static class TileKey {
+
+        /**
+         * GeoPackage name
+         */
+        private final String database;
+
+        /**
+         * Tile table name
+         */
+        private final String table;
+
+        /**
+         * Zoom level
+         */
+        private final long zoom;
+
+        /**
+         * Tile column
+         */
+        private final long column;
+
+        /**
+         * Tile row
+         */
+        private final long row;
+
+        /**
+         * Constructor
+         *
+         * @param database GeoPackage name
+         * @param table    tile table name
+         * @param zoom     zoom level
+         * @param column   tile column
+         * @param row      tile row
+         */
+        private TileKey(String database, String table, long zoom,
+                        long column, long row) {
+            this.database = database;
+            this.table = table;
+            this.zoom = zoom;
+            this.column = column;
+            this.row = row;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object obj) {
+            boolean equal = this == obj;
+            if (!equal && obj instanceof TileKey) {
+                TileKey other = (TileKey) obj;
+                equal = zoom == other.zoom && column == other.column
+                        && row == other.row && table.equals(other.table)
+                        && database.equals(other.database);
+            }
+            return equal;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            int result = database.hashCode();
+            result = 31 * result + table.hashCode();
+            result = 31 * result + (int) (zoom ^ (zoom >>> 32));
+            result = 31 * result + (int) (column ^ (column >>> 32));
+            result = 31 * result + (int) (row ^ (row >>> 32));
+            return result;
+        }
+
+    }
+
+}
@@ -92,6 +92,16 @@ public class TileCreator {
      */
     private TileScaling scaling;
 
+    /**
+     * Approximate reprojection options, null to reproject each pixel
+     */
+    private ApproximateReprojection approximateReprojection;
+
+    /**
+     * Decoded source tile bitmap cache, null to decode each drawn tile
+     */
+    private TileBitmapCache bitmapCache;
+
     /**
      * Constructor, specified tile size and projection
      *
@@ -247,6 +257,49 @@ public class TileCreator {
         this.scaling = scaling;
     }
 
+    /**
+     * Get the approximate reprojection options
+     *
+     * @return approximate reprojection options, null when reprojecting each pixel
+     * @since 6.4.1
+     */
+    public ApproximateReprojection getApproximateReprojection() {
+        return approximateReprojection;
+    }
+
+    /**
+     * Set the approximate reprojection options, interpolating reprojected
+     * pixels between a grid of transformed pixels
+     *
+     * @param approximateReprojection approximate reprojection options, null to
+     *                                reproject each pixel
+     * @since 6.4.1
+     */
+    public void setApproximateReprojection(ApproximateReprojection approximateReprojection) {
+        this.approximateReprojection = approximateReprojection;
+    }
+
+    /**
+     * Get the decoded source tile bitmap cache
+     *
+     * @return bitmap cache, null when decoding each drawn tile
+     * @since 6.4.1
+     */
+    public TileBitmapCache getBitmapCache() {
+        return bitmapCache;
+    }
+
+    /**
+     * Set the decoded source tile bitmap cache, reusing decoded tiles across
+     * requests overlapping the same tiles
+     *
+     * @param bitmapCache bitmap cache, null to decode each drawn tile
+     * @since 6.4.1
+     */
+    public void setBitmapCache(TileBitmapCache bitmapCache) {
+        this.bitmapCache = bitmapCache;
+    }
+
     /**
      * Check if the tile table contains a tile for the request bounding box
      *
@@ -267,15 +320,9 @@ public class TileCreator {
 
             TileMatrix tileMatrix = tileMatrices.get(i);
 
-            TileCursor tileResults = retrieveTileResults(tilesBoundingBox, tileMatrix);
-            if (tileResults != null) {
-
-                try {
-                    hasTile = tileResults.getCount() > 0;
-                } finally {
-                    tileResults.close();
-                }
-            }
+            hasTile = tileDao.getTileExistenceIndex().hasTiles(
+                    getTileGrid(tilesBoundingBox, tileMatrix),
+                    tileMatrix.getZoomLevel());
         }
 
         return hasTile;
@@ -501,7 +548,6 @@ public class TileCreator {
 
             // Get the next tile
             TileRow tileRow = tileResults.getRow();
-            Bitmap tileDataBitmap = tileRow.getTileDataBitmap();
 
             // Get the bounding box of the tile
             BoundingBox tileBoundingBox = TileBoundingBoxUtils
@@ -537,8 +583,24 @@ public class TileCreator {
                     paint = new Paint(Paint.ANTI_ALIAS_FLAG);
                 }
 
-                // Draw the tile to the bitmap
-                canvas.drawBitmap(tileDataBitmap, src, dest, paint);
+                // Decode or get the cached tile and draw it to the bitmap
+                Bitmap tileDataBitmap = null;
+                if (bitmapCache != null) {
+                    tileDataBitmap = bitmapCache.acquire(tileDao, tileRow);
+                } else {
+                    tileDataBitmap = tileRow.getTileDataBitmap();
+                }
+                if (tileDataBitmap != null) {
+                    try {
+                        canvas.drawBitmap(tileDataBitmap, src, dest, paint);
+                    } finally {
+                        if (bitmapCache != null) {
+                            bitmapCache.release(tileDataBitmap);
+                        } else {
+                            tileDataBitmap.recycle();
+                        }
+                    }
+                }
             }
         }
 
@@ -558,12 +620,6 @@ public class TileCreator {
      */
     private Bitmap reprojectTile(Bitmap tile, int requestedTileWidth, int requestedTileHeight, BoundingBox requestBoundingBox, ProjectionTransform transformRequestToTiles, BoundingBox tilesBoundingBox) {
 
-        final double requestedWidthUnitsPerPixel = (requestBoundingBox.getMaxLongitude() - requestBoundingBox.getMinLongitude()) / requestedTileWidth;
-        final double requestedHeightUnitsPerPixel = (requestBoundingBox.getMaxLatitude() - requestBoundingBox.getMinLatitude()) / requestedTileHeight;
-
-        final double tilesDistanceWidth = tilesBoundingBox.getMaxLongitude() - tilesBoundingBox.getMinLongitude();
-        final double tilesDistanceHeight = tilesBoundingBox.getMaxLatitude() - tilesBoundingBox.getMinLatitude();
-
         final int width = tile.getWidth();
         final int height = tile.getHeight();
 
@@ -572,6 +628,49 @@ public class TileCreator {
         tile.getPixels(pixels, 0, width, 0, 0, width, height);
 
         // Projected tile pixels to draw the reprojected tile
+        int[] projectedPixels = null;
+
+        if (approximateReprojection != null) {
+            projectedPixels = approximateReprojection.reproject(pixels, width,
+                    height, requestedTileWidth, requestedTileHeight,
+                    requestBoundingBox, transformRequestToTiles,
+                    tilesBoundingBox);
+        } else {
+            projectedPixels = reprojectPixels(pixels, width, height,
+                    requestedTileWidth, requestedTileHeight,
+                    requestBoundingBox, transformRequestToTiles,
+                    tilesBoundingBox);
+        }
+
+        // Draw the new tile bitmap
+        Bitmap projectedTileBitmap = Bitmap.createBitmap(requestedTileWidth,
+                requestedTileHeight, tile.getConfig());
+        projectedTileBitmap.setPixels(projectedPixels, 0, requestedTileWidth, 0, 0, requestedTileWidth, requestedTileHeight);
+
+        return projectedTileBitmap;
+    }
+
+    /**
+     * Reproject the tile pixels by transforming each pixel
+     *
+     * @param pixels                  tile pixels in the tile matrix projection
+     * @param width                   tile width
+     * @param height                  tile height
+     * @param requestedTileWidth      requested tile width
+     * @param requestedTileHeight     requested tile height
+     * @param requestBoundingBox      request bounding box in the request projection
+     * @param transformRequestToTiles transformation from request to tiles
+     * @param tilesBoundingBox        request bounding box in the tile matrix projection
+     * @return projected tile pixels
+     */
+    private static int[] reprojectPixels(int[] pixels, int width, int height, int requestedTileWidth, int requestedTileHeight, BoundingBox requestBoundingBox, ProjectionTransform transformRequestToTiles, BoundingBox tilesBoundingBox) {
+
+        final double requestedWidthUnitsPerPixel = (requestBoundingBox.getMaxLongitude() - requestBoundingBox.getMinLongitude()) / requestedTileWidth;
+        final double requestedHeightUnitsPerPixel = (requestBoundingBox.getMaxLatitude() - requestBoundingBox.getMinLatitude()) / requestedTileHeight;
+
+        final double tilesDistanceWidth = tilesBoundingBox.getMaxLongitude() - tilesBoundingBox.getMinLongitude();
+        final double tilesDistanceHeight = tilesBoundingBox.getMaxLatitude() - tilesBoundingBox.getMinLatitude();
+
         int[] projectedPixels = new int[requestedTileWidth * requestedTileHeight];
 
         // Retrieve each pixel in the new tile from the unprojected tile
@@ -599,12 +698,7 @@ public class TileCreator {
             }
         }
 
-        // Draw the new tile bitmap
-        Bitmap projectedTileBitmap = Bitmap.createBitmap(requestedTileWidth,
-                requestedTileHeight, tile.getConfig());
-        projectedTileBitmap.setPixels(projectedPixels, 0, requestedTileWidth, 0, 0, requestedTileWidth, requestedTileHeight);
-
-        return projectedTileBitmap;
+        return projectedPixels;
     }
 
     /**
@@ -756,17 +850,33 @@ public class TileCreator {
         if (tileMatrix != null) {
 
             // Get the tile grid
-            TileGrid tileGrid = TileBoundingBoxUtils.getTileGrid(
-                    tileSetBoundingBox, tileMatrix.getMatrixWidth(),
-                    tileMatrix.getMatrixHeight(), projectedRequestBoundingBox);
-
-            // Query for matching tiles in the tile grid
-            tileResults = tileDao.queryByTileGrid(tileGrid,
-                    tileMatrix.getZoomLevel());
+            TileGrid tileGrid = getTileGrid(projectedRequestBoundingBox,
+                    tileMatrix);
+
+            // Query for matching tiles in the tile grid, when tiles exist
+            if (tileDao.getTileExistenceIndex().hasTiles(tileGrid,
+                    tileMatrix.getZoomLevel())) {
+                tileResults = tileDao.queryByTileGrid(tileGrid,
+                        tileMatrix.getZoomLevel());
+            }
 
         }
 
         return tileResults;
     }
 
+    /**
+     * Get the tile grid of tiles needed to draw the requested bounding box tile
+     *
+     * @param projectedRequestBoundingBox bounding box projected to the tiles
+     * @param tileMatrix                  tile matrix
+     * @return tile grid
+     */
+    private TileGrid getTileGrid(BoundingBox projectedRequestBoundingBox,
+                                 TileMatrix tileMatrix) {
+        return TileBoundingBoxUtils.getTileGrid(tileSetBoundingBox,
+                tileMatrix.getMatrixWidth(), tileMatrix.getMatrixHeight(),
+                projectedRequestBoundingBox);
+    }
+
 }
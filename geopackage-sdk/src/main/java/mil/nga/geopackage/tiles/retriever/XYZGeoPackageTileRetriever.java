@@ -31,7 +31,7 @@ public class XYZGeoPackageTileRetriever implements TileRetriever {
      */
     @Override
     public boolean hasTile(int x, int y, int zoom) {
-        return retrieveTileRow(x, y, zoom) != null;
+        return tileDao.getTileExistenceIndex().hasTile(x, y, zoom);
     }
 
     /**
@@ -62,7 +62,11 @@ public class XYZGeoPackageTileRetriever implements TileRetriever {
      * @return
      */
     private TileRow retrieveTileRow(int x, int y, int zoom) {
-        return tileDao.queryForTile(x, y, zoom);
+        TileRow tileRow = null;
+        if (hasTile(x, y, zoom)) {
+            tileRow = tileDao.queryForTile(x, y, zoom);
+        }
+        return tileRow;
     }
 
 }
@@ -1,5 +1,7 @@
 package mil.nga.geopackage.tiles.user;
 
+import android.content.ContentValues;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -70,6 +72,11 @@ public class TileDao extends UserDao<TileColumn, TileTable, TileRow, TileCursor>
      */
     private final double[] heights;
 
+    /**
+     * Tile existence index
+     */
+    private final TileExistenceIndex tileExistenceIndex;
+
     /**
      * Constructor
      *
@@ -88,6 +95,7 @@ public class TileDao extends UserDao<TileColumn, TileTable, TileRow, TileCursor>
         this.tileMatrices = tileMatrices;
         this.widths = new double[tileMatrices.size()];
         this.heights = new double[tileMatrices.size()];
+        this.tileExistenceIndex = new TileExistenceIndex(this);
 
         projection = tileMatrixSet.getProjection();
 
@@ -241,6 +249,18 @@ public class TileDao extends UserDao<TileColumn, TileTable, TileRow, TileCursor>
         return tileMatrices;
     }
 
+    /**
+     * Get the tile existence index, answering tile existence checks in memory
+     * without reading tile data. Validated against database changes before
+     * each check, including writes by other DAOs and connections.
+     *
+     * @return tile existence index
+     * @since 6.4.1
+     */
+    public TileExistenceIndex getTileExistenceIndex() {
+        return tileExistenceIndex;
+    }
+
     /**
      * Get the zoom levels
      *
@@ -741,4 +761,125 @@ public class TileDao extends UserDao<TileColumn, TileTable, TileRow, TileCursor>
         return TileMatrixDao.create(getDb());
     }
 
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index zoom level
+     */
+    @Override
+    public long insert(TileRow row) {
+        long id = super.insert(row);
+        tileExistenceIndex.invalidate(row.getZoomLevel());
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index zoom level
+     */
+    @Override
+    protected void onRowInserted(TileRow row, long id) {
+        tileExistenceIndex.invalidate(row.getZoomLevel());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    protected void onRowUpdated(TileRow row, int updated) {
+        if (updated > 0) {
+            tileExistenceIndex.invalidate();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public long insert(ContentValues values) {
+        long id = super.insert(values);
+        invalidateTileExistence(values);
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public long insertOrThrow(ContentValues values) {
+        long id = super.insertOrThrow(values);
+        invalidateTileExistence(values);
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public int update(TileRow row) {
+        int updated = super.update(row);
+        if (updated > 0) {
+            tileExistenceIndex.invalidate();
+        }
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public int update(ContentValues values, String whereClause,
+                      String[] whereArgs) {
+        int updated = super.update(values, whereClause, whereArgs);
+        if (updated > 0) {
+            tileExistenceIndex.invalidate();
+        }
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public int deleteById(long id) {
+        int deleted = super.deleteById(id);
+        if (deleted > 0) {
+            tileExistenceIndex.invalidate();
+        }
+        return deleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Invalidates the tile existence index
+     */
+    @Override
+    public int delete(String whereClause, String[] whereArgs) {
+        int deleted = super.delete(whereClause, whereArgs);
+        if (deleted > 0) {
+            tileExistenceIndex.invalidate();
+        }
+        return deleted;
+    }
+
+    /**
+     * Invalidate the tile existence index for inserted values, only at the
+     * zoom level when included
+     *
+     * @param values inserted content values
+     */
+    private void invalidateTileExistence(ContentValues values) {
+        Long zoomLevel = values.getAsLong(TileTable.COLUMN_ZOOM_LEVEL);
+        if (zoomLevel != null) {
+            tileExistenceIndex.invalidate(zoomLevel);
+        } else {
+            tileExistenceIndex.invalidate();
+        }
+    }
+
 }
@@ -0,0 +1,485 @@
+package mil.nga.geopackage.tiles.user;
+
+import android.database.Cursor;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageSQLiteDatabase;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+
+/**
+ * Tile existence index of the tile columns and rows at each zoom level of a
+ * tile table, answering tile existence checks in memory without reading tile
+ * data. Zoom levels are lazily loaded from the tile column and row values
+ * only, as a bit set over the tile grid containing the tiles or as sorted
+ * grid positions when sparse. Loaded zoom levels are validated before each
+ * check against the data version and total changes of the tile DAO
+ * connection, reloading after writes through any DAO, raw SQL, or other
+ * connections. Zoom levels are not retained within transactions or when the
+ * SQLite version does not support the data version (Android API 20 and
+ * below), answering from the tile table instead.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class TileExistenceIndex {
+
+    /**
+     * Tile DAO
+     */
+    private final TileDao tileDao;
+
+    /**
+     * Loaded zoom level indexes
+     */
+    private final Map<Long, ZoomIndex> zoomIndexes = new HashMap<>();
+
+    /**
+     * Connection the zoom levels were loaded from
+     */
+    private GeoPackageSQLiteDatabase connection;
+
+    /**
+     * Connection data version when the zoom levels were loaded
+     */
+    private long dataVersion = -1;
+
+    /**
+     * Connection total changes when the zoom levels were loaded
+     */
+    private long totalChanges = -1;
+
+    /**
+     * Constructor
+     *
+     * @param tileDao tile DAO
+     */
+    public TileExistenceIndex(TileDao tileDao) {
+        this.tileDao = tileDao;
+    }
+
+    /**
+     * Get the tile DAO
+     *
+     * @return tile DAO
+     */
+    public TileDao getTileDao() {
+        return tileDao;
+    }
+
+    /**
+     * Check if a tile exists
+     *
+     * @param column    tile column
+     * @param row       tile row
+     * @param zoomLevel zoom level
+     * @return true if a tile exists
+     */
+    public boolean hasTile(long column, long row, long zoomLevel) {
+        return getZoomIndex(zoomLevel).contains(column, column, row);
+    }
+
+    /**
+     * Check if any tiles exist within the tile grid
+     *
+     * @param tileGrid  tile grid
+     * @param zoomLevel zoom level
+     * @return true if a tile exists
+     */
+    public boolean hasTiles(TileGrid tileGrid, long zoomLevel) {
+        boolean hasTiles = false;
+        if (tileGrid != null) {
+            ZoomIndex zoomIndex = getZoomIndex(zoomLevel);
+            long minRow = Math.max(tileGrid.getMinY(), zoomIndex.minRow);
+            long maxRow = Math.min(tileGrid.getMaxY(), zoomIndex.maxRow);
+            for (long row = minRow; !hasTiles && row <= maxRow; row++) {
+                hasTiles = zoomIndex.contains(tileGrid.getMinX(),
+                        tileGrid.getMaxX(), row);
+            }
+        }
+        return hasTiles;
+    }
+
+    /**
+     * Check if any tiles exist within the bounding box, matching the tile grid
+     * queried by {@link TileDao#queryByTileGrid(TileGrid, long)}
+     *
+     * @param boundingBox bounding box in the tile matrix set projection
+     * @param zoomLevel   zoom level
+     * @return true if a tile exists
+     */
+    public boolean hasTiles(BoundingBox boundingBox, long zoomLevel) {
+        return hasTiles(getTileGrid(boundingBox, zoomLevel), zoomLevel);
+    }
+
+    /**
+     * Get the nearest zoom level with tiles within the bounding box, starting
+     * at the zoom level and preferring the lower zoom level at equal distances
+     *
+     * @param boundingBox bounding box in the tile matrix set projection
+     * @param zoomLevel   zoom level, may be outside the tile matrix zoom
+     *                    levels
+     * @return nearest zoom level with tiles or null
+     */
+    public Long getNearestZoomLevel(BoundingBox boundingBox, long zoomLevel) {
+
+        Long nearestZoomLevel = null;
+
+        List<TileMatrix> tileMatrices = tileDao.getTileMatrices();
+
+        // Find the first tile matrix above the zoom level
+        int above = 0;
+        while (above < tileMatrices.size()
+                && tileMatrices.get(above).getZoomLevel() <= zoomLevel) {
+            above++;
+        }
+        int below = above - 1;
+
+        // Alternate outward from the zoom level, lower zoom levels first
+        while (nearestZoomLevel == null
+                && (below >= 0 || above < tileMatrices.size())) {
+            TileMatrix tileMatrix;
+            if (below < 0) {
+                tileMatrix = tileMatrices.get(above++);
+            } else if (above >= tileMatrices.size()
+                    || zoomLevel - tileMatrices.get(below).getZoomLevel()
+                    <= tileMatrices.get(above).getZoomLevel() - zoomLevel) {
+                tileMatrix = tileMatrices.get(below--);
+            } else {
+                tileMatrix = tileMatrices.get(above++);
+            }
+            if (hasTiles(boundingBox, tileMatrix.getZoomLevel())) {
+                nearestZoomLevel = tileMatrix.getZoomLevel();
+            }
+        }
+
+        return nearestZoomLevel;
+    }
+
+    /**
+     * Invalidate all zoom levels, reloading when next checked
+     */
+    public synchronized void invalidate() {
+        zoomIndexes.clear();
+    }
+
+    /**
+     * Invalidate the zoom level, reloading when next checked
+     *
+     * @param zoomLevel zoom level
+     */
+    public synchronized void invalidate(long zoomLevel) {
+        zoomIndexes.remove(zoomLevel);
+    }
+
+    /**
+     * Get the tile grid of the bounding box at the zoom level
+     *
+     * @param boundingBox bounding box in the tile matrix set projection
+     * @param zoomLevel   zoom level
+     * @return tile grid or null if no tile matrix at the zoom level
+     */
+    private TileGrid getTileGrid(BoundingBox boundingBox, long zoomLevel) {
+        TileGrid tileGrid = null;
+        TileMatrix tileMatrix = tileDao.getTileMatrix(zoomLevel);
+        if (tileMatrix != null) {
+            tileGrid = TileBoundingBoxUtils.getTileGrid(
+                    tileDao.getTileMatrixSet().getBoundingBox(),
+                    tileMatrix.getMatrixWidth(), tileMatrix.getMatrixHeight(),
+                    boundingBox);
+        }
+        return tileGrid;
+    }
+
+    /**
+     * Get the zoom level index, loading it if needed
+     *
+     * @param zoomLevel zoom level
+     * @return zoom index
+     */
+    private synchronized ZoomIndex getZoomIndex(long zoomLevel) {
+        GeoPackageSQLiteDatabase active = tileDao.getDatabaseConnection()
+                .getActive();
+        boolean retain = validate(active);
+        ZoomIndex zoomIndex = null;
+        if (retain) {
+            zoomIndex = zoomIndexes.get(zoomLevel);
+        }
+        if (zoomIndex == null) {
+            zoomIndex = loadZoomIndex(active, zoomLevel);
+            if (retain) {
+                zoomIndexes.put(zoomLevel, zoomIndex);
+            }
+        }
+        return zoomIndex;
+    }
+
+    /**
+     * Validate the loaded zoom levels against the data version and total
+     * changes of the connection, clearing them when the tables may have
+     * changed. The data version changes with commits by other connections and
+     * the total changes count writes by the connection.
+     *
+     * @param active active connection
+     * @return true if loaded zoom levels can be retained
+     */
+    private boolean validate(GeoPackageSQLiteDatabase active) {
+        boolean retain = !active.inTransaction();
+        long version = -1;
+        long changes = -1;
+        if (retain) {
+            version = queryLong(active, "PRAGMA data_version");
+            changes = queryLong(active, "SELECT total_changes()");
+            retain = version != -1 && changes != -1;
+        }
+        if (!retain || active != connection || version != dataVersion
+                || changes != totalChanges) {
+            zoomIndexes.clear();
+            connection = active;
+            dataVersion = version;
+            totalChanges = changes;
+        }
+        return retain;
+    }
+
+    /**
+     * Query a single long value
+     *
+     * @param connection connection
+     * @param sql        SQL statement
+     * @return value or -1 if no value
+     */
+    private static long queryLong(GeoPackageSQLiteDatabase connection,
+                                  String sql) {
+        long value = -1;
+        Cursor cursor = connection.rawQuery(sql, null);
+        try {
+            if (cursor.moveToNext() && !cursor.isNull(0)) {
+                value = cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+        return value;
+    }
+
+    /**
+     * Load the zoom level index from the tile columns and rows
+     *
+     * @param connection connection
+     * @param zoomLevel  zoom level
+     * @return zoom index
+     */
+    private ZoomIndex loadZoomIndex(GeoPackageSQLiteDatabase connection,
+                                    long zoomLevel) {
+
+        String table = CoreSQLUtils.quoteWrap(tileDao.getTableName());
+        String column = CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_COLUMN);
+        String row = CoreSQLUtils.quoteWrap(TileTable.COLUMN_TILE_ROW);
+        String where = " FROM " + table + " WHERE "
+                + CoreSQLUtils.quoteWrap(TileTable.COLUMN_ZOOM_LEVEL) + " = ?";
+        String[] whereArgs = new String[]{String.valueOf(zoomLevel)};
+
+        ZoomIndex zoomIndex = null;
+
+        // Determine the tile grid containing the tiles
+        Cursor cursor = connection.rawQuery("SELECT COUNT(*), MIN("
+                + column + "), MAX(" + column + "), MIN(" + row + "), MAX("
+                + row + ")" + where, whereArgs);
+        try {
+            if (cursor.moveToNext() && cursor.getInt(0) > 0) {
+                zoomIndex = new ZoomIndex(cursor.getInt(0), cursor.getLong(1),
+                        cursor.getLong(2), cursor.getLong(3),
+                        cursor.getLong(4));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (zoomIndex != null) {
+            cursor = connection.rawQuery("SELECT " + column + ", " + row
+                    + where, whereArgs);
+            try {
+                while (cursor.moveToNext()) {
+                    zoomIndex.add(cursor.getLong(0), cursor.getLong(1));
+                }
+            } finally {
+                cursor.close();
+            }
+            zoomIndex.finish();
+        } else {
+            zoomIndex = new ZoomIndex();
+        }
+
+        return zoomIndex;
+    }
+
+    /**
+     * Zoom level index of row major tile grid positions, relative to the
+     * minimum column and row of the tiles
+     */
+    private static class ZoomIndex {
+
+        /**
+         * Min tile column
+         */
+        private final long minColumn;
+
+        /**
+         * Max tile column
+         */
+        private final long maxColumn;
+
+        /**
+         * Min tile row
+         */
+        private final long minRow;
+
+        /**
+         * Max tile row
+         */
+        private final long maxRow;
+
+        /**
+         * Tile grid width
+         */
+        private final long width;
+
+        /**
+         * Bit set of tile positions for dense tiles
+         */
+        private final BitSet bits;
+
+        /**
+         * Sorted tile positions for sparse tiles
+         */
+        private long[] positions;
+
+        /**
+         * Sorted tile positions count
+         */
+        private int count = 0;
+
+        /**
+         * Constructor for a zoom level without tiles
+         */
+        private ZoomIndex() {
+            minColumn = 0;
+            maxColumn = -1;
+            minRow = 0;
+            maxRow = -1;
+            width = 0;
+            bits = null;
+            positions = new long[0];
+        }
+
+        /**
+         * Constructor, using a bit set when smaller than the sorted positions
+         *
+         * @param tiles     tile count
+         * @param minColumn min tile column
+         * @param maxColumn max tile column
+         * @param minRow    min tile row
+         * @param maxRow    max tile row
+         */
+        private ZoomIndex(int tiles, long minColumn, long maxColumn,
+                          long minRow, long maxRow) {
+            this.minColumn = minColumn;
+            this.maxColumn = maxColumn;
+            this.minRow = minRow;
+            this.maxRow = maxRow;
+            this.width = maxColumn - minColumn + 1;
+            long cells = width * (maxRow - minRow + 1);
+            if (cells <= Integer.MAX_VALUE && cells <= (long) tiles * Long.SIZE) {
+                bits = new BitSet((int) cells);
+            } else {
+                bits = null;
+                positions = new long[tiles];
+            }
+        }
+
+        /**
+         * Add a tile
+         *
+         * @param column tile column
+         * @param row    tile row
+         */
+        private void add(long column, long row) {
+            if (column >= minColumn && column <= maxColumn && row >= minRow
+                    && row <= maxRow) {
+                long position = position(column, row);
+                if (bits != null) {
+                    bits.set((int) position);
+                } else {
+                    if (count == positions.length) {
+                        positions = Arrays.copyOf(positions, count * 2);
+                    }
+                    positions[count++] = position;
+                }
+            }
+        }
+
+        /**
+         * Finish adding tiles
+         */
+        private void finish() {
+            if (bits == null) {
+                if (count < positions.length) {
+                    positions = Arrays.copyOf(positions, count);
+                }
+                Arrays.sort(positions);
+            }
+        }
+
+        /**
+         * Check if a tile exists in the row between the columns
+         *
+         * @param fromColumn from tile column, inclusive
+         * @param toColumn   to tile column, inclusive
+         * @param row        tile row
+         * @return true if a tile exists
+         */
+        private boolean contains(long fromColumn, long toColumn, long row) {
+            boolean contains = false;
+            fromColumn = Math.max(fromColumn, minColumn);
+            toColumn = Math.min(toColumn, maxColumn);
+            if (fromColumn <= toColumn && row >= minRow && row <= maxRow) {
+                long from = position(fromColumn, row);
+                long to = from + toColumn - fromColumn;
+                if (bits != null) {
+                    int next = bits.nextSetBit((int) from);
+                    contains = next >= 0 && next <= to;
+                } else {
+                    int index = Arrays.binarySearch(positions, from);
+                    if (index < 0) {
+                        index = -index - 1;
+                    }
+                    contains = index < positions.length
+                            && positions[index] <= to;
+                }
+            }
+            return contains;
+        }
+
+        /**
+         * Get the row major grid position of the tile
+         *
+         * @param column tile column
+         * @param row    tile row
+         * @return position
+         */
+        private long position(long column, long row) {
+            return (row - minRow) * width + column - minColumn;
+        }
+
+    }
+
+}
@@ -4,9 +4,12 @@ import android.graphics.Bitmap;
 import android.graphics.Bitmap.CompressFormat;
 import android.graphics.BitmapFactory.Options;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 import mil.nga.geopackage.io.BitmapConverter;
+import mil.nga.geopackage.io.GeoPackageIOUtils;
 import mil.nga.geopackage.user.UserRow;
 
 /**
@@ -219,6 +222,48 @@ public class TileRow extends UserRow<TileColumn, TileTable> {
         return BitmapConverter.toBitmap(getTileData(), options);
     }
 
+    /**
+     * Get a tile data input stream. Loaded tile data is streamed from memory,
+     * otherwise the tile data is lazily read in chunks from the tile table.
+     *
+     * @param dao tile dao
+     * @return tile data input stream, null if no tile data
+     * @since 6.4.1
+     */
+    public InputStream getTileDataStream(TileDao dao) {
+        InputStream stream = null;
+        byte[] tileData = getTileData();
+        if (tileData != null) {
+            stream = new ByteArrayInputStream(tileData);
+        } else if (hasId()) {
+            stream = dao.openBlobStream(getId(),
+                    getTileDataColumn().getName());
+        }
+        return stream;
+    }
+
+    /**
+     * Get the tile data bitmap with decoding options, decoded from a tile
+     * data stream without materializing unloaded tile data bytes
+     *
+     * @param dao     tile dao
+     * @param options bitmap options
+     * @return tile data bitmap, null if no tile data
+     * @since 6.4.1
+     */
+    public Bitmap getTileDataBitmap(TileDao dao, Options options) {
+        Bitmap bitmap = null;
+        InputStream stream = getTileDataStream(dao);
+        if (stream != null) {
+            try {
+                bitmap = BitmapConverter.toBitmap(stream, options);
+            } finally {
+                GeoPackageIOUtils.closeQuietly(stream);
+            }
+        }
+        return bitmap;
+    }
+
     /**
      * Set the tile data from a full quality bitmap
      *
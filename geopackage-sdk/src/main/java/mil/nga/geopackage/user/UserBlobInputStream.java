@@ -0,0 +1,261 @@
+package mil.nga.geopackage.user;
+
+import android.database.Cursor;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageDatabase;
+
+/**
+ * Input stream of a single user row blob column value, lazily read one chunk
+ * at a time so that at most a single chunk is held in memory. Reads beyond
+ * the Android cursor window size are supported as each chunk is queried
+ * independently.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class UserBlobInputStream extends InputStream {
+
+    /**
+     * Default chunk size. Max supported Android cursor window size is
+     * currently 2 mb, using 1 mb to ensure space
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1048576;
+
+    /**
+     * Database connection
+     */
+    private final GeoPackageDatabase db;
+
+    /**
+     * Chunk query SQL before the substring start
+     */
+    private final String sqlPrefix;
+
+    /**
+     * Chunk query SQL after the substring start
+     */
+    private final String sqlSuffix;
+
+    /**
+     * Row id argument
+     */
+    private final String id;
+
+    /**
+     * Blob length in bytes
+     */
+    private final long length;
+
+    /**
+     * Chunk size in bytes
+     */
+    private final int chunkSize;
+
+    /**
+     * Current chunk
+     */
+    private byte[] chunk;
+
+    /**
+     * Blob position of the start of the current chunk
+     */
+    private long chunkStart = 0;
+
+    /**
+     * Blob position of the next read
+     */
+    private long position = 0;
+
+    /**
+     * Closed flag
+     */
+    private boolean closed = false;
+
+    /**
+     * Constructor
+     *
+     * @param dao        user dao
+     * @param id         row id
+     * @param columnName blob column name
+     * @param length     blob length in bytes
+     */
+    public UserBlobInputStream(UserDao<?, ?, ?, ?> dao, long id,
+                               String columnName, long length) {
+        this(dao, id, columnName, length, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param dao        user dao
+     * @param id         row id
+     * @param columnName blob column name
+     * @param length     blob length in bytes
+     * @param chunkSize  chunk size in bytes
+     */
+    public UserBlobInputStream(UserDao<?, ?, ?, ?> dao, long id,
+                               String columnName, long length, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Chunk size must be greater than 0: " + chunkSize);
+        }
+        this.db = dao.getDatabaseConnection();
+        this.sqlPrefix = "SELECT substr(" + CoreSQLUtils.quoteWrap(columnName)
+                + ", ";
+        this.sqlSuffix = ", " + chunkSize + ") FROM "
+                + CoreSQLUtils.quoteWrap(dao.getTableName()) + " WHERE "
+                + CoreSQLUtils.quoteWrap(dao.getPkColumnName()) + " = ?";
+        this.id = String.valueOf(id);
+        this.length = length;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Get the blob length in bytes
+     *
+     * @return length
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Get the chunk size in bytes
+     *
+     * @return chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Get the blob position of the next read
+     *
+     * @return position
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        int value = -1;
+        if (loadChunk()) {
+            value = chunk[(int) (position - chunkStart)] & 0xff;
+            position++;
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        int read = 0;
+        if (len > 0) {
+            read = -1;
+            while (read < len && loadChunk()) {
+                if (read < 0) {
+                    read = 0;
+                }
+                int chunkPosition = (int) (position - chunkStart);
+                int count = Math.min(len - read, chunk.length - chunkPosition);
+                System.arraycopy(chunk, chunkPosition, b, off + read, count);
+                read += count;
+                position += count;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        verifyOpen();
+        long skipped = 0;
+        if (n > 0) {
+            skipped = Math.min(n, length - position);
+            position += skipped;
+        }
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        verifyOpen();
+        int available = 0;
+        if (chunk != null && position >= chunkStart
+                && position < chunkStart + chunk.length) {
+            available = (int) (chunkStart + chunk.length - position);
+        }
+        return available;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        closed = true;
+        chunk = null;
+    }
+
+    /**
+     * Load the chunk containing the current position if needed
+     *
+     * @return true if a chunk with available bytes is loaded, false at end
+     * of stream
+     * @throws IOException upon closed stream or failure to read the chunk
+     */
+    private boolean loadChunk() throws IOException {
+        verifyOpen();
+        boolean loaded = position < length;
+        if (loaded && (chunk == null || position < chunkStart
+                || position >= chunkStart + chunk.length)) {
+            chunk = null;
+            Cursor cursor = db.rawQuery(sqlPrefix + (position + 1) + sqlSuffix,
+                    new String[]{id});
+            try {
+                if (cursor.moveToNext()) {
+                    chunk = cursor.getBlob(0);
+                }
+            } finally {
+                cursor.close();
+            }
+            if (chunk == null || chunk.length == 0) {
+                throw new IOException("Failed to read blob chunk at position "
+                        + position + " of length " + length);
+            }
+            chunkStart = position;
+        }
+        return loaded;
+    }
+
+    /**
+     * Verify the stream is open
+     *
+     * @throws IOException upon closed stream
+     */
+    private void verifyOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Blob input stream is closed");
+        }
+    }
+
+}
@@ -0,0 +1,301 @@
+package mil.nga.geopackage.user;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageDataType;
+
+/**
+ * User Chunk Iterator for iterating through the rows of a user table as a
+ * sequence of chunked cursors.
+ * <p>
+ * Tables with an integer primary key are paged by key range (rows after the
+ * last id of the previous chunk), so each chunk is an index seek regardless
+ * of how far into the table the iteration is. Tables without an integer
+ * primary key fall back to limit and offset chunk queries.
+ * <p>
+ * When querying distinct rows, distinct values are only guaranteed within
+ * each chunk.
+ *
+ * @param <TColumn> column type
+ * @param <TTable>  table type
+ * @param <TRow>    row type
+ * @param <TResult> result type
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class UserChunkIterator<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserRow<TColumn, TTable>, TResult extends UserCursor<TColumn, TTable, TRow>>
+        implements Iterator<TResult> {
+
+    /**
+     * User DAO
+     */
+    private final UserDao<TColumn, TTable, TRow, TResult> dao;
+
+    /**
+     * Distinct rows flag
+     */
+    private final boolean distinct;
+
+    /**
+     * Query columns
+     */
+    private final String[] columns;
+
+    /**
+     * Where clause
+     */
+    private final String where;
+
+    /**
+     * Where arguments
+     */
+    private final String[] whereArgs;
+
+    /**
+     * Chunk limit
+     */
+    private final int limit;
+
+    /**
+     * Keyset pagination flag, true when the table has an integer primary key
+     */
+    private final boolean keyset;
+
+    /**
+     * Last primary key id of the previous chunk when keyset paginating
+     */
+    private Long lastId = null;
+
+    /**
+     * Offset of the next chunk when offset paginating
+     */
+    private long offset = 0;
+
+    /**
+     * Finished flag, set once the final chunk has been returned
+     */
+    private boolean finished = false;
+
+    /**
+     * Constructor
+     *
+     * @param dao       user dao
+     * @param distinct  distinct rows
+     * @param columns   columns
+     * @param where     where clause
+     * @param whereArgs where arguments
+     * @param limit     chunk limit
+     */
+    public UserChunkIterator(UserDao<TColumn, TTable, TRow, TResult> dao,
+                             boolean distinct, String[] columns, String where,
+                             String[] whereArgs, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException(
+                    "Chunk limit must be greater than 0. limit: " + limit);
+        }
+        this.dao = dao;
+        this.distinct = distinct;
+        this.columns = columns;
+        this.where = where;
+        this.whereArgs = whereArgs;
+        this.limit = limit;
+        this.keyset = isKeysetPaginated(dao);
+    }
+
+    /**
+     * Determine if the user table can be keyset paginated, requiring an
+     * integer primary key column
+     *
+     * @param dao user dao
+     * @return true if keyset paginated
+     */
+    public static boolean isKeysetPaginated(UserDao<?, ?, ?, ?> dao) {
+        boolean keyset = false;
+        if (dao.hasPkColumn()) {
+            GeoPackageDataType dataType = dao.getPkColumn().getDataType();
+            keyset = dataType == GeoPackageDataType.INTEGER;
+        }
+        return keyset;
+    }
+
+    /**
+     * Get the user dao
+     *
+     * @return user dao
+     */
+    public UserDao<TColumn, TTable, TRow, TResult> getDao() {
+        return dao;
+    }
+
+    /**
+     * Get the chunk limit
+     *
+     * @return chunk limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Is the iteration keyset paginated by primary key
+     *
+     * @return true if keyset paginated, false if offset paginated
+     */
+    public boolean isKeyset() {
+        return keyset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return !finished;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TResult next() {
+        if (finished) {
+            throw new NoSuchElementException(
+                    "No more chunks. Table: " + dao.getTableName());
+        }
+
+        TResult cursor;
+        if (keyset) {
+            cursor = nextKeysetChunk();
+        } else {
+            cursor = nextOffsetChunk();
+        }
+
+        return cursor;
+    }
+
+    /**
+     * Query the next chunk by primary key range
+     *
+     * @return chunk cursor
+     */
+    private TResult nextKeysetChunk() {
+
+        String pkColumn = dao.getPkColumnName();
+
+        String chunkWhere = where;
+        String[] chunkArgs = whereArgs;
+        if (lastId != null) {
+            chunkWhere = combineWhere(chunkWhere,
+                    dao.buildWhere(pkColumn, lastId, ">"));
+            chunkArgs = combineWhereArgs(chunkArgs, lastId);
+        }
+
+        // Find the last primary key id of this chunk
+        Long maxId = queryChunkMaxId(chunkWhere, chunkArgs);
+
+        if (maxId != null) {
+            chunkWhere = combineWhere(chunkWhere,
+                    dao.buildWhere(pkColumn, maxId, "<="));
+            chunkArgs = combineWhereArgs(chunkArgs, maxId);
+            lastId = maxId;
+        } else {
+            // Fewer rows than the limit remain, this is the final chunk
+            finished = true;
+        }
+
+        return dao.queryForChunk(distinct, columns, chunkWhere, chunkArgs,
+                CoreSQLUtils.quoteWrap(pkColumn), limit);
+    }
+
+    /**
+     * Query for the primary key id of the last row in a full chunk
+     *
+     * @param chunkWhere chunk where clause
+     * @param chunkArgs  chunk where arguments
+     * @return max id or null if less than a full chunk of rows remain
+     */
+    private Long queryChunkMaxId(String chunkWhere, String[] chunkArgs) {
+
+        String pkColumn = CoreSQLUtils.quoteWrap(dao.getPkColumnName());
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("SELECT ");
+        sql.append(pkColumn);
+        sql.append(" FROM ");
+        sql.append(CoreSQLUtils.quoteWrap(dao.getTableName()));
+        if (chunkWhere != null) {
+            sql.append(" WHERE ");
+            sql.append(chunkWhere);
+        }
+        sql.append(" ORDER BY ");
+        sql.append(pkColumn);
+        sql.append(" LIMIT 1 OFFSET ");
+        sql.append(limit - 1);
+
+        Long maxId = null;
+        Object value = dao.querySingleResult(sql.toString(), chunkArgs,
+                GeoPackageDataType.INTEGER);
+        if (value != null) {
+            maxId = ((Number) value).longValue();
+        }
+
+        return maxId;
+    }
+
+    /**
+     * Query the next chunk by offset
+     *
+     * @return chunk cursor
+     */
+    private TResult nextOffsetChunk() {
+
+        TResult cursor = dao.queryForChunk(distinct, columns, where, whereArgs,
+                limit, offset);
+        offset += limit;
+
+        if (cursor.getCount() < limit) {
+            finished = true;
+        }
+
+        return cursor;
+    }
+
+    /**
+     * Combine the where clause with an additional where condition
+     *
+     * @param where     where clause
+     * @param condition additional condition
+     * @return combined where clause
+     */
+    private static String combineWhere(String where, String condition) {
+        String combined;
+        if (where == null || where.isEmpty()) {
+            combined = condition;
+        } else {
+            combined = "(" + where + ") AND " + condition;
+        }
+        return combined;
+    }
+
+    /**
+     * Combine the where arguments with an additional id argument
+     *
+     * @param whereArgs where arguments
+     * @param id        id argument
+     * @return combined where arguments
+     */
+    private static String[] combineWhereArgs(String[] whereArgs, long id) {
+        String[] combined;
+        if (whereArgs == null) {
+            combined = new String[]{String.valueOf(id)};
+        } else {
+            combined = new String[whereArgs.length + 1];
+            System.arraycopy(whereArgs, 0, combined, 0, whereArgs.length);
+            combined[whereArgs.length] = String.valueOf(id);
+        }
+        return combined;
+    }
+
+}
@@ -4,6 +4,7 @@ import android.database.Cursor;
 
 import mil.nga.geopackage.db.GeoPackageConnection;
 import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.db.GeoPackageSQLiteDatabase;
 import mil.nga.geopackage.db.SQLiteQueryBuilder;
 
 /**
@@ -269,11 +270,13 @@ public abstract class UserConnection<TColumn extends UserColumn, TTable extends
     public TResult query(UserQuery query) {
         Cursor cursor = null;
 
+        GeoPackageSQLiteDatabase reader = database.getReader();
+
         String[] selectionArgs = query.getSelectionArgs();
 
         String sql = query.getSql();
         if (sql != null) {
-            cursor = database.rawQueryWithFactory(database.getCursorFactory(), sql, selectionArgs, table.getTableName());
+            cursor = reader.rawQueryWithFactory(database.getCursorFactory(), sql, selectionArgs, table.getTableName());
         } else {
 
             boolean distinct = query.getDistinct();
@@ -288,15 +291,15 @@ public abstract class UserConnection<TColumn extends UserColumn, TTable extends
             String limit = query.getLimit();
 
             if (distinct) {
-                cursor = database.query(distinct, table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
+                cursor = reader.query(distinct, table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
             } else if (columnsAs != null && limit != null) {
-                cursor = database.query(table, columns, columnsAs, selection, selectionArgs, groupBy, having, orderBy, limit);
+                cursor = reader.query(table, columns, columnsAs, selection, selectionArgs, groupBy, having, orderBy, limit);
             } else if (columnsAs != null) {
-                cursor = database.query(table, columns, columnsAs, selection, selectionArgs, groupBy, having, orderBy);
+                cursor = reader.query(table, columns, columnsAs, selection, selectionArgs, groupBy, having, orderBy);
             } else if (limit != null) {
-                cursor = database.query(table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
+                cursor = reader.query(table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
             } else {
-                cursor = database.query(table, columns, selection, selectionArgs, groupBy, having, orderBy);
+                cursor = reader.query(table, columns, selection, selectionArgs, groupBy, having, orderBy);
             }
 
         }
@@ -6,7 +6,6 @@ import android.util.Log;
 
 import com.j256.ormlite.misc.IOUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -15,7 +14,6 @@ import java.util.List;
 import java.util.Set;
 
 import mil.nga.geopackage.GeoPackageException;
-import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.CursorResult;
 import mil.nga.geopackage.db.GeoPackageDataType;
 import mil.nga.geopackage.db.ResultUtils;
@@ -76,6 +74,28 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
      */
     private boolean useBindings = false;
 
+    /**
+     * Column data types resolved once per cursor columns, indexed by cursor
+     * column index
+     */
+    private GeoPackageDataType[] dataTypes;
+
+    /**
+     * Primary key column flags resolved once per cursor columns, indexed by
+     * cursor column index
+     */
+    private boolean[] primaryKeys;
+
+    /**
+     * Reuse a single row instance and value arrays for read only iteration
+     */
+    private boolean reuseRow = false;
+
+    /**
+     * Reusable row
+     */
+    private TRow reusableRow;
+
     /**
      * Constructor
      *
@@ -126,7 +146,133 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
      */
     @Override
     public Object getValue(TColumn column) {
-        return getValue(columns.getColumnIndex(column.getName()), column.getDataType());
+        return getValue(getColumnIndex(column), column.getDataType());
+    }
+
+    /**
+     * Get the cursor column index of the column, resolved without a name
+     * lookup when the column is a cursor column at its table index
+     *
+     * @param column column
+     * @return cursor column index
+     * @since 6.4.1
+     */
+    public int getColumnIndex(TColumn column) {
+        int index = column.getIndex();
+        if (index < 0 || index >= columns.columnCount()
+                || columns.getColumn(index) != column) {
+            index = columns.getColumnIndex(column.getName());
+        }
+        return index;
+    }
+
+    /**
+     * Get the column data types, resolved once per cursor columns
+     *
+     * @return data types indexed by cursor column index
+     * @since 6.4.1
+     */
+    public GeoPackageDataType[] getDataTypes() {
+        if (dataTypes == null) {
+            resolveColumns();
+        }
+        return dataTypes;
+    }
+
+    /**
+     * Resolve the column data types and primary key flags
+     */
+    private void resolveColumns() {
+        int count = columns.columnCount();
+        GeoPackageDataType[] types = new GeoPackageDataType[count];
+        boolean[] keys = new boolean[count];
+        for (int index = 0; index < count; index++) {
+            TColumn column = columns.getColumn(index);
+            types[index] = column.getDataType();
+            keys[index] = column.isPrimaryKey();
+        }
+        primaryKeys = keys;
+        dataTypes = types;
+    }
+
+    /**
+     * Determine if the column value at the index is null, reading from the
+     * requeried invalid rows when iterating them
+     *
+     * @param index cursor column index
+     * @return true if null
+     * @since 6.4.1
+     */
+    public boolean isNullValue(int index) {
+        return invalidCursor == null ? isNull(index) : invalidCursor.getType(index) == FIELD_TYPE_NULL;
+    }
+
+    /**
+     * Get the long column value at the index without boxing, reading from the
+     * requeried invalid rows when iterating them
+     *
+     * @param index cursor column index
+     * @return long value, 0 if null
+     * @since 6.4.1
+     */
+    public long getLongValue(int index) {
+        return invalidCursor == null ? getLong(index) : invalidCursor.getLong(index);
+    }
+
+    /**
+     * Get the double column value at the index without boxing, reading from
+     * the requeried invalid rows when iterating them
+     *
+     * @param index cursor column index
+     * @return double value, 0 if null
+     * @since 6.4.1
+     */
+    public double getDoubleValue(int index) {
+        return invalidCursor == null ? getDouble(index) : invalidCursor.getDouble(index);
+    }
+
+    /**
+     * Get the blob column value at the index, reading from the requeried
+     * invalid rows when iterating them. Large blobs of requeried invalid rows
+     * are not read and are returned as null.
+     *
+     * @param index cursor column index
+     * @return blob value or null
+     * @since 6.4.1
+     */
+    public byte[] getBlobValue(int index) {
+        byte[] value = null;
+        if (!isNullValue(index)) {
+            value = invalidCursor == null ? getBlob(index) : invalidCursor.getBlob(index);
+        }
+        return value;
+    }
+
+    /**
+     * Set the reuse row mode. When enabled, {@link #getRow()} fills and
+     * returns a single row instance for all valid cursor rows, removing the
+     * per row allocations. Returned rows are only valid until the next cursor
+     * move and must be copied to be retained or modified. Requeried invalid
+     * rows are not reused.
+     *
+     * @param reuseRow true to reuse a single row instance
+     * @since 6.4.1
+     */
+    public void setReuseRow(boolean reuseRow) {
+        this.reuseRow = reuseRow;
+        if (!reuseRow) {
+            reusableRow = null;
+        }
+    }
+
+    /**
+     * Is the reuse row mode enabled
+     *
+     * @return true if reusing a single row instance
+     * @since 6.4.1
+     */
+    public boolean isReuseRow() {
+        return reuseRow;
     }
 
     /**
@@ -180,6 +326,19 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
         return id;
     }
 
+    /**
+     * Determine if the current row has a primary key id value. Rows without
+     * an id are invalid large rows to be requeried.
+     *
+     * @return true if the primary key column is queried and not null
+     * @since 6.4.1
+     */
+    public boolean hasId() {
+        return columns.hasPkColumn()
+                && getValue(columns.getPkColumnIndex(), columns.getPkColumn()
+                .getDataType()) != null;
+    }
+
     /**
      * Set the table
      *
@@ -214,6 +373,9 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
      */
     public void setColumns(UserColumns<TColumn> columns) {
         this.columns = columns;
+        dataTypes = null;
+        primaryKeys = null;
+        reusableRow = null;
     }
 
     /**
@@ -333,35 +495,52 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
      */
     private TRow getCurrentRow() {
 
-        int[] columnTypes = new int[columns.columnCount()];
-        Object[] values = new Object[columns.columnCount()];
+        GeoPackageDataType[] types = getDataTypes();
+        int columnCount = types.length;
+
+        TRow row = null;
+        int[] columnTypes;
+        Object[] values;
+        if (reusableRow != null) {
+            row = reusableRow;
+            row.setValid(true);
+            columnTypes = row.getRowColumnTypes();
+            values = row.getValues();
+        } else {
+            columnTypes = new int[columnCount];
+            values = new Object[columnCount];
+        }
 
         boolean valid = true;
 
         List<TColumn> nullBlobs = null;
 
-        for (int index = 0; index < columns.columnCount(); index++) {
-            TColumn column = columns.getColumn(index);
+        for (int index = 0; index < columnCount; index++) {
 
             int columnType = getType(index);
 
             if (columnType == FIELD_TYPE_NULL) {
-                if (column.isPrimaryKey()) {
+                if (primaryKeys[index]) {
                     valid = false;
-                } else if (column.getDataType() == GeoPackageDataType.BLOB) {
+                } else if (types[index] == GeoPackageDataType.BLOB) {
                     if (nullBlobs == null) {
                         nullBlobs = new ArrayList<>();
                     }
-                    nullBlobs.add(column);
+                    nullBlobs.add(columns.getColumn(index));
                 }
             }
 
             columnTypes[index] = columnType;
-            values[index] = getValue(column);
+            values[index] = getRowValue(index, types[index]);
 
         }
 
-        TRow row = getRow(columnTypes, values);
+        if (row == null) {
+            row = getRow(columnTypes, values);
+            if (reuseRow) {
+                reusableRow = row;
+            }
+        }
 
         if (!valid) {
             invalidPositions.add(getPosition());
@@ -375,6 +554,19 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
         return row;
     }
 
+    /**
+     * Get the value of the current cursor row at the index for building a
+     * row, overridden by cursors with converted column values
+     *
+     * @param index    cursor column index
+     * @param dataType column data type
+     * @return value
+     * @since 6.4.1
+     */
+    protected Object getRowValue(int index, GeoPackageDataType dataType) {
+        return getValue(index, dataType);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -477,30 +669,24 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
      */
     public static void readBlobValue(UserDao dao, UserCoreResult result, UserRow row, UserColumn column) {
 
-        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        UserBlobInputStream blobStream = null;
         try {
 
-            byte[] blobChunk = new byte[]{0};
-            for (int i = 1; blobChunk != null && blobChunk.length > 0; i += CHUNK_SIZE) {
-                if (i > 1) {
-                    byteStream.write(blobChunk);
+            Long length = dao.getBlobLength(row.getId(), column.getName());
+            if (length != null && length > 0) {
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Blob length of " + length + " exceeds max array size");
                 }
-                blobChunk = new byte[]{};
-                String query = "select substr(" +
-                        CoreSQLUtils.quoteWrap(column.getName()) + ", " + i + ", " + CHUNK_SIZE + ") from "
-                        + CoreSQLUtils.quoteWrap(dao.getTableName()) + " where "
-                        + CoreSQLUtils.quoteWrap(row.getPkColumn().getName()) + " = " + row.getId();
-                Cursor blobCursor = dao.getDatabaseConnection().getDb().rawQuery(query, null);
-                try {
-                    if (blobCursor.moveToNext()) {
-                        blobChunk = blobCursor.getBlob(0);
+                blobStream = new UserBlobInputStream(dao, row.getId(), column.getName(), length, CHUNK_SIZE);
+                byte[] blob = new byte[length.intValue()];
+                int offset = 0;
+                while (offset < blob.length) {
+                    int read = blobStream.read(blob, offset, blob.length - offset);
+                    if (read < 0) {
+                        throw new IOException("Unexpected end of blob at " + offset + " of " + blob.length + " bytes");
                     }
-                } finally {
-                    blobCursor.close();
+                    offset += read;
                 }
-            }
-            if (byteStream.size() > 0) {
-                byte[] blob = byteStream.toByteArray();
                 row.setValue(column.getIndex(), blob);
                 row.getRowColumnTypes()[column.getIndex()] = ResultUtils.FIELD_TYPE_BLOB;
             }
@@ -509,7 +695,7 @@ public abstract class UserCursor<TColumn extends UserColumn, TTable extends User
             Log.e(UserInvalidCursor.class.getSimpleName(), "Failed to read large blob value. Table: "
                     + dao.getTableName() + ", Column: " + column.getName() + ", Position: " + result.getPosition(), e);
         } finally {
-            IOUtils.closeQuietly(byteStream);
+            IOUtils.closeQuietly(blobStream);
         }
 
     }
@@ -1,8 +1,15 @@
 package mil.nga.geopackage.user;
 
 import android.content.ContentValues;
+import android.database.Cursor;
+
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collection;
+import java.util.Iterator;
 
 import mil.nga.geopackage.db.AlterTable;
+import mil.nga.geopackage.db.CoreSQLUtils;
 import mil.nga.geopackage.db.GeoPackageConnection;
 import mil.nga.geopackage.db.GeoPackageDatabase;
 import mil.nga.geopackage.db.TableMapping;
@@ -185,6 +192,206 @@ public abstract class UserDao<TColumn extends UserColumn, TTable extends UserTab
         return (TResult) userDb.query(query);
     }
 
+    /**
+     * Query for all rows in chunks, iterating by primary key when the table
+     * has an integer primary key
+     *
+     * @param limit chunk limit
+     * @return chunk iterator
+     * @since 6.4.1
+     */
+    public UserChunkIterator<TColumn, TTable, TRow, TResult> queryForChunks(int limit) {
+        return queryForChunks(false, null, null, null, limit);
+    }
+
+    /**
+     * Query for all rows in chunks, iterating by primary key when the table
+     * has an integer primary key
+     *
+     * @param columns columns
+     * @param limit   chunk limit
+     * @return chunk iterator
+     * @since 6.4.1
+     */
+    public UserChunkIterator<TColumn, TTable, TRow, TResult> queryForChunks(
+            String[] columns, int limit) {
+        return queryForChunks(false, columns, null, null, limit);
+    }
+
+    /**
+     * Query for rows in chunks, iterating by primary key when the table has
+     * an integer primary key
+     *
+     * @param where     where clause
+     * @param whereArgs where arguments
+     * @param limit     chunk limit
+     * @return chunk iterator
+     * @since 6.4.1
+     */
+    public UserChunkIterator<TColumn, TTable, TRow, TResult> queryForChunks(
+            String where, String[] whereArgs, int limit) {
+        return queryForChunks(false, null, where, whereArgs, limit);
+    }
+
+    /**
+     * Query for rows in chunks, iterating by primary key when the table has
+     * an integer primary key
+     *
+     * @param columns   columns
+     * @param where     where clause
+     * @param whereArgs where arguments
+     * @param limit     chunk limit
+     * @return chunk iterator
+     * @since 6.4.1
+     */
+    public UserChunkIterator<TColumn, TTable, TRow, TResult> queryForChunks(
+            String[] columns, String where, String[] whereArgs, int limit) {
+        return queryForChunks(false, columns, where, whereArgs, limit);
+    }
+
+    /**
+     * Query for rows in chunks, iterating by primary key when the table has
+     * an integer primary key
+     *
+     * @param distinct  distinct rows
+     * @param columns   columns
+     * @param where     where clause
+     * @param whereArgs where arguments
+     * @param limit     chunk limit
+     * @return chunk iterator
+     * @since 6.4.1
+     */
+    public UserChunkIterator<TColumn, TTable, TRow, TResult> queryForChunks(
+            boolean distinct, String[] columns, String where,
+            String[] whereArgs, int limit) {
+        if (columns == null) {
+            columns = getTable().getColumnNames();
+        }
+        return new UserChunkIterator<>(this, distinct, columns, where,
+                whereArgs, limit);
+    }
+
+    /**
+     * Query for the rows of the ids in batches, returning rows in id order
+     * with null rows for missing ids
+     *
+     * @param ids ids
+     * @return row batch iterator
+     * @since 6.4.1
+     */
+    public UserRowBatchIterator<TColumn, TTable, TRow, TResult> queryForIdRows(
+            Iterator<Long> ids) {
+        return queryForIdRows(null, ids);
+    }
+
+    /**
+     * Query for the rows of the ids in batches, returning rows in id order
+     * with null rows for missing ids
+     *
+     * @param columns columns
+     * @param ids     ids
+     * @return row batch iterator
+     * @since 6.4.1
+     */
+    public UserRowBatchIterator<TColumn, TTable, TRow, TResult> queryForIdRows(
+            String[] columns, Iterator<Long> ids) {
+        return queryForIdRows(columns, ids,
+                UserRowBatchIterator.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Query for the rows of the ids in batches, returning rows in id order
+     * with null rows for missing ids
+     *
+     * @param columns   columns
+     * @param ids       ids
+     * @param batchSize number of ids queried per batch
+     * @return row batch iterator
+     * @since 6.4.1
+     */
+    public UserRowBatchIterator<TColumn, TTable, TRow, TResult> queryForIdRows(
+            String[] columns, Iterator<Long> ids, int batchSize) {
+        return new UserRowBatchIterator<>(this, columns, ids, batchSize);
+    }
+
+    /**
+     * Get the length in bytes of a blob column value
+     *
+     * @param id         row id
+     * @param columnName blob column name
+     * @return length in bytes, null if no row or a null value
+     * @since 6.4.1
+     */
+    public Long getBlobLength(long id, String columnName) {
+        Long length = null;
+        String sql = "SELECT length(" + CoreSQLUtils.quoteWrap(columnName)
+                + ") FROM " + CoreSQLUtils.quoteWrap(getTableName())
+                + " WHERE " + getPkWhere(id);
+        Cursor cursor = getDatabaseConnection().rawQuery(sql,
+                getPkWhereArgs(id));
+        try {
+            if (cursor.moveToNext() && !cursor.isNull(0)) {
+                length = cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+        return length;
+    }
+
+    /**
+     * Open an input stream of a blob column value, lazily read in chunks
+     * without materializing the full value
+     *
+     * @param id         row id
+     * @param columnName blob column name
+     * @return blob input stream, null if no row or a null value
+     * @since 6.4.1
+     */
+    public UserBlobInputStream openBlobStream(long id, String columnName) {
+        return openBlobStream(id, columnName,
+                UserBlobInputStream.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Open an input stream of a blob column value, lazily read in chunks
+     * without materializing the full value
+     *
+     * @param id         row id
+     * @param columnName blob column name
+     * @param chunkSize  chunk size in bytes
+     * @return blob input stream, null if no row or a null value
+     * @since 6.4.1
+     */
+    public UserBlobInputStream openBlobStream(long id, String columnName,
+                                              int chunkSize) {
+        UserBlobInputStream stream = null;
+        Long length = getBlobLength(id, columnName);
+        if (length != null) {
+            stream = new UserBlobInputStream(this, id, columnName, length,
+                    chunkSize);
+        }
+        return stream;
+    }
+
+    /**
+     * Open a readable byte channel of a blob column value, lazily read in
+     * chunks without materializing the full value
+     *
+     * @param id         row id
+     * @param columnName blob column name
+     * @return readable byte channel, null if no row or a null value
+     * @since 6.4.1
+     */
+    public ReadableByteChannel openBlobChannel(long id, String columnName) {
+        ReadableByteChannel channel = null;
+        UserBlobInputStream stream = openBlobStream(id, columnName);
+        if (stream != null) {
+            channel = Channels.newChannel(stream);
+        }
+        return channel;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -224,6 +431,86 @@ public abstract class UserDao<TColumn extends UserColumn, TTable extends UserTab
         return id;
     }
 
+    /**
+     * Create a row writer for bulk inserts and updates through compiled
+     * statements. Close the writer when finished.
+     *
+     * @return row writer
+     * @since 6.4.1
+     */
+    public UserRowWriter<TColumn, TTable, TRow> createRowWriter() {
+        return new UserRowWriter<>(this);
+    }
+
+    /**
+     * Insert the rows through compiled statements, committing every
+     * {@link UserRowWriter#DEFAULT_TRANSACTION_SIZE} rows
+     *
+     * @param rows rows
+     * @return row ids in row order
+     * @since 6.4.1
+     */
+    public long[] insertRows(Collection<? extends TRow> rows) {
+        long[] ids = new long[rows.size()];
+        UserRowWriter<TColumn, TTable, TRow> writer = createRowWriter();
+        try {
+            int index = 0;
+            for (TRow row : rows) {
+                ids[index++] = writer.insert(row);
+            }
+        } finally {
+            writer.close();
+        }
+        return ids;
+    }
+
+    /**
+     * Update the rows by id through compiled statements, committing every
+     * {@link UserRowWriter#DEFAULT_TRANSACTION_SIZE} rows
+     *
+     * @param rows rows
+     * @return updated rows
+     * @since 6.4.1
+     */
+    public int updateRows(Collection<? extends TRow> rows) {
+        int updated = 0;
+        UserRowWriter<TColumn, TTable, TRow> writer = createRowWriter();
+        try {
+            for (TRow row : rows) {
+                updated += writer.update(row);
+            }
+        } finally {
+            writer.close();
+        }
+        return updated;
+    }
+
+    /**
+     * Row writer inserted row callback, invoked within the writer transaction
+     * after each row insert. Subclasses maintaining state from row writes,
+     * such as indexes, override to keep the state in sync with bulk inserts.
+     *
+     * @param row inserted row
+     * @param id  row id
+     * @since 6.4.1
+     */
+    protected void onRowInserted(TRow row, long id) {
+
+    }
+
+    /**
+     * Row writer updated row callback, invoked within the writer transaction
+     * after each row update. Subclasses maintaining state from row writes,
+     * such as indexes, override to keep the state in sync with bulk updates.
+     *
+     * @param row     updated row
+     * @param updated updated rows
+     * @since 6.4.1
+     */
+    protected void onRowUpdated(TRow row, int updated) {
+
+    }
+
     /**
      * Inserts a new row
      *
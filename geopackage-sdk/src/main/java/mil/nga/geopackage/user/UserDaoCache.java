@@ -0,0 +1,218 @@
+package mil.nga.geopackage.user;
+
+import com.j256.ormlite.dao.Dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.geopackage.GeoPackageCore;
+import mil.nga.geopackage.db.GeoPackageConnection;
+import mil.nga.geopackage.db.GeoPackageDataType;
+
+/**
+ * Cache of user DAOs by table name for a single GeoPackage. Cached DAOs are
+ * invalidated when the database schema version changes (table creation,
+ * deletion, renames, and column alterations) and when the contents, geometry
+ * columns, tile matrix set, or tile matrix metadata is modified through the
+ * GeoPackage DAOs. Metadata modified through raw SQL or by other connections
+ * without a schema change requires {@link #clear()}.
+ *
+ * Cached DAOs are shared between callers, including DAO state such as primary
+ * key modifiable and value validation settings.
+ *
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class UserDaoCache {
+
+    /**
+     * Schema version query
+     */
+    private static final String SCHEMA_VERSION_SQL = "PRAGMA schema_version";
+
+    /**
+     * GeoPackage
+     */
+    private final GeoPackageCore geoPackage;
+
+    /**
+     * Database connection
+     */
+    private final GeoPackageConnection database;
+
+    /**
+     * Cached DAOs by table name
+     */
+    private final Map<String, UserDao<?, ?, ?, ?>> daos = new HashMap<>();
+
+    /**
+     * Metadata DAOs observed for changes
+     */
+    private final List<Dao<?, ?>> observed = new ArrayList<>();
+
+    /**
+     * Metadata change observer
+     */
+    private final Dao.DaoObserver observer = new Dao.DaoObserver() {
+
+        @Override
+        public void onChange() {
+            clear();
+        }
+    };
+
+    /**
+     * Schema version of the cached DAOs
+     */
+    private Long schemaVersion = null;
+
+    /**
+     * Enabled flag
+     */
+    private boolean enabled = false;
+
+    /**
+     * Constructor
+     *
+     * @param geoPackage GeoPackage
+     * @param database   database connection
+     */
+    public UserDaoCache(GeoPackageCore geoPackage,
+                        GeoPackageConnection database) {
+        this.geoPackage = geoPackage;
+        this.database = database;
+    }
+
+    /**
+     * Is the cache enabled
+     *
+     * @return true if enabled
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Set the cache enabled state, clearing the cache when disabled
+     *
+     * @param enabled true to enable
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled != this.enabled) {
+            this.enabled = enabled;
+            if (enabled) {
+                observe(geoPackage.getContentsDao());
+                observe(geoPackage.getGeometryColumnsDao());
+                observe(geoPackage.getTileMatrixSetDao());
+                observe(geoPackage.getTileMatrixDao());
+            } else {
+                for (Dao<?, ?> dao : observed) {
+                    dao.unregisterObserver(observer);
+                }
+                observed.clear();
+                clear();
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached DAOs
+     *
+     * @return cached DAOs
+     */
+    public synchronized int size() {
+        return daos.size();
+    }
+
+    /**
+     * Get the cached DAO for the table if the schema has not changed since
+     * cached
+     *
+     * @param tableName table name
+     * @param type      DAO type
+     * @param <T>       DAO type
+     * @return cached DAO or null
+     */
+    public synchronized <T extends UserDao<?, ?, ?, ?>> T get(String tableName,
+                                                            Class<T> type) {
+        T dao = null;
+        if (enabled && !daos.isEmpty()) {
+            validate();
+            UserDao<?, ?, ?, ?> cached = daos.get(tableName);
+            if (type.isInstance(cached)) {
+                dao = type.cast(cached);
+            }
+        }
+        return dao;
+    }
+
+    /**
+     * Cache the DAO by table name
+     *
+     * @param dao user DAO
+     */
+    public synchronized void put(UserDao<?, ?, ?, ?> dao) {
+        if (enabled) {
+            if (daos.isEmpty()) {
+                schemaVersion = querySchemaVersion();
+            } else {
+                validate();
+            }
+            daos.put(dao.getTableName(), dao);
+        }
+    }
+
+    /**
+     * Clear the cached DAOs
+     */
+    public synchronized void clear() {
+        daos.clear();
+        schemaVersion = null;
+    }
+
+    /**
+     * Disable the cache, releasing the metadata DAO observers
+     */
+    public void close() {
+        setEnabled(false);
+    }
+
+    /**
+     * Register the change observer on the metadata DAO
+     *
+     * @param dao metadata DAO
+     */
+    private void observe(Dao<?, ?> dao) {
+        dao.registerObserver(observer);
+        observed.add(dao);
+    }
+
+    /**
+     * Clear the cached DAOs if the schema version has changed
+     */
+    private void validate() {
+        Long version = querySchemaVersion();
+        if (schemaVersion == null || !schemaVersion.equals(version)) {
+            daos.clear();
+            schemaVersion = version;
+        }
+    }
+
+    /**
+     * Query the database schema version
+     *
+     * @return schema version
+     */
+    private Long querySchemaVersion() {
+        Object version = database.querySingleResult(SCHEMA_VERSION_SQL, null,
+                0, GeoPackageDataType.INTEGER);
+        Long schemaVersion = null;
+        if (version instanceof Number) {
+            schemaVersion = ((Number) version).longValue();
+        }
+        return schemaVersion;
+    }
+
+}
@@ -113,27 +113,54 @@ public abstract class UserRow<TColumn extends UserColumn, TTable extends UserTab
 
         String columnName = column.getName();
 
+        Object databaseValue = getDatabaseValue(column, value);
+        if (databaseValue instanceof Long) {
+            contentValues.put(columnName, (Long) databaseValue);
+        } else if (databaseValue instanceof Double) {
+            contentValues.put(columnName, (Double) databaseValue);
+        } else if (databaseValue instanceof String) {
+            contentValues.put(columnName, (String) databaseValue);
+        } else {
+            contentValues.put(columnName, (byte[]) databaseValue);
+        }
+    }
+
+    /**
+     * Validate and convert the non null column value to a database value of
+     * type Long, Double, String, or byte[]
+     *
+     * @param column column
+     * @param value  value
+     * @return database value
+     * @since 6.4.1
+     */
+    protected Object getDatabaseValue(TColumn column, Object value) {
+
+        Object databaseValue;
+
+        String columnName = column.getName();
+
         if (value instanceof Number) {
             if (value instanceof Byte) {
                 validateValue(column, value, Byte.class, Short.class,
                         Integer.class, Long.class);
-                contentValues.put(columnName, (Byte) value);
+                databaseValue = ((Byte) value).longValue();
             } else if (value instanceof Short) {
                 validateValue(column, value, Short.class, Integer.class,
                         Long.class);
-                contentValues.put(columnName, (Short) value);
+                databaseValue = ((Short) value).longValue();
             } else if (value instanceof Integer) {
                 validateValue(column, value, Integer.class, Long.class);
-                contentValues.put(columnName, (Integer) value);
+                databaseValue = ((Integer) value).longValue();
             } else if (value instanceof Long) {
                 validateValue(column, value, Long.class, Double.class);
-                contentValues.put(columnName, (Long) value);
+                databaseValue = value;
             } else if (value instanceof Float) {
                 validateValue(column, value, Float.class);
-                contentValues.put(columnName, (Float) value);
+                databaseValue = ((Float) value).doubleValue();
             } else if (value instanceof Double) {
                 validateValue(column, value, Double.class);
-                contentValues.put(columnName, (Double) value);
+                databaseValue = value;
             } else {
                 throw new GeoPackageException("Unsupported Number type: "
                         + value.getClass().getSimpleName());
@@ -148,7 +175,7 @@ public abstract class UserRow<TColumn extends UserColumn, TTable extends UserTab
                                 + stringValue.length() + ", Max: "
                                 + column.getMax() + ", Column: " + columnName);
             }
-            contentValues.put(columnName, stringValue);
+            databaseValue = stringValue;
         } else if (value instanceof byte[]) {
             validateValue(column, value, byte[].class);
             byte[] byteValue = (byte[]) value;
@@ -158,24 +185,24 @@ public abstract class UserRow<TColumn extends UserColumn, TTable extends UserTab
                                 + byteValue.length + ", Max: "
                                 + column.getMax() + ", Column: " + columnName);
             }
-            contentValues.put(columnName, byteValue);
+            databaseValue = byteValue;
         } else if (value instanceof Boolean) {
             validateValue(column, value, Boolean.class);
             Boolean booleanValue = (Boolean) value;
-            short shortBoolean = booleanValue ? (short) 1 : (short) 0;
-            contentValues.put(columnName, shortBoolean);
+            databaseValue = booleanValue ? 1L : 0L;
         } else if (value instanceof Date) {
             validateValue(column, value, Date.class, String.class);
             Date dateValue = (Date) value;
             DateConverter converter = DateConverter.converter(column
                     .getDataType());
-            String dateString = converter.stringValue(dateValue);
-            contentValues.put(columnName, dateString);
+            databaseValue = converter.stringValue(dateValue);
         } else {
             throw new GeoPackageException(
                     "Unsupported update column value. column: " + columnName
                             + ", value: " + value);
         }
+
+        return databaseValue;
     }
 
     /**
@@ -0,0 +1,204 @@
+package mil.nga.geopackage.user;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import mil.nga.geopackage.db.CoreSQLUtils;
+
+/**
+ * User Row Batch Iterator for reading the rows of a sequence of ids with a
+ * single query per batch of ids. Rows are returned in id order, with null
+ * rows for ids that do not exist, matching the results of querying each id
+ * row individually.
+ * <p>
+ * When the queried columns do not include the primary key, rows can not be
+ * matched to their ids and each id row is queried individually.
+ *
+ * @param <TColumn> column type
+ * @param <TTable>  table type
+ * @param <TRow>    row type
+ * @param <TResult> result type
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class UserRowBatchIterator<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserRow<TColumn, TTable>, TResult extends UserCursor<TColumn, TTable, TRow>>
+        implements Iterator<TRow> {
+
+    /**
+     * Default number of ids queried per batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Maximum number of ids queried per batch, limited by query arguments
+     */
+    public static final int MAX_BATCH_SIZE = 999;
+
+    /**
+     * User DAO
+     */
+    private final UserDao<TColumn, TTable, TRow, TResult> dao;
+
+    /**
+     * Query columns
+     */
+    private final String[] columns;
+
+    /**
+     * Ids
+     */
+    private final Iterator<Long> ids;
+
+    /**
+     * Batch size
+     */
+    private final int batchSize;
+
+    /**
+     * Batch query flag, false when the columns do not include the primary key
+     */
+    private final boolean batch;
+
+    /**
+     * Current batch ids
+     */
+    private final long[] batchIds;
+
+    /**
+     * Current batch rows by id
+     */
+    private final Map<Long, TRow> batchRows;
+
+    /**
+     * Number of ids in the current batch
+     */
+    private int batchCount = 0;
+
+    /**
+     * Index of the next id in the current batch
+     */
+    private int batchIndex = 0;
+
+    /**
+     * Constructor
+     *
+     * @param dao       user dao
+     * @param columns   columns
+     * @param ids       ids
+     * @param batchSize batch size
+     */
+    public UserRowBatchIterator(UserDao<TColumn, TTable, TRow, TResult> dao,
+                                String[] columns, Iterator<Long> ids, int batchSize) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "Batch size must be between 1 and " + MAX_BATCH_SIZE
+                            + ". batch size: " + batchSize);
+        }
+        if (columns == null) {
+            columns = dao.getTable().getColumnNames();
+        }
+        this.dao = dao;
+        this.columns = columns;
+        this.ids = ids;
+        this.batchSize = batchSize;
+        this.batch = dao.hasPkColumn()
+                && Arrays.asList(columns).contains(dao.getPkColumnName());
+        batchIds = new long[batchSize];
+        batchRows = new HashMap<>();
+    }
+
+    /**
+     * Get the user dao
+     *
+     * @return user dao
+     */
+    public UserDao<TColumn, TTable, TRow, TResult> getDao() {
+        return dao;
+    }
+
+    /**
+     * Get the batch size
+     *
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return batchIndex < batchCount || ids.hasNext();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TRow next() {
+
+        TRow row;
+
+        if (batch) {
+            if (batchIndex >= batchCount) {
+                if (!ids.hasNext()) {
+                    throw new NoSuchElementException(
+                            "No more rows. Table: " + dao.getTableName());
+                }
+                readBatch();
+            }
+            row = batchRows.get(batchIds[batchIndex++]);
+        } else {
+            row = dao.queryForIdRow(columns, ids.next());
+        }
+
+        return row;
+    }
+
+    /**
+     * Read the next batch of ids and query their rows
+     */
+    private void readBatch() {
+
+        batchCount = 0;
+        batchIndex = 0;
+        batchRows.clear();
+
+        List<String> args = new ArrayList<>();
+        while (batchCount < batchSize && ids.hasNext()) {
+            long id = ids.next();
+            batchIds[batchCount++] = id;
+            args.add(String.valueOf(id));
+        }
+
+        StringBuilder where = new StringBuilder();
+        where.append(CoreSQLUtils.quoteWrap(dao.getPkColumnName()));
+        where.append(" IN (?");
+        for (int i = 1; i < args.size(); i++) {
+            where.append(", ?");
+        }
+        where.append(")");
+
+        TResult cursor = dao.query(columns, where.toString(),
+                args.toArray(new String[0]));
+        try {
+            while (cursor.moveToNext()) {
+                TRow row = cursor.getRow();
+                if (row.isValid()) {
+                    batchRows.put(row.getId(), row);
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+
+    }
+
+}
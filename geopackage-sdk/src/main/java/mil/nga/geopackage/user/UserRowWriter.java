@@ -0,0 +1,442 @@
+package mil.nga.geopackage.user;
+
+import android.text.TextUtils;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.db.CoreSQLUtils;
+import mil.nga.geopackage.db.GeoPackageDatabase;
+import mil.nga.geopackage.db.GeoPackageSQLiteStatement;
+import mil.nga.geopackage.db.metrics.MetricsListener;
+import mil.nga.geopackage.db.metrics.WriteType;
+
+/**
+ * User row bulk writer, inserting and updating rows through compiled
+ * statements bound directly from row values. One statement is compiled per
+ * written column set and rows are committed every transaction size rows.
+ * When written within a caller transaction, the caller transaction is joined
+ * and committed by the caller. Failed row writes throw without ending the
+ * transaction, leaving previously written rows to be committed. Written rows
+ * are reported to the DAO within the transaction, keeping DAO maintained
+ * state such as the RTree and tile existence indexes in sync.
+ *
+ * @param <TColumn> column type
+ * @param <TTable>  table type
+ * @param <TRow>    row type
+ * @author osbornb
+ * @since 6.4.1
+ */
+public class UserRowWriter<TColumn extends UserColumn, TTable extends UserTable<TColumn>, TRow extends UserRow<TColumn, TTable>>
+        implements Closeable {
+
+    /**
+     * Default number of rows written per transaction
+     */
+    public static final int DEFAULT_TRANSACTION_SIZE = 10000;
+
+    /**
+     * User DAO
+     */
+    private final UserDao<TColumn, TTable, TRow, ?> dao;
+
+    /**
+     * Database connection
+     */
+    private final GeoPackageDatabase db;
+
+    /**
+     * Table name
+     */
+    private final String tableName;
+
+    /**
+     * Rows written per transaction
+     */
+    private int transactionSize = DEFAULT_TRANSACTION_SIZE;
+
+    /**
+     * Compiled statements by SQL
+     */
+    private final Map<String, GeoPackageSQLiteStatement> statements = new HashMap<>();
+
+    /**
+     * Included columns of the last insert statement
+     */
+    private boolean[] insertColumns;
+
+    /**
+     * Last insert statement
+     */
+    private GeoPackageSQLiteStatement insertStatement;
+
+    /**
+     * Included columns of the last update statement
+     */
+    private boolean[] updateColumns;
+
+    /**
+     * Last update statement
+     */
+    private GeoPackageSQLiteStatement updateStatement;
+
+    /**
+     * Included columns of the current row
+     */
+    private boolean[] rowColumns;
+
+    /**
+     * Open transaction flag
+     */
+    private boolean transaction = false;
+
+    /**
+     * Rows written in the open transaction
+     */
+    private int uncommitted = 0;
+
+    /**
+     * Total rows written
+     */
+    private int count = 0;
+
+    /**
+     * Constructor
+     *
+     * @param dao user dao
+     */
+    public UserRowWriter(UserDao<TColumn, TTable, TRow, ?> dao) {
+        this.dao = dao;
+        this.db = dao.getDatabaseConnection();
+        this.tableName = dao.getTableName();
+    }
+
+    /**
+     * Get the number of rows written per transaction
+     *
+     * @return transaction size
+     */
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    /**
+     * Set the number of rows written per transaction
+     *
+     * @param transactionSize transaction size
+     */
+    public void setTransactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new IllegalArgumentException(
+                    "Transaction size must be at least 1. transactionSize: "
+                            + transactionSize);
+        }
+        this.transactionSize = transactionSize;
+    }
+
+    /**
+     * Get the number of written rows
+     *
+     * @return count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the number of compiled statements
+     *
+     * @return statement count
+     */
+    public int getStatementCount() {
+        return statements.size();
+    }
+
+    /**
+     * Insert the row, setting the row id when the row has an id column
+     *
+     * @param row row
+     * @return row id
+     */
+    public long insert(TRow row) {
+
+        UserColumns<TColumn> columns = row.getColumns();
+        Object[] values = row.getValues();
+        int columnCount = columns.columnCount();
+        boolean[] included = getRowColumns(columnCount);
+
+        boolean hasValue = false;
+        for (int index = 0; index < columnCount; index++) {
+            TColumn column = columns.getColumn(index);
+            included[index] = values[index] != null
+                    && (!column.isPrimaryKey() || columns.isPkModifiable());
+            hasValue = hasValue || included[index];
+        }
+        if (!hasValue) {
+            for (int index = 0; index < columnCount; index++) {
+                included[index] = !columns.getColumn(index).isPrimaryKey();
+            }
+        }
+
+        if (insertStatement == null || !Arrays.equals(included, insertColumns)) {
+            insertStatement = getStatement(buildInsertSql(columns, included));
+            insertColumns = included.clone();
+        }
+
+        beginWrite();
+        bind(insertStatement, row, included);
+        long start = System.nanoTime();
+        long id = insertStatement.executeInsert();
+        if (id == -1) {
+            throw new GeoPackageException(
+                    "Failed to insert row into table: " + tableName);
+        }
+        recordWrite(WriteType.INSERT, start, 1);
+        if (row.hasIdColumn()) {
+            row.setId(id, true);
+        }
+        dao.onRowInserted(row, id);
+        endWrite();
+
+        return id;
+    }
+
+    /**
+     * Update the row by id
+     *
+     * @param row row
+     * @return updated rows
+     */
+    public int update(TRow row) {
+
+        UserColumns<TColumn> columns = row.getColumns();
+        Object[] values = row.getValues();
+        int columnCount = columns.columnCount();
+        boolean[] included = getRowColumns(columnCount);
+
+        boolean hasValue = false;
+        for (int index = 0; index < columnCount; index++) {
+            TColumn column = columns.getColumn(index);
+            included[index] = !column.isPrimaryKey()
+                    || (values[index] != null && columns.isPkModifiable());
+            hasValue = hasValue || included[index];
+        }
+
+        int updated = 0;
+        if (hasValue) {
+
+            long id = row.getId();
+
+            if (updateStatement == null
+                    || !Arrays.equals(included, updateColumns)) {
+                updateStatement = getStatement(buildUpdateSql(columns, included));
+                updateColumns = included.clone();
+            }
+
+            beginWrite();
+            int index = bind(updateStatement, row, included);
+            updateStatement.bindLong(index, id);
+            long start = System.nanoTime();
+            updated = updateStatement.executeUpdateDelete();
+            recordWrite(WriteType.UPDATE, start, updated);
+            dao.onRowUpdated(row, updated);
+            endWrite();
+        }
+
+        return updated;
+    }
+
+    /**
+     * Commit the written rows of a writer started transaction
+     */
+    public void commit() {
+        if (transaction) {
+            transaction = false;
+            uncommitted = 0;
+            db.endTransaction(true);
+        }
+    }
+
+    /**
+     * Commit the written rows and close the compiled statements
+     */
+    @Override
+    public void close() {
+        try {
+            commit();
+        } finally {
+            for (GeoPackageSQLiteStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+            insertStatement = null;
+            insertColumns = null;
+            updateStatement = null;
+            updateColumns = null;
+        }
+    }
+
+    /**
+     * Get the included columns array of the current row
+     *
+     * @param columnCount column count
+     * @return included columns
+     */
+    private boolean[] getRowColumns(int columnCount) {
+        if (rowColumns == null || rowColumns.length != columnCount) {
+            rowColumns = new boolean[columnCount];
+        }
+        return rowColumns;
+    }
+
+    /**
+     * Get or compile the statement
+     *
+     * @param sql SQL statement
+     * @return compiled statement
+     */
+    private GeoPackageSQLiteStatement getStatement(String sql) {
+        GeoPackageSQLiteStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = db.compileStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Build the insert SQL for the included columns
+     *
+     * @param columns  columns
+     * @param included included columns
+     * @return insert SQL
+     */
+    private String buildInsertSql(UserColumns<TColumn> columns,
+                                  boolean[] included) {
+        List<String> names = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        for (int index = 0; index < included.length; index++) {
+            if (included[index]) {
+                names.add(CoreSQLUtils.quoteWrap(columns.getColumnName(index)));
+                parameters.add("?");
+            }
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO ");
+        sql.append(CoreSQLUtils.quoteWrap(tableName));
+        if (names.isEmpty()) {
+            sql.append(" DEFAULT VALUES");
+        } else {
+            sql.append(" (").append(TextUtils.join(", ", names));
+            sql.append(") VALUES (").append(TextUtils.join(", ", parameters));
+            sql.append(")");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Build the update by id SQL for the included columns
+     *
+     * @param columns  columns
+     * @param included included columns
+     * @return update SQL
+     */
+    private String buildUpdateSql(UserColumns<TColumn> columns,
+                                  boolean[] included) {
+        List<String> sets = new ArrayList<>();
+        for (int index = 0; index < included.length; index++) {
+            if (included[index]) {
+                sets.add(CoreSQLUtils.quoteWrap(columns.getColumnName(index))
+                        + " = ?");
+            }
+        }
+        StringBuilder sql = new StringBuilder("UPDATE ");
+        sql.append(CoreSQLUtils.quoteWrap(tableName));
+        sql.append(" SET ").append(TextUtils.join(", ", sets));
+        sql.append(" WHERE ")
+                .append(CoreSQLUtils.quoteWrap(columns.getPkColumnName()))
+                .append(" = ?");
+        return sql.toString();
+    }
+
+    /**
+     * Bind the included row values to the statement
+     *
+     * @param statement compiled statement
+     * @param row       row
+     * @param included  included columns
+     * @return next statement argument index
+     */
+    private int bind(GeoPackageSQLiteStatement statement, TRow row,
+                     boolean[] included) {
+        statement.clearBindings();
+        UserColumns<TColumn> columns = row.getColumns();
+        Object[] values = row.getValues();
+        int argument = 1;
+        for (int index = 0; index < included.length; index++) {
+            if (included[index]) {
+                Object value = values[index];
+                if (value == null) {
+                    statement.bindNull(argument);
+                } else {
+                    Object databaseValue = row.getDatabaseValue(
+                            columns.getColumn(index), value);
+                    if (databaseValue instanceof Long) {
+                        statement.bindLong(argument, (Long) databaseValue);
+                    } else if (databaseValue instanceof Double) {
+                        statement.bindDouble(argument, (Double) databaseValue);
+                    } else if (databaseValue instanceof String) {
+                        statement.bindString(argument, (String) databaseValue);
+                    } else {
+                        statement.bindBlob(argument, (byte[]) databaseValue);
+                    }
+                }
+                argument++;
+            }
+        }
+        return argument;
+    }
+
+    /**
+     * Record the completed write measurement
+     *
+     * @param type  write type
+     * @param start write start time
+     * @param rows  written rows
+     */
+    private void recordWrite(WriteType type, long start, int rows) {
+        MetricsListener listener = db.getMetricsListener();
+        if (listener != null) {
+            listener.onWrite(tableName, type, System.nanoTime() - start, rows);
+        }
+    }
+
+    /**
+     * Begin a row write, starting a transaction when not within one
+     */
+    private void beginWrite() {
+        if (!transaction && !db.inTransaction()) {
+            db.beginTransaction();
+            transaction = true;
+        }
+    }
+
+    /**
+     * End a successful row write, committing when the transaction size is
+     * reached
+     */
+    private void endWrite() {
+        count++;
+        if (transaction) {
+            uncommitted++;
+            if (uncommitted >= transactionSize) {
+                commit();
+            }
+        }
+    }
+
+}
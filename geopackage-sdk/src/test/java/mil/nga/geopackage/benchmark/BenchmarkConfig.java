@@ -0,0 +1,208 @@
+package mil.nga.geopackage.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark configuration read from "geopackage.benchmark." system
+ * properties, passed from Gradle project properties of the same name
+ *
+ * @author osbornb
+ */
+public class BenchmarkConfig {
+
+    /**
+     * Property prefix
+     */
+    public static final String PREFIX = "geopackage.benchmark.";
+
+    /**
+     * Number of synthetic features
+     */
+    private final int features;
+
+    /**
+     * Number of measured queries or requests per benchmark
+     */
+    private final int queries;
+
+    /**
+     * Number of measured index iterations
+     */
+    private final int iterations;
+
+    /**
+     * Number of unmeasured warmup queries or iterations
+     */
+    private final int warmup;
+
+    /**
+     * Feature tile draw and tile creator request zoom levels
+     */
+    private final List<Integer> zooms;
+
+    /**
+     * Generated tile table zoom levels
+     */
+    private final List<Integer> tileZooms;
+
+    /**
+     * Coverage data tile width and height
+     */
+    private final int coverageTileLength;
+
+    /**
+     * Number of coverage data zoom levels, doubling the matrix size at each
+     */
+    private final int coverageZooms;
+
+    /**
+     * Random seed
+     */
+    private final long seed;
+
+    /**
+     * Result output directory
+     */
+    private final File output;
+
+    /**
+     * Constructor, reading the system properties
+     */
+    public BenchmarkConfig() {
+        features = getInt("features", 10000);
+        queries = getInt("queries", 100);
+        iterations = getInt("iterations", 3);
+        warmup = getInt("warmup", 10);
+        zooms = getInts("zooms", "4,6,8,10");
+        tileZooms = getInts("tileZooms", "4,5,6");
+        coverageTileLength = getInt("coverageTileLength", 256);
+        coverageZooms = getInt("coverageZooms", 3);
+        seed = Long.parseLong(System.getProperty(PREFIX + "seed", "1"));
+        output = new File(System.getProperty(PREFIX + "output",
+                "build/benchmark"));
+    }
+
+    /**
+     * Get the number of synthetic features
+     *
+     * @return features
+     */
+    public int getFeatures() {
+        return features;
+    }
+
+    /**
+     * Get the number of measured queries or requests per benchmark
+     *
+     * @return queries
+     */
+    public int getQueries() {
+        return queries;
+    }
+
+    /**
+     * Get the number of measured index iterations
+     *
+     * @return iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Get the number of unmeasured warmup queries or iterations
+     *
+     * @return warmup
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Get the feature tile draw and tile creator request zoom levels
+     *
+     * @return zoom levels
+     */
+    public List<Integer> getZooms() {
+        return zooms;
+    }
+
+    /**
+     * Get the generated tile table zoom levels
+     *
+     * @return zoom levels
+     */
+    public List<Integer> getTileZooms() {
+        return tileZooms;
+    }
+
+    /**
+     * Get the coverage data tile width and height
+     *
+     * @return tile length
+     */
+    public int getCoverageTileLength() {
+        return coverageTileLength;
+    }
+
+    /**
+     * Get the number of coverage data zoom levels
+     *
+     * @return zoom levels
+     */
+    public int getCoverageZooms() {
+        return coverageZooms;
+    }
+
+    /**
+     * Get the random seed
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the result output directory
+     *
+     * @return directory
+     */
+    public File getOutput() {
+        return output;
+    }
+
+    /**
+     * Get an integer property
+     *
+     * @param name         property name without the prefix
+     * @param defaultValue default value
+     * @return value
+     */
+    private static int getInt(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name,
+                String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Get a comma separated integer list property
+     *
+     * @param name         property name without the prefix
+     * @param defaultValue default value
+     * @return values
+     */
+    private static List<Integer> getInts(String name, String defaultValue) {
+        List<Integer> values = new ArrayList<>();
+        for (String value : System.getProperty(PREFIX + name, defaultValue)
+                .split(",")) {
+            value = value.trim();
+            if (!value.isEmpty()) {
+                values.add(Integer.parseInt(value));
+            }
+        }
+        return values;
+    }
+
+}
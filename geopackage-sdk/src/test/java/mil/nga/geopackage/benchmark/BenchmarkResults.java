@@ -0,0 +1,251 @@
+package mil.nga.geopackage.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark measurements of a suite, written as a JSON results file
+ *
+ * @author osbornb
+ */
+public class BenchmarkResults {
+
+    /**
+     * Suite name
+     */
+    private final String suite;
+
+    /**
+     * Benchmark configuration
+     */
+    private final BenchmarkConfig config;
+
+    /**
+     * Results as ordered JSON objects
+     */
+    private final List<String> results = new ArrayList<>();
+
+    /**
+     * Constructor
+     *
+     * @param suite  suite name
+     * @param config benchmark configuration
+     */
+    public BenchmarkResults(String suite, BenchmarkConfig config) {
+        this.suite = suite;
+        this.config = config;
+    }
+
+    /**
+     * Create ordered benchmark parameters
+     *
+     * @param keyValues alternating parameter names and values
+     * @return parameters
+     */
+    public static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            params.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
+        }
+        return params;
+    }
+
+    /**
+     * Add a measured benchmark
+     *
+     * @param benchmark benchmark name
+     * @param params    benchmark parameters
+     * @param nanos     nanoseconds of each measured operation
+     * @param items     total result items of the measured operations, such
+     *                  as rows, values, or bytes
+     */
+    public void add(String benchmark, Map<String, Object> params, long[] nanos,
+                    long items) {
+
+        long[] sorted = Arrays.copyOf(nanos, nanos.length);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long value : sorted) {
+            total += value;
+        }
+
+        long mean = 0;
+        if (sorted.length > 0) {
+            mean = total / sorted.length;
+        }
+
+        StringBuilder json = start(benchmark, params);
+        json.append(",\"operations\":").append(sorted.length);
+        json.append(",\"items\":").append(items);
+        json.append(",\"unit\":\"ns\"");
+        json.append(",\"total\":").append(total);
+        if (sorted.length > 0) {
+            json.append(",\"min\":").append(sorted[0]);
+            json.append(",\"mean\":").append(mean);
+            json.append(",\"p50\":").append(percentile(sorted, 50));
+            json.append(",\"p90\":").append(percentile(sorted, 90));
+            json.append(",\"p99\":").append(percentile(sorted, 99));
+            json.append(",\"max\":").append(sorted[sorted.length - 1]);
+        }
+        json.append("}");
+        results.add(json.toString());
+
+        System.out.println(suite + " " + benchmark + " " + params + " ops="
+                + sorted.length + " items=" + items + " mean(us)=" + mean / 1000
+                + " p90(us)=" + percentile(sorted, 90) / 1000);
+    }
+
+    /**
+     * Add a skipped benchmark, such as a feature index type unsupported by
+     * the local runtime
+     *
+     * @param benchmark benchmark name
+     * @param params    benchmark parameters
+     * @param reason    skip reason
+     */
+    public void skip(String benchmark, Map<String, Object> params,
+                     String reason) {
+        StringBuilder json = start(benchmark, params);
+        json.append(",\"skipped\":").append(quote(reason)).append("}");
+        results.add(json.toString());
+        System.out.println(suite + " " + benchmark + " " + params
+                + " skipped: " + reason);
+    }
+
+    /**
+     * Write the results to the suite JSON file in the output directory
+     *
+     * @return results file
+     * @throws IOException upon failure
+     */
+    public File write() throws IOException {
+
+        File directory = config.getOutput();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create benchmark output directory: "
+                    + directory.getAbsolutePath());
+        }
+        File file = new File(directory, suite + ".json");
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n\"suite\":").append(quote(suite));
+        json.append(",\n\"date\":").append(new Date().getTime());
+        json.append(",\n\"java\":")
+                .append(quote(System.getProperty("java.version")));
+        json.append(",\n\"os\":").append(quote(System.getProperty("os.name")
+                + " " + System.getProperty("os.arch")));
+        json.append(",\n\"processors\":")
+                .append(Runtime.getRuntime().availableProcessors());
+        json.append(",\n\"config\":{\"features\":")
+                .append(config.getFeatures());
+        json.append(",\"queries\":").append(config.getQueries());
+        json.append(",\"iterations\":").append(config.getIterations());
+        json.append(",\"warmup\":").append(config.getWarmup());
+        json.append(",\"zooms\":").append(quote(config.getZooms().toString()));
+        json.append(",\"tileZooms\":")
+                .append(quote(config.getTileZooms().toString()));
+        json.append(",\"coverageTileLength\":")
+                .append(config.getCoverageTileLength());
+        json.append(",\"coverageZooms\":").append(config.getCoverageZooms());
+        json.append(",\"seed\":").append(config.getSeed()).append("}");
+        json.append(",\n\"results\":[");
+        for (int i = 0; i < results.size(); i++) {
+            if (i > 0) {
+                json.append(",");
+            }
+            json.append("\n").append(results.get(i));
+        }
+        json.append("\n]\n}\n");
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8);
+        try {
+            writer.write(json.toString());
+        } finally {
+            writer.close();
+        }
+
+        System.out.println(suite + " results: " + file.getAbsolutePath());
+
+        return file;
+    }
+
+    /**
+     * Start a benchmark result JSON object with the name and parameters
+     *
+     * @param benchmark benchmark name
+     * @param params    benchmark parameters
+     * @return JSON builder
+     */
+    private StringBuilder start(String benchmark, Map<String, Object> params) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"benchmark\":").append(quote(benchmark));
+        json.append(",\"params\":{");
+        boolean first = true;
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            if (!first) {
+                json.append(",");
+            }
+            first = false;
+            json.append(quote(param.getKey())).append(":");
+            Object value = param.getValue();
+            if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                json.append(quote(String.valueOf(value)));
+            }
+        }
+        json.append("}");
+        return json;
+    }
+
+    /**
+     * Get the percentile value of sorted values
+     *
+     * @param sorted     sorted values
+     * @param percentile percentile between 0 and 100
+     * @return value, 0 when empty
+     */
+    private static long percentile(long[] sorted, int percentile) {
+        long value = 0;
+        if (sorted.length > 0) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            value = sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+        return value;
+    }
+
+    /**
+     * Quote and escape a JSON string
+     *
+     * @param value string value
+     * @return JSON string
+     */
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    quoted.append('\\').append(c);
+                } else if (c < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+        }
+        return quoted.append("\"").toString();
+    }
+
+}
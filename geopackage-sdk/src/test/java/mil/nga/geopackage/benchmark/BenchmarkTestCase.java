@@ -0,0 +1,98 @@
+package mil.nga.geopackage.benchmark;
+
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+import org.robolectric.annotation.SQLiteMode;
+
+import java.util.Random;
+
+import mil.nga.geopackage.GeoPackage;
+import mil.nga.geopackage.GeoPackageException;
+import mil.nga.geopackage.GeoPackageFactory;
+import mil.nga.geopackage.GeoPackageManager;
+
+/**
+ * Abstract JVM benchmark test case, running on Robolectric with the native
+ * SQLite and graphics runtimes against a new synthetic GeoPackage
+ *
+ * @author osbornb
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+@SQLiteMode(SQLiteMode.Mode.NATIVE)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public abstract class BenchmarkTestCase {
+
+    /**
+     * Benchmark configuration
+     */
+    protected final BenchmarkConfig config = new BenchmarkConfig();
+
+    /**
+     * Benchmark results
+     */
+    protected BenchmarkResults results;
+
+    /**
+     * Context
+     */
+    protected Context context;
+
+    /**
+     * GeoPackage
+     */
+    protected GeoPackage geoPackage;
+
+    /**
+     * Seeded random
+     */
+    protected Random random;
+
+    /**
+     * Set up the GeoPackage and results
+     */
+    @Before
+    public void setUp() {
+
+        context = RuntimeEnvironment.getApplication();
+        results = new BenchmarkResults(getClass().getSimpleName(), config);
+        random = new Random(config.getSeed());
+
+        GeoPackageManager manager = GeoPackageFactory.getManager(context);
+        String name = getDatabaseName();
+        manager.delete(name);
+        manager.create(name);
+        geoPackage = manager.open(name);
+        if (geoPackage == null) {
+            throw new GeoPackageException("Failed to open database");
+        }
+    }
+
+    /**
+     * Close and delete the GeoPackage
+     */
+    @After
+    public void tearDown() {
+        if (geoPackage != null) {
+            geoPackage.close();
+        }
+        GeoPackageFactory.getManager(context).delete(getDatabaseName());
+    }
+
+    /**
+     * Get the benchmark GeoPackage database name
+     *
+     * @return database name
+     */
+    protected String getDatabaseName() {
+        return "benchmark_" + getClass().getSimpleName().toLowerCase();
+    }
+
+}
@@ -0,0 +1,276 @@
+package mil.nga.geopackage.benchmark;
+
+import java.sql.SQLException;
+import java.util.Random;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.GeoPackage;
+import mil.nga.geopackage.db.TableColumnKey;
+import mil.nga.geopackage.extension.coverage.CoverageDataPng;
+import mil.nga.geopackage.extension.coverage.GriddedCoverage;
+import mil.nga.geopackage.extension.coverage.GriddedCoverageDataType;
+import mil.nga.geopackage.extension.coverage.GriddedCoverageEncodingType;
+import mil.nga.geopackage.extension.coverage.GriddedTile;
+import mil.nga.geopackage.features.columns.GeometryColumns;
+import mil.nga.geopackage.features.user.FeatureDao;
+import mil.nga.geopackage.features.user.FeatureRow;
+import mil.nga.geopackage.features.user.FeatureTableMetadata;
+import mil.nga.geopackage.geom.GeoPackageGeometryData;
+import mil.nga.geopackage.srs.SpatialReferenceSystem;
+import mil.nga.geopackage.tiles.matrix.TileMatrix;
+import mil.nga.geopackage.tiles.matrixset.TileMatrixSet;
+import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.geopackage.tiles.user.TileRow;
+import mil.nga.geopackage.tiles.user.TileTableMetadata;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.sf.Geometry;
+import mil.nga.sf.GeometryType;
+import mil.nga.sf.LineString;
+import mil.nga.sf.Point;
+import mil.nga.sf.Polygon;
+
+/**
+ * Synthetic benchmark GeoPackage data utilities
+ *
+ * @author osbornb
+ */
+public class BenchmarkUtils {
+
+    /**
+     * Synthetic data extent in WGS84 degrees
+     */
+    public static final BoundingBox EXTENT = new BoundingBox(-10.0, -10.0,
+            10.0, 10.0);
+
+    /**
+     * Feature table name
+     */
+    public static final String FEATURE_TABLE = "benchmark_features";
+
+    /**
+     * Coverage data table name
+     */
+    public static final String COVERAGE_TABLE = "benchmark_coverage";
+
+    /**
+     * Maximum feature width and height in degrees
+     */
+    private static final double FEATURE_SIZE = 0.05;
+
+    /**
+     * Create a WGS84 feature table of random points, line strings, and
+     * polygons within the extent, inserted within a single transaction
+     *
+     * @param geoPackage GeoPackage
+     * @param count      number of features
+     * @param random     random
+     * @return feature DAO
+     * @throws SQLException upon failure
+     */
+    public static FeatureDao createFeatureTable(GeoPackage geoPackage,
+                                                int count, Random random) throws SQLException {
+
+        SpatialReferenceSystem srs = geoPackage.getSpatialReferenceSystemDao()
+                .getOrCreateCode(ProjectionConstants.AUTHORITY_EPSG,
+                        ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+        GeometryColumns geometryColumns = new GeometryColumns();
+        geometryColumns.setId(new TableColumnKey(FEATURE_TABLE, "geom"));
+        geometryColumns.setGeometryType(GeometryType.GEOMETRY);
+        geometryColumns.setZ((byte) 0);
+        geometryColumns.setM((byte) 0);
+        geometryColumns.setSrs(srs);
+
+        geoPackage.createFeatureTable(
+                FeatureTableMetadata.create(geometryColumns, EXTENT));
+
+        FeatureDao featureDao = geoPackage.getFeatureDao(geometryColumns);
+
+        featureDao.beginTransaction();
+        try {
+            for (int i = 0; i < count; i++) {
+                FeatureRow row = featureDao.newRow();
+                row.setGeometry(GeoPackageGeometryData.createAndBuildEnvelope(
+                        srs.getSrsId(), createGeometry(random)));
+                featureDao.insert(row);
+            }
+            featureDao.endTransaction(true);
+        } catch (RuntimeException e) {
+            featureDao.endTransaction(false);
+            throw e;
+        }
+
+        return featureDao;
+    }
+
+    /**
+     * Create a random point, line string, or polygon within the extent
+     *
+     * @param random random
+     * @return geometry
+     */
+    public static Geometry createGeometry(Random random) {
+
+        double x = randomValue(random, EXTENT.getMinLongitude(),
+                EXTENT.getMaxLongitude() - FEATURE_SIZE);
+        double y = randomValue(random, EXTENT.getMinLatitude(),
+                EXTENT.getMaxLatitude() - FEATURE_SIZE);
+
+        Geometry geometry;
+        int type = random.nextInt(3);
+        if (type == 0) {
+            geometry = new Point(x, y);
+        } else {
+            LineString lineString = new LineString();
+            int points = 4 + random.nextInt(12);
+            for (int i = 0; i < points; i++) {
+                lineString.addPoint(new Point(
+                        x + random.nextDouble() * FEATURE_SIZE,
+                        y + random.nextDouble() * FEATURE_SIZE));
+            }
+            if (type == 1) {
+                geometry = lineString;
+            } else {
+                lineString.addPoint(lineString.startPoint());
+                Polygon polygon = new Polygon();
+                polygon.addRing(lineString);
+                geometry = polygon;
+            }
+        }
+
+        return geometry;
+    }
+
+    /**
+     * Create a random bounding box within the extent
+     *
+     * @param random random
+     * @param size   bounding box width and height in degrees
+     * @return bounding box
+     */
+    public static BoundingBox randomBoundingBox(Random random, double size) {
+        double minLongitude = randomValue(random, EXTENT.getMinLongitude(),
+                EXTENT.getMaxLongitude() - size);
+        double minLatitude = randomValue(random, EXTENT.getMinLatitude(),
+                EXTENT.getMaxLatitude() - size);
+        return new BoundingBox(minLongitude, minLatitude, minLongitude + size,
+                minLatitude + size);
+    }
+
+    /**
+     * Create a random value within the range
+     *
+     * @param random random
+     * @param min    minimum value
+     * @param max    maximum value
+     * @return value
+     */
+    public static double randomValue(Random random, double min, double max) {
+        return min + random.nextDouble() * (max - min);
+    }
+
+    /**
+     * Create a WGS84 integer PNG coverage data table over the extent, with
+     * the matrix width and height doubling at each zoom level
+     *
+     * @param geoPackage GeoPackage
+     * @param tileLength tile width and height
+     * @param zoomLevels number of zoom levels
+     * @return coverage data
+     * @throws SQLException upon failure
+     */
+    public static CoverageDataPng createCoverageData(GeoPackage geoPackage,
+                                                     int tileLength, int zoomLevels) throws SQLException {
+
+        SpatialReferenceSystem srs = geoPackage.getSpatialReferenceSystemDao()
+                .getOrCreateFromEpsg(ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+        CoverageDataPng coverageData = CoverageDataPng.createTileTable(
+                geoPackage, TileTableMetadata.create(COVERAGE_TABLE, EXTENT,
+                        srs.getId(), EXTENT, srs.getId()));
+        TileDao tileDao = coverageData.getTileDao();
+        TileMatrixSet tileMatrixSet = coverageData.getTileMatrixSet();
+
+        GriddedCoverage griddedCoverage = new GriddedCoverage();
+        griddedCoverage.setTileMatrixSet(tileMatrixSet);
+        griddedCoverage.setDataType(GriddedCoverageDataType.INTEGER);
+        griddedCoverage.setDataNull(Double.valueOf(Short.MAX_VALUE
+                - Short.MIN_VALUE));
+        griddedCoverage
+                .setGridCellEncodingType(GriddedCoverageEncodingType.CENTER);
+        coverageData.getGriddedCoverageDao().create(griddedCoverage);
+
+        double width = EXTENT.getMaxLongitude() - EXTENT.getMinLongitude();
+        double height = EXTENT.getMaxLatitude() - EXTENT.getMinLatitude();
+
+        tileDao.beginTransaction();
+        try {
+            int matrixLength = 1;
+            for (int zoomLevel = 0; zoomLevel < zoomLevels; zoomLevel++) {
+
+                TileMatrix tileMatrix = new TileMatrix();
+                tileMatrix.setContents(tileMatrixSet.getContents());
+                tileMatrix.setMatrixWidth(matrixLength);
+                tileMatrix.setMatrixHeight(matrixLength);
+                tileMatrix.setTileWidth(tileLength);
+                tileMatrix.setTileHeight(tileLength);
+                tileMatrix.setPixelXSize(width / matrixLength / tileLength);
+                tileMatrix.setPixelYSize(height / matrixLength / tileLength);
+                tileMatrix.setZoomLevel(zoomLevel);
+                geoPackage.getTileMatrixDao().create(tileMatrix);
+
+                int pixels = matrixLength * tileLength;
+                for (int row = 0; row < matrixLength; row++) {
+                    for (int column = 0; column < matrixLength; column++) {
+
+                        int[][] values = new int[tileLength][tileLength];
+                        for (int y = 0; y < tileLength; y++) {
+                            for (int x = 0; x < tileLength; x++) {
+                                values[y][x] = elevation(
+                                        (column * tileLength + x) / (double) pixels,
+                                        (row * tileLength + y) / (double) pixels);
+                            }
+                        }
+
+                        TileRow tileRow = tileDao.newRow();
+                        tileRow.setTileColumn(column);
+                        tileRow.setTileRow(row);
+                        tileRow.setZoomLevel(zoomLevel);
+                        tileRow.setTileData(coverageData.drawTileData(values));
+                        long tileId = tileDao.create(tileRow);
+
+                        GriddedTile griddedTile = new GriddedTile();
+                        griddedTile.setContents(tileMatrixSet.getContents());
+                        griddedTile.setTableId(tileId);
+                        coverageData.getGriddedTileDao().create(griddedTile);
+                    }
+                }
+
+                matrixLength *= 2;
+            }
+            tileDao.endTransaction(true);
+        } catch (SQLException e) {
+            tileDao.endTransaction(false);
+            throw e;
+        } catch (RuntimeException e) {
+            tileDao.endTransaction(false);
+            throw e;
+        }
+
+        return new CoverageDataPng(geoPackage, tileDao);
+    }
+
+    /**
+     * Synthetic terrain elevation pixel value at the relative location
+     *
+     * @param x relative x location between 0 and 1
+     * @param y relative y location between 0 and 1
+     * @return unsigned short pixel value
+     */
+    private static int elevation(double x, double y) {
+        double value = 2000.0 + 1000.0 * Math.sin(6 * Math.PI * x)
+                * Math.cos(4 * Math.PI * y) + 250.0 * Math.sin(40 * x * y);
+        return (int) Math.round(value);
+    }
+
+}
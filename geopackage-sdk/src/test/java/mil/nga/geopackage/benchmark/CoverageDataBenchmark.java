@@ -0,0 +1,186 @@
+package mil.nga.geopackage.benchmark;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.extension.coverage.CoverageDataAlgorithm;
+import mil.nga.geopackage.extension.coverage.CoverageDataPng;
+import mil.nga.geopackage.extension.coverage.CoverageDataResults;
+import mil.nga.geopackage.extension.coverage.CoverageDataTileCache;
+
+/**
+ * Coverage data point, batch point, and bounding box query benchmarks per
+ * interpolation algorithm
+ *
+ * @author osbornb
+ */
+public class CoverageDataBenchmark extends BenchmarkTestCase {
+
+    /**
+     * Number of points per batch point query
+     */
+    private static final int BATCH_POINTS = 1000;
+
+    /**
+     * Bounding box query result width and height
+     */
+    private static final int RESULT_LENGTH = 64;
+
+    /**
+     * Bounding box query width and height in degrees
+     */
+    private static final double QUERY_SIZE = 1.0;
+
+    /**
+     * Benchmark coverage data queries
+     *
+     * @throws SQLException upon failure
+     * @throws IOException  upon failure to write results
+     */
+    @Test
+    public void testCoverageData() throws SQLException, IOException {
+
+        CoverageDataPng coverageData = BenchmarkUtils.createCoverageData(
+                geoPackage, config.getCoverageTileLength(),
+                config.getCoverageZooms());
+        coverageData.setTileCache(new CoverageDataTileCache());
+
+        for (CoverageDataAlgorithm algorithm : CoverageDataAlgorithm.values()) {
+            coverageData.setAlgorithm(algorithm);
+            coverageData.clearTileCache();
+            benchmarkValue(coverageData, algorithm);
+            benchmarkPointValues(coverageData, algorithm);
+            benchmarkValues(coverageData, algorithm);
+        }
+
+        results.write();
+    }
+
+    /**
+     * Benchmark single point value queries
+     *
+     * @param coverageData coverage data
+     * @param algorithm    interpolation algorithm
+     */
+    private void benchmarkValue(CoverageDataPng coverageData,
+                                CoverageDataAlgorithm algorithm) {
+
+        long[] nanos = new long[config.getQueries()];
+        long values = 0;
+        for (int i = -config.getWarmup(); i < nanos.length; i++) {
+            double latitude = randomLatitude();
+            double longitude = randomLongitude();
+            long start = System.nanoTime();
+            Double value = coverageData.getValue(latitude, longitude);
+            long time = System.nanoTime() - start;
+            if (i >= 0) {
+                nanos[i] = time;
+                if (value != null) {
+                    values++;
+                }
+            }
+        }
+
+        results.add("getValue", BenchmarkResults.params("algorithm",
+                algorithm, "tileLength", config.getCoverageTileLength(),
+                "zooms", config.getCoverageZooms()), nanos, values);
+    }
+
+    /**
+     * Benchmark batch point value queries
+     *
+     * @param coverageData coverage data
+     * @param algorithm    interpolation algorithm
+     */
+    private void benchmarkPointValues(CoverageDataPng coverageData,
+                                      CoverageDataAlgorithm algorithm) {
+
+        long[] nanos = new long[config.getIterations()];
+        long values = 0;
+        for (int i = -1; i < nanos.length; i++) {
+            double[] latitudes = new double[BATCH_POINTS];
+            double[] longitudes = new double[BATCH_POINTS];
+            for (int point = 0; point < BATCH_POINTS; point++) {
+                latitudes[point] = randomLatitude();
+                longitudes[point] = randomLongitude();
+            }
+            long start = System.nanoTime();
+            double[] pointValues = coverageData.getPointValues(latitudes,
+                    longitudes);
+            long time = System.nanoTime() - start;
+            if (i >= 0) {
+                nanos[i] = time;
+                for (double value : pointValues) {
+                    if (!Double.isNaN(value)) {
+                        values++;
+                    }
+                }
+            }
+        }
+
+        results.add("getPointValues", BenchmarkResults.params("algorithm",
+                algorithm, "points", BATCH_POINTS, "tileLength",
+                config.getCoverageTileLength(), "zooms",
+                config.getCoverageZooms()), nanos, values);
+    }
+
+    /**
+     * Benchmark bounding box value queries
+     *
+     * @param coverageData coverage data
+     * @param algorithm    interpolation algorithm
+     */
+    private void benchmarkValues(CoverageDataPng coverageData,
+                                 CoverageDataAlgorithm algorithm) {
+
+        long[] nanos = new long[config.getQueries()];
+        long values = 0;
+        for (int i = -config.getWarmup(); i < nanos.length; i++) {
+            BoundingBox boundingBox = BenchmarkUtils.randomBoundingBox(random,
+                    QUERY_SIZE);
+            long start = System.nanoTime();
+            CoverageDataResults coverageDataResults = coverageData.getValues(
+                    boundingBox, RESULT_LENGTH, RESULT_LENGTH);
+            long time = System.nanoTime() - start;
+            if (i >= 0) {
+                nanos[i] = time;
+                if (coverageDataResults != null) {
+                    values += (long) coverageDataResults.getWidth()
+                            * coverageDataResults.getHeight();
+                }
+            }
+        }
+
+        results.add("getValues", BenchmarkResults.params("algorithm",
+                algorithm, "size", QUERY_SIZE, "width", RESULT_LENGTH,
+                "height", RESULT_LENGTH, "tileLength",
+                config.getCoverageTileLength(), "zooms",
+                config.getCoverageZooms()), nanos, values);
+    }
+
+    /**
+     * Get a random latitude within the extent
+     *
+     * @return latitude
+     */
+    private double randomLatitude() {
+        return BenchmarkUtils.randomValue(random,
+                BenchmarkUtils.EXTENT.getMinLatitude(),
+                BenchmarkUtils.EXTENT.getMaxLatitude());
+    }
+
+    /**
+     * Get a random longitude within the extent
+     *
+     * @return longitude
+     */
+    private double randomLongitude() {
+        return BenchmarkUtils.randomValue(random,
+                BenchmarkUtils.EXTENT.getMinLongitude(),
+                BenchmarkUtils.EXTENT.getMaxLongitude());
+    }
+
+}
@@ -0,0 +1,182 @@
+package mil.nga.geopackage.benchmark;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.features.index.FeatureIndexManager;
+import mil.nga.geopackage.features.index.FeatureIndexResults;
+import mil.nga.geopackage.features.index.FeatureIndexType;
+import mil.nga.geopackage.features.user.FeatureDao;
+import mil.nga.geopackage.features.user.FeatureRow;
+
+/**
+ * Feature index manager index and bounding box query benchmarks per feature
+ * index type
+ *
+ * @author osbornb
+ */
+public class FeatureIndexBenchmark extends BenchmarkTestCase {
+
+    /**
+     * Query bounding box widths and heights in degrees
+     */
+    private static final double[] QUERY_SIZES = new double[]{0.1, 1.0, 5.0};
+
+    /**
+     * Benchmark indexing and querying each feature index type
+     *
+     * @throws SQLException upon failure
+     * @throws IOException  upon failure to write results
+     */
+    @Test
+    public void testFeatureIndex() throws SQLException, IOException {
+
+        FeatureDao featureDao = BenchmarkUtils.createFeatureTable(geoPackage,
+                config.getFeatures(), random);
+
+        for (FeatureIndexType type : FeatureIndexType.values()) {
+
+            FeatureIndexManager indexManager = new FeatureIndexManager(context,
+                    geoPackage, featureDao);
+            try {
+                indexManager.setIndexLocation(type);
+                if (benchmarkIndex(indexManager, type)) {
+                    benchmarkQueries(indexManager, type);
+                    if (type != FeatureIndexType.NONE) {
+                        indexManager.deleteIndex(type);
+                    }
+                }
+            } finally {
+                indexManager.close();
+            }
+        }
+
+        results.write();
+    }
+
+    /**
+     * Benchmark forced indexing of the feature table
+     *
+     * @param indexManager feature index manager
+     * @param type         feature index type
+     * @return true if indexed and ready to query
+     */
+    private boolean benchmarkIndex(FeatureIndexManager indexManager,
+                                   FeatureIndexType type) {
+
+        Map<String, Object> params = BenchmarkResults.params("type", type,
+                "features", config.getFeatures());
+
+        boolean indexed = true;
+        if (type != FeatureIndexType.NONE) {
+            long[] nanos = new long[config.getIterations()];
+            long items = 0;
+            try {
+                for (int i = 0; i < nanos.length; i++) {
+                    long start = System.nanoTime();
+                    items += indexManager.index(type, true);
+                    nanos[i] = System.nanoTime() - start;
+                }
+                results.add("index", params, nanos, items);
+            } catch (UnsatisfiedLinkError e) {
+                skipIndex(type, params, e);
+                indexed = false;
+            } catch (org.sqlite.database.SQLException e) {
+                skipIndex(type, params, e);
+                indexed = false;
+            }
+        }
+
+        if (indexed && indexManager.getIndexedType() != type) {
+            results.skip("query", params, "Query index type: "
+                    + indexManager.getIndexedType());
+            indexed = false;
+        }
+
+        return indexed;
+    }
+
+    /**
+     * Record the RTree index as skipped when the native SQLite library or
+     * RTree module is unavailable to the local runtime, failing on all
+     * other index types
+     *
+     * @param type   feature index type
+     * @param params benchmark parameters
+     * @param error  index error
+     */
+    private void skipIndex(FeatureIndexType type, Map<String, Object> params,
+                           Throwable error) {
+        if (type != FeatureIndexType.RTREE) {
+            throw new AssertionError("Failed to index type: " + type, error);
+        }
+        results.skip("index", params, error.toString());
+    }
+
+    /**
+     * Benchmark bounding box queries and counts of the indexed feature table
+     *
+     * @param indexManager feature index manager
+     * @param type         feature index type
+     */
+    private void benchmarkQueries(FeatureIndexManager indexManager,
+                                  FeatureIndexType type) {
+
+        for (double size : QUERY_SIZES) {
+
+            List<BoundingBox> boundingBoxes = new ArrayList<>();
+            for (int i = 0; i < config.getWarmup() + config.getQueries(); i++) {
+                boundingBoxes.add(BenchmarkUtils.randomBoundingBox(random,
+                        size));
+            }
+
+            Map<String, Object> params = BenchmarkResults.params("type", type,
+                    "features", config.getFeatures(), "size", size);
+
+            long[] queryNanos = new long[config.getQueries()];
+            long[] countNanos = new long[config.getQueries()];
+            long rows = 0;
+            long counts = 0;
+            for (int i = 0; i < boundingBoxes.size(); i++) {
+
+                BoundingBox boundingBox = boundingBoxes.get(i);
+
+                long start = System.nanoTime();
+                long queryRows = 0;
+                FeatureIndexResults featureIndexResults = indexManager
+                        .query(boundingBox);
+                try {
+                    for (FeatureRow row : featureIndexResults) {
+                        row.getGeometry();
+                        queryRows++;
+                    }
+                } finally {
+                    featureIndexResults.close();
+                }
+                long queryTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                long count = indexManager.count(boundingBox);
+                long countTime = System.nanoTime() - start;
+
+                int measured = i - config.getWarmup();
+                if (measured >= 0) {
+                    queryNanos[measured] = queryTime;
+                    countNanos[measured] = countTime;
+                    rows += queryRows;
+                    counts += count;
+                }
+            }
+
+            results.add("query", params, queryNanos, rows);
+            results.add("count", params, countNanos, counts);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package mil.nga.geopackage.benchmark;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Map;
+
+import mil.nga.geopackage.BoundingBox;
+import mil.nga.geopackage.features.index.FeatureIndexManager;
+import mil.nga.geopackage.features.index.FeatureIndexType;
+import mil.nga.geopackage.features.user.FeatureDao;
+import mil.nga.geopackage.tiles.TileBoundingBoxUtils;
+import mil.nga.geopackage.tiles.TileGrid;
+import mil.nga.geopackage.tiles.features.DefaultFeatureTiles;
+import mil.nga.geopackage.tiles.features.FeatureTileGenerator;
+import mil.nga.geopackage.tiles.retriever.GeoPackageTile;
+import mil.nga.geopackage.tiles.retriever.TileCreator;
+import mil.nga.geopackage.tiles.user.TileDao;
+import mil.nga.proj.Projection;
+import mil.nga.proj.ProjectionConstants;
+import mil.nga.proj.ProjectionFactory;
+import mil.nga.proj.ProjectionTransform;
+
+/**
+ * Default feature tile drawing, feature tile generation, and tile creator
+ * benchmarks across zoom levels
+ *
+ * @author osbornb
+ */
+public class TileBenchmark extends BenchmarkTestCase {
+
+    /**
+     * Generated tile table name
+     */
+    private static final String TILE_TABLE = "benchmark_tiles";
+
+    /**
+     * Benchmark feature tile drawing, tile generation, and tile creation
+     *
+     * @throws SQLException upon failure
+     * @throws IOException  upon failure
+     */
+    @Test
+    public void testTiles() throws SQLException, IOException {
+
+        FeatureDao featureDao = BenchmarkUtils.createFeatureTable(geoPackage,
+                config.getFeatures(), random);
+
+        FeatureIndexManager indexManager = new FeatureIndexManager(context,
+                geoPackage, featureDao);
+        indexManager.setIndexLocation(FeatureIndexType.GEOPACKAGE);
+        indexManager.index();
+
+        DefaultFeatureTiles featureTiles = new DefaultFeatureTiles(context,
+                geoPackage, featureDao);
+        featureTiles.setIndexManager(indexManager);
+        try {
+            benchmarkDrawTiles(featureTiles);
+            benchmarkGenerateTiles(featureTiles);
+        } finally {
+            featureTiles.close();
+        }
+
+        TileDao tileDao = geoPackage.getTileDao(TILE_TABLE);
+        benchmarkTileCreator(tileDao,
+                ProjectionConstants.EPSG_WEB_MERCATOR);
+        benchmarkTileCreator(tileDao,
+                ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM);
+
+        results.write();
+    }
+
+    /**
+     * Benchmark drawing random feature tiles within the extent at each zoom
+     * level
+     *
+     * @param featureTiles feature tiles
+     */
+    private void benchmarkDrawTiles(DefaultFeatureTiles featureTiles) {
+
+        for (int zoom : config.getZooms()) {
+
+            TileGrid tileGrid = getTileGrid(zoom);
+
+            long[] nanos = new long[config.getQueries()];
+            long bytes = 0;
+            for (int i = -config.getWarmup(); i < nanos.length; i++) {
+                int x = (int) randomTile(tileGrid.getMinX(),
+                        tileGrid.getMaxX());
+                int y = (int) randomTile(tileGrid.getMinY(),
+                        tileGrid.getMaxY());
+                long start = System.nanoTime();
+                byte[] tileBytes = featureTiles.drawTileBytes(x, y, zoom);
+                long time = System.nanoTime() - start;
+                if (i >= 0) {
+                    nanos[i] = time;
+                    if (tileBytes != null) {
+                        bytes += tileBytes.length;
+                    }
+                }
+            }
+
+            results.add("drawTileBytes", BenchmarkResults.params("zoom", zoom,
+                    "features", config.getFeatures(), "tiles",
+                    tileGrid.count()), nanos, bytes);
+        }
+    }
+
+    /**
+     * Benchmark generating a tile table from the feature tiles
+     *
+     * @param featureTiles feature tiles
+     * @throws SQLException upon failure
+     * @throws IOException  upon failure
+     */
+    private void benchmarkGenerateTiles(DefaultFeatureTiles featureTiles)
+            throws SQLException, IOException {
+
+        FeatureTileGenerator generator = new FeatureTileGenerator(context,
+                geoPackage, TILE_TABLE, featureTiles, config.getTileZooms(),
+                BenchmarkUtils.EXTENT, ProjectionFactory.getProjection(
+                        ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM));
+
+        long start = System.nanoTime();
+        int count = generator.generateTiles();
+        long time = System.nanoTime() - start;
+
+        results.add("generateTiles", BenchmarkResults.params("zooms",
+                config.getTileZooms().toString(), "features",
+                config.getFeatures()), new long[]{time}, count);
+    }
+
+    /**
+     * Benchmark creating random tiles within the extent at each zoom level
+     * from the generated tile table
+     *
+     * @param tileDao tile DAO
+     * @param epsg    request projection EPSG code
+     */
+    private void benchmarkTileCreator(TileDao tileDao, long epsg) {
+
+        Projection projection = ProjectionFactory.getProjection(epsg);
+        ProjectionTransform transform = ProjectionFactory.getProjection(
+                ProjectionConstants.EPSG_WEB_MERCATOR).getTransformation(epsg);
+
+        TileCreator tileCreator = new TileCreator(tileDao, 256, 256,
+                projection);
+
+        for (int zoom : config.getZooms()) {
+
+            TileGrid tileGrid = getTileGrid(zoom);
+
+            long[] nanos = new long[config.getQueries()];
+            long bytes = 0;
+            for (int i = -config.getWarmup(); i < nanos.length; i++) {
+                BoundingBox boundingBox = TileBoundingBoxUtils
+                        .getWebMercatorBoundingBox(
+                                randomTile(tileGrid.getMinX(), tileGrid.getMaxX()),
+                                randomTile(tileGrid.getMinY(), tileGrid.getMaxY()),
+                                zoom);
+                if (!transform.isSameProjection()) {
+                    boundingBox = boundingBox.transform(transform);
+                }
+                long start = System.nanoTime();
+                GeoPackageTile tile = tileCreator.getTile(boundingBox);
+                long time = System.nanoTime() - start;
+                if (i >= 0) {
+                    nanos[i] = time;
+                    if (tile != null) {
+                        bytes += tile.getData().length;
+                    }
+                }
+            }
+
+            results.add("getTile", BenchmarkResults.params("epsg", epsg,
+                    "zoom", zoom, "tileZooms", config.getTileZooms().toString()),
+                    nanos, bytes);
+        }
+    }
+
+    /**
+     * Get the web mercator tile grid of the extent at the zoom level
+     *
+     * @param zoom zoom level
+     * @return tile grid
+     */
+    private TileGrid getTileGrid(int zoom) {
+        BoundingBox webMercatorBoundingBox = BenchmarkUtils.EXTENT.transform(
+                ProjectionFactory.getProjection(
+                        ProjectionConstants.EPSG_WORLD_GEODETIC_SYSTEM)
+                        .getTransformation(ProjectionConstants.EPSG_WEB_MERCATOR));
+        return TileBoundingBoxUtils.getTileGrid(webMercatorBoundingBox, zoom);
+    }
+
+    /**
+     * Get a random tile coordinate within the range
+     *
+     * @param min minimum tile coordinate
+     * @param max maximum tile coordinate
+     * @return tile coordinate
+     */
+    private long randomTile(long min, long max) {
+        return min + random.nextInt((int) (max - min + 1));
+    }
+
+}